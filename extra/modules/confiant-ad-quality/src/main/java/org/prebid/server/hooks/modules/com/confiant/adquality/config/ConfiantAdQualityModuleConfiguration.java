@@ -6,12 +6,15 @@ import io.vertx.core.Vertx;
 import org.prebid.server.auction.privacy.enforcement.mask.UserFpdActivityMask;
 import org.prebid.server.hooks.modules.com.confiant.adquality.core.BidsScanner;
 import org.prebid.server.hooks.modules.com.confiant.adquality.core.RedisClient;
+import org.prebid.server.hooks.modules.com.confiant.adquality.core.RedisLatencyTracker;
 import org.prebid.server.hooks.modules.com.confiant.adquality.core.RedisScanStateChecker;
+import org.prebid.server.hooks.modules.com.confiant.adquality.core.ScanResultCache;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisConfig;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisConnectionConfig;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisRetryConfig;
 import org.prebid.server.hooks.modules.com.confiant.adquality.v1.ConfiantAdQualityBidResponsesScanHook;
 import org.prebid.server.hooks.modules.com.confiant.adquality.v1.ConfiantAdQualityModule;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.spring.env.YamlPropertySourceFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -20,6 +23,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
 
+import java.time.Clock;
 import java.util.Collections;
 import java.util.List;
 
@@ -35,11 +39,15 @@ public class ConfiantAdQualityModuleConfiguration {
             @Value("${hooks.modules.confiant-ad-quality.api-key}") String apiKey,
             @Value("${hooks.modules.confiant-ad-quality.scan-state-check-interval}") int scanStateCheckInterval,
             @Value("${hooks.modules.confiant-ad-quality.bidders-to-exclude-from-scan}") List<String> biddersToExcludeFromScan,
+            @Value("${hooks.modules.confiant-ad-quality.scan-result-cache-size}") int scanResultCacheSize,
+            @Value("${hooks.modules.confiant-ad-quality.scan-result-cache-ttl-seconds}") long scanResultCacheTtlSeconds,
+            @Value("${hooks.modules.confiant-ad-quality.skip-scan-on-low-timeout}") boolean skipScanOnLowTimeout,
             RedisConfig redisConfig,
             RedisRetryConfig retryConfig,
             Vertx vertx,
             UserFpdActivityMask userFpdActivityMask,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            Metrics metrics) {
 
         final RedisConnectionConfig writeNodeConfig = redisConfig.getWriteNode();
         final RedisClient writeRedisNode = new RedisClient(
@@ -48,7 +56,18 @@ public class ConfiantAdQualityModuleConfiguration {
         final RedisClient readRedisNode = new RedisClient(
                 vertx, readNodeConfig.getHost(), readNodeConfig.getPort(), readNodeConfig.getPassword(), retryConfig, "read node");
 
-        final BidsScanner bidsScanner = new BidsScanner(writeRedisNode, readRedisNode, apiKey, objectMapper);
+        final ScanResultCache scanResultCache = scanResultCacheSize > 0
+                ? new ScanResultCache(scanResultCacheSize, scanResultCacheTtlSeconds)
+                : null;
+        final BidsScanner bidsScanner = new BidsScanner(
+                writeRedisNode,
+                readRedisNode,
+                apiKey,
+                objectMapper,
+                scanResultCache,
+                new RedisLatencyTracker(Clock.systemUTC()),
+                skipScanOnLowTimeout,
+                metrics);
         final RedisScanStateChecker redisScanStateChecker = new RedisScanStateChecker(bidsScanner, scanStateCheckInterval, vertx);
 
         final Promise<Void> scannerPromise = Promise.promise();
@@ -2,18 +2,30 @@ package org.prebid.server.hooks.modules.com.confiant.adquality.core;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.redis.client.RedisAPI;
 import io.vertx.redis.client.Response;
+import org.apache.commons.collections4.ListUtils;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidResponseData;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidsData;
+import org.prebid.server.hooks.modules.com.confiant.adquality.v1.ConfiantAdQualityModule;
+import org.prebid.server.metric.Metrics;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 
 public class BidsScanner {
 
+    private static final String SUBMIT_BIDS_FUNCTION_KEY = "function_submit_bids";
+
     private final RedisParser redisParser;
 
     private final String apiKey;
@@ -24,19 +36,37 @@ public class BidsScanner {
 
     private volatile Boolean isScanDisabled = true;
 
+    private volatile String submitBidsFunctionHash;
+
     private final ObjectMapper objectMapper;
 
+    private final ScanResultCache scanResultCache;
+
+    private final RedisLatencyTracker latencyTracker;
+
+    private final boolean skipScanOnLowTimeout;
+
+    private final Metrics metrics;
+
     public BidsScanner(
             RedisClient writeRedisNode,
             RedisClient readRedisNode,
             String apiKey,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            ScanResultCache scanResultCache,
+            RedisLatencyTracker latencyTracker,
+            boolean skipScanOnLowTimeout,
+            Metrics metrics) {
 
         this.writeRedisNode = writeRedisNode;
         this.readRedisNode = readRedisNode;
         this.apiKey = apiKey;
         this.objectMapper = objectMapper;
         this.redisParser = new RedisParser(objectMapper);
+        this.scanResultCache = scanResultCache;
+        this.latencyTracker = Objects.requireNonNull(latencyTracker);
+        this.skipScanOnLowTimeout = skipScanOnLowTimeout;
+        this.metrics = Objects.requireNonNull(metrics);
     }
 
     public void start(Promise<Void> startFuture) {
@@ -55,43 +85,251 @@ public class BidsScanner {
     }
 
     public Future<BidsScanResult> submitBids(RedisBidsData bids) {
-        final Promise<BidsScanResult> scanResult = Promise.promise();
+        return submitBids(bids, Long.MAX_VALUE);
+    }
 
+    /**
+     * Scans bids taking results of already known bid responses from the local cache, so only the rest of bid
+     * responses is sent to Redis. Redis is not called at all if skipping scan on low timeout is enabled and
+     * the remaining timeout is lower than 95th percentile of observed Redis latencies.
+     * <p>
+     * Redis returns one scan result per bid response and {@link BidsScanResult#toGroupByIssues} matches results
+     * to bidder responses by position, so results are cached, merged and submitted per bid response as well.
+     */
+    public Future<BidsScanResult> submitBids(RedisBidsData bids, long remainingTimeout) {
         final RedisAPI readRedisNodeAPI = this.readRedisNode.getRedisAPI();
-        final boolean shouldSubmit = !isScanDisabled
-                && readRedisNodeAPI != null && bids.getBresps().size() > 0;
+        if (isScanDisabled) {
+            return Future.succeededFuture(getEmptyScanResult());
+        }
+
+        final List<ResponseCreatives> responses = toResponseCreatives(bids);
+        final List<BidScanResult> cachedResults = lookupCachedResults(responses);
+        final List<ResponseCreatives> missedResponses = cachedResults != null
+                ? missedResponses(responses, cachedResults)
+                : responses;
 
-        if (shouldSubmit) {
-            readRedisNodeAPI.get("function_submit_bids", submitHash -> {
+        if (missedResponses.size() < responses.size()) {
+            if (missedResponses.isEmpty()) {
+                updateTimeSavedMetric();
+                return Future.succeededFuture(mergeScanResults(responses, cachedResults, getEmptyScanResult()));
+            }
+            if (isRedisTooSlowFor(remainingTimeout)) {
+                return Future.succeededFuture(mergeScanResults(responses, cachedResults, getEmptyScanResult()));
+            }
+
+            return scan(readRedisNodeAPI, withResponsesOnly(bids, cachedResults), missedResponses)
+                    .map(redisResult -> mergeScanResults(responses, cachedResults, redisResult));
+        }
+
+        return isRedisTooSlowFor(remainingTimeout)
+                ? Future.succeededFuture(getEmptyScanResult())
+                : scan(readRedisNodeAPI, bids, responses);
+    }
+
+    private static List<ResponseCreatives> toResponseCreatives(RedisBidsData bids) {
+        final List<ResponseCreatives> responses = new ArrayList<>();
+        for (RedisBidResponseData bresp : ListUtils.emptyIfNull(bids.getBresps())) {
+            final List<Bid> responseBids = new ArrayList<>();
+            for (SeatBid seatBid : seatBids(bresp)) {
+                responseBids.addAll(ListUtils.emptyIfNull(seatBid.getBid()));
+            }
+            responses.add(new ResponseCreatives(bresp.getDspId(), responseBids));
+        }
+
+        return responses;
+    }
+
+    private static List<SeatBid> seatBids(RedisBidResponseData bresp) {
+        final BidResponse bidResponse = bresp.getBidresponse();
+        return bidResponse != null ? ListUtils.emptyIfNull(bidResponse.getSeatbid()) : Collections.emptyList();
+    }
+
+    /**
+     * Returns cached results in the order of bid responses, null stands for a bid response missed in the cache.
+     * Bid responses without bids are never looked up.
+     */
+    private List<BidScanResult> lookupCachedResults(List<ResponseCreatives> responses) {
+        if (scanResultCache == null) {
+            return null;
+        }
+
+        final List<BidScanResult> cachedResults = new ArrayList<>(responses.size());
+        for (ResponseCreatives response : responses) {
+            if (response.bids().isEmpty()) {
+                cachedResults.add(null);
+                continue;
+            }
+
+            final BidScanResult cachedResult = scanResultCache.get(response.dspId(), response.bids());
+            metrics.updateModuleLocalCacheLookupMetric(ConfiantAdQualityModule.CODE, cachedResult != null);
+            cachedResults.add(cachedResult);
+        }
+
+        return cachedResults;
+    }
+
+    private static List<ResponseCreatives> missedResponses(List<ResponseCreatives> responses,
+                                                           List<BidScanResult> cachedResults) {
+
+        final List<ResponseCreatives> missedResponses = new ArrayList<>();
+        for (int i = 0; i < responses.size(); i++) {
+            if (cachedResults.get(i) == null) {
+                missedResponses.add(responses.get(i));
+            }
+        }
+
+        return missedResponses;
+    }
+
+    /**
+     * Returns bids data without bid responses which scan results are already known.
+     */
+    private static RedisBidsData withResponsesOnly(RedisBidsData bids, List<BidScanResult> cachedResults) {
+        final List<RedisBidResponseData> bresps = new ArrayList<>();
+        final List<RedisBidResponseData> allBresps = bids.getBresps();
+        for (int i = 0; i < allBresps.size(); i++) {
+            if (cachedResults.get(i) == null) {
+                bresps.add(allBresps.get(i));
+            }
+        }
+
+        return bids.toBuilder().bresps(bresps).build();
+    }
+
+    /**
+     * Puts Redis results in place of bid responses missed in the local cache, keeping the order of bid responses.
+     * Bid responses left without result are treated as having no issues, the same way as when Redis is not
+     * available.
+     */
+    private static BidsScanResult mergeScanResults(List<ResponseCreatives> responses,
+                                                   List<BidScanResult> cachedResults,
+                                                   BidsScanResult redisResult) {
+
+        final Iterator<BidScanResult> redisResults = redisResult.getBidScanResults().iterator();
+        final List<BidScanResult> bidScanResults = new ArrayList<>(responses.size());
+        for (int i = 0; i < responses.size(); i++) {
+            final BidScanResult cachedResult = cachedResults.get(i);
+            if (cachedResult != null) {
+                bidScanResults.add(cachedResult);
+            } else if (redisResults.hasNext()) {
+                bidScanResults.add(redisResults.next());
+            } else {
+                bidScanResults.add(notScannedResult(responses.get(i).bids()));
+            }
+        }
+
+        return BidsScanResult.builder()
+                .bidScanResults(bidScanResults)
+                .debugMessages(redisResult.getDebugMessages())
+                .build();
+    }
+
+    private static BidScanResult notScannedResult(List<Bid> bids) {
+        final BidScanResult result = new BidScanResult();
+        result.setImpId(bids.isEmpty() ? null : bids.getFirst().getImpid());
+        return result;
+    }
+
+    private boolean isRedisTooSlowFor(long remainingTimeout) {
+        if (!skipScanOnLowTimeout) {
+            return false;
+        }
+
+        final long p95 = latencyTracker.p95();
+        return p95 >= 0 && remainingTimeout < p95;
+    }
+
+    private void updateTimeSavedMetric() {
+        final long median = latencyTracker.median();
+        if (median >= 0) {
+            metrics.updateModuleLocalCacheTimeSavedMetric(ConfiantAdQualityModule.CODE, median);
+        }
+    }
+
+    private Future<BidsScanResult> scan(RedisAPI readRedisNodeAPI,
+                                        RedisBidsData bids,
+                                        List<ResponseCreatives> responses) {
+
+        final Future<BidsScanResult> scanResult = submitToRedis(readRedisNodeAPI, bids);
+        return scanResultCache != null
+                ? scanResult.onSuccess(result -> cacheScanResults(responses, result))
+                : scanResult;
+    }
+
+    /**
+     * Caches result of every submitted bid response. Results are not cached at all if their number does not match
+     * the number of submitted bid responses, which happens when Redis answered with an error.
+     */
+    private void cacheScanResults(List<ResponseCreatives> responses, BidsScanResult scanResult) {
+        final List<BidScanResult> bidScanResults = scanResult.getBidScanResults();
+        if (bidScanResults.size() != responses.size()) {
+            return;
+        }
+
+        for (int i = 0; i < responses.size(); i++) {
+            final ResponseCreatives response = responses.get(i);
+            if (!response.bids().isEmpty()) {
+                scanResultCache.put(response.dspId(), response.bids(), bidScanResults.get(i));
+            }
+        }
+    }
+
+    private Future<BidsScanResult> submitToRedis(RedisAPI readRedisNodeAPI, RedisBidsData bids) {
+        final boolean shouldSubmit = readRedisNodeAPI != null && !bids.getBresps().isEmpty();
+        if (!shouldSubmit) {
+            return Future.succeededFuture(getEmptyScanResult());
+        }
+
+        final Promise<BidsScanResult> scanResult = Promise.promise();
+        final String functionHash = submitBidsFunctionHash;
+        if (functionHash != null) {
+            evalSubmitBids(readRedisNodeAPI, functionHash, bids, scanResult);
+        } else {
+            readRedisNodeAPI.get(SUBMIT_BIDS_FUNCTION_KEY, submitHash -> {
                 final Object submitHashResult = submitHash.result();
                 if (submitHashResult != null) {
-                    final List<String> readArgs = List.of(submitHashResult.toString(), "0", toBidsAsJson(bids), apiKey, "true");
-
-                    readRedisNodeAPI.evalsha(readArgs, response -> {
-                        if (response.result() != null) {
-                            final BidsScanResult parserResult = redisParser
-                                    .parseBidsScanResult(response.result().toString());
-                            final boolean isAnyRoSkipped = parserResult.getBidScanResults()
-                                    .stream().anyMatch(BidScanResult::isRoSkipped);
-
-                            if (isAnyRoSkipped) {
-                                reSubmitBidsToWriteNode(readArgs, scanResult);
-                            } else {
-                                scanResult.complete(parserResult);
-                            }
-                        } else {
-                            scanResult.complete(getEmptyScanResult());
-                        }
-                    });
+                    submitBidsFunctionHash = submitHashResult.toString();
+                    evalSubmitBids(readRedisNodeAPI, submitHashResult.toString(), bids, scanResult);
                 } else {
                     scanResult.complete(getEmptyScanResult());
                 }
             });
-
-            return scanResult.future();
         }
 
-        return Future.succeededFuture(getEmptyScanResult());
+        return scanResult.future();
+    }
+
+    /**
+     * Runs the submit bids function on the read node. Hash of the function is cached between auctions
+     * and is dropped once the function cannot be evaluated, so it is looked up again next time.
+     */
+    private void evalSubmitBids(RedisAPI readRedisNodeAPI,
+                                String functionHash,
+                                RedisBidsData bids,
+                                Promise<BidsScanResult> scanResult) {
+
+        final List<String> readArgs = List.of(functionHash, "0", toBidsAsJson(bids), apiKey, "true");
+        final long startTime = latencyTracker.currentTimeMillis();
+
+        readRedisNodeAPI.evalsha(readArgs, response -> {
+            latencyTracker.recordSince(startTime);
+
+            if (response.result() != null) {
+                final BidsScanResult parserResult = redisParser
+                        .parseBidsScanResult(response.result().toString());
+                final boolean isAnyRoSkipped = parserResult.getBidScanResults()
+                        .stream().anyMatch(BidScanResult::isRoSkipped);
+
+                if (isAnyRoSkipped) {
+                    reSubmitBidsToWriteNode(readArgs, scanResult);
+                } else {
+                    scanResult.complete(parserResult);
+                }
+            } else {
+                submitBidsFunctionHash = null;
+                scanResult.complete(getEmptyScanResult());
+            }
+        });
     }
 
     private void reSubmitBidsToWriteNode(List<String> readArgs, Promise<BidsScanResult> scanResult) {
@@ -137,10 +375,13 @@ public class BidsScanner {
         }
     }
 
-    private BidsScanResult getEmptyScanResult() {
+    private static BidsScanResult getEmptyScanResult() {
         return BidsScanResult.builder()
                 .bidScanResults(Collections.emptyList())
                 .debugMessages(Collections.emptyList())
                 .build();
     }
+
+    private record ResponseCreatives(String dspId, List<Bid> bids) {
+    }
 }
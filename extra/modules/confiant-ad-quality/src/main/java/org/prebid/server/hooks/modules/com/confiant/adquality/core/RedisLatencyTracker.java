@@ -0,0 +1,82 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.core;
+
+import com.codahale.metrics.ExponentiallyDecayingReservoir;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps track of recently observed latencies of Redis scan calls.
+ * <p>
+ * Percentiles are recalculated at most once per second, so they are cheap to ask for on every auction.
+ */
+public class RedisLatencyTracker {
+
+    private static final int MIN_SAMPLES = 100;
+    private static final long SNAPSHOT_TTL_MILLIS = 1000L;
+
+    private final Clock clock;
+
+    private final Reservoir reservoir;
+    private final LongAdder samples;
+
+    private volatile Percentiles percentiles;
+
+    public RedisLatencyTracker(Clock clock) {
+        this.clock = Objects.requireNonNull(clock);
+
+        reservoir = new ExponentiallyDecayingReservoir();
+        samples = new LongAdder();
+    }
+
+    public long currentTimeMillis() {
+        return clock.millis();
+    }
+
+    public void recordSince(long startTimeMillis) {
+        reservoir.update(clock.millis() - startTimeMillis);
+        samples.increment();
+    }
+
+    /**
+     * Returns 95th percentile of observed latencies or -1 if there are not enough observations yet.
+     */
+    public long p95() {
+        final Percentiles current = percentiles();
+        return current != null ? current.p95() : -1L;
+    }
+
+    /**
+     * Returns median of observed latencies or -1 if there are not enough observations yet.
+     */
+    public long median() {
+        final Percentiles current = percentiles();
+        return current != null ? current.median() : -1L;
+    }
+
+    private Percentiles percentiles() {
+        if (samples.sum() < MIN_SAMPLES) {
+            return null;
+        }
+
+        final long now = clock.millis();
+        final Percentiles current = percentiles;
+        if (current != null && now - current.calculatedAt() < SNAPSHOT_TTL_MILLIS) {
+            return current;
+        }
+
+        final Snapshot snapshot = reservoir.getSnapshot();
+        final Percentiles calculated = new Percentiles(
+                (long) snapshot.get95thPercentile(),
+                (long) snapshot.getMedian(),
+                now);
+        percentiles = calculated;
+        return calculated;
+    }
+
+    private record Percentiles(long p95, long median, long calculatedAt) {
+    }
+}
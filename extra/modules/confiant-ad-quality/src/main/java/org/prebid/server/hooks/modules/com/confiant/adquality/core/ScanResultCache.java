@@ -0,0 +1,69 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.core;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iab.openrtb.response.Bid;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded local cache of scan results of bid responses which creatives are already known to Confiant,
+ * keyed by hash of all creatives of the bid response, so repeated bid responses are not sent to Redis
+ * in every auction.
+ * <p>
+ * Redis returns a single scan result per bid response, so results are cached with the same granularity.
+ */
+public class ScanResultCache {
+
+    private static final char KEY_DELIMITER = '\n';
+
+    private final Cache<String, BidScanResult> cache;
+
+    public ScanResultCache(int size, long ttlSeconds) {
+        cache = Caffeine.newBuilder()
+                .maximumSize(size)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Returns cached scan result of the bid response with the given bids or null if its creatives are unknown.
+     * Returned result is bound to the impression of the first of the given bids.
+     */
+    public BidScanResult get(String dspId, List<Bid> bids) {
+        final BidScanResult cachedResult = cache.getIfPresent(creativesHash(dspId, bids));
+        if (cachedResult == null) {
+            return null;
+        }
+
+        final BidScanResult result = new BidScanResult();
+        result.setTagKey(cachedResult.getTagKey());
+        result.setImpId(bids.getFirst().getImpid());
+        result.setIssues(cachedResult.getIssues());
+        return result;
+    }
+
+    /**
+     * Caches scan result of the bid response with the given bids unless its creatives are not recorded
+     * by Confiant yet.
+     */
+    public void put(String dspId, List<Bid> bids, BidScanResult result) {
+        if (result != null && !result.isRoSkipped()) {
+            cache.put(creativesHash(dspId, bids), result);
+        }
+    }
+
+    private static String creativesHash(String dspId, List<Bid> bids) {
+        final StringBuilder key = new StringBuilder(Objects.toString(dspId, ""));
+        for (Bid bid : bids) {
+            key.append(KEY_DELIMITER).append(Objects.toString(bid.getCrid(), ""))
+                    .append(KEY_DELIMITER).append(Objects.toString(bid.getAdm(), ""));
+        }
+
+        return DigestUtils.sha256Hex(key.toString());
+    }
+}
@@ -2,7 +2,9 @@ package org.prebid.server.hooks.modules.com.confiant.adquality.core;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.response.Bid;
 import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.redis.client.Command;
@@ -15,17 +17,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.GroupByIssues;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidResponseData;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidsData;
 import org.prebid.server.hooks.modules.com.confiant.adquality.util.AdQualityModuleTestUtils;
+import org.prebid.server.metric.Metrics;
 
+import java.time.Clock;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class BidsScannerTest {
@@ -39,11 +50,22 @@ public class BidsScannerTest {
     @Mock
     private RedisAPI redisAPI;
 
+    @Mock
+    private Metrics metrics;
+
     private BidsScanner bidsScannerTest;
 
     @BeforeEach
     public void setUp() {
-        bidsScannerTest = new BidsScanner(writeRedisNode, readRedisNode, "api-key", new ObjectMapper());
+        bidsScannerTest = new BidsScanner(
+                writeRedisNode,
+                readRedisNode,
+                "api-key",
+                new ObjectMapper(),
+                new ScanResultCache(100, 600),
+                new RedisLatencyTracker(Clock.systemUTC()),
+                false,
+                metrics);
     }
 
     @Test()
@@ -209,7 +231,185 @@ public class BidsScannerTest {
         assertThat(groupByIssues.getWithoutIssues().size()).isEqualTo(0);
     }
 
+    @Test()
+    public void shouldReturnCachedScanResultWithoutCallingRedisWhenCreativeIsAlreadyScanned() {
+        // given
+        final String redisResponse = "[[[{\"tag_key\": \"key_a\", \"imp_id\": \"imp_a\", \"issues\": [{ \"value\": \"ads.deceivenetworks.net\", \"spec_name\": \"malicious_domain\", \"first_adinstance\": \"e91e8da982bb8b7f80100426\"}]}]]]";
+        final List<Command> sentCommands = new ArrayList<>();
+        final RedisAPI redisAPI = getRedisEmulationWithAnswer(redisResponse, sentCommands);
+        bidsScannerTest.enableScan();
+        doReturn(redisAPI).when(readRedisNode).getRedisAPI();
+
+        bidsScannerTest.submitBids(givenBidsData(Bid.builder().impid("imp_a").crid("crid").adm("adm").build()));
+
+        // when
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(
+                givenBidsData(Bid.builder().impid("imp_b").crid("crid").adm("adm").build()));
+
+        // then
+        assertThat(sentCommands).containsExactly(Command.GET, Command.EVALSHA);
+        assertThat(scanResult.result().getBidScanResults())
+                .extracting(BidScanResult::getTagKey, BidScanResult::getImpId)
+                .containsExactly(tuple("key_a", "imp_b"));
+        verify(metrics).updateModuleLocalCacheLookupMetric("confiant-ad-quality", false);
+        verify(metrics).updateModuleLocalCacheLookupMetric("confiant-ad-quality", true);
+    }
+
+    @Test()
+    public void shouldSubmitOnlyNotCachedBidResponsesReusingSubmitFunctionHash() {
+        // given
+        final List<String> sentArguments = new ArrayList<>();
+        final List<Command> sentCommands = new ArrayList<>();
+        given(readRedisNode.getRedisAPI()).willReturn(
+                getRedisEmulationWithAnswer("[[[{\"tag_key\": \"key_a\"}]]]", sentCommands),
+                getRedisEmulationWithAnswer("[[[{\"tag_key\": \"key_b\"}]]]", sentCommands, sentArguments));
+        bidsScannerTest.enableScan();
+
+        final RedisBidResponseData cachedResponse = givenBidResponseData("dsp_a",
+                Bid.builder().impid("imp_a").crid("crid_a").adm("adm_a").build());
+        bidsScannerTest.submitBids(givenBidsData(cachedResponse));
+
+        // when
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(givenBidsData(
+                cachedResponse,
+                givenBidResponseData("dsp_b", Bid.builder().impid("imp_b").crid("crid_b").adm("adm_b").build())));
+
+        // then
+        assertThat(sentCommands).containsExactly(Command.GET, Command.EVALSHA, Command.EVALSHA);
+        assertThat(sentArguments).anySatisfy(argument -> assertThat(argument)
+                .contains("dsp_b")
+                .doesNotContain("dsp_a"));
+        assertThat(scanResult.result().getBidScanResults())
+                .extracting(BidScanResult::getTagKey)
+                .containsExactly("key_a", "key_b");
+    }
+
+    @Test()
+    public void shouldMatchCachedAndRedisResultsToBidResponsesWithSeveralBids() {
+        // given
+        final String issues = "\"issues\": [{\"value\": \"ads.deceivenetworks.net\", "
+                + "\"spec_name\": \"malicious_domain\"}]";
+        given(readRedisNode.getRedisAPI()).willReturn(
+                getRedisEmulationWithAnswer("[[[{\"tag_key\": \"key_a\"}]]]"),
+                getRedisEmulationWithAnswer(
+                        "[[[{\"tag_key\": \"key_b\", " + issues + "}]],[[{\"tag_key\": \"key_c\"}]]]"));
+        bidsScannerTest.enableScan();
+
+        final RedisBidResponseData cachedResponse = givenBidResponseData("dsp_a",
+                Bid.builder().impid("imp_a1").crid("crid_a1").adm("adm_a1").build(),
+                Bid.builder().impid("imp_a2").crid("crid_a2").adm("adm_a2").build());
+        bidsScannerTest.submitBids(givenBidsData(cachedResponse));
+
+        // when
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(givenBidsData(
+                cachedResponse,
+                givenBidResponseData("dsp_b",
+                        Bid.builder().impid("imp_b1").crid("crid_b1").adm("adm_b1").build(),
+                        Bid.builder().impid("imp_b2").crid("crid_b2").adm("adm_b2").build()),
+                givenBidResponseData("dsp_c",
+                        Bid.builder().impid("imp_c1").crid("crid_c1").adm("adm_c1").build(),
+                        Bid.builder().impid("imp_c2").crid("crid_c2").adm("adm_c2").build())));
+
+        final BidderResponse bidderResponseA = AdQualityModuleTestUtils.getBidderResponse("dsp_a", "imp_a1", "a");
+        final BidderResponse bidderResponseB = AdQualityModuleTestUtils.getBidderResponse("dsp_b", "imp_b1", "b");
+        final BidderResponse bidderResponseC = AdQualityModuleTestUtils.getBidderResponse("dsp_c", "imp_c1", "c");
+        final GroupByIssues<BidderResponse> groupByIssues = scanResult.result()
+                .toGroupByIssues(List.of(bidderResponseA, bidderResponseB, bidderResponseC));
+
+        // then
+        assertThat(scanResult.result().getBidScanResults())
+                .extracting(BidScanResult::getTagKey)
+                .containsExactly("key_a", "key_b", "key_c");
+        assertThat(groupByIssues.getWithIssues()).containsExactly(bidderResponseB);
+        assertThat(groupByIssues.getWithoutIssues()).containsExactly(bidderResponseA, bidderResponseC);
+        verify(metrics, times(3)).updateModuleLocalCacheLookupMetric("confiant-ad-quality", false);
+        verify(metrics).updateModuleLocalCacheLookupMetric("confiant-ad-quality", true);
+    }
+
+    @Test()
+    public void shouldCacheRedisResultsOfBidResponsesWithSeveralBids() {
+        // given
+        final List<Command> sentCommands = new ArrayList<>();
+        final RedisAPI redisAPI = getRedisEmulationWithAnswer(
+                "[[[{\"tag_key\": \"key_a\"}]],[[{\"tag_key\": \"key_b\"}]]]", sentCommands);
+        doReturn(redisAPI).when(readRedisNode).getRedisAPI();
+        bidsScannerTest.enableScan();
+
+        final RedisBidsData bidsData = givenBidsData(
+                givenBidResponseData("dsp_a",
+                        Bid.builder().impid("imp_a1").crid("crid_a1").adm("adm_a1").build(),
+                        Bid.builder().impid("imp_a2").crid("crid_a2").adm("adm_a2").build()),
+                givenBidResponseData("dsp_b",
+                        Bid.builder().impid("imp_b1").crid("crid_b1").adm("adm_b1").build()));
+        bidsScannerTest.submitBids(bidsData);
+
+        // when
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(bidsData);
+
+        // then
+        assertThat(sentCommands).containsExactly(Command.GET, Command.EVALSHA);
+        assertThat(scanResult.result().getBidScanResults())
+                .extracting(BidScanResult::getTagKey, BidScanResult::getImpId)
+                .containsExactly(tuple("key_a", "imp_a1"), tuple("key_b", "imp_b1"));
+    }
+
+    @Test()
+    public void shouldReturnNotScannedResultForNotCachedCreativesWhenRedisIsTooSlowForRemainingTimeout() {
+        // given
+        final RedisLatencyTracker latencyTracker = mock(RedisLatencyTracker.class);
+        given(latencyTracker.p95()).willReturn(50L);
+        bidsScannerTest = new BidsScanner(
+                writeRedisNode,
+                readRedisNode,
+                "api-key",
+                new ObjectMapper(),
+                new ScanResultCache(100, 600),
+                latencyTracker,
+                true,
+                metrics);
+        bidsScannerTest.enableScan();
+
+        // when
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(
+                givenBidsData(Bid.builder().impid("imp_a").crid("crid").adm("adm").build()), 10L);
+
+        // then
+        assertThat(scanResult.result().getBidScanResults()).isEmpty();
+        verifyNoInteractions(redisAPI);
+    }
+
+    private static RedisBidsData givenBidsData(Bid... bids) {
+        return givenBidsData(givenBidResponseData("dsp_id", bids));
+    }
+
+    private static RedisBidsData givenBidsData(RedisBidResponseData... bresps) {
+        return RedisBidsData.builder()
+                .breq(BidRequest.builder().build())
+                .bresps(List.of(bresps))
+                .build();
+    }
+
+    private static RedisBidResponseData givenBidResponseData(String dspId, Bid... bids) {
+        return RedisBidResponseData.builder()
+                .dspId(dspId)
+                .bidresponse(BidResponse.builder()
+                        .seatbid(List.of(SeatBid.builder().bid(List.of(bids)).build()))
+                        .build())
+                .build();
+    }
+
     private RedisAPI getRedisEmulationWithAnswer(String sendAnswer) {
+        return getRedisEmulationWithAnswer(sendAnswer, new ArrayList<>());
+    }
+
+    private RedisAPI getRedisEmulationWithAnswer(String sendAnswer, List<Command> sentCommands) {
+        return getRedisEmulationWithAnswer(sendAnswer, sentCommands, new ArrayList<>());
+    }
+
+    private RedisAPI getRedisEmulationWithAnswer(String sendAnswer,
+                                                 List<Command> sentCommands,
+                                                 List<String> sentArguments) {
+
         return new RedisAPI() {
             @Override
             public void close() {
@@ -217,6 +417,8 @@ public class BidsScannerTest {
 
             @Override
             public Future<Response> send(Command command, String... strings) {
+                sentCommands.add(command);
+                sentArguments.addAll(List.of(strings));
                 return Future.succeededFuture(new Response() {
                     @Override
                     public ResponseType type() {
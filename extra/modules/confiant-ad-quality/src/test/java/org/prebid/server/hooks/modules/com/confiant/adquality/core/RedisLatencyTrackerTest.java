@@ -0,0 +1,52 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisLatencyTrackerTest {
+
+    @Mock
+    private Clock clock;
+
+    private RedisLatencyTracker target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new RedisLatencyTracker(clock);
+    }
+
+    @Test
+    public void percentilesShouldBeUnknownUntilEnoughLatenciesAreRecorded() {
+        // given
+        given(clock.millis()).willReturn(10L);
+        for (int i = 0; i < 99; i++) {
+            target.recordSince(0L);
+        }
+
+        // when and then
+        assertThat(target.p95()).isEqualTo(-1L);
+        assertThat(target.median()).isEqualTo(-1L);
+    }
+
+    @Test
+    public void percentilesShouldReflectRecordedLatencies() {
+        // given
+        given(clock.millis()).willReturn(100L);
+        for (int i = 0; i < 100; i++) {
+            target.recordSince(100L - i);
+        }
+
+        // when and then
+        assertThat(target.p95()).isBetween(90L, 100L);
+        assertThat(target.median()).isBetween(45L, 55L);
+    }
+}
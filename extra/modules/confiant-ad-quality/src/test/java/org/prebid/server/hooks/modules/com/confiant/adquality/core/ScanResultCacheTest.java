@@ -0,0 +1,74 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.core;
+
+import com.iab.openrtb.response.Bid;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScanResultCacheTest {
+
+    private final ScanResultCache target = new ScanResultCache(100, 600);
+
+    @Test
+    public void getShouldReturnCachedResultBoundToImpOfFirstGivenBid() {
+        // given
+        target.put(
+                "dsp", List.of(Bid.builder().impid("imp_a").crid("crid").adm("adm").build()), givenScanResult(false));
+
+        // when
+        final BidScanResult result = target.get(
+                "dsp", List.of(Bid.builder().impid("imp_b").crid("crid").adm("adm").build()));
+
+        // then
+        assertThat(result.getTagKey()).isEqualTo("tag");
+        assertThat(result.getImpId()).isEqualTo("imp_b");
+    }
+
+    @Test
+    public void getShouldReturnNullForAnotherCreativeOrDsp() {
+        // given
+        final Bid bid = Bid.builder().impid("imp").crid("crid").adm("adm").build();
+        target.put("dsp", List.of(bid), givenScanResult(false));
+
+        // when and then
+        assertThat(target.get("dsp", List.of(bid.toBuilder().adm("another-adm").build()))).isNull();
+        assertThat(target.get("dsp", List.of(bid.toBuilder().crid("another-crid").build()))).isNull();
+        assertThat(target.get("another-dsp", List.of(bid))).isNull();
+    }
+
+    @Test
+    public void getShouldReturnNullWhenBidResponseHasOtherSetOfCreatives() {
+        // given
+        final Bid bid = Bid.builder().impid("imp").crid("crid").adm("adm").build();
+        final Bid anotherBid = Bid.builder().impid("imp").crid("another-crid").adm("another-adm").build();
+        target.put("dsp", List.of(bid, anotherBid), givenScanResult(false));
+
+        // when and then
+        assertThat(target.get("dsp", List.of(bid, anotherBid))).isNotNull();
+        assertThat(target.get("dsp", List.of(bid))).isNull();
+        assertThat(target.get("dsp", List.of(anotherBid, bid))).isNull();
+    }
+
+    @Test
+    public void putShouldNotCacheResultOfCreativeNotRecordedYet() {
+        // given
+        final List<Bid> bids = List.of(Bid.builder().impid("imp").crid("crid").adm("adm").build());
+
+        // when
+        target.put("dsp", bids, givenScanResult(true));
+
+        // then
+        assertThat(target.get("dsp", bids)).isNull();
+    }
+
+    private static BidScanResult givenScanResult(boolean roSkipped) {
+        final BidScanResult result = new BidScanResult();
+        result.setTagKey("tag");
+        result.setImpId("imp_a");
+        result.setRoSkipped(roSkipped);
+        return result;
+    }
+}
@@ -39,6 +39,8 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
 
@@ -83,7 +85,7 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
                 .debugMessages(Collections.emptyList())
                 .build();
 
-        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any());
+        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any(), anyLong());
         doReturn(getAuctionContext()).when(auctionInvocationContext).auctionContext();
 
         // when
@@ -108,7 +110,7 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
         final BidsScanResult bidsScanResult = redisParser.parseBidsScanResult(
                 "[[[{\"tag_key\": \"tag\", \"issues\":[{\"spec_name\":\"malicious_domain\",\"value\":\"ads.deceivenetworks.net\",\"first_adinstance\":\"e91e8da982bb8b7f80100426\"}]}]]]");
 
-        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any());
+        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any(), anyLong());
         doReturn(getAuctionContext()).when(auctionInvocationContext).auctionContext();
         doReturn(List.of(AdQualityModuleTestUtils.getBidderResponse("bidder_a", "imp_a", "bid_id_a")))
                 .when(allProcessedBidResponsesPayload).bidResponses();
@@ -143,14 +145,14 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
         final BidsScanResult bidsScanResult = redisParser.parseBidsScanResult(
                 "[[[{\"tag_key\": \"tag\", \"issues\":[{\"spec_name\":\"malicious_domain\",\"value\":\"ads.deceivenetworks.net\",\"first_adinstance\":\"e91e8da982bb8b7f80100426\"}]}]]]");
 
-        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any());
+        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any(), anyLong());
         doReturn(getAuctionContext()).when(auctionInvocationContext).auctionContext();
 
         // when
         target.call(allProcessedBidResponsesPayload, auctionInvocationContext);
 
         // then
-        verify(bidsScanner).submitBids(any());
+        verify(bidsScanner).submitBids(any(), anyLong());
     }
 
     @Test
@@ -172,7 +174,7 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
         target = new ConfiantAdQualityBidResponsesScanHook(bidsScanner, List.of(secureBidderName), userFpdActivityMask);
 
         doReturn(List.of(secureBidderResponse, notSecureBadBidderResponse, notSecureGoodBidderResponse)).when(allProcessedBidResponsesPayload).bidResponses();
-        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any());
+        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any(), anyLong());
         doReturn(auctionContext).when(auctionInvocationContext).auctionContext();
 
         // when
@@ -181,8 +183,8 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
 
         // then
         verify(bidsScanner).submitBids(
-                BidsMapper.toRedisBidsFromBidResponses(auctionContext.getBidRequest(), List.of(notSecureBadBidderResponse, notSecureGoodBidderResponse))
-        );
+                eq(BidsMapper.toRedisBidsFromBidResponses(auctionContext.getBidRequest(), List.of(notSecureBadBidderResponse, notSecureGoodBidderResponse))),
+                anyLong());
 
         final PayloadUpdate<AllProcessedBidResponsesPayload> payloadUpdate = invocationResult.result().payloadUpdate();
         final AllProcessedBidResponsesPayloadImpl initPayloadToUpdate = AllProcessedBidResponsesPayloadImpl.of(
@@ -230,7 +232,7 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
         target = new ConfiantAdQualityBidResponsesScanHook(bidsScanner, List.of(secureBidderName), userFpdActivityMask);
 
         doReturn(List.of(secureBidderResponse, notSecureBadBidderResponse, emptyBidderResponse)).when(allProcessedBidResponsesPayload).bidResponses();
-        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any());
+        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any(), anyLong());
         doReturn(auctionContext).when(auctionInvocationContext).auctionContext();
 
         // when
@@ -239,8 +241,8 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
 
         // then
         verify(bidsScanner).submitBids(
-                BidsMapper.toRedisBidsFromBidResponses(auctionContext.getBidRequest(), List.of(notSecureBadBidderResponse))
-        );
+                eq(BidsMapper.toRedisBidsFromBidResponses(auctionContext.getBidRequest(), List.of(notSecureBadBidderResponse))),
+                anyLong());
 
         final PayloadUpdate<AllProcessedBidResponsesPayload> payloadUpdate = invocationResult.result().payloadUpdate();
         final AllProcessedBidResponsesPayloadImpl initPayloadToUpdate = AllProcessedBidResponsesPayloadImpl.of(
@@ -276,7 +278,7 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
 
         bidsScanner.enableScan();
         doReturn(transmitGeoIsAllowed).when(activityInfrastructure).isAllowed(any(), any());
-        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any());
+        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any(), anyLong());
         doReturn(getAuctionContext()).when(auctionInvocationContext).auctionContext();
 
         // when
@@ -284,12 +286,12 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
 
         // then
         verify(bidsScanner).submitBids(
-                BidsMapper.toRedisBidsFromBidResponses(BidRequest.builder()
+                eq(BidsMapper.toRedisBidsFromBidResponses(BidRequest.builder()
                         .user(user)
                         .device(device)
                         .cur(List.of("USD"))
-                        .build(), List.of())
-        );
+                        .build(), List.of())),
+                anyLong());
     }
 
     @Test
@@ -304,7 +306,7 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
 
         bidsScanner.enableScan();
         doReturn(transmitGeoIsAllowed).when(activityInfrastructure).isAllowed(any(), any());
-        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any());
+        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any(), anyLong());
         doReturn(getAuctionContext()).when(auctionInvocationContext).auctionContext();
 
         // when
@@ -312,12 +314,12 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
 
         // then
         verify(bidsScanner).submitBids(
-                BidsMapper.toRedisBidsFromBidResponses(BidRequest.builder()
+                eq(BidsMapper.toRedisBidsFromBidResponses(BidRequest.builder()
                         .user(user)
                         .device(device)
                         .cur(List.of("USD"))
-                        .build(), List.of())
-        );
+                        .build(), List.of())),
+                anyLong());
     }
 
     @Test
@@ -325,7 +327,7 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
         // given
         final BidsScanResult bidsScanResult = redisParser.parseBidsScanResult("[[[{\"t");
 
-        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any());
+        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any(), anyLong());
         doReturn(true).when(auctionInvocationContext).debugEnabled();
         doReturn(getAuctionContext()).when(auctionInvocationContext).auctionContext();
 
@@ -350,7 +352,7 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
         // given
         final BidsScanResult bidsScanResult = redisParser.parseBidsScanResult("[[[{\"t");
 
-        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any());
+        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any(), anyLong());
         doReturn(false).when(auctionInvocationContext).debugEnabled();
         doReturn(getAuctionContext()).when(auctionInvocationContext).auctionContext();
 
@@ -3,14 +3,17 @@ package org.prebid.server.hooks.modules.fiftyone.devicedetection.config;
 import fiftyone.devicedetection.DeviceDetectionPipelineBuilder;
 import fiftyone.pipeline.core.flowelements.Pipeline;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.FiftyOneDeviceDetectionModule;
+import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core.DeviceDetectionCache;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core.DeviceEnricher;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core.PipelineBuilder;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.hooks.FiftyOneDeviceDetectionEntrypointHook;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.hooks.FiftyOneDeviceDetectionRawAuctionRequestHook;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.model.config.ModuleConfig;
+import org.prebid.server.hooks.modules.fiftyone.devicedetection.model.config.PerformanceConfig;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
 import org.prebid.server.hooks.v1.Module;
+import org.prebid.server.metric.Metrics;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -21,6 +24,9 @@ import java.util.Set;
 @Configuration
 @ConditionalOnProperty(prefix = "hooks." + FiftyOneDeviceDetectionModule.CODE, name = "enabled", havingValue = "true")
 public class FiftyOneDeviceDetectionModuleConfiguration {
+
+    private static final int DEFAULT_RESULT_CACHE_SIZE = 10_000;
+
     @Bean
     @ConfigurationProperties(prefix = "hooks.modules." + FiftyOneDeviceDetectionModule.CODE)
     ModuleConfig moduleConfig() {
@@ -28,13 +34,28 @@ public class FiftyOneDeviceDetectionModuleConfiguration {
     }
 
     @Bean
-    Pipeline pipeline(ModuleConfig moduleConfig) throws Exception {
-        return new PipelineBuilder(moduleConfig).build(new DeviceDetectionPipelineBuilder());
+    DeviceDetectionCache deviceDetectionCache(ModuleConfig moduleConfig, Metrics metrics) {
+        return new DeviceDetectionCache(resultCacheSize(moduleConfig), metrics);
+    }
+
+    @Bean
+    Pipeline pipeline(ModuleConfig moduleConfig, DeviceDetectionCache deviceDetectionCache) throws Exception {
+        return new PipelineBuilder(moduleConfig, deviceDetectionCache::invalidate)
+                .build(new DeviceDetectionPipelineBuilder());
     }
 
     @Bean
-    DeviceEnricher deviceEnricher(Pipeline pipeline) {
-        return new DeviceEnricher(pipeline);
+    DeviceEnricher deviceEnricher(Pipeline pipeline,
+                                  ModuleConfig moduleConfig,
+                                  DeviceDetectionCache deviceDetectionCache) {
+
+        return new DeviceEnricher(pipeline, resultCacheSize(moduleConfig) > 0 ? deviceDetectionCache : null);
+    }
+
+    private static int resultCacheSize(ModuleConfig moduleConfig) {
+        final PerformanceConfig performanceConfig = moduleConfig.getPerformance();
+        final Integer resultCacheSize = performanceConfig != null ? performanceConfig.getResultCacheSize() : null;
+        return resultCacheSize != null ? resultCacheSize : DEFAULT_RESULT_CACHE_SIZE;
     }
 
     @Bean
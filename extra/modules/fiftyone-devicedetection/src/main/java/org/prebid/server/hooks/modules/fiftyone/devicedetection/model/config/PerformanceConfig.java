@@ -9,4 +9,5 @@ public final class PerformanceConfig {
     Integer difference;
     Boolean allowUnmatched;
     Integer drift;
+    Integer resultCacheSize;
 }
@@ -0,0 +1,24 @@
+package org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Values of device properties detected by the pipeline, detached from the flow data they were read from.
+ */
+@Builder
+public record DetectedDevice(
+        String deviceType,
+        String hardwareVendor,
+        String hardwareModel,
+        List<String> hardwareName,
+        String platformName,
+        String platformVersion,
+        Integer screenPixelsHeight,
+        Integer screenPixelsWidth,
+        Double screenInchesHeight,
+        Double pixelRatio,
+        String deviceId
+) {
+}
@@ -0,0 +1,69 @@
+package org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.FiftyOneDeviceDetectionModule;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of detected devices keyed by the evidence passed to the pipeline.
+ * <p>
+ * Must be invalidated when the pipeline starts using a new data file. Every entry remembers the generation
+ * of the cache its detection has started in, so entries put by detections overlapping with invalidation
+ * are never served.
+ */
+public class DeviceDetectionCache {
+
+    private final Cache<Map<String, String>, CachedDevice> cache;
+    private final Metrics metrics;
+
+    private final AtomicLong generation;
+
+    public DeviceDetectionCache(int size, Metrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+
+        cache = Caffeine.newBuilder()
+                .maximumSize(size)
+                .build();
+        generation = new AtomicLong();
+    }
+
+    /**
+     * Returns device detected earlier for the same evidence or detects it with the given detector.
+     * Result of detection which has overlapped with invalidation is not cached.
+     */
+    public DetectedDevice get(Map<String, String> evidence, Detector detector) throws Exception {
+        final long currentGeneration = generation.get();
+        final CachedDevice cachedDevice = cache.getIfPresent(evidence);
+        final boolean hit = cachedDevice != null && cachedDevice.generation() == currentGeneration;
+        metrics.updateModuleLocalCacheLookupMetric(FiftyOneDeviceDetectionModule.CODE, hit);
+        if (hit) {
+            return cachedDevice.device();
+        }
+
+        final DetectedDevice detectedDevice = detector.detect(evidence);
+        if (detectedDevice != null && generation.get() == currentGeneration) {
+            cache.put(evidence, new CachedDevice(currentGeneration, detectedDevice));
+        }
+
+        return detectedDevice;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private record CachedDevice(long generation, DetectedDevice device) {
+    }
+
+    @FunctionalInterface
+    public interface Detector {
+
+        DetectedDevice detect(Map<String, String> evidence) throws Exception;
+    }
+}
@@ -30,9 +30,15 @@ public class DeviceEnricher {
     private static final String EXT_DEVICE_ID_KEY = "fiftyonedegrees_deviceId";
 
     private final Pipeline pipeline;
+    private final DeviceDetectionCache detectionCache;
 
     public DeviceEnricher(@Nonnull Pipeline pipeline) {
+        this(pipeline, null);
+    }
+
+    public DeviceEnricher(@Nonnull Pipeline pipeline, DeviceDetectionCache detectionCache) {
         this.pipeline = Objects.requireNonNull(pipeline);
+        this.detectionCache = detectionCache;
     }
 
     public static boolean shouldSkipEnriching(Device device) {
@@ -40,18 +46,51 @@ public class DeviceEnricher {
     }
 
     public EnrichmentResult populateDeviceInfo(Device device, CollectedEvidence collectedEvidence) throws Exception {
+        final DetectedDevice detectedDevice = detectionCache != null
+                ? detectionCache.get(pickRelevantFrom(collectedEvidence), this::detectDevice)
+                : detectDevice(collectedEvidence);
+        if (detectedDevice == null) {
+            return null;
+        }
+        final Device properDevice = Optional.ofNullable(device).orElseGet(() -> Device.builder().build());
+        return patchDevice(properDevice, detectedDevice);
+    }
+
+    private DetectedDevice detectDevice(CollectedEvidence collectedEvidence) throws Exception {
         try (FlowData data = pipeline.createFlowData()) {
-            data.addEvidence(pickRelevantFrom(collectedEvidence));
-            data.process();
-            final DeviceData deviceData = data.get(DeviceData.class);
-            if (deviceData == null) {
-                return null;
-            }
-            final Device properDevice = Optional.ofNullable(device).orElseGet(() -> Device.builder().build());
-            return patchDevice(properDevice, deviceData);
+            return detectDevice(data, pickRelevantFrom(collectedEvidence));
+        }
+    }
+
+    private DetectedDevice detectDevice(Map<String, String> evidence) throws Exception {
+        try (FlowData data = pipeline.createFlowData()) {
+            return detectDevice(data, evidence);
         }
     }
 
+    private DetectedDevice detectDevice(FlowData data, Map<String, String> evidence) {
+        data.addEvidence(evidence);
+        data.process();
+        final DeviceData deviceData = data.get(DeviceData.class);
+        return deviceData != null ? toDetectedDevice(deviceData) : null;
+    }
+
+    private DetectedDevice toDetectedDevice(DeviceData deviceData) {
+        return DetectedDevice.builder()
+                .deviceType(getSafe(deviceData, DeviceData::getDeviceType))
+                .hardwareVendor(getSafe(deviceData, DeviceData::getHardwareVendor))
+                .hardwareModel(getSafe(deviceData, DeviceData::getHardwareModel))
+                .hardwareName(getSafe(deviceData, DeviceData::getHardwareName))
+                .platformName(getSafe(deviceData, DeviceData::getPlatformName))
+                .platformVersion(getSafe(deviceData, DeviceData::getPlatformVersion))
+                .screenPixelsHeight(getSafe(deviceData, DeviceData::getScreenPixelsHeight))
+                .screenPixelsWidth(getSafe(deviceData, DeviceData::getScreenPixelsWidth))
+                .screenInchesHeight(getSafe(deviceData, DeviceData::getScreenInchesHeight))
+                .pixelRatio(getSafe(deviceData, DeviceData::getPixelRatio))
+                .deviceId(getSafe(deviceData, DeviceData::getDeviceId))
+                .build();
+    }
+
     private Map<String, String> pickRelevantFrom(CollectedEvidence collectedEvidence) {
         final Map<String, String> evidence = new HashMap<>();
 
@@ -74,65 +113,65 @@ public class DeviceEnricher {
         return evidence;
     }
 
-    private EnrichmentResult patchDevice(Device device, DeviceData deviceData) {
+    private EnrichmentResult patchDevice(Device device, DetectedDevice detectedDevice) {
         final List<String> updatedFields = new ArrayList<>();
         final Device.DeviceBuilder deviceBuilder = device.toBuilder();
 
-        final UpdateResult<Integer> resolvedDeviceType = resolveDeviceType(device, deviceData);
+        final UpdateResult<Integer> resolvedDeviceType = resolveDeviceType(device, detectedDevice);
         if (resolvedDeviceType.isUpdated()) {
             deviceBuilder.devicetype(resolvedDeviceType.getValue());
             updatedFields.add("devicetype");
         }
 
-        final UpdateResult<String> resolvedMake = resolveMake(device, deviceData);
+        final UpdateResult<String> resolvedMake = resolveMake(device, detectedDevice);
         if (resolvedMake.isUpdated()) {
             deviceBuilder.make(resolvedMake.getValue());
             updatedFields.add("make");
         }
 
-        final UpdateResult<String> resolvedModel = resolveModel(device, deviceData);
+        final UpdateResult<String> resolvedModel = resolveModel(device, detectedDevice);
         if (resolvedModel.isUpdated()) {
             deviceBuilder.model(resolvedModel.getValue());
             updatedFields.add("model");
         }
 
-        final UpdateResult<String> resolvedOs = resolveOs(device, deviceData);
+        final UpdateResult<String> resolvedOs = resolveOs(device, detectedDevice);
         if (resolvedOs.isUpdated()) {
             deviceBuilder.os(resolvedOs.getValue());
             updatedFields.add("os");
         }
 
-        final UpdateResult<String> resolvedOsv = resolveOsv(device, deviceData);
+        final UpdateResult<String> resolvedOsv = resolveOsv(device, detectedDevice);
         if (resolvedOsv.isUpdated()) {
             deviceBuilder.osv(resolvedOsv.getValue());
             updatedFields.add("osv");
         }
 
-        final UpdateResult<Integer> resolvedH = resolveH(device, deviceData);
+        final UpdateResult<Integer> resolvedH = resolveH(device, detectedDevice);
         if (resolvedH.isUpdated()) {
             deviceBuilder.h(resolvedH.getValue());
             updatedFields.add("h");
         }
 
-        final UpdateResult<Integer> resolvedW = resolveW(device, deviceData);
+        final UpdateResult<Integer> resolvedW = resolveW(device, detectedDevice);
         if (resolvedW.isUpdated()) {
             deviceBuilder.w(resolvedW.getValue());
             updatedFields.add("w");
         }
 
-        final UpdateResult<Integer> resolvedPpi = resolvePpi(device, deviceData);
+        final UpdateResult<Integer> resolvedPpi = resolvePpi(device, detectedDevice);
         if (resolvedPpi.isUpdated()) {
             deviceBuilder.ppi(resolvedPpi.getValue());
             updatedFields.add("ppi");
         }
 
-        final UpdateResult<BigDecimal> resolvedPixelRatio = resolvePixelRatio(device, deviceData);
+        final UpdateResult<BigDecimal> resolvedPixelRatio = resolvePixelRatio(device, detectedDevice);
         if (resolvedPixelRatio.isUpdated()) {
             deviceBuilder.pxratio(resolvedPixelRatio.getValue());
             updatedFields.add("pxratio");
         }
 
-        final UpdateResult<String> resolvedDeviceId = resolveDeviceId(device, deviceData);
+        final UpdateResult<String> resolvedDeviceId = resolveDeviceId(device, detectedDevice);
         if (resolvedDeviceId.isUpdated()) {
             setDeviceId(deviceBuilder, device, resolvedDeviceId.getValue());
             updatedFields.add("ext." + EXT_DEVICE_ID_KEY);
@@ -148,13 +187,13 @@ public class DeviceEnricher {
                 .build();
     }
 
-    private UpdateResult<Integer> resolveDeviceType(Device device, DeviceData deviceData) {
+    private UpdateResult<Integer> resolveDeviceType(Device device, DetectedDevice detectedDevice) {
         final Integer currentDeviceType = device.getDevicetype();
         if (isPositive(currentDeviceType)) {
             return UpdateResult.unaltered(currentDeviceType);
         }
 
-        final String rawDeviceType = getSafe(deviceData, DeviceData::getDeviceType);
+        final String rawDeviceType = detectedDevice.deviceType();
         if (rawDeviceType == null) {
             return UpdateResult.unaltered(currentDeviceType);
         }
@@ -165,119 +204,119 @@ public class DeviceEnricher {
                 : UpdateResult.unaltered(currentDeviceType);
     }
 
-    private UpdateResult<String> resolveMake(Device device, DeviceData deviceData) {
+    private UpdateResult<String> resolveMake(Device device, DetectedDevice detectedDevice) {
         final String currentMake = device.getMake();
         if (StringUtils.isNotBlank(currentMake)) {
             return UpdateResult.unaltered(currentMake);
         }
 
-        final String make = getSafe(deviceData, DeviceData::getHardwareVendor);
+        final String make = detectedDevice.hardwareVendor();
         return StringUtils.isNotBlank(make)
                 ? UpdateResult.updated(make)
                 : UpdateResult.unaltered(currentMake);
     }
 
-    private UpdateResult<String> resolveModel(Device device, DeviceData deviceData) {
+    private UpdateResult<String> resolveModel(Device device, DetectedDevice detectedDevice) {
         final String currentModel = device.getModel();
         if (StringUtils.isNotBlank(currentModel)) {
             return UpdateResult.unaltered(currentModel);
         }
 
-        final String model = getSafe(deviceData, DeviceData::getHardwareModel);
+        final String model = detectedDevice.hardwareModel();
         if (StringUtils.isNotBlank(model)) {
             return UpdateResult.updated(model);
         }
 
-        final List<String> names = getSafe(deviceData, DeviceData::getHardwareName);
+        final List<String> names = detectedDevice.hardwareName();
         return CollectionUtils.isNotEmpty(names)
                 ? UpdateResult.updated(String.join(",", names))
                 : UpdateResult.unaltered(currentModel);
     }
 
-    private UpdateResult<String> resolveOs(Device device, DeviceData deviceData) {
+    private UpdateResult<String> resolveOs(Device device, DetectedDevice detectedDevice) {
         final String currentOs = device.getOs();
         if (StringUtils.isNotBlank(currentOs)) {
             return UpdateResult.unaltered(currentOs);
         }
 
-        final String os = getSafe(deviceData, DeviceData::getPlatformName);
+        final String os = detectedDevice.platformName();
         return StringUtils.isNotBlank(os)
                 ? UpdateResult.updated(os)
                 : UpdateResult.unaltered(currentOs);
     }
 
-    private UpdateResult<String> resolveOsv(Device device, DeviceData deviceData) {
+    private UpdateResult<String> resolveOsv(Device device, DetectedDevice detectedDevice) {
         final String currentOsv = device.getOsv();
         if (StringUtils.isNotBlank(currentOsv)) {
             return UpdateResult.unaltered(currentOsv);
         }
 
-        final String osv = getSafe(deviceData, DeviceData::getPlatformVersion);
+        final String osv = detectedDevice.platformVersion();
         return StringUtils.isNotBlank(osv)
                 ? UpdateResult.updated(osv)
                 : UpdateResult.unaltered(currentOsv);
     }
 
-    private UpdateResult<Integer> resolveH(Device device, DeviceData deviceData) {
+    private UpdateResult<Integer> resolveH(Device device, DetectedDevice detectedDevice) {
         final Integer currentH = device.getH();
         if (isPositive(currentH)) {
             return UpdateResult.unaltered(currentH);
         }
 
-        final Integer h = getSafe(deviceData, DeviceData::getScreenPixelsHeight);
+        final Integer h = detectedDevice.screenPixelsHeight();
         return isPositive(h)
                 ? UpdateResult.updated(h)
                 : UpdateResult.unaltered(currentH);
     }
 
-    private UpdateResult<Integer> resolveW(Device device, DeviceData deviceData) {
+    private UpdateResult<Integer> resolveW(Device device, DetectedDevice detectedDevice) {
         final Integer currentW = device.getW();
         if (isPositive(currentW)) {
             return UpdateResult.unaltered(currentW);
         }
 
-        final Integer w = getSafe(deviceData, DeviceData::getScreenPixelsWidth);
+        final Integer w = detectedDevice.screenPixelsWidth();
         return isPositive(w)
                 ? UpdateResult.updated(w)
                 : UpdateResult.unaltered(currentW);
     }
 
-    private UpdateResult<Integer> resolvePpi(Device device, DeviceData deviceData) {
+    private UpdateResult<Integer> resolvePpi(Device device, DetectedDevice detectedDevice) {
         final Integer currentPpi = device.getPpi();
         if (isPositive(currentPpi)) {
             return UpdateResult.unaltered(currentPpi);
         }
 
-        final Integer pixelsHeight = getSafe(deviceData, DeviceData::getScreenPixelsHeight);
+        final Integer pixelsHeight = detectedDevice.screenPixelsHeight();
         if (pixelsHeight == null) {
             return UpdateResult.unaltered(currentPpi);
         }
 
-        final Double inchesHeight = getSafe(deviceData, DeviceData::getScreenInchesHeight);
+        final Double inchesHeight = detectedDevice.screenInchesHeight();
         return isPositive(inchesHeight)
                 ? UpdateResult.updated((int) Math.round(pixelsHeight / inchesHeight))
                 : UpdateResult.unaltered(currentPpi);
     }
 
-    private UpdateResult<BigDecimal> resolvePixelRatio(Device device, DeviceData deviceData) {
+    private UpdateResult<BigDecimal> resolvePixelRatio(Device device, DetectedDevice detectedDevice) {
         final BigDecimal currentPixelRatio = device.getPxratio();
         if (currentPixelRatio != null && currentPixelRatio.intValue() > 0) {
             return UpdateResult.unaltered(currentPixelRatio);
         }
 
-        final Double rawRatio = getSafe(deviceData, DeviceData::getPixelRatio);
+        final Double rawRatio = detectedDevice.pixelRatio();
         return isPositive(rawRatio)
                 ? UpdateResult.updated(BigDecimal.valueOf(rawRatio))
                 : UpdateResult.unaltered(currentPixelRatio);
     }
 
-    private UpdateResult<String> resolveDeviceId(Device device, DeviceData deviceData) {
+    private UpdateResult<String> resolveDeviceId(Device device, DetectedDevice detectedDevice) {
         final String currentDeviceId = getDeviceId(device);
         if (StringUtils.isNotBlank(currentDeviceId)) {
             return UpdateResult.unaltered(currentDeviceId);
         }
 
-        final String deviceID = getSafe(deviceData, DeviceData::getDeviceId);
+        final String deviceID = detectedDevice.deviceId();
         return StringUtils.isNotBlank(deviceID)
                 ? UpdateResult.updated(deviceID)
                 : UpdateResult.unaltered(currentDeviceId);
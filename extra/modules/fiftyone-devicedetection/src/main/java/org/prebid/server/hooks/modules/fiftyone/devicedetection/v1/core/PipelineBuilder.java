@@ -4,6 +4,7 @@ import fiftyone.devicedetection.DeviceDetectionOnPremisePipelineBuilder;
 import fiftyone.devicedetection.DeviceDetectionPipelineBuilder;
 import fiftyone.pipeline.core.flowelements.Pipeline;
 import fiftyone.pipeline.engines.Constants;
+import fiftyone.pipeline.engines.services.DataUpdateService;
 import fiftyone.pipeline.engines.services.DataUpdateServiceDefault;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -41,9 +42,18 @@ public class PipelineBuilder {
             "HardwareModelVariants");
 
     private final ModuleConfig moduleConfig;
+    private final Runnable dataFileUpdateListener;
 
     public PipelineBuilder(ModuleConfig moduleConfig) {
+        this(moduleConfig, null);
+    }
+
+    /**
+     * @param dataFileUpdateListener called each time the data file is successfully updated, may be null
+     */
+    public PipelineBuilder(ModuleConfig moduleConfig, Runnable dataFileUpdateListener) {
         this.moduleConfig = moduleConfig;
+        this.dataFileUpdateListener = dataFileUpdateListener;
     }
 
     public Pipeline build(DeviceDetectionPipelineBuilder premadeBuilder) throws Exception {
@@ -54,18 +64,27 @@ public class PipelineBuilder {
                 dataFile.getPath(),
                 BooleanUtils.isTrue(shouldMakeDataCopy));
 
-        applyUpdateOptions(builder, dataFile.getUpdate());
+        applyUpdateOptions(builder, dataFile.getUpdate(), dataFileUpdateListener);
         applyPerformanceOptions(builder, moduleConfig.getPerformance());
         PROPERTIES_USED.forEach(builder::setProperty);
         return builder.build();
     }
 
     private static void applyUpdateOptions(DeviceDetectionOnPremisePipelineBuilder pipelineBuilder,
-                                           DataFileUpdate updateConfig) {
+                                           DataFileUpdate updateConfig,
+                                           Runnable dataFileUpdateListener) {
         if (updateConfig == null) {
             return;
         }
-        pipelineBuilder.setDataUpdateService(new DataUpdateServiceDefault());
+        final DataUpdateServiceDefault dataUpdateService = new DataUpdateServiceDefault();
+        if (dataFileUpdateListener != null) {
+            dataUpdateService.onUpdateComplete((sender, args) -> {
+                if (args.getStatus() == DataUpdateService.AutoUpdateStatus.AUTO_UPDATE_SUCCESS) {
+                    dataFileUpdateListener.run();
+                }
+            });
+        }
+        pipelineBuilder.setDataUpdateService(dataUpdateService);
 
         resolveAutoUpdate(pipelineBuilder, updateConfig);
         resolveUpdateOnStartup(pipelineBuilder, updateConfig);
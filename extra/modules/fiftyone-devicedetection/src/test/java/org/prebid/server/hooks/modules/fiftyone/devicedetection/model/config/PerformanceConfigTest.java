@@ -70,6 +70,19 @@ public class PerformanceConfigTest {
         assertThat(performanceConfig.getDrift()).isEqualTo(drift);
     }
 
+    @Test
+    public void shouldReturnResultCacheSize() {
+        // given
+        final int resultCacheSize = 2048;
+
+        // when
+        final PerformanceConfig performanceConfig = new PerformanceConfig();
+        performanceConfig.setResultCacheSize(resultCacheSize);
+
+        // then
+        assertThat(performanceConfig.getResultCacheSize()).isEqualTo(resultCacheSize);
+    }
+
     @Test
     public void shouldHaveDescription() {
         // given and when
@@ -14,6 +14,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.model.boundary.CollectedEvidence;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.ExtDevice;
 
 import java.math.BigDecimal;
@@ -25,6 +26,7 @@ import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -42,6 +44,9 @@ public class DeviceEnricherTest {
     @Mock(strictness = LENIENT)
     private DeviceData deviceData;
 
+    @Mock
+    private Metrics metrics;
+
     private DeviceEnricher target;
 
     @BeforeEach
@@ -529,6 +534,72 @@ public class DeviceEnricherTest {
                 .isEqualTo("fake-device-id");
     }
 
+    @Test
+    public void populateDeviceInfoShouldProcessSameEvidenceOnlyOnceWhenCacheIsEnabled() throws Exception {
+        // given
+        target = new DeviceEnricher(pipeline, new DeviceDetectionCache(100, metrics));
+        buildCompleteDeviceData();
+        final CollectedEvidence collectedEvidence = CollectedEvidence.builder()
+                .deviceUA("fake-UserAgent")
+                .build();
+        final Device device = buildCompleteDevice().toBuilder().make(null).build();
+
+        // when
+        target.populateDeviceInfo(Device.builder().build(), collectedEvidence);
+        final EnrichmentResult result = target.populateDeviceInfo(device, collectedEvidence);
+
+        // then
+        verify(flowData, times(1)).process();
+        assertThat(result.enrichedFields()).containsExactly("make");
+        assertThat(result.enrichedDevice().getMake()).isEqualTo(buildCompleteDevice().getMake());
+        verify(metrics).updateModuleLocalCacheLookupMetric("fiftyone-devicedetection", false);
+        verify(metrics).updateModuleLocalCacheLookupMetric("fiftyone-devicedetection", true);
+    }
+
+    @Test
+    public void populateDeviceInfoShouldProcessEvidenceAgainWhenCacheIsInvalidated() throws Exception {
+        // given
+        final DeviceDetectionCache detectionCache = new DeviceDetectionCache(100, metrics);
+        target = new DeviceEnricher(pipeline, detectionCache);
+        buildCompleteDeviceData();
+        final CollectedEvidence collectedEvidence = CollectedEvidence.builder()
+                .deviceUA("fake-UserAgent")
+                .build();
+
+        // when
+        target.populateDeviceInfo(null, collectedEvidence);
+        detectionCache.invalidate();
+        target.populateDeviceInfo(null, collectedEvidence);
+
+        // then
+        verify(flowData, times(2)).process();
+    }
+
+    @Test
+    public void populateDeviceInfoShouldNotServeDeviceDetectedWhileCacheWasInvalidated() throws Exception {
+        // given
+        final DeviceDetectionCache detectionCache = new DeviceDetectionCache(100, metrics);
+        target = new DeviceEnricher(pipeline, detectionCache);
+        buildCompleteDeviceData();
+        final CollectedEvidence collectedEvidence = CollectedEvidence.builder()
+                .deviceUA("fake-UserAgent")
+                .build();
+        doAnswer(invocation -> {
+            detectionCache.invalidate();
+            return null;
+        }).doNothing().when(flowData).process();
+
+        // when
+        target.populateDeviceInfo(null, collectedEvidence);
+        target.populateDeviceInfo(null, collectedEvidence);
+        target.populateDeviceInfo(null, collectedEvidence);
+
+        // then
+        verify(flowData, times(2)).process();
+        verify(metrics, times(2)).updateModuleLocalCacheLookupMetric("fiftyone-devicedetection", false);
+        verify(metrics).updateModuleLocalCacheLookupMetric("fiftyone-devicedetection", true);
+    }
+
     private static Device buildCompleteDevice() {
         final Device device = Device.builder()
                 .devicetype(1)
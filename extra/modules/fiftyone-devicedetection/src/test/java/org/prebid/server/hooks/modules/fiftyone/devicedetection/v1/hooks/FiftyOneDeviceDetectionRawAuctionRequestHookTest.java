@@ -63,6 +63,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 null,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -89,6 +90,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 null,
                 false,
                 null,
+                null,
                 moduleContext
         );
 
@@ -122,6 +124,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 null,
                 false,
                 null,
+                null,
                 existingContext
         );
 
@@ -148,6 +151,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 null,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -174,6 +178,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 null,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -200,6 +205,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 null,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -222,6 +228,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 null,
                 false,
                 null,
+                null,
                 ModuleContext.builder()
                         .collectedEvidence(null)
                         .build()
@@ -249,6 +256,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 null,
                 false,
                 null,
+                null,
                 ModuleContext.builder()
                         .collectedEvidence(savedEvidence)
                         .build()
@@ -279,6 +287,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 null,
                 false,
                 null,
+                null,
                 ModuleContext.builder()
                         .collectedEvidence(savedEvidence)
                         .build()
@@ -313,6 +322,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 null,
                 false,
                 null,
+                null,
                 ModuleContext.builder()
                         .collectedEvidence(savedEvidence)
                         .build()
@@ -350,6 +360,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 null,
                 false,
                 null,
+                null,
                 ModuleContext.builder()
                         .collectedEvidence(savedEvidence)
                         .build()
@@ -386,6 +397,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 null,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -407,6 +419,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 null,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -430,6 +443,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 null,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -453,6 +467,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 null,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -475,6 +490,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 auctionContext,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -497,6 +513,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 auctionContext,
                 false,
                 null,
+                null,
                 null
         );
         final ExtDevice ext = ExtDevice.empty();
@@ -525,6 +542,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 auctionContext,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -549,6 +567,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 auctionContext,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -574,6 +593,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 auctionContext,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -601,6 +621,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 auctionContext,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -628,6 +649,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 auctionContext,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -654,6 +676,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 auctionContext,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -682,6 +705,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 auctionContext,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -710,6 +734,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 auctionContext,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -736,6 +761,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 auctionContext,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -764,6 +790,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 auctionContext,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -792,6 +819,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 auctionContext,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -818,6 +846,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 auctionContext,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -846,6 +875,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 auctionContext,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -874,6 +904,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 auctionContext,
                 false,
                 null,
+                null,
                 null
         );
 
@@ -0,0 +1,17 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.prebid.server.hooks.v1.ModuleConfigCompiler;
+
+public class AccountConfigCompiler implements ModuleConfigCompiler<ObjectNode, CompiledAccountConfig> {
+
+    @Override
+    public Class<ObjectNode> configClass() {
+        return ObjectNode.class;
+    }
+
+    @Override
+    public CompiledAccountConfig compile(ObjectNode config) {
+        return CompiledAccountConfig.of(config);
+    }
+}
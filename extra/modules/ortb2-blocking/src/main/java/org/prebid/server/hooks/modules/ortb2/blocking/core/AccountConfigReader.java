@@ -65,12 +65,19 @@ public class AccountConfigReader {
     private static final String NATIVE_MEDIA_TYPE = "native";
 
     private final ObjectNode config;
+    private final CompiledAccountConfig compiledConfig;
     private final String bidder;
     private final OrtbVersion ortbVersion;
     private final boolean debugEnabled;
 
-    private AccountConfigReader(ObjectNode config, String bidder, OrtbVersion ortbVersion, boolean debugEnabled) {
+    private AccountConfigReader(ObjectNode config,
+                                CompiledAccountConfig compiledConfig,
+                                String bidder,
+                                OrtbVersion ortbVersion,
+                                boolean debugEnabled) {
+
         this.config = config;
+        this.compiledConfig = compiledConfig;
         this.bidder = bidder;
         this.ortbVersion = ortbVersion;
         this.debugEnabled = debugEnabled;
@@ -81,7 +88,22 @@ public class AccountConfigReader {
                                              OrtbVersion ortbVersion,
                                              boolean debugEnabled) {
 
-        return new AccountConfigReader(config, bidder, ortbVersion, debugEnabled);
+        return new AccountConfigReader(config, null, bidder, ortbVersion, debugEnabled);
+    }
+
+    /**
+     * Creates reader working with compiled account configuration if it is present,
+     * otherwise falls back to the given raw account configuration.
+     */
+    public static AccountConfigReader create(ObjectNode config,
+                                             CompiledAccountConfig compiledConfig,
+                                             String bidder,
+                                             OrtbVersion ortbVersion,
+                                             boolean debugEnabled) {
+
+        return compiledConfig != null
+                ? new AccountConfigReader(compiledConfig.getConfig(), compiledConfig, bidder, ortbVersion, debugEnabled)
+                : create(config, bidder, ortbVersion, debugEnabled);
     }
 
     public Result<BlockedAttributes> blockedAttributesFor(BidRequest bidRequest) {
@@ -397,7 +419,7 @@ public class AccountConfigReader {
                 : null;
     }
 
-    private static List<JsonNode> dealExceptionsFor(JsonNode parent, String dealid, String field) {
+    private List<JsonNode> dealExceptionsFor(JsonNode parent, String dealid, String field) {
         final JsonNode actionOverrides = objectNodeFrom(parent, ACTION_OVERRIDES_FIELD);
         final JsonNode overridesForField = actionOverrides != null ? objectArrayFrom(actionOverrides, field) : null;
         if (overridesForField == null) {
@@ -422,7 +444,7 @@ public class AccountConfigReader {
         return results;
     }
 
-    private static <T> List<T> overrideArrayAttribute(JsonNode parent, JsonNode override, Class<T> type, String field) {
+    private <T> List<T> overrideArrayAttribute(JsonNode parent, JsonNode override, Class<T> type, String field) {
         return override != null
                 ? asTypedArray(override, type, OVERRIDE_FIELD)
                 : typedArrayFrom(parent, type, field);
@@ -434,14 +456,10 @@ public class AccountConfigReader {
                 BooleanUtils.toBooleanDefaultIfNull(typedFieldFrom(parent, Boolean.class, field), false));
     }
 
-    private static <T> Set<T> mergeDealExceptions(JsonNode parent,
-                                                  List<JsonNode> overrides,
-                                                  Class<T> type,
-                                                  String field) {
-
+    private <T> Set<T> mergeDealExceptions(JsonNode parent, List<JsonNode> overrides, Class<T> type, String field) {
         final List<T> defaultValue = typedArrayFrom(parent, type, field);
-        if (defaultValue == null && CollectionUtils.isEmpty(overrides)) {
-            return Collections.emptySet();
+        if (CollectionUtils.isEmpty(overrides)) {
+            return defaultValue != null ? valuesSet(defaultValue) : Collections.emptySet();
         }
 
         final Set<T> results = new HashSet<>(CollectionUtils.emptyIfNull(defaultValue));
@@ -452,7 +470,7 @@ public class AccountConfigReader {
         return results;
     }
 
-    private static <T> List<T> typedArrayFrom(JsonNode parent, Class<T> type, String field) {
+    private <T> List<T> typedArrayFrom(JsonNode parent, Class<T> type, String field) {
         final JsonNode child = parent.get(field);
         if (child == null) {
             return null;
@@ -461,11 +479,16 @@ public class AccountConfigReader {
         return asTypedArray(child, type, field);
     }
 
-    private static <T> List<T> asTypedArray(JsonNode node, Class<T> type, String field) {
+    private <T> List<T> asTypedArray(JsonNode node, Class<T> type, String field) {
         if (node == null) {
             return null;
         }
 
+        final List<T> compiledValues = compiledConfig != null ? compiledConfig.typedArray(node, type) : null;
+        if (compiledValues != null) {
+            return compiledValues;
+        }
+
         if (!node.isArray()) {
             throw new InvalidAccountConfigurationException(field + " field in account configuration is not an array");
         }
@@ -475,6 +498,11 @@ public class AccountConfigReader {
                 .toList();
     }
 
+    private <T> Set<T> valuesSet(List<T> values) {
+        final Set<T> compiledValues = compiledConfig != null ? compiledConfig.valuesSet(values) : null;
+        return compiledValues != null ? compiledValues : new HashSet<>(values);
+    }
+
     private static <T> T typedFieldFrom(JsonNode parent, Class<T> type, String field) {
         final JsonNode child = parent.get(field);
         if (child == null) {
@@ -22,6 +22,8 @@ import org.prebid.server.hooks.modules.ortb2.blocking.core.util.MergeUtils;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -46,14 +48,18 @@ public class BidsBlocker {
     private final String bidder;
     private final OrtbVersion ortbVersion;
     private final ObjectNode accountConfig;
+    private final CompiledAccountConfig compiledAccountConfig;
     private final BlockedAttributes blockedAttributes;
     private final BidRejectionTracker bidRejectionTracker;
     private final boolean debugEnabled;
 
+    private final Map<List<?>, Set<?>> blockedValuesSets;
+
     private BidsBlocker(List<BidderBid> bids,
                         String bidder,
                         OrtbVersion ortbVersion,
                         ObjectNode accountConfig,
+                        CompiledAccountConfig compiledAccountConfig,
                         BlockedAttributes blockedAttributes,
                         BidRejectionTracker bidRejectionTracker,
                         boolean debugEnabled) {
@@ -62,9 +68,12 @@ public class BidsBlocker {
         this.bidder = bidder;
         this.ortbVersion = ortbVersion;
         this.accountConfig = accountConfig;
+        this.compiledAccountConfig = compiledAccountConfig;
         this.blockedAttributes = blockedAttributes;
         this.bidRejectionTracker = bidRejectionTracker;
         this.debugEnabled = debugEnabled;
+
+        blockedValuesSets = new IdentityHashMap<>();
     }
 
     public static BidsBlocker create(List<BidderBid> bids,
@@ -75,11 +84,32 @@ public class BidsBlocker {
                                      BidRejectionTracker bidRejectionTracker,
                                      boolean debugEnabled) {
 
+        return create(
+                bids,
+                bidder,
+                ortbVersion,
+                accountConfig,
+                null,
+                blockedAttributes,
+                bidRejectionTracker,
+                debugEnabled);
+    }
+
+    public static BidsBlocker create(List<BidderBid> bids,
+                                     String bidder,
+                                     OrtbVersion ortbVersion,
+                                     ObjectNode accountConfig,
+                                     CompiledAccountConfig compiledAccountConfig,
+                                     BlockedAttributes blockedAttributes,
+                                     BidRejectionTracker bidRejectionTracker,
+                                     boolean debugEnabled) {
+
         return new BidsBlocker(
                 Objects.requireNonNull(bids),
                 Objects.requireNonNull(bidder),
                 Objects.requireNonNull(ortbVersion),
                 accountConfig,
+                compiledAccountConfig,
                 blockedAttributes,
                 bidRejectionTracker,
                 debugEnabled);
@@ -87,7 +117,7 @@ public class BidsBlocker {
 
     public ExecutionResult<BlockedBids> block() {
         final AccountConfigReader accountConfigReader = AccountConfigReader.create(
-                accountConfig, bidder, ortbVersion, debugEnabled);
+                accountConfig, compiledAccountConfig, bidder, ortbVersion, debugEnabled);
 
         try {
             final List<Result<BlockingResult>> blockedBidResults = bids.stream()
@@ -138,14 +168,14 @@ public class BidsBlocker {
         return checkAttribute(
                 bidderBid.getBid().getAdomain(),
                 blockingConfig.getBadv(),
-                blockedAttributeValues(BlockedAttributes::getBadv));
+                blockedValuesSet(blockedAttributeValues(BlockedAttributes::getBadv)));
     }
 
     private AttributeCheckResult<String> checkBcat(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
         return checkAttribute(
                 bidderBid.getBid().getCat(),
                 blockingConfig.getBcat(),
-                blockedAttributeValues(BlockedAttributes::getBcat));
+                blockedValuesSet(blockedAttributeValues(BlockedAttributes::getBcat)));
     }
 
     private AttributeCheckResult<Integer> checkCattax(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
@@ -166,7 +196,7 @@ public class BidsBlocker {
         return checkAttribute(
                 bidderBid.getBid().getBundle(),
                 blockingConfig.getBapp(),
-                blockedAttributeValues(BlockedAttributes::getBapp));
+                blockedValuesSet(blockedAttributeValues(BlockedAttributes::getBapp)));
     }
 
     private AttributeCheckResult<Integer> checkBattr(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
@@ -174,12 +204,12 @@ public class BidsBlocker {
         return checkAttribute(
                 bidderBid.getBid().getAttr(),
                 blockingConfig.getBattr(),
-                blockedAttributeValues(BlockedAttributes::getBattr, bidderBid.getBid().getImpid()));
+                blockedValuesSet(blockedAttributeValues(BlockedAttributes::getBattr, bidderBid.getBid().getImpid())));
     }
 
     private <T> AttributeCheckResult<T> checkAttribute(List<T> attribute,
                                                        BidAttributeBlockingConfig<T> blockingConfig,
-                                                       List<T> blockedAttributeValues) {
+                                                       Set<T> blockedAttributeValues) {
 
         if (blockingConfig == null || !blockingConfig.isEnforceBlocks()) {
             return AttributeCheckResult.succeeded();
@@ -207,7 +237,7 @@ public class BidsBlocker {
 
     private AttributeCheckResult<String> checkAttribute(String attribute,
                                                         BidAttributeBlockingConfig<String> blockingConfig,
-                                                        List<String> blockedAttributeValues) {
+                                                        Set<String> blockedAttributeValues) {
 
         if (blockingConfig == null
                 || !blockingConfig.isEnforceBlocks()
@@ -250,6 +280,24 @@ public class BidsBlocker {
         return blockedAttributeValues != null ? blockedAttributeValues.get(impId) : null;
     }
 
+    /**
+     * Converts blocked values into hash set once per list, preferring set compiled along with account config.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Set<T> blockedValuesSet(List<T> blockedValues) {
+        if (blockedValues == null) {
+            return null;
+        }
+
+        final Set<T> compiledValues = compiledAccountConfig != null
+                ? compiledAccountConfig.valuesSet(blockedValues)
+                : null;
+
+        return compiledValues != null
+                ? compiledValues
+                : (Set<T>) blockedValuesSets.computeIfAbsent(blockedValues, HashSet::new);
+    }
+
     private List<String> debugMessages(Set<Integer> blockedBidIndexes, List<Result<BlockingResult>> blockedBidResults) {
         if (!debugEnabled) {
             return null;
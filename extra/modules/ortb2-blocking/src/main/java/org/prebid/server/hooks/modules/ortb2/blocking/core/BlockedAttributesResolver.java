@@ -16,18 +16,21 @@ public class BlockedAttributesResolver {
     private final String bidder;
     private final OrtbVersion ortbVersion;
     private final ObjectNode accountConfig;
+    private final CompiledAccountConfig compiledAccountConfig;
     private final boolean debugEnabled;
 
     private BlockedAttributesResolver(BidRequest bidRequest,
                                       String bidder,
                                       OrtbVersion ortbVersion,
                                       ObjectNode accountConfig,
+                                      CompiledAccountConfig compiledAccountConfig,
                                       boolean debugEnabled) {
 
         this.bidRequest = bidRequest;
         this.bidder = bidder;
         this.ortbVersion = ortbVersion;
         this.accountConfig = accountConfig;
+        this.compiledAccountConfig = compiledAccountConfig;
         this.debugEnabled = debugEnabled;
     }
 
@@ -37,17 +40,28 @@ public class BlockedAttributesResolver {
                                                    ObjectNode accountConfig,
                                                    boolean debugEnabled) {
 
+        return create(bidRequest, bidder, ortbVersion, accountConfig, null, debugEnabled);
+    }
+
+    public static BlockedAttributesResolver create(BidRequest bidRequest,
+                                                   String bidder,
+                                                   OrtbVersion ortbVersion,
+                                                   ObjectNode accountConfig,
+                                                   CompiledAccountConfig compiledAccountConfig,
+                                                   boolean debugEnabled) {
+
         return new BlockedAttributesResolver(
                 Objects.requireNonNull(bidRequest),
                 Objects.requireNonNull(bidder),
                 Objects.requireNonNull(ortbVersion),
                 accountConfig,
+                compiledAccountConfig,
                 debugEnabled);
     }
 
     public ExecutionResult<BlockedAttributes> resolve() {
         final AccountConfigReader accountConfigReader = AccountConfigReader.create(
-                accountConfig, bidder, ortbVersion, debugEnabled);
+                accountConfig, compiledAccountConfig, bidder, ortbVersion, debugEnabled);
 
         try {
             final Result<BlockedAttributes> blockedAttributesResult = accountConfigReader
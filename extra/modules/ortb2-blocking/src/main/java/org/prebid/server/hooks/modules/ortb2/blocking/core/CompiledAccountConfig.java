@@ -0,0 +1,106 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.prebid.server.util.StreamUtil;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Account configuration of the module with all its arrays of strings and integers converted upfront
+ * into immutable lists and hash sets.
+ * <p>
+ * Compiled once per account configuration, so blocked and allowed-for-deals values are not converted
+ * on every request and are looked up in hash sets instead of being scanned for every bid.
+ * Both lookups are done by identity of the configuration nodes and lists handed out by this instance.
+ */
+public class CompiledAccountConfig {
+
+    private final ObjectNode config;
+
+    private final Map<JsonNode, CompiledArray<?>> arrays;
+    private final Map<List<?>, Set<?>> listToSet;
+
+    private CompiledAccountConfig(ObjectNode config) {
+        this.config = config;
+
+        arrays = new IdentityHashMap<>();
+        listToSet = new IdentityHashMap<>();
+        compile(config);
+    }
+
+    public static CompiledAccountConfig of(ObjectNode config) {
+        return new CompiledAccountConfig(Objects.requireNonNull(config));
+    }
+
+    public ObjectNode getConfig() {
+        return config;
+    }
+
+    /**
+     * Returns compiled values of the given array node of this configuration
+     * or null if node is unknown or its values are not of the given type.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> typedArray(JsonNode node, Class<T> type) {
+        final CompiledArray<?> compiledArray = arrays.get(node);
+        return compiledArray != null && (compiledArray.type() == null || compiledArray.type() == type)
+                ? (List<T>) compiledArray.values()
+                : null;
+    }
+
+    /**
+     * Returns hash set of the given values previously handed out by {@link #typedArray(JsonNode, Class)}
+     * or null if values are unknown.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Set<T> valuesSet(List<T> values) {
+        return (Set<T>) listToSet.get(values);
+    }
+
+    private void compile(JsonNode node) {
+        if (node.isArray()) {
+            compileArray(node);
+        }
+
+        if (node.isContainerNode()) {
+            node.elements().forEachRemaining(this::compile);
+        }
+    }
+
+    private void compileArray(JsonNode node) {
+        final CompiledArray<?> compiledArray;
+        if (node.isEmpty()) {
+            compiledArray = new CompiledArray<>(null, List.of());
+        } else if (allElementsMatch(node, JsonNode::isTextual)) {
+            compiledArray = new CompiledArray<>(String.class, convert(node, JsonNode::textValue));
+        } else if (allElementsMatch(node, JsonNode::isInt)) {
+            compiledArray = new CompiledArray<>(Integer.class, convert(node, JsonNode::intValue));
+        } else {
+            return;
+        }
+
+        arrays.put(node, compiledArray);
+        // bid attributes may contain null elements, and immutable sets of Set.copyOf fail on contains(null)
+        listToSet.put(compiledArray.values(), Collections.unmodifiableSet(new HashSet<>(compiledArray.values())));
+    }
+
+    private static boolean allElementsMatch(JsonNode node, Predicate<JsonNode> predicate) {
+        return StreamUtil.asStream(node.elements()).allMatch(predicate);
+    }
+
+    private static <T> List<T> convert(JsonNode node, Function<JsonNode, T> converter) {
+        return StreamUtil.asStream(node.elements()).map(converter).toList();
+    }
+
+    private record CompiledArray<T>(Class<T> type, List<T> values) {
+    }
+}
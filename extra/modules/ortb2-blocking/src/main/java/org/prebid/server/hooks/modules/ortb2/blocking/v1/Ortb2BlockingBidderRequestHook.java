@@ -6,6 +6,7 @@ import org.prebid.server.auction.BidderAliases;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.BlockedAttributesResolver;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfig;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.RequestUpdater;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedAttributes;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.ExecutionResult;
@@ -51,6 +52,7 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
                         bidder,
                         moduleContext.ortbVersionOf(bidder),
                         invocationContext.accountConfig(),
+                        compiledAccountConfig(invocationContext),
                         invocationContext.debugEnabled())
                 .resolve();
 
@@ -86,6 +88,12 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
                 : ModuleContext.create();
     }
 
+    private static CompiledAccountConfig compiledAccountConfig(BidderInvocationContext invocationContext) {
+        return invocationContext.compiledAccountConfig() instanceof CompiledAccountConfig compiledAccountConfig
+                ? compiledAccountConfig
+                : null;
+    }
+
     private BidderAliases aliases(BidRequest bidRequest) {
         final ExtRequest requestExt = bidRequest.getExt();
         final ExtRequestPrebid prebid = requestExt != null ? requestExt.getPrebid() : null;
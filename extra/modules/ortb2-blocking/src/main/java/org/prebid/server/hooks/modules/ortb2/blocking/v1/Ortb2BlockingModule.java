@@ -2,9 +2,11 @@ package org.prebid.server.hooks.modules.ortb2.blocking.v1;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.AccountConfigCompiler;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
 import org.prebid.server.hooks.v1.Module;
+import org.prebid.server.hooks.v1.ModuleConfigCompiler;
 
 import java.util.Collection;
 import java.util.List;
@@ -15,6 +17,7 @@ public class Ortb2BlockingModule implements Module {
     public static final String CODE = "ortb2-blocking";
 
     private final List<? extends Hook<?, ? extends InvocationContext>> hooks;
+    private final AccountConfigCompiler accountConfigCompiler;
 
     public Ortb2BlockingModule(BidderCatalog bidderCatalog, ObjectMapper mapper) {
         Objects.requireNonNull(bidderCatalog);
@@ -23,6 +26,7 @@ public class Ortb2BlockingModule implements Module {
         hooks = List.of(
                 new Ortb2BlockingBidderRequestHook(bidderCatalog),
                 new Ortb2BlockingRawBidderResponseHook(mapper));
+        accountConfigCompiler = new AccountConfigCompiler();
     }
 
     @Override
@@ -34,4 +38,9 @@ public class Ortb2BlockingModule implements Module {
     public Collection<? extends Hook<?, ? extends InvocationContext>> hooks() {
         return hooks;
     }
+
+    @Override
+    public ModuleConfigCompiler<?, ?> accountConfigCompiler() {
+        return accountConfigCompiler;
+    }
 }
@@ -7,6 +7,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.BidsBlocker;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfig;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.ResponseUpdater;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.AnalyticsResult;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedBids;
@@ -58,6 +59,7 @@ public class Ortb2BlockingRawBidderResponseHook implements RawBidderResponseHook
                         bidder,
                         ObjectUtils.defaultIfNull(moduleContext.ortbVersionOf(bidder), OrtbVersion.ORTB_2_5),
                         invocationContext.accountConfig(),
+                        compiledAccountConfig(invocationContext),
                         moduleContext.blockedAttributesFor(bidder),
                         invocationContext.auctionContext().getBidRejectionTrackers().get(bidder),
                         invocationContext.debugEnabled())
@@ -95,6 +97,12 @@ public class Ortb2BlockingRawBidderResponseHook implements RawBidderResponseHook
                 : ModuleContext.create();
     }
 
+    private static CompiledAccountConfig compiledAccountConfig(BidderInvocationContext invocationContext) {
+        return invocationContext.compiledAccountConfig() instanceof CompiledAccountConfig compiledAccountConfig
+                ? compiledAccountConfig
+                : null;
+    }
+
     private Tags toAnalyticsTags(List<AnalyticsResult> analyticsResults) {
         if (CollectionUtils.isEmpty(analyticsResults)) {
             return null;
@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
@@ -569,6 +570,73 @@ public class BidsBlockerTest {
         verifyNoInteractions(bidRejectionTracker);
     }
 
+    @Test
+    public void shouldBlockBidsAgainstLargeCompiledBlocklist() {
+        // given
+        final List<String> blockedDomains = IntStream.range(0, 10000)
+                .mapToObj(index -> "domain%d.com".formatted(index))
+                .toList();
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .enforceBlocks(true)
+                        .blocked(blockedDomains)
+                        .allowedForDeals(singletonList("domain5.com"))
+                        .build())
+                .build()));
+        final CompiledAccountConfig compiledAccountConfig = CompiledAccountConfig.of(accountConfig);
+
+        final List<BidderBid> bids = asList(
+                bid(bid -> bid.adomain(singletonList("domain9999.com"))),
+                bid(bid -> bid.adomain(singletonList("domain5.com"))),
+                bid(bid -> bid.adomain(singletonList("domain10000.com"))));
+        final BlockedAttributes blockedAttributes = attributesWithBadv(compiledAccountConfig.typedArray(
+                accountConfig.at("/attributes/badv/blocked-adomain"), String.class));
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids,
+                "bidder1",
+                ORTB_VERSION,
+                accountConfig,
+                compiledAccountConfig,
+                blockedAttributes,
+                bidRejectionTracker,
+                false);
+
+        // when and then
+        assertThat(blocker.block()).satisfies(result -> hasValue(result, 0));
+        verify(bidRejectionTracker).reject("impId1", BidRejectionReason.RESPONSE_REJECTED_ADVERTISER_BLOCKED);
+    }
+
+    @Test
+    public void shouldNotFailOnNullAttributeOfBidWhenBlocklistIsCompiled() {
+        // given
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .enforceBlocks(true)
+                        .blocked(singletonList("domain1.com"))
+                        .allowedForDeals(singletonList("domain2.com"))
+                        .build())
+                .build()));
+        final CompiledAccountConfig compiledAccountConfig = CompiledAccountConfig.of(accountConfig);
+
+        final List<BidderBid> bids = asList(
+                bid(bid -> bid.adomain(asList(null, "domain1.com"))),
+                bid(bid -> bid.adomain(asList("domain3.com", null))));
+        final BlockedAttributes blockedAttributes = attributesWithBadv(compiledAccountConfig.typedArray(
+                accountConfig.at("/attributes/badv/blocked-adomain"), String.class));
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids,
+                "bidder1",
+                ORTB_VERSION,
+                accountConfig,
+                compiledAccountConfig,
+                blockedAttributes,
+                bidRejectionTracker,
+                false);
+
+        // when and then
+        assertThat(blocker.block()).satisfies(result -> hasValue(result, 0));
+    }
+
     private static BidderBid bid() {
         return bid(identity());
     }
@@ -0,0 +1,63 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledAccountConfigTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void typedArrayShouldReturnCompiledValuesOfArrayNode() {
+        // given
+        final ObjectNode config = mapper.createObjectNode();
+        final ObjectNode attributes = config.putObject("attributes");
+        attributes.putObject("badv").putArray("blocked-adomain").add("a.com").add("b.com");
+        attributes.putObject("battr").putArray("blocked-banner-attr").add(1).add(2);
+
+        // when
+        final CompiledAccountConfig target = CompiledAccountConfig.of(config);
+
+        // then
+        assertThat(target.typedArray(config.at("/attributes/badv/blocked-adomain"), String.class))
+                .containsExactly("a.com", "b.com");
+        assertThat(target.typedArray(config.at("/attributes/battr/blocked-banner-attr"), Integer.class))
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    public void typedArrayShouldReturnNullForUnknownNodeOrUnexpectedType() {
+        // given
+        final ObjectNode config = mapper.createObjectNode();
+        config.putArray("mixed").add("a.com").add(1);
+        config.putArray("strings").add("a.com");
+
+        // when
+        final CompiledAccountConfig target = CompiledAccountConfig.of(config);
+
+        // then
+        assertThat(target.typedArray(config.get("mixed"), String.class)).isNull();
+        assertThat(target.typedArray(config.get("strings"), Integer.class)).isNull();
+        assertThat(target.typedArray(config.get("strings").deepCopy(), String.class)).isNull();
+    }
+
+    @Test
+    public void valuesSetShouldReturnSetOnlyForCompiledValues() {
+        // given
+        final ObjectNode config = mapper.createObjectNode();
+        config.putArray("strings").add("a.com").add("b.com").add("a.com");
+        final CompiledAccountConfig target = CompiledAccountConfig.of(config);
+
+        // when
+        final List<String> values = target.typedArray(config.get("strings"), String.class);
+
+        // then
+        assertThat(target.valuesSet(values)).containsExactlyInAnyOrder("a.com", "b.com");
+        assertThat(target.valuesSet(List.of("a.com", "b.com"))).isNull();
+    }
+}
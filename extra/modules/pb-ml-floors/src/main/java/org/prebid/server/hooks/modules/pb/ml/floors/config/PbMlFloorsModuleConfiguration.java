@@ -0,0 +1,73 @@
+package org.prebid.server.hooks.modules.pb.ml.floors.config;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import org.prebid.server.execution.RemoteFileSyncer;
+import org.prebid.server.execution.retry.FixedIntervalRetryPolicy;
+import org.prebid.server.hooks.modules.pb.ml.floors.core.FloorModelProvider;
+import org.prebid.server.hooks.modules.pb.ml.floors.core.FloorPredictor;
+import org.prebid.server.hooks.modules.pb.ml.floors.model.ModelSyncProperties;
+import org.prebid.server.hooks.modules.pb.ml.floors.v1.PbMlFloorsModule;
+import org.prebid.server.hooks.modules.pb.ml.floors.v1.PbMlFloorsProcessedAuctionRequestHook;
+import org.prebid.server.spring.config.model.HttpClientProperties;
+import org.prebid.server.spring.env.YamlPropertySourceFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import java.util.Collections;
+
+@ConditionalOnProperty(prefix = "hooks." + PbMlFloorsModule.CODE, name = "enabled", havingValue = "true")
+@PropertySource(
+        value = "classpath:/module-config/pb-ml-floors.yaml",
+        factory = YamlPropertySourceFactory.class)
+@Configuration
+public class PbMlFloorsModuleConfiguration {
+
+    @Bean
+    @ConfigurationProperties(prefix = "hooks.modules.pb-ml-floors.model")
+    ModelSyncProperties pbMlFloorsModelSyncProperties() {
+        return new ModelSyncProperties();
+    }
+
+    @Bean
+    FloorModelProvider pbMlFloorsModelProvider(ModelSyncProperties pbMlFloorsModelSyncProperties, Vertx vertx) {
+        final FloorModelProvider modelProvider = new FloorModelProvider();
+
+        final HttpClientProperties httpClientProperties = pbMlFloorsModelSyncProperties.getHttpClient();
+        final HttpClientOptions httpClientOptions = new HttpClientOptions()
+                .setConnectTimeout(httpClientProperties.getConnectTimeoutMs())
+                .setMaxRedirects(httpClientProperties.getMaxRedirects());
+
+        final RemoteFileSyncer remoteFileSyncer = new RemoteFileSyncer(
+                modelProvider,
+                pbMlFloorsModelSyncProperties.getDownloadUrl(),
+                pbMlFloorsModelSyncProperties.getSaveFilepath(),
+                pbMlFloorsModelSyncProperties.getTmpFilepath(),
+                FixedIntervalRetryPolicy.limited(
+                        pbMlFloorsModelSyncProperties.getRetryIntervalMs(),
+                        pbMlFloorsModelSyncProperties.getRetryCount()),
+                pbMlFloorsModelSyncProperties.getTimeoutMs(),
+                pbMlFloorsModelSyncProperties.getUpdateIntervalMs(),
+                vertx.createHttpClient(httpClientOptions),
+                vertx);
+
+        remoteFileSyncer.sync();
+        return modelProvider;
+    }
+
+    @Bean
+    PbMlFloorsModule pbMlFloorsModule(
+            @Value("${hooks.modules.pb-ml-floors.currency}") String currency,
+            @Value("${hooks.modules.pb-ml-floors.min-floor}") double minFloor,
+            @Value("${hooks.modules.pb-ml-floors.max-floor}") double maxFloor,
+            FloorModelProvider pbMlFloorsModelProvider) {
+
+        return new PbMlFloorsModule(Collections.singletonList(new PbMlFloorsProcessedAuctionRequestHook(
+                pbMlFloorsModelProvider,
+                new FloorPredictor(currency, minFloor, maxFloor))));
+    }
+}
@@ -0,0 +1,31 @@
+package org.prebid.server.hooks.modules.pb.ml.floors.core;
+
+/**
+ * Features the model is trained on, ordinal of each constant is its index in the feature vector.
+ * <p>
+ * Mirrors the fields price floors rules can be defined for, see {@code BasicPriceFloorResolver}.
+ */
+public enum FloorFeature {
+
+    MEDIA_TYPE,
+    WIDTH,
+    HEIGHT,
+    SITE_DOMAIN,
+    PUB_DOMAIN,
+    BUNDLE,
+    CHANNEL,
+    GPT_SLOT,
+    AD_UNIT_CODE,
+    COUNTRY,
+    DEVICE_TYPE;
+
+    private static final int COUNT = values().length;
+
+    public int index() {
+        return ordinal();
+    }
+
+    public static int count() {
+        return COUNT;
+    }
+}
@@ -0,0 +1,206 @@
+package org.prebid.server.hooks.modules.pb.ml.floors.core;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Dooh;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Geo;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Publisher;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.Video;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidChannel;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fills primitive feature vectors laid out by {@link FloorFeature}.
+ * <p>
+ * Request level features are filled once per request and impression level features are overwritten for each
+ * impression in the same vector, so no objects are created per impression. Strings are encoded by case-insensitive
+ * hash, missing values are NaN which the model treats as missing.
+ */
+public class FloorFeatures {
+
+    public static final int MEDIA_TYPE_BANNER = 1;
+    public static final int MEDIA_TYPE_VIDEO = 2;
+    public static final int MEDIA_TYPE_VIDEO_OUTSTREAM = 3;
+    public static final int MEDIA_TYPE_NATIVE = 4;
+    public static final int MEDIA_TYPE_AUDIO = 5;
+    public static final int MEDIA_TYPE_MULTIPLE = 6;
+
+    private static final int HASH_MASK = (1 << 20) - 1;
+
+    private static final JsonPointer GPID_POINTER = JsonPointer.compile("/gpid");
+    private static final JsonPointer ADSERVER_NAME_POINTER = JsonPointer.compile("/data/adserver/name");
+    private static final JsonPointer ADSERVER_ADSLOT_POINTER = JsonPointer.compile("/data/adserver/adslot");
+    private static final JsonPointer PBADSLOT_POINTER = JsonPointer.compile("/data/pbadslot");
+    private static final JsonPointer STORED_REQUEST_ID_POINTER = JsonPointer.compile("/prebid/storedrequest/id");
+
+    private FloorFeatures() {
+    }
+
+    public static double[] newVector() {
+        final double[] vector = new double[FloorFeature.count()];
+        Arrays.fill(vector, Double.NaN);
+        return vector;
+    }
+
+    public static void fillRequest(BidRequest bidRequest, double[] vector) {
+        final Site site = bidRequest.getSite();
+        final App app = bidRequest.getApp();
+        final Dooh dooh = bidRequest.getDooh();
+
+        final String siteDomain;
+        final Publisher publisher;
+        if (site != null) {
+            siteDomain = site.getDomain();
+            publisher = site.getPublisher();
+        } else if (app != null) {
+            siteDomain = app.getDomain();
+            publisher = app.getPublisher();
+        } else if (dooh != null) {
+            siteDomain = dooh.getDomain();
+            publisher = dooh.getPublisher();
+        } else {
+            siteDomain = null;
+            publisher = null;
+        }
+
+        set(vector, FloorFeature.SITE_DOMAIN, hash(siteDomain));
+        set(vector, FloorFeature.PUB_DOMAIN, hash(publisher != null ? publisher.getDomain() : null));
+        set(vector, FloorFeature.BUNDLE, hash(app != null ? app.getBundle() : null));
+        set(vector, FloorFeature.CHANNEL, hash(channel(bidRequest.getExt())));
+
+        final Device device = bidRequest.getDevice();
+        final Geo geo = device != null ? device.getGeo() : null;
+        set(vector, FloorFeature.COUNTRY, hash(geo != null ? geo.getCountry() : null));
+        set(vector, FloorFeature.DEVICE_TYPE, number(device != null ? device.getDevicetype() : null));
+    }
+
+    public static void fillImp(Imp imp, double[] vector) {
+        final Banner banner = imp.getBanner();
+        final Video video = imp.getVideo();
+
+        set(vector, FloorFeature.MEDIA_TYPE, mediaType(imp));
+
+        Integer width = null;
+        Integer height = null;
+        if (banner != null) {
+            final List<Format> formats = banner.getFormat();
+            if (formats != null && formats.size() == 1) {
+                width = formats.getFirst().getW();
+                height = formats.getFirst().getH();
+            } else if (formats == null || formats.isEmpty()) {
+                width = banner.getW();
+                height = banner.getH();
+            }
+        } else if (video != null) {
+            width = video.getW();
+            height = video.getH();
+        }
+        set(vector, FloorFeature.WIDTH, number(width));
+        set(vector, FloorFeature.HEIGHT, number(height));
+
+        final ObjectNode ext = imp.getExt();
+        set(vector, FloorFeature.GPT_SLOT, hash(gptSlot(ext)));
+        set(vector, FloorFeature.AD_UNIT_CODE, hash(adUnitCode(imp.getTagid(), ext)));
+    }
+
+    private static double mediaType(Imp imp) {
+        final Video video = imp.getVideo();
+
+        int mediaType = 0;
+        int count = 0;
+        if (imp.getBanner() != null) {
+            mediaType = MEDIA_TYPE_BANNER;
+            count++;
+        }
+        if (video != null) {
+            final Integer placement = video.getPlacement();
+            mediaType = placement == null || placement == 1 ? MEDIA_TYPE_VIDEO : MEDIA_TYPE_VIDEO_OUTSTREAM;
+            count++;
+        }
+        if (imp.getXNative() != null) {
+            mediaType = MEDIA_TYPE_NATIVE;
+            count++;
+        }
+        if (imp.getAudio() != null) {
+            mediaType = MEDIA_TYPE_AUDIO;
+            count++;
+        }
+
+        return switch (count) {
+            case 0 -> Double.NaN;
+            case 1 -> mediaType;
+            default -> MEDIA_TYPE_MULTIPLE;
+        };
+    }
+
+    private static String channel(ExtRequest ext) {
+        final ExtRequestPrebid prebid = ext != null ? ext.getPrebid() : null;
+        final ExtRequestPrebidChannel channel = prebid != null ? prebid.getChannel() : null;
+        return channel != null ? channel.getName() : null;
+    }
+
+    private static String gptSlot(ObjectNode ext) {
+        if (ext == null) {
+            return null;
+        }
+
+        final boolean gam = "gam".equals(text(ext.at(ADSERVER_NAME_POINTER)));
+        return text(ext.at(gam ? ADSERVER_ADSLOT_POINTER : PBADSLOT_POINTER));
+    }
+
+    private static String adUnitCode(String tagId, ObjectNode ext) {
+        final String gpid = ext != null ? text(ext.at(GPID_POINTER)) : null;
+        if (gpid != null) {
+            return gpid;
+        }
+        if (tagId != null && !tagId.isEmpty()) {
+            return tagId;
+        }
+        if (ext == null) {
+            return null;
+        }
+
+        final String pbAdSlot = text(ext.at(PBADSLOT_POINTER));
+        return pbAdSlot != null ? pbAdSlot : text(ext.at(STORED_REQUEST_ID_POINTER));
+    }
+
+    private static String text(JsonNode node) {
+        return node.isTextual() && !node.textValue().isEmpty() ? node.textValue() : null;
+    }
+
+    private static double number(Integer value) {
+        return value != null ? value : Double.NaN;
+    }
+
+    /**
+     * Case-insensitive 31-based string hash limited to 20 bits, so it is represented by double exactly and
+     * matches the encoding used in training.
+     */
+    static double hash(String value) {
+        if (value == null || value.isEmpty()) {
+            return Double.NaN;
+        }
+
+        int hash = 0;
+        for (int i = 0; i < value.length(); i++) {
+            hash = 31 * hash + Character.toLowerCase(value.charAt(i));
+        }
+        return hash & HASH_MASK;
+    }
+
+    private static void set(double[] vector, FloorFeature feature, double value) {
+        vector[feature.index()] = value;
+    }
+}
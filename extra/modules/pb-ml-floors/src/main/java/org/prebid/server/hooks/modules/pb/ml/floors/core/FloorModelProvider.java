@@ -0,0 +1,49 @@
+package org.prebid.server.hooks.modules.pb.ml.floors.core;
+
+import io.vertx.core.Future;
+import org.prebid.server.execution.RemoteFileProcessor;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Holds the latest floors model downloaded by {@code RemoteFileSyncer}.
+ * <p>
+ * New model replaces the previous one atomically, so requests in flight keep scoring with the model they started
+ * with. Malformed model is rejected and the previous one stays in use.
+ */
+public class FloorModelProvider implements RemoteFileProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(FloorModelProvider.class);
+
+    private volatile TreeEnsembleModel model;
+
+    @Override
+    public Future<?> setDataPath(String dataFilePath) {
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(dataFilePath))) {
+            final TreeEnsembleModel loadedModel = TreeEnsembleModel.read(inputStream);
+            if (loadedModel.featureCount() != FloorFeature.count()) {
+                return Future.failedFuture("Floors model expects %d features, but %d are supported"
+                        .formatted(loadedModel.featureCount(), FloorFeature.count()));
+            }
+
+            model = loadedModel;
+            logger.info("Floors model is loaded from " + dataFilePath);
+            return Future.succeededFuture();
+        } catch (IOException | IllegalArgumentException e) {
+            return Future.failedFuture("Floors model can not be read from %s: %s"
+                    .formatted(dataFilePath, e.getMessage()));
+        }
+    }
+
+    /**
+     * Returns current model or null if it was not loaded yet.
+     */
+    public TreeEnsembleModel model() {
+        return model;
+    }
+}
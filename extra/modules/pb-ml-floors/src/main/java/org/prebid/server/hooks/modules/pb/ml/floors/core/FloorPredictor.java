@@ -0,0 +1,89 @@
+package org.prebid.server.hooks.modules.pb.ml.floors.core;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Raises impression floors up to the values predicted by the model.
+ * <p>
+ * Predicted floor is clamped to the configured range and never lowers the floor already present in the impression.
+ * Impressions with floor in a currency other than the model currency are left as is, floor without currency
+ * is in USD as defined by OpenRTB. Currency of the raised floor is only set if impression had no floor.
+ */
+public class FloorPredictor {
+
+    private static final int FLOOR_SCALE = 4;
+    private static final String DEFAULT_FLOOR_CURRENCY = "USD";
+
+    private final String currency;
+    private final double minFloor;
+    private final double maxFloor;
+
+    public FloorPredictor(String currency, double minFloor, double maxFloor) {
+        this.currency = Objects.requireNonNull(currency);
+        if (minFloor < 0 || maxFloor < minFloor) {
+            throw new IllegalArgumentException("Floors range is invalid: [%s, %s]".formatted(minFloor, maxFloor));
+        }
+        this.minFloor = minFloor;
+        this.maxFloor = maxFloor;
+    }
+
+    /**
+     * Returns bid request with predicted floors or the same bid request if no floor was raised.
+     */
+    public BidRequest predict(TreeEnsembleModel model, BidRequest bidRequest) {
+        final List<Imp> imps = bidRequest.getImp();
+        if (imps == null || imps.isEmpty()) {
+            return bidRequest;
+        }
+
+        final double[] features = FloorFeatures.newVector();
+        FloorFeatures.fillRequest(bidRequest, features);
+
+        List<Imp> updatedImps = null;
+        for (int i = 0; i < imps.size(); i++) {
+            final Imp imp = imps.get(i);
+            final Imp updatedImp = predict(model, imp, features);
+
+            if (updatedImp != imp && updatedImps == null) {
+                updatedImps = new ArrayList<>(imps.subList(0, i));
+            }
+            if (updatedImps != null) {
+                updatedImps.add(updatedImp);
+            }
+        }
+
+        return updatedImps != null ? bidRequest.toBuilder().imp(updatedImps).build() : bidRequest;
+    }
+
+    private Imp predict(TreeEnsembleModel model, Imp imp, double[] features) {
+        final BigDecimal floor = imp.getBidfloor();
+        final String floorCurrency = imp.getBidfloorcur();
+        final String effectiveFloorCurrency = floorCurrency != null ? floorCurrency : DEFAULT_FLOOR_CURRENCY;
+        if (floor != null && !currency.equalsIgnoreCase(effectiveFloorCurrency)) {
+            return imp;
+        }
+
+        FloorFeatures.fillImp(imp, features);
+        final double prediction = model.predict(features);
+        if (Double.isNaN(prediction)) {
+            return imp;
+        }
+
+        final double predictedFloor = Math.min(Math.max(prediction, minFloor), maxFloor);
+        if (floor != null && floor.doubleValue() >= predictedFloor) {
+            return imp;
+        }
+
+        return imp.toBuilder()
+                .bidfloor(BigDecimal.valueOf(predictedFloor).setScale(FLOOR_SCALE, RoundingMode.HALF_UP))
+                .bidfloorcur(floor != null ? floorCurrency : currency)
+                .build();
+    }
+}
@@ -0,0 +1,216 @@
+package org.prebid.server.hooks.modules.pb.ml.floors.core;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Ensemble of regression trees (e.g. gradient-boosted trees) kept in flat primitive arrays.
+ * <p>
+ * Prediction is the sum of base score and leaf values of all trees, optionally passed through the exponent
+ * for models trained on logarithm of the price. It walks the arrays only, so it does not allocate and instances
+ * can be shared between threads.
+ * <p>
+ * Binary format (big-endian):
+ * <pre>
+ * int    magic            0x50424D46 ("PBMF")
+ * int    version          1
+ * int    feature count
+ * byte   output transform 0 - identity, 1 - exponent
+ * double base score
+ * int    tree count
+ * tree count times:
+ *   int node count
+ *   node count times, root first:
+ *     int    feature index, -1 for leaf
+ *     double split threshold (feature value lower than threshold goes left) or leaf value
+ *     int    left child index within the tree
+ *     int    right child index within the tree
+ *     byte   1 if missing (NaN) feature value goes left, 0 otherwise
+ * </pre>
+ * Children must follow their parent, which guarantees every walk ends in a leaf.
+ */
+public class TreeEnsembleModel {
+
+    private static final int MAGIC = 0x50424D46;
+    private static final int VERSION = 1;
+    private static final int LEAF = -1;
+    private static final byte OUTPUT_IDENTITY = 0;
+    private static final byte OUTPUT_EXP = 1;
+
+    private final int featureCount;
+    private final boolean expOutput;
+    private final double baseScore;
+    private final int[] roots;
+    private final int[] features;
+    private final double[] values;
+    private final int[] leftChildren;
+    private final int[] rightChildren;
+    private final boolean[] missingLeft;
+
+    private TreeEnsembleModel(int featureCount,
+                              boolean expOutput,
+                              double baseScore,
+                              int[] roots,
+                              int[] features,
+                              double[] values,
+                              int[] leftChildren,
+                              int[] rightChildren,
+                              boolean[] missingLeft) {
+
+        this.featureCount = featureCount;
+        this.expOutput = expOutput;
+        this.baseScore = baseScore;
+        this.roots = roots;
+        this.features = features;
+        this.values = values;
+        this.leftChildren = leftChildren;
+        this.rightChildren = rightChildren;
+        this.missingLeft = missingLeft;
+    }
+
+    /**
+     * Reads model in the binary format described above.
+     *
+     * @throws IllegalArgumentException if the model is malformed
+     */
+    public static TreeEnsembleModel read(InputStream inputStream) throws IOException {
+        final DataInputStream input = new DataInputStream(inputStream);
+        if (input.readInt() != MAGIC) {
+            throw new IllegalArgumentException("Unknown model format");
+        }
+        final int version = input.readInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported model version: " + version);
+        }
+
+        final int featureCount = input.readInt();
+        final byte outputTransform = input.readByte();
+        if (outputTransform != OUTPUT_IDENTITY && outputTransform != OUTPUT_EXP) {
+            throw new IllegalArgumentException("Unknown output transform: " + outputTransform);
+        }
+        final double baseScore = input.readDouble();
+
+        final int treeCount = input.readInt();
+        if (featureCount < 0 || treeCount < 0) {
+            throw new IllegalArgumentException("Negative feature or tree count");
+        }
+
+        final int[] roots = new int[treeCount];
+        final NodesBuilder nodes = new NodesBuilder();
+        for (int tree = 0; tree < treeCount; tree++) {
+            roots[tree] = nodes.size;
+            readTree(input, featureCount, nodes);
+        }
+
+        return new TreeEnsembleModel(
+                featureCount,
+                outputTransform == OUTPUT_EXP,
+                baseScore,
+                roots,
+                nodes.features(),
+                nodes.values(),
+                nodes.leftChildren(),
+                nodes.rightChildren(),
+                nodes.missingLeft());
+    }
+
+    private static void readTree(DataInputStream input, int featureCount, NodesBuilder nodes) throws IOException {
+        final int nodeCount = input.readInt();
+        if (nodeCount <= 0) {
+            throw new IllegalArgumentException("Tree must have at least one node");
+        }
+
+        final int offset = nodes.size;
+        for (int node = 0; node < nodeCount; node++) {
+            final int feature = input.readInt();
+            final double value = input.readDouble();
+            final int left = input.readInt();
+            final int right = input.readInt();
+            final boolean missingLeft = input.readByte() == 1;
+
+            if (feature != LEAF) {
+                if (feature < 0 || feature >= featureCount) {
+                    throw new IllegalArgumentException("Feature index out of range: " + feature);
+                }
+                if (left <= node || left >= nodeCount || right <= node || right >= nodeCount) {
+                    throw new IllegalArgumentException("Child index out of range at node " + node);
+                }
+            }
+
+            nodes.add(feature, value, offset + left, offset + right, missingLeft);
+        }
+    }
+
+    public int featureCount() {
+        return featureCount;
+    }
+
+    /**
+     * Returns prediction for the given feature vector, missing features are expected to be NaN.
+     */
+    public double predict(double[] featureVector) {
+        double score = baseScore;
+        for (int root : roots) {
+            int node = root;
+            int feature;
+            while ((feature = features[node]) != LEAF) {
+                final double value = featureVector[feature];
+                final boolean goLeft = Double.isNaN(value) ? missingLeft[node] : value < values[node];
+                node = goLeft ? leftChildren[node] : rightChildren[node];
+            }
+            score += values[node];
+        }
+
+        return expOutput ? Math.exp(score) : score;
+    }
+
+    private static class NodesBuilder {
+
+        private int size;
+        private int[] features = new int[64];
+        private double[] values = new double[64];
+        private int[] leftChildren = new int[64];
+        private int[] rightChildren = new int[64];
+        private boolean[] missingLeft = new boolean[64];
+
+        void add(int feature, double value, int left, int right, boolean goesLeftOnMissing) {
+            if (size == features.length) {
+                final int capacity = size * 2;
+                features = Arrays.copyOf(features, capacity);
+                values = Arrays.copyOf(values, capacity);
+                leftChildren = Arrays.copyOf(leftChildren, capacity);
+                rightChildren = Arrays.copyOf(rightChildren, capacity);
+                missingLeft = Arrays.copyOf(missingLeft, capacity);
+            }
+
+            features[size] = feature;
+            values[size] = value;
+            leftChildren[size] = left;
+            rightChildren[size] = right;
+            missingLeft[size] = goesLeftOnMissing;
+            size++;
+        }
+
+        int[] features() {
+            return Arrays.copyOf(features, size);
+        }
+
+        double[] values() {
+            return Arrays.copyOf(values, size);
+        }
+
+        int[] leftChildren() {
+            return Arrays.copyOf(leftChildren, size);
+        }
+
+        int[] rightChildren() {
+            return Arrays.copyOf(rightChildren, size);
+        }
+
+        boolean[] missingLeft() {
+            return Arrays.copyOf(missingLeft, size);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.prebid.server.hooks.modules.pb.ml.floors.model;
+
+import lombok.Data;
+import org.prebid.server.spring.config.model.HttpClientProperties;
+
+@Data
+public class ModelSyncProperties {
+
+    /** URL the model file is downloaded from */
+    String downloadUrl;
+
+    /** Path the downloaded model file is stored at */
+    String saveFilepath;
+
+    /** Path the model file is downloaded to before it replaces the stored one */
+    String tmpFilepath;
+
+    /** Number of download attempts after the failed one */
+    int retryCount;
+
+    /** Interval in milliseconds between download attempts */
+    long retryIntervalMs;
+
+    /** Download timeout in milliseconds */
+    long timeoutMs;
+
+    /** Interval in milliseconds of checking the model file for update, 0 disables updates */
+    long updateIntervalMs;
+
+    HttpClientProperties httpClient;
+}
@@ -0,0 +1,67 @@
+package org.prebid.server.hooks.modules.pb.ml.floors.v1;
+
+import com.iab.openrtb.request.BidRequest;
+import io.vertx.core.Future;
+import org.prebid.server.hooks.execution.v1.auction.AuctionRequestPayloadImpl;
+import org.prebid.server.hooks.modules.pb.ml.floors.core.FloorModelProvider;
+import org.prebid.server.hooks.modules.pb.ml.floors.core.FloorPredictor;
+import org.prebid.server.hooks.modules.pb.ml.floors.core.TreeEnsembleModel;
+import org.prebid.server.hooks.modules.pb.ml.floors.v1.model.InvocationResultImpl;
+import org.prebid.server.hooks.v1.InvocationAction;
+import org.prebid.server.hooks.v1.InvocationResult;
+import org.prebid.server.hooks.v1.InvocationStatus;
+import org.prebid.server.hooks.v1.auction.AuctionInvocationContext;
+import org.prebid.server.hooks.v1.auction.AuctionRequestPayload;
+import org.prebid.server.hooks.v1.auction.ProcessedAuctionRequestHook;
+
+import java.util.List;
+import java.util.Objects;
+
+public class PbMlFloorsProcessedAuctionRequestHook implements ProcessedAuctionRequestHook {
+
+    private static final String CODE = "pb-ml-floors-processed-auction-request-hook";
+
+    private final FloorModelProvider modelProvider;
+    private final FloorPredictor floorPredictor;
+
+    public PbMlFloorsProcessedAuctionRequestHook(FloorModelProvider modelProvider, FloorPredictor floorPredictor) {
+        this.modelProvider = Objects.requireNonNull(modelProvider);
+        this.floorPredictor = Objects.requireNonNull(floorPredictor);
+    }
+
+    @Override
+    public Future<InvocationResult<AuctionRequestPayload>> call(AuctionRequestPayload auctionRequestPayload,
+                                                                AuctionInvocationContext invocationContext) {
+
+        final TreeEnsembleModel model = modelProvider.model();
+        if (model == null) {
+            return Future.succeededFuture(InvocationResultImpl.<AuctionRequestPayload>builder()
+                    .status(InvocationStatus.success)
+                    .action(InvocationAction.no_action)
+                    .debugMessages(invocationContext.debugEnabled()
+                            ? List.of("Floors model is not loaded yet")
+                            : null)
+                    .build());
+        }
+
+        final BidRequest bidRequest = auctionRequestPayload.bidRequest();
+        final BidRequest updatedBidRequest = floorPredictor.predict(model, bidRequest);
+        if (updatedBidRequest == bidRequest) {
+            return Future.succeededFuture(InvocationResultImpl.<AuctionRequestPayload>builder()
+                    .status(InvocationStatus.success)
+                    .action(InvocationAction.no_action)
+                    .build());
+        }
+
+        return Future.succeededFuture(InvocationResultImpl.<AuctionRequestPayload>builder()
+                .status(InvocationStatus.success)
+                .action(InvocationAction.update)
+                .payloadUpdate(payload -> AuctionRequestPayloadImpl.of(updatedBidRequest))
+                .build());
+    }
+
+    @Override
+    public String code() {
+        return CODE;
+    }
+}
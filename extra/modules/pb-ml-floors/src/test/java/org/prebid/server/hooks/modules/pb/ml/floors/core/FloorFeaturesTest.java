@@ -0,0 +1,123 @@
+package org.prebid.server.hooks.modules.pb.ml.floors.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Geo;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Native;
+import com.iab.openrtb.request.Publisher;
+import com.iab.openrtb.request.Video;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidChannel;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FloorFeaturesTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void fillRequestShouldFillRequestLevelFeatures() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder()
+                .app(App.builder()
+                        .domain("App.com")
+                        .bundle("bundle")
+                        .publisher(Publisher.builder().domain("pub.com").build())
+                        .build())
+                .device(Device.builder().devicetype(4).geo(Geo.builder().country("USA").build()).build())
+                .ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .channel(ExtRequestPrebidChannel.of("app"))
+                        .build()))
+                .build();
+        final double[] vector = FloorFeatures.newVector();
+
+        // when
+        FloorFeatures.fillRequest(bidRequest, vector);
+
+        // then
+        assertThat(vector[FloorFeature.SITE_DOMAIN.index()]).isEqualTo(FloorFeatures.hash("app.com"));
+        assertThat(vector[FloorFeature.PUB_DOMAIN.index()]).isEqualTo(FloorFeatures.hash("pub.com"));
+        assertThat(vector[FloorFeature.BUNDLE.index()]).isEqualTo(FloorFeatures.hash("bundle"));
+        assertThat(vector[FloorFeature.CHANNEL.index()]).isEqualTo(FloorFeatures.hash("app"));
+        assertThat(vector[FloorFeature.COUNTRY.index()]).isEqualTo(FloorFeatures.hash("usa"));
+        assertThat(vector[FloorFeature.DEVICE_TYPE.index()]).isEqualTo(4);
+    }
+
+    @Test
+    public void fillImpShouldFillImpLevelFeaturesAndOverwritePreviousImpFeatures() {
+        // given
+        final ObjectNode ext = mapper.createObjectNode();
+        final ObjectNode data = ext.putObject("data").put("pbadslot", "slot");
+        data.putObject("adserver").put("name", "gam").put("adslot", "/1234/slot");
+        final Imp bannerImp = Imp.builder()
+                .tagid("tag")
+                .banner(Banner.builder().format(List.of(Format.builder().w(300).h(250).build())).build())
+                .ext(ext)
+                .build();
+        final Imp videoImp = Imp.builder()
+                .video(Video.builder().placement(3).build())
+                .build();
+        final double[] vector = FloorFeatures.newVector();
+
+        // when
+        FloorFeatures.fillImp(bannerImp, vector);
+
+        // then
+        assertThat(vector[FloorFeature.MEDIA_TYPE.index()]).isEqualTo(FloorFeatures.MEDIA_TYPE_BANNER);
+        assertThat(vector[FloorFeature.WIDTH.index()]).isEqualTo(300);
+        assertThat(vector[FloorFeature.HEIGHT.index()]).isEqualTo(250);
+        assertThat(vector[FloorFeature.GPT_SLOT.index()]).isEqualTo(FloorFeatures.hash("/1234/slot"));
+        assertThat(vector[FloorFeature.AD_UNIT_CODE.index()]).isEqualTo(FloorFeatures.hash("tag"));
+
+        // when
+        FloorFeatures.fillImp(videoImp, vector);
+
+        // then
+        assertThat(vector[FloorFeature.MEDIA_TYPE.index()]).isEqualTo(FloorFeatures.MEDIA_TYPE_VIDEO_OUTSTREAM);
+        assertThat(vector[FloorFeature.WIDTH.index()]).isNaN();
+        assertThat(vector[FloorFeature.HEIGHT.index()]).isNaN();
+        assertThat(vector[FloorFeature.GPT_SLOT.index()]).isNaN();
+        assertThat(vector[FloorFeature.AD_UNIT_CODE.index()]).isNaN();
+    }
+
+    @Test
+    public void fillImpShouldMarkImpWithSeveralMediaTypesAndSkipSizeOfSeveralFormats() {
+        // given
+        final Imp imp = Imp.builder()
+                .banner(Banner.builder()
+                        .format(List.of(
+                                Format.builder().w(300).h(250).build(),
+                                Format.builder().w(728).h(90).build()))
+                        .build())
+                .xNative(Native.builder().build())
+                .build();
+        final double[] vector = FloorFeatures.newVector();
+
+        // when
+        FloorFeatures.fillImp(imp, vector);
+
+        // then
+        assertThat(vector[FloorFeature.MEDIA_TYPE.index()]).isEqualTo(FloorFeatures.MEDIA_TYPE_MULTIPLE);
+        assertThat(vector[FloorFeature.WIDTH.index()]).isNaN();
+        assertThat(vector[FloorFeature.HEIGHT.index()]).isNaN();
+    }
+
+    @Test
+    public void hashShouldBeCaseInsensitiveAndFitIntoTwentyBits() {
+        // when and then
+        assertThat(FloorFeatures.hash("Example.COM")).isEqualTo(FloorFeatures.hash("example.com"));
+        assertThat(FloorFeatures.hash("example.com")).isEqualTo("example.com".hashCode() & 0xFFFFF);
+        assertThat(FloorFeatures.hash("")).isNaN();
+        assertThat(FloorFeatures.hash(null)).isNaN();
+    }
+}
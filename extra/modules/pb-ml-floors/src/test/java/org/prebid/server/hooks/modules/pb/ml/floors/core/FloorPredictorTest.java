@@ -0,0 +1,123 @@
+package org.prebid.server.hooks.modules.pb.ml.floors.core;
+
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class FloorPredictorTest {
+
+    private final FloorPredictor target = new FloorPredictor("USD", 0.01d, 5d);
+
+    @Test
+    public void creationShouldFailOnInvalidFloorsRange() {
+        // when and then
+        assertThatIllegalArgumentException().isThrownBy(() -> new FloorPredictor("USD", 2d, 1d));
+    }
+
+    @Test
+    public void predictShouldRaiseImpFloorsUpToPrediction() throws IOException {
+        // given
+        final BidRequest bidRequest = givenBidRequest(
+                Imp.builder().id("1").banner(Banner.builder().build()).build(),
+                Imp.builder().id("2").banner(Banner.builder().build()).bidfloor(BigDecimal.ONE).build());
+
+        // when
+        final BidRequest result = target.predict(givenModel(1.5d), bidRequest);
+
+        // then
+        assertThat(result.getImp())
+                .extracting(Imp::getBidfloor, Imp::getBidfloorcur)
+                .containsExactly(
+                        tuple(new BigDecimal("1.5000"), "USD"),
+                        tuple(new BigDecimal("1.5000"), null));
+    }
+
+    @Test
+    public void predictShouldTreatFloorWithoutCurrencyAsUsdFloor() throws IOException {
+        // given
+        final FloorPredictor eurPredictor = new FloorPredictor("EUR", 0.01d, 5d);
+        final BidRequest bidRequest = givenBidRequest(
+                Imp.builder().id("1").bidfloor(BigDecimal.ONE).build(),
+                Imp.builder().id("2").bidfloor(BigDecimal.ONE).bidfloorcur("eur").build());
+
+        // when
+        final BidRequest result = eurPredictor.predict(givenModel(1.5d), bidRequest);
+
+        // then
+        assertThat(result.getImp())
+                .extracting(Imp::getBidfloor, Imp::getBidfloorcur)
+                .containsExactly(
+                        tuple(BigDecimal.ONE, null),
+                        tuple(new BigDecimal("1.5000"), "eur"));
+    }
+
+    @Test
+    public void predictShouldClampPredictionToConfiguredRange() throws IOException {
+        // given
+        final BidRequest bidRequest = givenBidRequest(Imp.builder().id("1").build());
+
+        // when
+        final BidRequest result = target.predict(givenModel(100d), bidRequest);
+
+        // then
+        assertThat(result.getImp()).extracting(Imp::getBidfloor).containsExactly(new BigDecimal("5.0000"));
+    }
+
+    @Test
+    public void predictShouldReturnSameRequestWhenNoFloorIsRaised() throws IOException {
+        // given
+        final BidRequest bidRequest = givenBidRequest(
+                Imp.builder().id("1").bidfloor(BigDecimal.TEN).bidfloorcur("USD").build(),
+                Imp.builder().id("2").bidfloor(BigDecimal.ONE).bidfloorcur("EUR").build());
+
+        // when
+        final BidRequest result = target.predict(givenModel(1.5d), bidRequest);
+
+        // then
+        assertThat(result).isSameAs(bidRequest);
+    }
+
+    @Test
+    public void predictShouldKeepUnchangedImpsAsIs() throws IOException {
+        // given
+        final Imp unchangedImp = Imp.builder().id("1").bidfloor(BigDecimal.TEN).build();
+        final BidRequest bidRequest = givenBidRequest(unchangedImp, Imp.builder().id("2").build());
+
+        // when
+        final BidRequest result = target.predict(givenModel(1.5d), bidRequest);
+
+        // then
+        assertThat(result.getImp()).hasSize(2);
+        assertThat(result.getImp().getFirst()).isSameAs(unchangedImp);
+        assertThat(result.getImp().get(1).getBidfloor()).isEqualTo(new BigDecimal("1.5000"));
+    }
+
+    private static BidRequest givenBidRequest(Imp... imps) {
+        return BidRequest.builder().imp(List.of(imps)).build();
+    }
+
+    private static TreeEnsembleModel givenModel(double prediction) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        output.writeInt(0x50424D46);
+        output.writeInt(1);
+        output.writeInt(FloorFeature.count());
+        output.writeByte(0);
+        output.writeDouble(prediction);
+        output.writeInt(0);
+
+        return TreeEnsembleModel.read(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+}
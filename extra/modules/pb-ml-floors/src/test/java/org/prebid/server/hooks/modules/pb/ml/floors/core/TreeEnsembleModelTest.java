@@ -0,0 +1,155 @@
+package org.prebid.server.hooks.modules.pb.ml.floors.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+public class TreeEnsembleModelTest {
+
+    @Test
+    public void predictShouldSumBaseScoreAndLeafValuesOfAllTrees() throws IOException {
+        // given
+        final TreeEnsembleModel target = TreeEnsembleModel.read(givenModel(2, 0, 0.1d));
+
+        // when and then
+        assertThat(target.featureCount()).isEqualTo(2);
+        assertThat(target.predict(new double[]{0, 300})).isCloseTo(1.6d, within(1e-9));
+        assertThat(target.predict(new double[]{0, 500})).isCloseTo(2.6d, within(1e-9));
+    }
+
+    @Test
+    public void predictShouldFollowBranchMarkedForMissingValues() throws IOException {
+        // given
+        final TreeEnsembleModel target = TreeEnsembleModel.read(givenModel(2, 0, 0.1d));
+
+        // when and then
+        assertThat(target.predict(new double[]{0, Double.NaN})).isCloseTo(1.6d, within(1e-9));
+    }
+
+    @Test
+    public void predictShouldApplyExponentWhenModelIsTrainedOnLogarithm() throws IOException {
+        // given
+        final TreeEnsembleModel target = TreeEnsembleModel.read(givenModel(2, 1, 0d));
+
+        // when and then
+        assertThat(target.predict(new double[]{0, 300})).isCloseTo(Math.exp(1.5d), within(1e-9));
+    }
+
+    @Test
+    public void predictShouldNotAllocate() throws IOException {
+        // given
+        final TreeEnsembleModel target = TreeEnsembleModel.read(givenModel(2, 0, 0.1d));
+        final double[] features = {0, 300};
+        final com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().threadId();
+
+        double sum = 0;
+        for (int i = 0; i < 100_000; i++) {
+            features[1] = i % 1000;
+            sum += target.predict(features);
+        }
+
+        // when
+        final long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            features[1] = i % 1000;
+            sum += target.predict(features);
+        }
+        final long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        // then
+        assertThat(sum).isPositive();
+        assertThat(allocated).isLessThan(1024);
+    }
+
+    @Test
+    public void readShouldRejectUnknownFormat() {
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> TreeEnsembleModel.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4})))
+                .withMessage("Unknown model format");
+    }
+
+    @Test
+    public void readShouldRejectFeatureIndexOutOfRange() {
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> TreeEnsembleModel.read(givenModel(1, 0, 0d)))
+                .withMessage("Feature index out of range: 1");
+    }
+
+    @Test
+    public void readShouldRejectChildPointingBackwards() throws IOException {
+        // given
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = givenHeader(bytes, 1, 0, 0d, 1);
+        output.writeInt(2);
+        givenNode(output, 0, 1d, 0, 1, false);
+        givenNode(output, -1, 1d, 0, 0, false);
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> TreeEnsembleModel.read(new ByteArrayInputStream(bytes.toByteArray())))
+                .withMessage("Child index out of range at node 0");
+    }
+
+    /**
+     * Two trees: the first one splits on the feature 1 by 500 with leaves 1.0 and 2.0 and sends missing values left,
+     * the second one is a single leaf 0.5.
+     */
+    private static ByteArrayInputStream givenModel(int featureCount, int transform, double baseScore)
+            throws IOException {
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = givenHeader(bytes, featureCount, transform, baseScore, 2);
+
+        output.writeInt(3);
+        givenNode(output, 1, 500d, 1, 2, true);
+        givenNode(output, -1, 1d, 0, 0, false);
+        givenNode(output, -1, 2d, 0, 0, false);
+
+        output.writeInt(1);
+        givenNode(output, -1, 0.5d, 0, 0, false);
+
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+
+    private static DataOutputStream givenHeader(ByteArrayOutputStream bytes,
+                                                int featureCount,
+                                                int transform,
+                                                double baseScore,
+                                                int treeCount) throws IOException {
+
+        final DataOutputStream output = new DataOutputStream(bytes);
+        output.writeInt(0x50424D46);
+        output.writeInt(1);
+        output.writeInt(featureCount);
+        output.writeByte(transform);
+        output.writeDouble(baseScore);
+        output.writeInt(treeCount);
+        return output;
+    }
+
+    private static void givenNode(DataOutputStream output,
+                                  int feature,
+                                  double value,
+                                  int left,
+                                  int right,
+                                  boolean missingLeft) throws IOException {
+
+        output.writeInt(feature);
+        output.writeDouble(value);
+        output.writeInt(left);
+        output.writeInt(right);
+        output.writeByte(missingLeft ? 1 : 0);
+    }
+}
@@ -0,0 +1,107 @@
+package org.prebid.server.hooks.modules.pb.ml.floors.v1;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.hooks.execution.v1.auction.AuctionRequestPayloadImpl;
+import org.prebid.server.hooks.modules.pb.ml.floors.core.FloorModelProvider;
+import org.prebid.server.hooks.modules.pb.ml.floors.core.FloorPredictor;
+import org.prebid.server.hooks.modules.pb.ml.floors.core.TreeEnsembleModel;
+import org.prebid.server.hooks.v1.InvocationAction;
+import org.prebid.server.hooks.v1.InvocationResult;
+import org.prebid.server.hooks.v1.InvocationStatus;
+import org.prebid.server.hooks.v1.auction.AuctionInvocationContext;
+import org.prebid.server.hooks.v1.auction.AuctionRequestPayload;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class PbMlFloorsProcessedAuctionRequestHookTest {
+
+    @Mock
+    private FloorModelProvider modelProvider;
+
+    @Mock
+    private FloorPredictor floorPredictor;
+
+    @Mock
+    private TreeEnsembleModel model;
+
+    @Mock
+    private AuctionInvocationContext invocationContext;
+
+    private PbMlFloorsProcessedAuctionRequestHook target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new PbMlFloorsProcessedAuctionRequestHook(modelProvider, floorPredictor);
+    }
+
+    @Test
+    public void callShouldReturnNoActionWhenModelIsNotLoadedYet() {
+        // given
+        final BidRequest bidRequest = givenBidRequest(null);
+
+        // when
+        final Future<InvocationResult<AuctionRequestPayload>> result =
+                target.call(AuctionRequestPayloadImpl.of(bidRequest), invocationContext);
+
+        // then
+        assertThat(result.result())
+                .returns(InvocationStatus.success, InvocationResult::status)
+                .returns(InvocationAction.no_action, InvocationResult::action);
+        verifyNoInteractions(floorPredictor);
+    }
+
+    @Test
+    public void callShouldReturnNoActionWhenNoFloorIsRaised() {
+        // given
+        final BidRequest bidRequest = givenBidRequest(null);
+        given(modelProvider.model()).willReturn(model);
+        given(floorPredictor.predict(model, bidRequest)).willReturn(bidRequest);
+
+        // when
+        final Future<InvocationResult<AuctionRequestPayload>> result =
+                target.call(AuctionRequestPayloadImpl.of(bidRequest), invocationContext);
+
+        // then
+        assertThat(result.result())
+                .returns(InvocationAction.no_action, InvocationResult::action)
+                .returns(null, InvocationResult::payloadUpdate);
+    }
+
+    @Test
+    public void callShouldReturnUpdateWithPredictedFloors() {
+        // given
+        final BidRequest bidRequest = givenBidRequest(null);
+        final BidRequest updatedBidRequest = givenBidRequest(BigDecimal.ONE);
+        given(modelProvider.model()).willReturn(model);
+        given(floorPredictor.predict(any(), any())).willReturn(updatedBidRequest);
+
+        // when
+        final Future<InvocationResult<AuctionRequestPayload>> result =
+                target.call(AuctionRequestPayloadImpl.of(bidRequest), invocationContext);
+
+        // then
+        assertThat(result.result().action()).isEqualTo(InvocationAction.update);
+        assertThat(result.result().payloadUpdate().apply(AuctionRequestPayloadImpl.of(bidRequest)).bidRequest())
+                .isSameAs(updatedBidRequest);
+        verify(floorPredictor).predict(model, bidRequest);
+    }
+
+    private static BidRequest givenBidRequest(BigDecimal bidFloor) {
+        return BidRequest.builder().imp(List.of(Imp.builder().id("1").bidfloor(bidFloor).build())).build();
+    }
+}
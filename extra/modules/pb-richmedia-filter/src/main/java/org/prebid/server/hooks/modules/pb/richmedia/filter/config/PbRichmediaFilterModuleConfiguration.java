@@ -21,18 +21,23 @@ public class PbRichmediaFilterModuleConfiguration {
     @Bean
     PbRichmediaFilterModule pbRichmediaFilterModule(
             @Value("${hooks.modules.pb-richmedia-filter.filter-mraid}") Boolean filterMraid,
-            @Value("${hooks.modules.pb-richmedia-filter.mraid-script-pattern}") String mraidScriptPattern) {
+            @Value("${hooks.modules.pb-richmedia-filter.mraid-script-pattern}") String mraidScriptPattern,
+            @Value("${hooks.modules.pb-richmedia-filter.mraid-script-patterns:}") List<String> mraidScriptPatterns) {
 
         final ObjectMapper mapper = ObjectMapperProvider.mapper();
         final PbRichMediaFilterProperties globalProperties = PbRichMediaFilterProperties.of(
                 filterMraid,
-                mraidScriptPattern);
+                mraidScriptPattern,
+                mraidScriptPatterns);
 
-        return new PbRichmediaFilterModule(List.of(
-                new PbRichmediaFilterAllProcessedBidResponsesHook(
+        final ModuleConfigResolver configResolver = new ModuleConfigResolver(mapper, globalProperties);
+
+        return new PbRichmediaFilterModule(
+                List.of(new PbRichmediaFilterAllProcessedBidResponsesHook(
                         mapper,
                         new BidResponsesMraidFilter(),
-                        new ModuleConfigResolver(mapper, globalProperties))));
+                        configResolver)),
+                configResolver);
     }
 
 }
@@ -1,7 +1,6 @@
 package org.prebid.server.hooks.modules.pb.richmedia.filter.core;
 
 import com.iab.openrtb.response.Bid;
-import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.model.BidRejectionReason;
 import org.prebid.server.auction.model.BidRejectionTracker;
 import org.prebid.server.auction.model.BidderResponse;
@@ -16,56 +15,92 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class BidResponsesMraidFilter {
 
     private static final String TAG_STATUS = "success-block";
     private static final Map<String, Object> TAG_VALUES = Map.of("richmedia-format", "mraid");
 
-    public MraidFilterResult filterByPattern(String mraidScriptPattern,
-                                             List<BidderResponse> responses,
-                                             Map<String, BidRejectionTracker> bidRejectionTrackers) {
-
-        List<BidderResponse> filteredResponses = new ArrayList<>();
-        List<AnalyticsResult> analyticsResults = new ArrayList<>();
-
-        for (BidderResponse bidderResponse : responses) {
-            final BidderSeatBid seatBid = bidderResponse.getSeatBid();
-            final List<BidderBid> originalBids = seatBid.getBids();
-            final Map<Boolean, List<BidderBid>> bidsMap = originalBids.stream().collect(
-                    Collectors.groupingBy(bid -> StringUtils.contains(bid.getBid().getAdm(), mraidScriptPattern)));
-
-            final List<BidderBid> validBids = bidsMap.getOrDefault(false, Collections.emptyList());
-            final List<BidderBid> invalidBids = bidsMap.getOrDefault(true, Collections.emptyList());
-
-            if (validBids.size() == originalBids.size()) {
-                filteredResponses.add(bidderResponse.with(seatBid.with(originalBids)));
-            } else {
-                final List<String> rejectedImps = invalidBids.stream()
-                        .map(BidderBid::getBid)
-                        .map(Bid::getImpid)
-                        .toList();
-
-                final String bidder = bidderResponse.getBidder();
-
-                final AnalyticsResult analyticsResult = AnalyticsResult.of(
-                        TAG_STATUS,
-                        TAG_VALUES,
-                        bidder,
-                        rejectedImps);
-                analyticsResults.add(analyticsResult);
-
-                bidRejectionTrackers.get(bidder)
-                        .reject(rejectedImps, BidRejectionReason.RESPONSE_REJECTED_INVALID_CREATIVE);
-
-                final List<BidderError> errors = new ArrayList<>(seatBid.getErrors());
-                errors.add(BidderError.of("Invalid bid", BidderError.Type.invalid_bid, new HashSet<>(rejectedImps)));
-                filteredResponses.add(bidderResponse.with(seatBid.with(validBids, errors)));
+    /**
+     * Rejects bids which markup contains any of the patterns of the given matcher.
+     * <p>
+     * Original responses are returned as is when no bid is rejected.
+     */
+    public MraidFilterResult filterByPatterns(MultiPatternMatcher mraidScriptPatternMatcher,
+                                              List<BidderResponse> responses,
+                                              Map<String, BidRejectionTracker> bidRejectionTrackers) {
+
+        List<BidderResponse> filteredResponses = null;
+        List<AnalyticsResult> analyticsResults = null;
+
+        for (int index = 0; index < responses.size(); index++) {
+            final BidderResponse bidderResponse = responses.get(index);
+            final RejectedBids rejectedBids = filterBidderResponse(
+                    mraidScriptPatternMatcher, bidderResponse, bidRejectionTrackers);
+
+            if (rejectedBids == null) {
+                if (filteredResponses != null) {
+                    filteredResponses.add(bidderResponse);
+                }
+                continue;
+            }
+
+            if (filteredResponses == null) {
+                filteredResponses = new ArrayList<>(responses.subList(0, index));
+                analyticsResults = new ArrayList<>();
             }
+            filteredResponses.add(rejectedBids.filteredResponse());
+            analyticsResults.add(AnalyticsResult.of(
+                    TAG_STATUS,
+                    TAG_VALUES,
+                    bidderResponse.getBidder(),
+                    rejectedBids.rejectedImps()));
         }
 
-        return MraidFilterResult.of(filteredResponses, analyticsResults);
+        return filteredResponses != null
+                ? MraidFilterResult.of(filteredResponses, analyticsResults)
+                : MraidFilterResult.of(responses, Collections.emptyList());
     }
 
+    private static RejectedBids filterBidderResponse(MultiPatternMatcher mraidScriptPatternMatcher,
+                                                     BidderResponse bidderResponse,
+                                                     Map<String, BidRejectionTracker> bidRejectionTrackers) {
+
+        final BidderSeatBid seatBid = bidderResponse.getSeatBid();
+        final List<BidderBid> originalBids = seatBid.getBids();
+
+        List<BidderBid> validBids = null;
+        List<String> rejectedImps = null;
+        for (int index = 0; index < originalBids.size(); index++) {
+            final BidderBid bidderBid = originalBids.get(index);
+            final Bid bid = bidderBid.getBid();
+
+            if (!mraidScriptPatternMatcher.matches(bid.getAdm())) {
+                if (validBids != null) {
+                    validBids.add(bidderBid);
+                }
+                continue;
+            }
+
+            if (validBids == null) {
+                validBids = new ArrayList<>(originalBids.subList(0, index));
+                rejectedImps = new ArrayList<>();
+            }
+            rejectedImps.add(bid.getImpid());
+        }
+
+        if (validBids == null) {
+            return null;
+        }
+
+        final String bidder = bidderResponse.getBidder();
+        bidRejectionTrackers.get(bidder).reject(rejectedImps, BidRejectionReason.RESPONSE_REJECTED_INVALID_CREATIVE);
+
+        final List<BidderError> errors = new ArrayList<>(seatBid.getErrors());
+        errors.add(BidderError.of("Invalid bid", BidderError.Type.invalid_bid, new HashSet<>(rejectedImps)));
+        return new RejectedBids(bidderResponse.with(seatBid.with(validBids, errors)), rejectedImps);
+    }
+
+    private record RejectedBids(BidderResponse filteredResponse, List<String> rejectedImps) {
+    }
 }
@@ -2,25 +2,53 @@ package org.prebid.server.hooks.modules.pb.richmedia.filter.core;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.BooleanUtils;
+import org.prebid.server.hooks.modules.pb.richmedia.filter.model.MraidFilterConfig;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.model.PbRichMediaFilterProperties;
+import org.prebid.server.hooks.v1.ModuleConfigCompiler;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
-public class ModuleConfigResolver {
+public class ModuleConfigResolver implements ModuleConfigCompiler<PbRichMediaFilterProperties, MraidFilterConfig> {
 
     private final ObjectMapper mapper;
-    private final PbRichMediaFilterProperties globalProperties;
+    private final MraidFilterConfig globalConfig;
 
     public ModuleConfigResolver(ObjectMapper mapper,
                                 PbRichMediaFilterProperties globalProperties) {
         this.mapper = Objects.requireNonNull(mapper);
-        this.globalProperties = Objects.requireNonNull(globalProperties);
+        this.globalConfig = compile(Objects.requireNonNull(globalProperties));
     }
 
+    @Override
+    public Class<PbRichMediaFilterProperties> configClass() {
+        return PbRichMediaFilterProperties.class;
+    }
+
+    /**
+     * Compiles {@code mraid-script-pattern} along with {@code mraid-script-patterns} into a single matcher.
+     */
+    @Override
+    public MraidFilterConfig compile(PbRichMediaFilterProperties properties) {
+        final List<String> patterns = new ArrayList<>();
+        patterns.add(properties.getMraidScriptPattern());
+        patterns.addAll(ListUtils.emptyIfNull(properties.getMraidScriptPatterns()));
+
+        return MraidFilterConfig.of(BooleanUtils.isTrue(properties.getFilterMraid()), MultiPatternMatcher.of(patterns));
+    }
+
+    public MraidFilterConfig resolve(ObjectNode accountConfigNode, Object compiledAccountConfig) {
+        if (compiledAccountConfig instanceof MraidFilterConfig config) {
+            return config;
+        }
 
-    public PbRichMediaFilterProperties resolve(ObjectNode accountConfigNode) {
-        return readAccountConfig(accountConfigNode).orElse(globalProperties);
+        return readAccountConfig(accountConfigNode)
+                .map(this::compile)
+                .orElse(globalConfig);
     }
 
     private Optional<PbRichMediaFilterProperties> readAccountConfig(ObjectNode accountConfigNode) {
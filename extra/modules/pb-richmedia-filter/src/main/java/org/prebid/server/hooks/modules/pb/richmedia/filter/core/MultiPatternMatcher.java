@@ -0,0 +1,155 @@
+package org.prebid.server.hooks.modules.pb.richmedia.filter.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton telling whether a text contains any of the given patterns.
+ * <p>
+ * Text is scanned once regardless of the number of patterns and no objects are allocated while scanning.
+ * Instances are immutable and can be shared between threads.
+ */
+public class MultiPatternMatcher {
+
+    private static final int ROOT = 0;
+
+    private final char[][] transitionChars;
+    private final int[][] transitionStates;
+    private final int[] failureStates;
+    private final boolean[] matchingStates;
+
+    private MultiPatternMatcher(char[][] transitionChars,
+                                int[][] transitionStates,
+                                int[] failureStates,
+                                boolean[] matchingStates) {
+
+        this.transitionChars = transitionChars;
+        this.transitionStates = transitionStates;
+        this.failureStates = failureStates;
+        this.matchingStates = matchingStates;
+    }
+
+    /**
+     * Builds matcher for the given patterns, null patterns are ignored.
+     */
+    public static MultiPatternMatcher of(Collection<String> patterns) {
+        final List<Map<Character, Integer>> transitions = new ArrayList<>();
+        final List<Boolean> terminals = new ArrayList<>();
+        transitions.add(new TreeMap<>());
+        terminals.add(false);
+
+        for (String pattern : patterns) {
+            if (pattern == null) {
+                continue;
+            }
+
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                final Integer next = transitions.get(state).get(pattern.charAt(i));
+                if (next != null) {
+                    state = next;
+                } else {
+                    transitions.add(new TreeMap<>());
+                    terminals.add(false);
+                    transitions.get(state).put(pattern.charAt(i), transitions.size() - 1);
+                    state = transitions.size() - 1;
+                }
+            }
+            terminals.set(state, true);
+        }
+
+        final int size = transitions.size();
+        final char[][] transitionChars = new char[size][];
+        final int[][] transitionStates = new int[size][];
+        final boolean[] matchingStates = new boolean[size];
+        for (int state = 0; state < size; state++) {
+            final Map<Character, Integer> stateTransitions = transitions.get(state);
+            transitionChars[state] = new char[stateTransitions.size()];
+            transitionStates[state] = new int[stateTransitions.size()];
+
+            int index = 0;
+            for (Map.Entry<Character, Integer> transition : stateTransitions.entrySet()) {
+                transitionChars[state][index] = transition.getKey();
+                transitionStates[state][index] = transition.getValue();
+                index++;
+            }
+            matchingStates[state] = terminals.get(state);
+        }
+
+        final MultiPatternMatcher matcher = new MultiPatternMatcher(
+                transitionChars, transitionStates, new int[size], matchingStates);
+        matcher.resolveFailureStates();
+        return matcher;
+    }
+
+    /**
+     * Returns true if the text contains at least one of the patterns, null text never matches.
+     */
+    public boolean matches(String text) {
+        if (text == null) {
+            return false;
+        }
+        if (matchingStates[ROOT]) {
+            return true;
+        }
+
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            if (matchingStates[state]) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private int next(int state, char character) {
+        int current = state;
+        while (true) {
+            final int next = transition(current, character);
+            if (next != -1) {
+                return next;
+            }
+            if (current == ROOT) {
+                return ROOT;
+            }
+            current = failureStates[current];
+        }
+    }
+
+    private int transition(int state, char character) {
+        final int index = Arrays.binarySearch(transitionChars[state], character);
+        return index >= 0 ? transitionStates[state][index] : -1;
+    }
+
+    /**
+     * Links each state to the state of its longest proper suffix present in the trie, breadth first,
+     * and marks states which suffixes are patterns as matching.
+     */
+    private void resolveFailureStates() {
+        final Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : transitionStates[ROOT]) {
+            failureStates[child] = ROOT;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            for (int i = 0; i < transitionChars[state].length; i++) {
+                final int child = transitionStates[state][i];
+                final int failureState = next(failureStates[state], transitionChars[state][i]);
+
+                failureStates[child] = failureState;
+                matchingStates[child] |= matchingStates[failureState];
+                queue.add(child);
+            }
+        }
+    }
+}
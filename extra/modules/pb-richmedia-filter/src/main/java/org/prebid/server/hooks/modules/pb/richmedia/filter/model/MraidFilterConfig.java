@@ -0,0 +1,12 @@
+package org.prebid.server.hooks.modules.pb.richmedia.filter.model;
+
+import lombok.Value;
+import org.prebid.server.hooks.modules.pb.richmedia.filter.core.MultiPatternMatcher;
+
+@Value(staticConstructor = "of")
+public class MraidFilterConfig {
+
+    boolean filterMraid;
+
+    MultiPatternMatcher mraidScriptPatternMatcher;
+}
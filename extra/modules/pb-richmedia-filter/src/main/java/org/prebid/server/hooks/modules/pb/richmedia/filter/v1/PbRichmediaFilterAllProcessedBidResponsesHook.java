@@ -4,14 +4,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.vertx.core.Future;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang3.BooleanUtils;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.hooks.execution.v1.bidder.AllProcessedBidResponsesPayloadImpl;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.core.BidResponsesMraidFilter;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.core.ModuleConfigResolver;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.model.AnalyticsResult;
+import org.prebid.server.hooks.modules.pb.richmedia.filter.model.MraidFilterConfig;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.model.MraidFilterResult;
-import org.prebid.server.hooks.modules.pb.richmedia.filter.model.PbRichMediaFilterProperties;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.v1.model.InvocationResultImpl;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.v1.model.analytics.ActivityImpl;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.v1.model.analytics.AppliedToImpl;
@@ -54,12 +53,14 @@ public class PbRichmediaFilterAllProcessedBidResponsesHook implements AllProcess
             AllProcessedBidResponsesPayload allProcessedBidResponsesPayload,
             AuctionInvocationContext auctionInvocationContext) {
 
-        final PbRichMediaFilterProperties properties = configResolver.resolve(auctionInvocationContext.accountConfig());
+        final MraidFilterConfig config = configResolver.resolve(
+                auctionInvocationContext.accountConfig(),
+                auctionInvocationContext.compiledAccountConfig());
         final List<BidderResponse> responses = allProcessedBidResponsesPayload.bidResponses();
 
-        if (BooleanUtils.isTrue(properties.getFilterMraid())) {
-            final MraidFilterResult filterResult = mraidFilter.filterByPattern(
-                    properties.getMraidScriptPattern(),
+        if (config.isFilterMraid()) {
+            final MraidFilterResult filterResult = mraidFilter.filterByPatterns(
+                    config.getMraidScriptPatternMatcher(),
                     responses,
                     auctionInvocationContext.auctionContext().getBidRejectionTrackers());
             final InvocationAction action = filterResult.hasRejectedBids()
@@ -3,6 +3,7 @@ package org.prebid.server.hooks.modules.pb.richmedia.filter.v1;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
 import org.prebid.server.hooks.v1.Module;
+import org.prebid.server.hooks.v1.ModuleConfigCompiler;
 
 import java.util.Collection;
 import java.util.List;
@@ -12,9 +13,13 @@ public class PbRichmediaFilterModule implements Module {
     public static final String CODE = "pb-richmedia-filter";
 
     private final List<? extends Hook<?, ? extends InvocationContext>> hooks;
+    private final ModuleConfigCompiler<?, ?> accountConfigCompiler;
+
+    public PbRichmediaFilterModule(List<? extends Hook<?, ? extends InvocationContext>> hooks,
+                                   ModuleConfigCompiler<?, ?> accountConfigCompiler) {
 
-    public PbRichmediaFilterModule(List<? extends Hook<?, ? extends InvocationContext>> hooks) {
         this.hooks = hooks;
+        this.accountConfigCompiler = accountConfigCompiler;
     }
 
     @Override
@@ -26,4 +31,9 @@ public class PbRichmediaFilterModule implements Module {
     public Collection<? extends Hook<?, ? extends InvocationContext>> hooks() {
         return hooks;
     }
+
+    @Override
+    public ModuleConfigCompiler<?, ?> accountConfigCompiler() {
+        return accountConfigCompiler;
+    }
 }
@@ -23,6 +23,8 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 public class BidResponsesMraidFilterTest {
 
+    private static final MultiPatternMatcher MRAID_SCRIPT_PATTERN_MATCHER = MultiPatternMatcher.of(List.of("mraid.js"));
+
     private final BidResponsesMraidFilter target = new BidResponsesMraidFilter();
 
     @Test
@@ -37,10 +39,14 @@ public class BidResponsesMraidFilterTest {
                 "bidderB", bidRejectionTrackerB);
 
         // when
-        final MraidFilterResult filterResult = target.filterByPattern("mraid.js", List.of(responseA, responseB), givenTrackers);
+        final MraidFilterResult filterResult = target.filterByPatterns(
+                MRAID_SCRIPT_PATTERN_MATCHER,
+                List.of(responseA, responseB),
+                givenTrackers);
 
         // then
         assertThat(filterResult.getFilterResult()).containsExactly(responseA, responseB);
+        assertThat(filterResult.getFilterResult().get(0)).isSameAs(responseA);
         assertThat(filterResult.getAnalyticsResult()).isEmpty();
         assertThat(filterResult.hasRejectedBids()).isFalse();
 
@@ -69,8 +75,8 @@ public class BidResponsesMraidFilterTest {
                 "bidderC", bidRejectionTrackerC);
 
         // when
-        final MraidFilterResult filterResult = target.filterByPattern(
-                "mraid.js",
+        final MraidFilterResult filterResult = target.filterByPatterns(
+                MRAID_SCRIPT_PATTERN_MATCHER,
                 List.of(responseA, responseB, responseC),
                 givenTrackers);
 
@@ -112,6 +118,37 @@ public class BidResponsesMraidFilterTest {
         verifyNoMoreInteractions(bidRejectionTrackerB, bidRejectionTrackerC);
     }
 
+    @Test
+    public void filterShouldFilterOutBidsContainingAnyOfThePatterns() {
+        // given
+        final BidderResponse response = givenBidderResponse("bidder", List.of(
+                givenBid("imp_id1", "adm1_mraid.js"),
+                givenBid("imp_id2", "adm2"),
+                givenBid("imp_id3", "adm3_omsdk.js"),
+                givenBid("imp_id4", null)));
+        final BidRejectionTracker bidRejectionTracker = mock(BidRejectionTracker.class);
+
+        // when
+        final MraidFilterResult filterResult = target.filterByPatterns(
+                MultiPatternMatcher.of(List.of("mraid.js", "omsdk.js")),
+                List.of(response),
+                Map.of("bidder", bidRejectionTracker));
+
+        // then
+        assertThat(filterResult.getFilterResult()).containsExactly(givenBidderResponse(
+                "bidder",
+                List.of(givenBid("imp_id2", "adm2"), givenBid("imp_id4", null)),
+                List.of(givenError("imp_id1", "imp_id3"))));
+        assertThat(filterResult.getAnalyticsResult()).containsExactly(AnalyticsResult.of(
+                "success-block",
+                Map.of("richmedia-format", "mraid"),
+                "bidder",
+                List.of("imp_id1", "imp_id3")));
+
+        verify(bidRejectionTracker)
+                .reject(List.of("imp_id1", "imp_id3"), BidRejectionReason.RESPONSE_REJECTED_INVALID_CREATIVE);
+    }
+
     private static BidderResponse givenBidderResponse(String bidder, List<BidderBid> bids) {
         return BidderResponse.of(bidder, BidderSeatBid.of(bids), 100);
     }
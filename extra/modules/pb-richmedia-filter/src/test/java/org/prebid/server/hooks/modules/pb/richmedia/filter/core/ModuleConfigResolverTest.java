@@ -5,9 +5,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.prebid.server.hooks.modules.pb.richmedia.filter.model.MraidFilterConfig;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.model.PbRichMediaFilterProperties;
 import org.prebid.server.json.ObjectMapperProvider;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class ModuleConfigResolverTest {
@@ -39,10 +42,10 @@ public class ModuleConfigResolverTest {
         final ObjectNode objectNode = OBJECT_MAPPER.readValue(accountConfig, ObjectNode.class);
 
         // when
-        final PbRichMediaFilterProperties actualProperties = target.resolve(objectNode);
+        final MraidFilterConfig actualConfig = target.resolve(objectNode, null);
 
         // then
-        assertThat(actualProperties).isEqualTo(ACCOUNT_PROPERTIES);
+        assertIsAccountConfig(actualConfig);
     }
 
     @Test
@@ -51,19 +54,19 @@ public class ModuleConfigResolverTest {
         final ObjectNode emptyObjectNode = OBJECT_MAPPER.createObjectNode();
 
         // when
-        final PbRichMediaFilterProperties actualProperties = target.resolve(emptyObjectNode);
+        final MraidFilterConfig actualConfig = target.resolve(emptyObjectNode, null);
 
         // then
-        assertThat(actualProperties).isEqualTo(GLOBAL_PROPERTIES);
+        assertIsGlobalConfig(actualConfig);
     }
 
     @Test
     public void resolveShouldReturnGlobalConfigWhenAccountConfigIsAbsent() {
         // when
-        final PbRichMediaFilterProperties actualProperties = target.resolve(null);
+        final MraidFilterConfig actualConfig = target.resolve(null, null);
 
         // then
-        assertThat(actualProperties).isEqualTo(GLOBAL_PROPERTIES);
+        assertIsGlobalConfig(actualConfig);
     }
 
     @Test
@@ -78,10 +81,10 @@ public class ModuleConfigResolverTest {
         final ObjectNode objectNode = OBJECT_MAPPER.readValue(invalidAccountConfig, ObjectNode.class);
 
         // when
-        final PbRichMediaFilterProperties actualProperties = target.resolve(objectNode);
+        final MraidFilterConfig actualConfig = target.resolve(objectNode, null);
 
         // then
-        assertThat(actualProperties).isEqualTo(GLOBAL_PROPERTIES);
+        assertIsGlobalConfig(actualConfig);
     }
 
     @Test
@@ -95,10 +98,51 @@ public class ModuleConfigResolverTest {
         final ObjectNode objectNode = OBJECT_MAPPER.readValue(invalidAccountConfig, ObjectNode.class);
 
         // when
-        final PbRichMediaFilterProperties actualProperties = target.resolve(objectNode);
+        final MraidFilterConfig actualConfig = target.resolve(objectNode, null);
+
+        // then
+        assertIsGlobalConfig(actualConfig);
+    }
+
+    @Test
+    public void resolveShouldReturnCompiledAccountConfigWhenPresent() {
+        // given
+        final ObjectNode objectNode = OBJECT_MAPPER.createObjectNode().put("filter-mraid", "invalid_type");
+        final MraidFilterConfig compiledConfig = target.compile(ACCOUNT_PROPERTIES);
+
+        // when
+        final MraidFilterConfig actualConfig = target.resolve(objectNode, compiledConfig);
+
+        // then
+        assertThat(actualConfig).isSameAs(compiledConfig);
+    }
+
+    @Test
+    public void compileShouldMatchAllConfiguredPatterns() {
+        // given
+        final PbRichMediaFilterProperties properties = PbRichMediaFilterProperties.of(
+                true, "mraid.js", List.of("omsdk.js", "celtra"));
+
+        // when
+        final MraidFilterConfig actualConfig = target.compile(properties);
 
         // then
-        assertThat(actualProperties).isEqualTo(GLOBAL_PROPERTIES);
+        assertThat(actualConfig.isFilterMraid()).isTrue();
+        assertThat(actualConfig.getMraidScriptPatternMatcher().matches("<script src=\"mraid.js\">")).isTrue();
+        assertThat(actualConfig.getMraidScriptPatternMatcher().matches("<script src=\"omsdk.js\">")).isTrue();
+        assertThat(actualConfig.getMraidScriptPatternMatcher().matches("<div class=\"celtra-ad\">")).isTrue();
+        assertThat(actualConfig.getMraidScriptPatternMatcher().matches("<div>banner</div>")).isFalse();
     }
 
+    private static void assertIsGlobalConfig(MraidFilterConfig config) {
+        assertThat(config.isFilterMraid()).isFalse();
+        assertThat(config.getMraidScriptPatternMatcher().matches("adm with pattern")).isTrue();
+        assertThat(config.getMraidScriptPatternMatcher().matches("adm")).isFalse();
+    }
+
+    private static void assertIsAccountConfig(MraidFilterConfig config) {
+        assertThat(config.isFilterMraid()).isTrue();
+        assertThat(config.getMraidScriptPatternMatcher().matches("<script src=\"mraid.js\"></script>")).isTrue();
+        assertThat(config.getMraidScriptPatternMatcher().matches("adm with pattern")).isFalse();
+    }
 }
@@ -0,0 +1,57 @@
+package org.prebid.server.hooks.modules.pb.richmedia.filter.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MultiPatternMatcherTest {
+
+    @Test
+    public void matchesShouldReturnTrueWhenTextContainsAnyPattern() {
+        // given
+        final MultiPatternMatcher target = MultiPatternMatcher.of(List.of("mraid.js", "omsdk", "celtra"));
+
+        // when and then
+        assertThat(target.matches("<script src=\"mraid.js\"></script>")).isTrue();
+        assertThat(target.matches("prefix omsdk suffix")).isTrue();
+        assertThat(target.matches("celtra")).isTrue();
+        assertThat(target.matches("<script src=\"mraid.json\"></script>")).isTrue();
+        assertThat(target.matches("<script src=\"mraid.j\"></script>")).isFalse();
+        assertThat(target.matches("")).isFalse();
+        assertThat(target.matches(null)).isFalse();
+    }
+
+    @Test
+    public void matchesShouldFindPatternsOverlappingWithPartialMatchesOfOtherPatterns() {
+        // given
+        final MultiPatternMatcher target = MultiPatternMatcher.of(List.of("abcd", "bce", "cx"));
+
+        // when and then
+        assertThat(target.matches("xxabcxx")).isTrue();
+        assertThat(target.matches("xxabcexx")).isTrue();
+        assertThat(target.matches("aabbcd")).isFalse();
+        assertThat(target.matches("ababcab")).isFalse();
+    }
+
+    @Test
+    public void matchesShouldFindPatternWhichIsSuffixOfAnotherPattern() {
+        // given
+        final MultiPatternMatcher target = MultiPatternMatcher.of(List.of("mraid.js", "d.j"));
+
+        // when and then
+        assertThat(target.matches("raid.j")).isTrue();
+        assertThat(target.matches("raid.")).isFalse();
+    }
+
+    @Test
+    public void matchesShouldMatchAnyTextWhenEmptyPatternIsPresentAndIgnoreNullPatterns() {
+        // when and then
+        assertThat(MultiPatternMatcher.of(List.of("mraid.js", "")).matches("adm")).isTrue();
+        assertThat(MultiPatternMatcher.of(List.of("mraid.js", "")).matches(null)).isFalse();
+        assertThat(MultiPatternMatcher.of(Arrays.asList("mraid.js", null)).matches("adm")).isFalse();
+        assertThat(MultiPatternMatcher.of(List.of()).matches("adm")).isFalse();
+    }
+}
@@ -14,9 +14,10 @@ import org.prebid.server.bidder.model.BidderSeatBid;
 import org.prebid.server.hooks.execution.v1.bidder.AllProcessedBidResponsesPayloadImpl;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.core.BidResponsesMraidFilter;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.core.ModuleConfigResolver;
+import org.prebid.server.hooks.modules.pb.richmedia.filter.core.MultiPatternMatcher;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.model.AnalyticsResult;
+import org.prebid.server.hooks.modules.pb.richmedia.filter.model.MraidFilterConfig;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.model.MraidFilterResult;
-import org.prebid.server.hooks.modules.pb.richmedia.filter.model.PbRichMediaFilterProperties;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.v1.model.analytics.ActivityImpl;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.v1.model.analytics.AppliedToImpl;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.v1.model.analytics.ResultImpl;
@@ -47,6 +48,8 @@ public class PbRichmediaFilterAllProcessedBidResponsesHookTest {
 
     private static final ObjectMapper MAPPER = ObjectMapperProvider.mapper();
 
+    private static final MultiPatternMatcher PATTERN_MATCHER = MultiPatternMatcher.of(List.of("pattern"));
+
     @Mock
     private AllProcessedBidResponsesPayload allProcessedBidResponsesPayload;
 
@@ -67,7 +70,7 @@ public class PbRichmediaFilterAllProcessedBidResponsesHookTest {
     @BeforeEach
     public void setUp() {
         target = new PbRichmediaFilterAllProcessedBidResponsesHook(ObjectMapperProvider.mapper(), mraidFilter, configResolver);
-        when(configResolver.resolve(any())).thenReturn(PbRichMediaFilterProperties.of(true, "pattern"));
+        when(configResolver.resolve(any(), any())).thenReturn(MraidFilterConfig.of(true, PATTERN_MATCHER));
         when(auctionInvocationContext.auctionContext())
                 .thenReturn(AuctionContext.builder().bidRejectionTrackers(BID_REJECTION_TRACKERS).build());
     }
@@ -81,7 +84,7 @@ public class PbRichmediaFilterAllProcessedBidResponsesHookTest {
     @Test
     public void callShouldReturnResultWithNoActionWhenFilterMraidIsFalse() {
         // given
-        when(configResolver.resolve(any())).thenReturn(PbRichMediaFilterProperties.of(false, "pattern"));
+        when(configResolver.resolve(any(), any())).thenReturn(MraidFilterConfig.of(false, PATTERN_MATCHER));
         final List<BidderResponse> givenResponses = givenBidderResponses(2);
         doReturn(givenResponses).when(allProcessedBidResponsesPayload).bidResponses();
 
@@ -110,7 +113,7 @@ public class PbRichmediaFilterAllProcessedBidResponsesHookTest {
         // given
         final List<BidderResponse> givenResponses = givenBidderResponses(2);
         doReturn(givenResponses).when(allProcessedBidResponsesPayload).bidResponses();
-        given(mraidFilter.filterByPattern("pattern", givenResponses, BID_REJECTION_TRACKERS))
+        given(mraidFilter.filterByPatterns(PATTERN_MATCHER, givenResponses, BID_REJECTION_TRACKERS))
                 .willReturn(MraidFilterResult.of(givenResponses, List.of(givenAnalyticsResult("bidder", "imp_id"))));
 
         // when
@@ -133,7 +136,7 @@ public class PbRichmediaFilterAllProcessedBidResponsesHookTest {
         // given
         final List<BidderResponse> givenResponses = givenBidderResponses(2);
         doReturn(givenResponses).when(allProcessedBidResponsesPayload).bidResponses();
-        given(mraidFilter.filterByPattern("pattern", givenResponses, BID_REJECTION_TRACKERS))
+        given(mraidFilter.filterByPatterns(PATTERN_MATCHER, givenResponses, BID_REJECTION_TRACKERS))
                 .willReturn(MraidFilterResult.of(givenResponses, Collections.emptyList()));
 
         // when
@@ -157,7 +160,7 @@ public class PbRichmediaFilterAllProcessedBidResponsesHookTest {
         final List<BidderResponse> givenResponses = givenBidderResponses(3);
         doReturn(givenResponses).when(allProcessedBidResponsesPayload).bidResponses();
         final List<BidderResponse> expectedResponses = givenBidderResponses(2);
-        given(mraidFilter.filterByPattern("pattern", givenResponses, BID_REJECTION_TRACKERS))
+        given(mraidFilter.filterByPatterns(PATTERN_MATCHER, givenResponses, BID_REJECTION_TRACKERS))
                 .willReturn(MraidFilterResult.of(expectedResponses, Collections.emptyList()));
 
         // when
@@ -181,7 +184,7 @@ public class PbRichmediaFilterAllProcessedBidResponsesHookTest {
         // given
         final List<BidderResponse> givenResponses = givenBidderResponses(3);
         doReturn(givenResponses).when(allProcessedBidResponsesPayload).bidResponses();
-        given(mraidFilter.filterByPattern("pattern", givenResponses, BID_REJECTION_TRACKERS))
+        given(mraidFilter.filterByPatterns(PATTERN_MATCHER, givenResponses, BID_REJECTION_TRACKERS))
                 .willReturn(MraidFilterResult.of(
                         givenResponses,
                         List.of(
@@ -226,7 +229,7 @@ public class PbRichmediaFilterAllProcessedBidResponsesHookTest {
         // given
         final List<BidderResponse> givenResponses = givenBidderResponses(3);
         doReturn(givenResponses).when(allProcessedBidResponsesPayload).bidResponses();
-        given(mraidFilter.filterByPattern("pattern", givenResponses, BID_REJECTION_TRACKERS))
+        given(mraidFilter.filterByPatterns(PATTERN_MATCHER, givenResponses, BID_REJECTION_TRACKERS))
                 .willReturn(MraidFilterResult.of(givenResponses, Collections.emptyList()));
 
         // when
@@ -0,0 +1,77 @@
+package org.prebid.server.hooks.modules.pb.traffic.shaping.config;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import org.prebid.server.execution.RemoteFileSyncer;
+import org.prebid.server.execution.retry.FixedIntervalRetryPolicy;
+import org.prebid.server.hooks.modules.pb.traffic.shaping.core.BidProbabilityTableProvider;
+import org.prebid.server.hooks.modules.pb.traffic.shaping.core.TrafficShaper;
+import org.prebid.server.hooks.modules.pb.traffic.shaping.model.TableSyncProperties;
+import org.prebid.server.hooks.modules.pb.traffic.shaping.v1.PbTrafficShapingModule;
+import org.prebid.server.hooks.modules.pb.traffic.shaping.v1.PbTrafficShapingProcessedAuctionRequestHook;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.spring.config.model.HttpClientProperties;
+import org.prebid.server.spring.env.YamlPropertySourceFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import java.util.Collections;
+
+@ConditionalOnProperty(prefix = "hooks." + PbTrafficShapingModule.CODE, name = "enabled", havingValue = "true")
+@PropertySource(
+        value = "classpath:/module-config/pb-traffic-shaping.yaml",
+        factory = YamlPropertySourceFactory.class)
+@Configuration
+public class PbTrafficShapingModuleConfiguration {
+
+    @Bean
+    @ConfigurationProperties(prefix = "hooks.modules.pb-traffic-shaping.table")
+    TableSyncProperties pbTrafficShapingTableSyncProperties() {
+        return new TableSyncProperties();
+    }
+
+    @Bean
+    BidProbabilityTableProvider pbTrafficShapingTableProvider(
+            TableSyncProperties pbTrafficShapingTableSyncProperties,
+            Vertx vertx) {
+
+        final BidProbabilityTableProvider tableProvider = new BidProbabilityTableProvider();
+
+        final HttpClientProperties httpClientProperties = pbTrafficShapingTableSyncProperties.getHttpClient();
+        final HttpClientOptions httpClientOptions = new HttpClientOptions()
+                .setConnectTimeout(httpClientProperties.getConnectTimeoutMs())
+                .setMaxRedirects(httpClientProperties.getMaxRedirects());
+
+        final RemoteFileSyncer remoteFileSyncer = new RemoteFileSyncer(
+                tableProvider,
+                pbTrafficShapingTableSyncProperties.getDownloadUrl(),
+                pbTrafficShapingTableSyncProperties.getSaveFilepath(),
+                pbTrafficShapingTableSyncProperties.getTmpFilepath(),
+                FixedIntervalRetryPolicy.limited(
+                        pbTrafficShapingTableSyncProperties.getRetryIntervalMs(),
+                        pbTrafficShapingTableSyncProperties.getRetryCount()),
+                pbTrafficShapingTableSyncProperties.getTimeoutMs(),
+                pbTrafficShapingTableSyncProperties.getUpdateIntervalMs(),
+                vertx.createHttpClient(httpClientOptions),
+                vertx);
+
+        remoteFileSyncer.sync();
+        return tableProvider;
+    }
+
+    @Bean
+    PbTrafficShapingModule pbTrafficShapingModule(
+            @Value("${hooks.modules.pb-traffic-shaping.threshold}") double threshold,
+            BidProbabilityTableProvider pbTrafficShapingTableProvider,
+            Metrics metrics) {
+
+        return new PbTrafficShapingModule(Collections.singletonList(new PbTrafficShapingProcessedAuctionRequestHook(
+                pbTrafficShapingTableProvider,
+                new TrafficShaper(threshold),
+                metrics)));
+    }
+}
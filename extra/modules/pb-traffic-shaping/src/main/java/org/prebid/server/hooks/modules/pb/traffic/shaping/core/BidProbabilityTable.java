@@ -0,0 +1,115 @@
+package org.prebid.server.hooks.modules.pb.traffic.shaping.core;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Open addressing hash table of bid probabilities keyed by {@link TrafficKeys} hash.
+ * <p>
+ * Lookup walks primitive arrays only, so it does not allocate and instances can be shared between threads.
+ * <p>
+ * Binary format (big-endian):
+ * <pre>
+ * int   magic               0x50425453 ("PBTS")
+ * int   version             1
+ * float default probability used for keys missing in the table
+ * int   entry count
+ * entry count times:
+ *   long  key
+ *   float bid probability
+ * </pre>
+ */
+public class BidProbabilityTable {
+
+    private static final int MAGIC = 0x50425453;
+    private static final int VERSION = 1;
+
+    private final float defaultProbability;
+    private final long[] keys;
+    private final float[] probabilities;
+    private final int mask;
+    private final int size;
+
+    private BidProbabilityTable(float defaultProbability, long[] keys, float[] probabilities, int size) {
+        this.defaultProbability = defaultProbability;
+        this.keys = keys;
+        this.probabilities = probabilities;
+        this.mask = keys.length - 1;
+        this.size = size;
+    }
+
+    /**
+     * Reads table in the binary format described above.
+     *
+     * @throws IllegalArgumentException if the table is malformed
+     */
+    public static BidProbabilityTable read(InputStream inputStream) throws IOException {
+        final DataInputStream input = new DataInputStream(inputStream);
+        if (input.readInt() != MAGIC) {
+            throw new IllegalArgumentException("Unknown table format");
+        }
+        final int version = input.readInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported table version: " + version);
+        }
+
+        final float defaultProbability = validProbability(input.readFloat());
+        final int entryCount = input.readInt();
+        if (entryCount < 0 || entryCount > 1 << 29) {
+            throw new IllegalArgumentException("Invalid entry count: " + entryCount);
+        }
+
+        final int capacity = Math.max(2, Integer.highestOneBit(Math.max(1, entryCount * 2 - 1)) << 1);
+        final long[] keys = new long[capacity];
+        // NaN marks free slot as probabilities are never NaN
+        final float[] probabilities = new float[capacity];
+        Arrays.fill(probabilities, Float.NaN);
+
+        int size = 0;
+        for (int i = 0; i < entryCount; i++) {
+            final long key = input.readLong();
+            final float probability = validProbability(input.readFloat());
+
+            final int slot = slot(keys, probabilities, capacity - 1, key);
+            if (Float.isNaN(probabilities[slot])) {
+                size++;
+            }
+            keys[slot] = key;
+            probabilities[slot] = probability;
+        }
+
+        return new BidProbabilityTable(defaultProbability, keys, probabilities, size);
+    }
+
+    private static float validProbability(float probability) {
+        if (!(probability >= 0 && probability <= 1)) {
+            throw new IllegalArgumentException("Probability out of range: " + probability);
+        }
+        return probability;
+    }
+
+    /**
+     * Returns slot holding the given key or the free slot the key should be placed to.
+     */
+    private static int slot(long[] keys, float[] probabilities, int mask, long key) {
+        int slot = (int) (key ^ (key >>> 32)) & mask;
+        while (!Float.isNaN(probabilities[slot]) && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns bid probability for the given key or default probability if the key is unknown.
+     */
+    public float probability(long key) {
+        final float probability = probabilities[slot(keys, probabilities, mask, key)];
+        return Float.isNaN(probability) ? defaultProbability : probability;
+    }
+}
@@ -0,0 +1,45 @@
+package org.prebid.server.hooks.modules.pb.traffic.shaping.core;
+
+import io.vertx.core.Future;
+import org.prebid.server.execution.RemoteFileProcessor;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Holds the latest bid probability table downloaded by {@code RemoteFileSyncer}.
+ * <p>
+ * New table replaces the previous one atomically, malformed table is rejected and the previous one stays in use.
+ */
+public class BidProbabilityTableProvider implements RemoteFileProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(BidProbabilityTableProvider.class);
+
+    private volatile BidProbabilityTable table;
+
+    @Override
+    public Future<?> setDataPath(String dataFilePath) {
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(dataFilePath))) {
+            final BidProbabilityTable loadedTable = BidProbabilityTable.read(inputStream);
+
+            table = loadedTable;
+            logger.info("Bid probability table with %d entries is loaded from %s"
+                    .formatted(loadedTable.size(), dataFilePath));
+            return Future.succeededFuture();
+        } catch (IOException | IllegalArgumentException e) {
+            return Future.failedFuture("Bid probability table can not be read from %s: %s"
+                    .formatted(dataFilePath, e.getMessage()));
+        }
+    }
+
+    /**
+     * Returns current table or null if it was not loaded yet.
+     */
+    public BidProbabilityTable table() {
+        return table;
+    }
+}
@@ -0,0 +1,70 @@
+package org.prebid.server.hooks.modules.pb.traffic.shaping.core;
+
+/**
+ * Builds {@link BidProbabilityTable} keys without allocating.
+ * <p>
+ * Key is the 64-bit FNV-1a hash over UTF-16 code units of lower-cased values of
+ * {@code country|device type|domain|media type|size|bidder}, where missing values are empty strings, device type is
+ * decimal number and size is {@code <width>x<height>}. Fields are appended in this order, so hash of the request
+ * and impression parts can be reused for every bidder of the impression.
+ */
+public class TrafficKeys {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+    private static final char SEPARATOR = '|';
+
+    private TrafficKeys() {
+    }
+
+    public static long start() {
+        return OFFSET_BASIS;
+    }
+
+    public static long append(long hash, String value) {
+        long result = hash;
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                result = appendChar(result, Character.toLowerCase(value.charAt(i)));
+            }
+        }
+        return result;
+    }
+
+    public static long append(long hash, Integer value) {
+        return value != null ? appendNumber(hash, value) : hash;
+    }
+
+    public static long appendSize(long hash, Integer width, Integer height) {
+        if (width == null || height == null) {
+            return hash;
+        }
+        return appendNumber(appendChar(appendNumber(hash, width), 'x'), height);
+    }
+
+    public static long separate(long hash) {
+        return appendChar(hash, SEPARATOR);
+    }
+
+    private static long appendNumber(long hash, int value) {
+        long result = hash;
+        long remaining = value;
+        if (remaining < 0) {
+            result = appendChar(result, '-');
+            remaining = -remaining;
+        }
+
+        long divisor = 1;
+        while (divisor * 10 <= remaining) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            result = appendChar(result, (char) ('0' + remaining / divisor % 10));
+        }
+        return result;
+    }
+
+    private static long appendChar(long hash, char value) {
+        return (hash ^ value) * PRIME;
+    }
+}
@@ -0,0 +1,204 @@
+package org.prebid.server.hooks.modules.pb.traffic.shaping.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Dooh;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Geo;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.Video;
+import org.prebid.server.hooks.modules.pb.traffic.shaping.model.ShapingResult;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Removes bidders from {@code imp.ext.prebid.bidder} which are unlikely to bid on the impression.
+ * <p>
+ * Bidder is removed when its bid probability for the country, device type, domain, media type and size of the
+ * impression is lower than the threshold. Impression is left as is if all its bidders would be removed,
+ * so shaping never drops impressions from the auction.
+ */
+public class TrafficShaper {
+
+    private static final String PREBID = "prebid";
+    private static final String BIDDER = "bidder";
+
+    private static final String BANNER = "banner";
+    private static final String VIDEO = "video";
+    private static final String VIDEO_OUTSTREAM = "video-outstream";
+    private static final String NATIVE = "native";
+    private static final String AUDIO = "audio";
+    private static final String MULTIPLE = "*";
+
+    private final double threshold;
+
+    public TrafficShaper(double threshold) {
+        if (threshold < 0 || threshold > 1) {
+            throw new IllegalArgumentException("Threshold out of range: " + threshold);
+        }
+        this.threshold = threshold;
+    }
+
+    public ShapingResult shape(BidProbabilityTable table, BidRequest bidRequest) {
+        final List<Imp> imps = bidRequest.getImp();
+        if (imps == null || imps.isEmpty()) {
+            return ShapingResult.of(bidRequest, 0, 0);
+        }
+
+        final long requestHash = requestHash(bidRequest);
+
+        int prunedBidders = 0;
+        Set<String> prunedBidderNames = null;
+        List<Imp> updatedImps = null;
+        for (int i = 0; i < imps.size(); i++) {
+            final Imp imp = imps.get(i);
+            final List<String> biddersToPrune = biddersToPrune(table, imp, requestHash);
+
+            final Imp updatedImp = biddersToPrune != null ? pruneBidders(imp, biddersToPrune) : imp;
+            if (updatedImp != imp) {
+                prunedBidders += biddersToPrune.size();
+                if (updatedImps == null) {
+                    updatedImps = new ArrayList<>(imps.subList(0, i));
+                    prunedBidderNames = new HashSet<>();
+                }
+                prunedBidderNames.addAll(biddersToPrune);
+            }
+            if (updatedImps != null) {
+                updatedImps.add(updatedImp);
+            }
+        }
+
+        if (updatedImps == null) {
+            return ShapingResult.of(bidRequest, 0, 0);
+        }
+
+        for (Imp imp : updatedImps) {
+            bidders(imp).fieldNames().forEachRemaining(prunedBidderNames::remove);
+        }
+
+        return ShapingResult.of(
+                bidRequest.toBuilder().imp(updatedImps).build(),
+                prunedBidders,
+                prunedBidderNames.size());
+    }
+
+    private static JsonNode bidders(Imp imp) {
+        final ObjectNode ext = imp.getExt();
+        return ext != null ? ext.path(PREBID).path(BIDDER) : MissingNode.getInstance();
+    }
+
+    private static long requestHash(BidRequest bidRequest) {
+        final Device device = bidRequest.getDevice();
+        final Geo geo = device != null ? device.getGeo() : null;
+
+        long hash = TrafficKeys.start();
+        hash = TrafficKeys.separate(TrafficKeys.append(hash, geo != null ? geo.getCountry() : null));
+        hash = TrafficKeys.separate(TrafficKeys.append(hash, device != null ? device.getDevicetype() : null));
+        return TrafficKeys.separate(TrafficKeys.append(hash, domain(bidRequest)));
+    }
+
+    private static String domain(BidRequest bidRequest) {
+        final Site site = bidRequest.getSite();
+        if (site != null) {
+            return site.getDomain();
+        }
+        final App app = bidRequest.getApp();
+        if (app != null) {
+            return app.getDomain();
+        }
+        final Dooh dooh = bidRequest.getDooh();
+        return dooh != null ? dooh.getDomain() : null;
+    }
+
+    /**
+     * Returns names of bidders to remove from the impression or null if there is nothing to remove.
+     */
+    private List<String> biddersToPrune(BidProbabilityTable table, Imp imp, long requestHash) {
+        final JsonNode bidders = bidders(imp);
+        if (!bidders.isObject() || bidders.isEmpty()) {
+            return null;
+        }
+
+        final long impHash = impHash(imp, requestHash);
+
+        List<String> biddersToPrune = null;
+        final Iterator<String> bidderNames = bidders.fieldNames();
+        while (bidderNames.hasNext()) {
+            final String bidder = bidderNames.next();
+            if (table.probability(TrafficKeys.append(impHash, bidder)) < threshold) {
+                if (biddersToPrune == null) {
+                    biddersToPrune = new ArrayList<>();
+                }
+                biddersToPrune.add(bidder);
+            }
+        }
+
+        return biddersToPrune != null && biddersToPrune.size() < bidders.size() ? biddersToPrune : null;
+    }
+
+    private static long impHash(Imp imp, long requestHash) {
+        final Banner banner = imp.getBanner();
+        final Video video = imp.getVideo();
+
+        Integer width = null;
+        Integer height = null;
+        if (banner != null) {
+            final List<Format> formats = banner.getFormat();
+            if (formats != null && formats.size() == 1) {
+                width = formats.getFirst().getW();
+                height = formats.getFirst().getH();
+            } else if (formats == null || formats.isEmpty()) {
+                width = banner.getW();
+                height = banner.getH();
+            }
+        } else if (video != null) {
+            width = video.getW();
+            height = video.getH();
+        }
+
+        final long hash = TrafficKeys.separate(TrafficKeys.append(requestHash, mediaType(imp)));
+        return TrafficKeys.separate(TrafficKeys.appendSize(hash, width, height));
+    }
+
+    private static String mediaType(Imp imp) {
+        final Video video = imp.getVideo();
+
+        String mediaType = null;
+        int count = 0;
+        if (imp.getBanner() != null) {
+            mediaType = BANNER;
+            count++;
+        }
+        if (video != null) {
+            final Integer placement = video.getPlacement();
+            mediaType = placement == null || placement == 1 ? VIDEO : VIDEO_OUTSTREAM;
+            count++;
+        }
+        if (imp.getXNative() != null) {
+            mediaType = NATIVE;
+            count++;
+        }
+        if (imp.getAudio() != null) {
+            mediaType = AUDIO;
+            count++;
+        }
+
+        return count > 1 ? MULTIPLE : mediaType;
+    }
+
+    private static Imp pruneBidders(Imp imp, List<String> biddersToPrune) {
+        final ObjectNode ext = imp.getExt().deepCopy();
+        ((ObjectNode) ext.path(PREBID).path(BIDDER)).remove(biddersToPrune);
+        return imp.toBuilder().ext(ext).build();
+    }
+}
@@ -0,0 +1,20 @@
+package org.prebid.server.hooks.modules.pb.traffic.shaping.model;
+
+import com.iab.openrtb.request.BidRequest;
+import lombok.Value;
+
+@Value(staticConstructor = "of")
+public class ShapingResult {
+
+    BidRequest bidRequest;
+
+    /**
+     * Number of bidder and impression combinations removed from the request
+     */
+    int prunedBidders;
+
+    /**
+     * Number of bidders removed from all impressions, so they are not called at all
+     */
+    int avoidedBidderCalls;
+}
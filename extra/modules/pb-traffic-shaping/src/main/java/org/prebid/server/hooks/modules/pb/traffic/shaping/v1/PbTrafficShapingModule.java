@@ -0,0 +1,29 @@
+package org.prebid.server.hooks.modules.pb.traffic.shaping.v1;
+
+import org.prebid.server.hooks.v1.Hook;
+import org.prebid.server.hooks.v1.InvocationContext;
+import org.prebid.server.hooks.v1.Module;
+
+import java.util.Collection;
+import java.util.List;
+
+public class PbTrafficShapingModule implements Module {
+
+    public static final String CODE = "pb-traffic-shaping";
+
+    private final List<? extends Hook<?, ? extends InvocationContext>> hooks;
+
+    public PbTrafficShapingModule(List<? extends Hook<?, ? extends InvocationContext>> hooks) {
+        this.hooks = hooks;
+    }
+
+    @Override
+    public String code() {
+        return CODE;
+    }
+
+    @Override
+    public Collection<? extends Hook<?, ? extends InvocationContext>> hooks() {
+        return hooks;
+    }
+}
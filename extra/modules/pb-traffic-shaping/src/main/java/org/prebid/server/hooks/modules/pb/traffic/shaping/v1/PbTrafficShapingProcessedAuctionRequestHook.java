@@ -0,0 +1,81 @@
+package org.prebid.server.hooks.modules.pb.traffic.shaping.v1;
+
+import io.vertx.core.Future;
+import org.prebid.server.hooks.execution.v1.auction.AuctionRequestPayloadImpl;
+import org.prebid.server.hooks.modules.pb.traffic.shaping.core.BidProbabilityTable;
+import org.prebid.server.hooks.modules.pb.traffic.shaping.core.BidProbabilityTableProvider;
+import org.prebid.server.hooks.modules.pb.traffic.shaping.core.TrafficShaper;
+import org.prebid.server.hooks.modules.pb.traffic.shaping.model.ShapingResult;
+import org.prebid.server.hooks.modules.pb.traffic.shaping.v1.model.InvocationResultImpl;
+import org.prebid.server.hooks.v1.InvocationAction;
+import org.prebid.server.hooks.v1.InvocationResult;
+import org.prebid.server.hooks.v1.InvocationStatus;
+import org.prebid.server.hooks.v1.auction.AuctionInvocationContext;
+import org.prebid.server.hooks.v1.auction.AuctionRequestPayload;
+import org.prebid.server.hooks.v1.auction.ProcessedAuctionRequestHook;
+import org.prebid.server.metric.Metrics;
+
+import java.util.List;
+import java.util.Objects;
+
+public class PbTrafficShapingProcessedAuctionRequestHook implements ProcessedAuctionRequestHook {
+
+    private static final String CODE = "pb-traffic-shaping-processed-auction-request-hook";
+
+    private final BidProbabilityTableProvider tableProvider;
+    private final TrafficShaper trafficShaper;
+    private final Metrics metrics;
+
+    public PbTrafficShapingProcessedAuctionRequestHook(BidProbabilityTableProvider tableProvider,
+                                                       TrafficShaper trafficShaper,
+                                                       Metrics metrics) {
+
+        this.tableProvider = Objects.requireNonNull(tableProvider);
+        this.trafficShaper = Objects.requireNonNull(trafficShaper);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    @Override
+    public Future<InvocationResult<AuctionRequestPayload>> call(AuctionRequestPayload auctionRequestPayload,
+                                                                AuctionInvocationContext invocationContext) {
+
+        final BidProbabilityTable table = tableProvider.table();
+        if (table == null) {
+            return Future.succeededFuture(InvocationResultImpl.<AuctionRequestPayload>builder()
+                    .status(InvocationStatus.success)
+                    .action(InvocationAction.no_action)
+                    .debugMessages(invocationContext.debugEnabled()
+                            ? List.of("Bid probability table is not loaded yet")
+                            : null)
+                    .build());
+        }
+
+        final ShapingResult shapingResult = trafficShaper.shape(table, auctionRequestPayload.bidRequest());
+        if (shapingResult.getPrunedBidders() == 0) {
+            return Future.succeededFuture(InvocationResultImpl.<AuctionRequestPayload>builder()
+                    .status(InvocationStatus.success)
+                    .action(InvocationAction.no_action)
+                    .build());
+        }
+
+        if (shapingResult.getAvoidedBidderCalls() > 0) {
+            metrics.updateModuleBidderCallsAvoidedMetric(
+                    PbTrafficShapingModule.CODE, shapingResult.getAvoidedBidderCalls());
+        }
+
+        return Future.succeededFuture(InvocationResultImpl.<AuctionRequestPayload>builder()
+                .status(InvocationStatus.success)
+                .action(InvocationAction.update)
+                .payloadUpdate(payload -> AuctionRequestPayloadImpl.of(shapingResult.getBidRequest()))
+                .debugMessages(invocationContext.debugEnabled()
+                        ? List.of("%d bidder and impression combinations are pruned, %d bidder calls are avoided"
+                                .formatted(shapingResult.getPrunedBidders(), shapingResult.getAvoidedBidderCalls()))
+                        : null)
+                .build());
+    }
+
+    @Override
+    public String code() {
+        return CODE;
+    }
+}
@@ -0,0 +1,103 @@
+package org.prebid.server.hooks.modules.pb.traffic.shaping.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class BidProbabilityTableTest {
+
+    @Test
+    public void probabilityShouldReturnProbabilityOfKnownKeyAndDefaultOtherwise() throws IOException {
+        // given
+        final BidProbabilityTable target = BidProbabilityTable.read(givenTable(0.5f, 1L, 0.1f, 2L, 0.9f, 0L, 0f));
+
+        // when and then
+        assertThat(target.size()).isEqualTo(3);
+        assertThat(target.probability(1L)).isEqualTo(0.1f);
+        assertThat(target.probability(2L)).isEqualTo(0.9f);
+        assertThat(target.probability(0L)).isEqualTo(0f);
+        assertThat(target.probability(3L)).isEqualTo(0.5f);
+    }
+
+    @Test
+    public void probabilityShouldResolveCollidingKeysAndKeepLastDuplicate() throws IOException {
+        // given
+        final long collidingKey = 1L << 32 | 2L;
+        final BidProbabilityTable target = BidProbabilityTable.read(givenTable(
+                1f, 3L, 0.1f, collidingKey, 0.2f, 3L, 0.3f));
+
+        // when and then
+        assertThat(target.size()).isEqualTo(2);
+        assertThat(target.probability(3L)).isEqualTo(0.3f);
+        assertThat(target.probability(collidingKey)).isEqualTo(0.2f);
+    }
+
+    @Test
+    public void probabilityShouldNotAllocate() throws IOException {
+        // given
+        final BidProbabilityTable target = BidProbabilityTable.read(givenTable(0.5f, 1L, 0.1f, 2L, 0.9f));
+        final com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().threadId();
+
+        double sum = 0;
+        for (int i = 0; i < 100_000; i++) {
+            sum += target.probability(i % 4);
+        }
+
+        // when
+        final long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            sum += target.probability(i % 4);
+        }
+        final long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        // then
+        assertThat(sum).isPositive();
+        assertThat(allocated).isLessThan(1024);
+    }
+
+    @Test
+    public void readShouldRejectProbabilityOutOfRange() {
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BidProbabilityTable.read(givenTable(0.5f, 1L, 1.5f)))
+                .withMessage("Probability out of range: 1.5");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BidProbabilityTable.read(givenTable(Float.NaN)))
+                .withMessage("Probability out of range: NaN");
+    }
+
+    @Test
+    public void readShouldRejectUnknownFormat() {
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BidProbabilityTable.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4})))
+                .withMessage("Unknown table format");
+    }
+
+    /**
+     * Entries are given as key and probability pairs.
+     */
+    static ByteArrayInputStream givenTable(float defaultProbability, Object... entries) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        output.writeInt(0x50425453);
+        output.writeInt(1);
+        output.writeFloat(defaultProbability);
+        output.writeInt(entries.length / 2);
+        for (int i = 0; i < entries.length; i += 2) {
+            output.writeLong((Long) entries[i]);
+            output.writeFloat((Float) entries[i + 1]);
+        }
+
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+}
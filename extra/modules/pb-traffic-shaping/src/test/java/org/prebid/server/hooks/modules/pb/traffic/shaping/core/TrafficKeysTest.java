@@ -0,0 +1,52 @@
+package org.prebid.server.hooks.modules.pb.traffic.shaping.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TrafficKeysTest {
+
+    @Test
+    public void keyShouldBeFnvHashOfLowerCasedFieldsJoinedBySeparator() {
+        // when
+        long key = TrafficKeys.start();
+        key = TrafficKeys.separate(TrafficKeys.append(key, "USA"));
+        key = TrafficKeys.separate(TrafficKeys.append(key, 2));
+        key = TrafficKeys.separate(TrafficKeys.append(key, "Example.com"));
+        key = TrafficKeys.separate(TrafficKeys.append(key, "banner"));
+        key = TrafficKeys.separate(TrafficKeys.appendSize(key, 300, 250));
+        key = TrafficKeys.append(key, "bidder");
+
+        // then
+        assertThat(key).isEqualTo(fnv("usa|2|example.com|banner|300x250|bidder"));
+    }
+
+    @Test
+    public void keyShouldTreatMissingValuesAsEmptyStrings() {
+        // when
+        long key = TrafficKeys.start();
+        key = TrafficKeys.separate(TrafficKeys.append(key, (String) null));
+        key = TrafficKeys.separate(TrafficKeys.append(key, (Integer) null));
+        key = TrafficKeys.separate(TrafficKeys.appendSize(key, 300, null));
+        key = TrafficKeys.append(key, "bidder");
+
+        // then
+        assertThat(key).isEqualTo(fnv("|||bidder"));
+    }
+
+    @Test
+    public void appendShouldEncodeNumbersAsDecimal() {
+        // when and then
+        assertThat(TrafficKeys.append(TrafficKeys.start(), 0)).isEqualTo(fnv("0"));
+        assertThat(TrafficKeys.append(TrafficKeys.start(), 1000)).isEqualTo(fnv("1000"));
+        assertThat(TrafficKeys.append(TrafficKeys.start(), -45)).isEqualTo(fnv("-45"));
+    }
+
+    private static long fnv(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+}
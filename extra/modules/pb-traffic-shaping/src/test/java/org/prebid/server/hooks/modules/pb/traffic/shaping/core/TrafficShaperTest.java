@@ -0,0 +1,119 @@
+package org.prebid.server.hooks.modules.pb.traffic.shaping.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Geo;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.Video;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.hooks.modules.pb.traffic.shaping.model.ShapingResult;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class TrafficShaperTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final TrafficShaper target = new TrafficShaper(0.1d);
+
+    @Test
+    public void creationShouldFailOnThresholdOutOfRange() {
+        // when and then
+        assertThatIllegalArgumentException().isThrownBy(() -> new TrafficShaper(1.5d));
+    }
+
+    @Test
+    public void shapeShouldRemoveBiddersWithLowBidProbability() throws IOException {
+        // given
+        final BidProbabilityTable table = BidProbabilityTable.read(BidProbabilityTableTest.givenTable(
+                1f,
+                key("banner", "300x250", "bidder1"), 0.05f,
+                key("banner", "300x250", "bidder2"), 0.5f,
+                key("video", "", "bidder1"), 0.5f));
+        final BidRequest bidRequest = givenBidRequest(
+                givenImp(Imp.builder().banner(Banner.builder()
+                        .format(List.of(Format.builder().w(300).h(250).build()))
+                        .build()), "bidder1", "bidder2"),
+                givenImp(Imp.builder().video(Video.builder().build()), "bidder1"));
+
+        // when
+        final ShapingResult result = target.shape(table, bidRequest);
+
+        // then
+        assertThat(result.getPrunedBidders()).isEqualTo(1);
+        assertThat(result.getAvoidedBidderCalls()).isZero();
+        assertThat(result.getBidRequest().getImp())
+                .extracting(imp -> imp.getExt().at("/prebid/bidder").size())
+                .containsExactly(1, 1);
+        assertThat(result.getBidRequest().getImp().getFirst().getExt().at("/prebid/bidder").has("bidder2")).isTrue();
+        assertThat(result.getBidRequest().getImp().get(1)).isSameAs(bidRequest.getImp().get(1));
+        assertThat(bidRequest.getImp().getFirst().getExt().at("/prebid/bidder").size()).isEqualTo(2);
+    }
+
+    @Test
+    public void shapeShouldCountBiddersRemovedFromAllImpsAsAvoidedCalls() throws IOException {
+        // given
+        final BidProbabilityTable table = BidProbabilityTable.read(BidProbabilityTableTest.givenTable(
+                1f,
+                key("banner", "", "bidder1"), 0f,
+                key("video", "", "bidder1"), 0f));
+        final BidRequest bidRequest = givenBidRequest(
+                givenImp(Imp.builder().banner(Banner.builder().build()), "bidder1", "bidder2"),
+                givenImp(Imp.builder().video(Video.builder().build()), "bidder1", "bidder2"));
+
+        // when
+        final ShapingResult result = target.shape(table, bidRequest);
+
+        // then
+        assertThat(result.getPrunedBidders()).isEqualTo(2);
+        assertThat(result.getAvoidedBidderCalls()).isEqualTo(1);
+    }
+
+    @Test
+    public void shapeShouldKeepImpWhenAllItsBiddersWouldBeRemoved() throws IOException {
+        // given
+        final BidProbabilityTable table = BidProbabilityTable.read(BidProbabilityTableTest.givenTable(0f));
+        final BidRequest bidRequest = givenBidRequest(
+                givenImp(Imp.builder().banner(Banner.builder().build()), "bidder1", "bidder2"));
+
+        // when
+        final ShapingResult result = target.shape(table, bidRequest);
+
+        // then
+        assertThat(result.getBidRequest()).isSameAs(bidRequest);
+        assertThat(result.getPrunedBidders()).isZero();
+    }
+
+    private static long key(String mediaType, String size, String bidder) {
+        return TrafficKeys.append(
+                TrafficKeys.start(),
+                "usa|2|example.com|%s|%s|%s".formatted(mediaType, size, bidder));
+    }
+
+    private static BidRequest givenBidRequest(Imp... imps) {
+        return BidRequest.builder()
+                .site(Site.builder().domain("Example.com").build())
+                .device(Device.builder().devicetype(2).geo(Geo.builder().country("USA").build()).build())
+                .imp(List.of(imps))
+                .build();
+    }
+
+    private static Imp givenImp(Imp.ImpBuilder impBuilder, String... bidders) {
+        final ObjectNode ext = mapper.createObjectNode();
+        final ObjectNode biddersNode = ext.putObject("prebid").putObject("bidder");
+        for (String bidder : bidders) {
+            biddersNode.putObject(bidder);
+        }
+
+        return impBuilder.ext(ext).build();
+    }
+}
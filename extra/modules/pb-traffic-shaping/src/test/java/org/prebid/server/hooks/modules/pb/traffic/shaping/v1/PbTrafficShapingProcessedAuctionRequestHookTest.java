@@ -0,0 +1,101 @@
+package org.prebid.server.hooks.modules.pb.traffic.shaping.v1;
+
+import com.iab.openrtb.request.BidRequest;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.hooks.execution.v1.auction.AuctionRequestPayloadImpl;
+import org.prebid.server.hooks.modules.pb.traffic.shaping.core.BidProbabilityTable;
+import org.prebid.server.hooks.modules.pb.traffic.shaping.core.BidProbabilityTableProvider;
+import org.prebid.server.hooks.modules.pb.traffic.shaping.core.TrafficShaper;
+import org.prebid.server.hooks.modules.pb.traffic.shaping.model.ShapingResult;
+import org.prebid.server.hooks.v1.InvocationAction;
+import org.prebid.server.hooks.v1.InvocationResult;
+import org.prebid.server.hooks.v1.InvocationStatus;
+import org.prebid.server.hooks.v1.auction.AuctionInvocationContext;
+import org.prebid.server.hooks.v1.auction.AuctionRequestPayload;
+import org.prebid.server.metric.Metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class PbTrafficShapingProcessedAuctionRequestHookTest {
+
+    @Mock
+    private BidProbabilityTableProvider tableProvider;
+
+    @Mock
+    private TrafficShaper trafficShaper;
+
+    @Mock
+    private BidProbabilityTable table;
+
+    @Mock
+    private Metrics metrics;
+
+    @Mock
+    private AuctionInvocationContext invocationContext;
+
+    private PbTrafficShapingProcessedAuctionRequestHook target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new PbTrafficShapingProcessedAuctionRequestHook(tableProvider, trafficShaper, metrics);
+    }
+
+    @Test
+    public void callShouldReturnNoActionWhenTableIsNotLoadedYet() {
+        // when
+        final Future<InvocationResult<AuctionRequestPayload>> result =
+                target.call(AuctionRequestPayloadImpl.of(BidRequest.builder().build()), invocationContext);
+
+        // then
+        assertThat(result.result())
+                .returns(InvocationStatus.success, InvocationResult::status)
+                .returns(InvocationAction.no_action, InvocationResult::action);
+        verifyNoInteractions(trafficShaper, metrics);
+    }
+
+    @Test
+    public void callShouldReturnNoActionWhenNoBidderIsPruned() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder().build();
+        given(tableProvider.table()).willReturn(table);
+        given(trafficShaper.shape(table, bidRequest)).willReturn(ShapingResult.of(bidRequest, 0, 0));
+
+        // when
+        final Future<InvocationResult<AuctionRequestPayload>> result =
+                target.call(AuctionRequestPayloadImpl.of(bidRequest), invocationContext);
+
+        // then
+        assertThat(result.result().action()).isEqualTo(InvocationAction.no_action);
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void callShouldReturnUpdateAndReportAvoidedBidderCalls() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder().id("1").build();
+        final BidRequest shapedBidRequest = BidRequest.builder().id("2").build();
+        given(tableProvider.table()).willReturn(table);
+        given(trafficShaper.shape(any(), any())).willReturn(ShapingResult.of(shapedBidRequest, 3, 2));
+
+        // when
+        final Future<InvocationResult<AuctionRequestPayload>> result =
+                target.call(AuctionRequestPayloadImpl.of(bidRequest), invocationContext);
+
+        // then
+        assertThat(result.result().action()).isEqualTo(InvocationAction.update);
+        assertThat(result.result().payloadUpdate().apply(AuctionRequestPayloadImpl.of(bidRequest)).bidRequest())
+                .isSameAs(shapedBidRequest);
+        verify(trafficShaper).shape(table, bidRequest);
+        verify(metrics).updateModuleBidderCallsAvoidedMetric(PbTrafficShapingModule.CODE, 2);
+    }
+}
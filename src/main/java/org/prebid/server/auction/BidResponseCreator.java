@@ -34,9 +34,11 @@ import org.prebid.server.auction.model.BidderResponseInfo;
 import org.prebid.server.auction.model.CachedDebugLog;
 import org.prebid.server.auction.model.CategoryMappingResult;
 import org.prebid.server.auction.model.MultiBidConfig;
+import org.prebid.server.auction.model.PipelinedResponseContext;
 import org.prebid.server.auction.model.TargetingInfo;
 import org.prebid.server.auction.model.debug.DebugContext;
 import org.prebid.server.auction.requestfactory.Ortb2ImplicitParametersResolver;
+import org.prebid.server.auction.timeline.TimelineSpan;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
@@ -203,31 +205,83 @@ public class BidResponseCreator {
         return Future.succeededFuture(bidResponse);
     }
 
+    /**
+     * Returns {@link PipelinedResponseContext} to process bids of each bidder as soon as the bidder responds.
+     * <p>
+     * Stored video data is requested right away, so it is fetched while bidders are still in flight.
+     */
+    PipelinedResponseContext createPipelinedResponseContext(AuctionContext auctionContext) {
+        return PipelinedResponseContext.of(
+                videoStoredDataResult(auctionContext),
+                createEventsContext(auctionContext));
+    }
+
+    /**
+     * Runs per-bidder part of the response creation (bid updates with VAST modification and events,
+     * processed bidder response hooks) for a single bidder response.
+     */
+    Future<BidderResponse> processBidderResponse(BidderResponse bidderResponse,
+                                                 AuctionContext auctionContext,
+                                                 PipelinedResponseContext pipelinedResponseContext) {
+
+        final EventsContext eventsContext = pipelinedResponseContext.getEventsContext();
+
+        return pipelinedResponseContext.getVideoStoredDataResult()
+                .map(videoStoredData -> updateBids(bidderResponse, videoStoredData, auctionContext, eventsContext))
+                .compose(updatedResponse -> invokeProcessedBidderResponseHooks(updatedResponse, auctionContext));
+    }
+
     Future<BidResponse> create(AuctionContext auctionContext,
                                BidRequestCacheInfo cacheInfo,
                                Map<String, MultiBidConfig> bidderToMultiBids) {
 
+        final EventsContext eventsContext = createEventsContext(auctionContext);
+
         return videoStoredDataResult(auctionContext)
-                .compose(videoStoredData -> create(videoStoredData, auctionContext, cacheInfo, bidderToMultiBids))
+                .compose(videoStoredData -> create(
+                        videoStoredData, auctionContext, cacheInfo, bidderToMultiBids, eventsContext, false))
+                .map(bidResponse -> populateSeatNonBid(auctionContext, bidResponse));
+    }
+
+    /**
+     * Creates {@link BidResponse} from bidder responses already passed through
+     * {@link #processBidderResponse(BidderResponse, AuctionContext, PipelinedResponseContext)},
+     * so only the stages that need all bidder responses are left.
+     */
+    Future<BidResponse> create(AuctionContext auctionContext,
+                               BidRequestCacheInfo cacheInfo,
+                               Map<String, MultiBidConfig> bidderToMultiBids,
+                               PipelinedResponseContext pipelinedResponseContext) {
+
+        final EventsContext eventsContext = pipelinedResponseContext.getEventsContext();
+
+        return pipelinedResponseContext.getVideoStoredDataResult()
+                .compose(videoStoredData -> create(
+                        videoStoredData, auctionContext, cacheInfo, bidderToMultiBids, eventsContext, true))
                 .map(bidResponse -> populateSeatNonBid(auctionContext, bidResponse));
     }
 
     private Future<BidResponse> create(VideoStoredDataResult videoStoredDataResult,
                                        AuctionContext auctionContext,
                                        BidRequestCacheInfo cacheInfo,
-                                       Map<String, MultiBidConfig> bidderToMultiBids) {
-
-        final EventsContext eventsContext = createEventsContext(auctionContext);
+                                       Map<String, MultiBidConfig> bidderToMultiBids,
+                                       EventsContext eventsContext,
+                                       boolean bidderResponsesProcessed) {
 
         final List<BidderResponse> bidderResponses = auctionContext.getAuctionParticipations().stream()
                 .filter(auctionParticipation -> !auctionParticipation.isRequestBlocked())
                 .map(AuctionParticipation::getBidderResponse)
                 .toList();
 
-        return updateBids(bidderResponses, videoStoredDataResult, auctionContext, eventsContext)
-                .compose(updatedResponses -> invokeProcessedBidderResponseHooks(updatedResponses, auctionContext))
+        final Future<List<BidderResponse>> processedResponses = bidderResponsesProcessed
+                ? Future.succeededFuture(bidderResponses)
+                : updateBids(bidderResponses, videoStoredDataResult, auctionContext, eventsContext)
+                .compose(updatedResponses -> invokeProcessedBidderResponseHooks(updatedResponses, auctionContext));
+
+        return processedResponses
                 .compose(updatedResponses -> invokeAllProcessedBidResponsesHook(updatedResponses, auctionContext))
-                .compose(updatedResponses -> createCategoryMapping(auctionContext, updatedResponses))
+                .compose(updatedResponses -> auctionContext.getTimeline().track(TimelineSpan.category_mapping, null,
+                        () -> createCategoryMapping(auctionContext, updatedResponses)))
                 .compose(categoryMappingResult -> cacheBidsAndCreateResponse(
                         toBidderResponseInfos(categoryMappingResult, cacheInfo, auctionContext),
                         auctionContext,
@@ -245,24 +299,32 @@ public class BidResponseCreator {
         final List<BidderResponse> result = new ArrayList<>();
 
         for (final BidderResponse bidderResponse : bidderResponses) {
-            final String bidder = bidderResponse.getBidder();
+            result.add(updateBids(bidderResponse, videoStoredDataResult, auctionContext, eventsContext));
+        }
 
-            final List<BidderBid> modifiedBidderBids = new ArrayList<>();
-            final BidderSeatBid seatBid = bidderResponse.getSeatBid();
-            for (final BidderBid bidderBid : seatBid.getBids()) {
-                final Bid receivedBid = bidderBid.getBid();
-                final BidType bidType = bidderBid.getType();
+        return Future.succeededFuture(result);
+    }
 
-                final Bid updatedBid = updateBid(
-                        receivedBid, bidType, bidder, videoStoredDataResult, auctionContext, eventsContext);
-                modifiedBidderBids.add(bidderBid.toBuilder().bid(updatedBid).build());
-            }
+    private BidderResponse updateBids(BidderResponse bidderResponse,
+                                      VideoStoredDataResult videoStoredDataResult,
+                                      AuctionContext auctionContext,
+                                      EventsContext eventsContext) {
 
-            final BidderSeatBid modifiedSeatBid = seatBid.with(modifiedBidderBids);
-            result.add(bidderResponse.with(modifiedSeatBid));
+        final String bidder = bidderResponse.getBidder();
+
+        final List<BidderBid> modifiedBidderBids = new ArrayList<>();
+        final BidderSeatBid seatBid = bidderResponse.getSeatBid();
+        for (final BidderBid bidderBid : seatBid.getBids()) {
+            final Bid receivedBid = bidderBid.getBid();
+            final BidType bidType = bidderBid.getType();
+
+            final Bid updatedBid = updateBid(
+                    receivedBid, bidType, bidder, videoStoredDataResult, auctionContext, eventsContext);
+            modifiedBidderBids.add(bidderBid.toBuilder().bid(updatedBid).build());
         }
 
-        return Future.succeededFuture(result);
+        final BidderSeatBid modifiedSeatBid = seatBid.with(modifiedBidderBids);
+        return bidderResponse.with(modifiedSeatBid);
     }
 
     private Bid updateBid(Bid bid,
@@ -391,7 +453,6 @@ public class BidResponseCreator {
                                                            BidRequestCacheInfo cacheInfo,
                                                            AuctionContext auctionContext) {
 
-        final List<Imp> imps = auctionContext.getBidRequest().getImp();
         final Account account = auctionContext.getAccount();
         final List<BidderResponseInfo> result = new ArrayList<>();
 
@@ -405,7 +466,8 @@ public class BidResponseCreator {
             for (final BidderBid bidderBid : seatBid.getBids()) {
                 final Bid bid = bidderBid.getBid();
                 final BidType type = bidderBid.getType();
-                final BidInfo bidInfo = toBidInfo(bid, type, imps, bidder, categoryMappingResult, cacheInfo, account);
+                final BidInfo bidInfo =
+                        toBidInfo(bid, type, auctionContext, bidder, categoryMappingResult, cacheInfo, account);
                 bidInfos.add(bidInfo);
             }
 
@@ -424,13 +486,13 @@ public class BidResponseCreator {
 
     private BidInfo toBidInfo(Bid bid,
                               BidType type,
-                              List<Imp> imps,
+                              AuctionContext auctionContext,
                               String bidder,
                               CategoryMappingResult categoryMappingResult,
                               BidRequestCacheInfo cacheInfo,
                               Account account) {
 
-        final Imp correspondingImp = correspondingImp(bid, imps);
+        final Imp correspondingImp = correspondingImp(bid, auctionContext);
         return BidInfo.builder()
                 .bid(bid)
                 .bidType(type)
@@ -443,20 +505,14 @@ public class BidResponseCreator {
                 .build();
     }
 
-    private static Imp correspondingImp(Bid bid, List<Imp> imps) {
+    private static Imp correspondingImp(Bid bid, AuctionContext auctionContext) {
         final String impId = bid.getImpid();
-        return correspondingImp(impId, imps)
+        return Optional.ofNullable(auctionContext.findImp(impId))
                 // Should never occur. See ResponseBidValidator
                 .orElseThrow(
                         () -> new PreBidException("Bid with impId %s doesn't have matched imp".formatted(impId)));
     }
 
-    private static Optional<Imp> correspondingImp(String impId, List<Imp> imps) {
-        return imps.stream()
-                .filter(imp -> Objects.equals(impId, imp.getId()))
-                .findFirst();
-    }
-
     private Integer resolveBannerTtl(Bid bid, Imp imp, BidRequestCacheInfo cacheInfo, Account account) {
         final AccountAuctionConfig accountAuctionConfig = account.getAuction();
         final Integer bidTtl = bid.getExp();
@@ -488,13 +544,18 @@ public class BidResponseCreator {
                                                                             AuctionContext auctionContext) {
 
         return CompositeFuture.join(bidderResponses.stream()
-                        .map(bidderResponse -> hookStageExecutor
-                                .executeProcessedBidderResponseStage(bidderResponse, auctionContext)
-                                .map(stageResult -> rejectBidderResponseOrProceed(stageResult, bidderResponse)))
+                        .map(bidderResponse -> invokeProcessedBidderResponseHooks(bidderResponse, auctionContext))
                         .collect(Collectors.toCollection(ArrayList::new)))
                 .map(CompositeFuture::list);
     }
 
+    private Future<BidderResponse> invokeProcessedBidderResponseHooks(BidderResponse bidderResponse,
+                                                                      AuctionContext auctionContext) {
+
+        return hookStageExecutor.executeProcessedBidderResponseStage(bidderResponse, auctionContext)
+                .map(stageResult -> rejectBidderResponseOrProceed(stageResult, bidderResponse));
+    }
+
     private Future<List<BidderResponse>> invokeAllProcessedBidResponsesHook(List<BidderResponse> bidderResponses,
                                                                             AuctionContext auctionContext) {
 
@@ -796,26 +857,28 @@ public class BidResponseCreator {
     private ExtBidResponseFledge toExtBidResponseFledge(List<BidderResponseInfo> bidderResponseInfos,
                                                         AuctionContext auctionContext) {
 
-        final List<Imp> imps = auctionContext.getBidRequest().getImp();
         final List<FledgeAuctionConfig> fledgeConfigs = bidderResponseInfos.stream()
-                .flatMap(bidderResponseInfo -> fledgeConfigsForBidder(bidderResponseInfo, imps))
+                .flatMap(bidderResponseInfo -> fledgeConfigsForBidder(bidderResponseInfo, auctionContext))
                 .toList();
         return !fledgeConfigs.isEmpty() ? ExtBidResponseFledge.of(fledgeConfigs) : null;
     }
 
-    private Stream<FledgeAuctionConfig> fledgeConfigsForBidder(BidderResponseInfo bidderResponseInfo, List<Imp> imps) {
+    private Stream<FledgeAuctionConfig> fledgeConfigsForBidder(BidderResponseInfo bidderResponseInfo,
+                                                               AuctionContext auctionContext) {
+
         return Optional.ofNullable(bidderResponseInfo.getSeatBid().getFledgeAuctionConfigs())
                 .stream()
                 .flatMap(Collection::stream)
-                .filter(fledgeConfig -> validateFledgeConfig(fledgeConfig, imps))
+                .filter(fledgeConfig -> validateFledgeConfig(fledgeConfig, auctionContext))
                 .map(fledgeConfig -> fledgeConfigWithBidder(fledgeConfig, bidderResponseInfo.getBidder()));
     }
 
-    private boolean validateFledgeConfig(FledgeAuctionConfig fledgeAuctionConfig, List<Imp> imps) {
-        final ExtImpAuctionEnvironment fledgeEnabled = correspondingImp(fledgeAuctionConfig.getImpId(), imps)
-                .map(Imp::getExt)
-                .map(ext -> convertValue(ext, "ae", ExtImpAuctionEnvironment.class))
-                .orElse(ExtImpAuctionEnvironment.SERVER_SIDE_AUCTION);
+    private boolean validateFledgeConfig(FledgeAuctionConfig fledgeAuctionConfig, AuctionContext auctionContext) {
+        final ExtImpAuctionEnvironment fledgeEnabled =
+                Optional.ofNullable(auctionContext.findImp(fledgeAuctionConfig.getImpId()))
+                        .map(Imp::getExt)
+                        .map(ext -> convertValue(ext, "ae", ExtImpAuctionEnvironment.class))
+                        .orElse(ExtImpAuctionEnvironment.SERVER_SIDE_AUCTION);
 
         return fledgeEnabled == ExtImpAuctionEnvironment.ON_DEVICE_IG_AUCTION_FLEDGE;
     }
@@ -866,7 +929,9 @@ public class BidResponseCreator {
                 .shouldCacheVideoBids(cacheInfo.isShouldCacheVideoBids())
                 .build();
 
-        return coreCacheService.cacheBidsOpenrtb(bidsValidToBeCached, auctionContext, cacheContext, eventsContext)
+        return auctionContext.getTimeline().track(TimelineSpan.cache, null,
+                        () -> coreCacheService.cacheBidsOpenrtb(
+                                bidsValidToBeCached, auctionContext, cacheContext, eventsContext))
                 .map(cacheResult -> addNotCachedBids(cacheResult, bidsToCache));
     }
 
@@ -10,6 +10,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.adjustment.BidAdjustmentFactorResolver;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidRejectionTracker;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
@@ -65,20 +66,28 @@ public class BidsAdjuster {
                                                             BidderAliases aliases) {
 
         return auctionParticipations.stream()
-                .map(auctionParticipation -> validBidderResponse(auctionParticipation, auctionContext, aliases))
-                .map(auctionParticipation -> applyBidPriceChanges(auctionParticipation, auctionContext.getBidRequest()))
-                .map(auctionParticipation -> priceFloorEnforcer.enforce(
-                        auctionContext.getBidRequest(),
-                        auctionParticipation,
-                        auctionContext.getAccount(),
-                        auctionContext.getBidRejectionTrackers().get(auctionParticipation.getBidder())))
-                .map(auctionParticipation -> dsaEnforcer.enforce(
-                        auctionContext.getBidRequest(),
-                        auctionParticipation,
-                        auctionContext.getBidRejectionTrackers().get(auctionParticipation.getBidder())))
+                .map(auctionParticipation ->
+                        validateAndAdjustBidderResponse(auctionParticipation, auctionContext, aliases))
                 .toList();
     }
 
+    public AuctionParticipation validateAndAdjustBidderResponse(AuctionParticipation auctionParticipation,
+                                                                AuctionContext auctionContext,
+                                                                BidderAliases aliases) {
+
+        final BidRequest bidRequest = auctionContext.getBidRequest();
+        final BidRejectionTracker bidRejectionTracker =
+                auctionContext.getBidRejectionTrackers().get(auctionParticipation.getBidder());
+
+        final AuctionParticipation validParticipation =
+                validBidderResponse(auctionParticipation, auctionContext, aliases);
+        final AuctionParticipation adjustedParticipation = applyBidPriceChanges(validParticipation, auctionContext);
+        final AuctionParticipation enforcedParticipation = priceFloorEnforcer.enforce(
+                bidRequest, adjustedParticipation, auctionContext.getAccount(), bidRejectionTracker);
+
+        return dsaEnforcer.enforce(bidRequest, enforcedParticipation, bidRejectionTracker);
+    }
+
     private AuctionParticipation validBidderResponse(AuctionParticipation auctionParticipation,
                                                      AuctionContext auctionContext,
                                                      BidderAliases aliases) {
@@ -139,7 +148,7 @@ public class BidsAdjuster {
     }
 
     private AuctionParticipation applyBidPriceChanges(AuctionParticipation auctionParticipation,
-                                                      BidRequest bidRequest) {
+                                                      AuctionContext auctionContext) {
         if (auctionParticipation.isRequestBlocked()) {
             return auctionParticipation;
         }
@@ -154,12 +163,12 @@ public class BidsAdjuster {
 
         final List<BidderBid> updatedBidderBids = new ArrayList<>(bidderBids.size());
         final List<BidderError> errors = new ArrayList<>(seatBid.getErrors());
-        final String adServerCurrency = bidRequest.getCur().getFirst();
+        final String adServerCurrency = auctionContext.getBidRequest().getCur().getFirst();
 
         for (final BidderBid bidderBid : bidderBids) {
             try {
                 final BidderBid updatedBidderBid =
-                        updateBidderBidWithBidPriceChanges(bidderBid, bidderResponse, bidRequest, adServerCurrency);
+                        updateBidderBidWithBidPriceChanges(bidderBid, bidderResponse, auctionContext, adServerCurrency);
                 updatedBidderBids.add(updatedBidderBid);
             } catch (PreBidException e) {
                 errors.add(BidderError.generic(e.getMessage()));
@@ -175,8 +184,9 @@ public class BidsAdjuster {
 
     private BidderBid updateBidderBidWithBidPriceChanges(BidderBid bidderBid,
                                                          BidderResponse bidderResponse,
-                                                         BidRequest bidRequest,
+                                                         AuctionContext auctionContext,
                                                          String adServerCurrency) {
+        final BidRequest bidRequest = auctionContext.getBidRequest();
         final Bid bid = bidderBid.getBid();
         final String bidCurrency = bidderBid.getBidCurrency();
         final BigDecimal price = bid.getPrice();
@@ -185,7 +195,7 @@ public class BidsAdjuster {
                 price, bidRequest, StringUtils.stripToNull(bidCurrency), adServerCurrency);
 
         final BigDecimal priceAdjustmentFactor =
-                bidAdjustmentForBidder(bidderResponse.getBidder(), bidRequest, bidderBid);
+                bidAdjustmentForBidder(bidderResponse.getBidder(), auctionContext, bidderBid);
         final BigDecimal adjustedPrice = adjustPrice(priceAdjustmentFactor, priceInAdServerCurrency);
 
         final ObjectNode bidExt = bid.getExt();
@@ -205,13 +215,14 @@ public class BidsAdjuster {
         return bidderBid.toBuilder().bid(bidBuilder.build()).build();
     }
 
-    private BigDecimal bidAdjustmentForBidder(String bidder, BidRequest bidRequest, BidderBid bidderBid) {
-        final ExtRequestBidAdjustmentFactors adjustmentFactors = extBidAdjustmentFactors(bidRequest);
+    private BigDecimal bidAdjustmentForBidder(String bidder, AuctionContext auctionContext, BidderBid bidderBid) {
+        final ExtRequestBidAdjustmentFactors adjustmentFactors =
+                extBidAdjustmentFactors(auctionContext.getBidRequest());
         if (adjustmentFactors == null) {
             return null;
         }
         final ImpMediaType mediaType = ImpMediaTypeResolver.resolve(
-                bidderBid.getBid().getImpid(), bidRequest.getImp(), bidderBid.getType());
+                auctionContext.findImpMediaTypes(bidderBid.getBid().getImpid()), bidderBid.getType());
 
         return bidAdjustmentFactorResolver.resolve(mediaType, adjustmentFactors, bidder);
     }
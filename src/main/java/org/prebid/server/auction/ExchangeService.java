@@ -40,9 +40,11 @@ import org.prebid.server.auction.model.BidderPrivacyResult;
 import org.prebid.server.auction.model.BidderRequest;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.MultiBidConfig;
+import org.prebid.server.auction.model.PipelinedResponseContext;
 import org.prebid.server.auction.model.StoredResponseResult;
 import org.prebid.server.auction.model.TimeoutContext;
 import org.prebid.server.auction.privacy.enforcement.PrivacyEnforcementService;
+import org.prebid.server.auction.timeline.TimelineSpan;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.bidder.Bidder;
@@ -161,6 +163,7 @@ public class ExchangeService {
     private final JacksonMapper mapper;
     private final CriteriaLogManager criteriaLogManager;
     private final boolean enabledStrictAppSiteDoohValidation;
+    private final boolean pipelinedBidderResponses;
 
     public ExchangeService(double logSamplingRate,
                            BidderCatalog bidderCatalog,
@@ -187,7 +190,8 @@ public class ExchangeService {
                            Clock clock,
                            JacksonMapper mapper,
                            CriteriaLogManager criteriaLogManager,
-                           boolean enabledStrictAppSiteDoohValidation) {
+                           boolean enabledStrictAppSiteDoohValidation,
+                           boolean pipelinedBidderResponses) {
 
         this.logSamplingRate = logSamplingRate;
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
@@ -215,6 +219,7 @@ public class ExchangeService {
         this.mapper = Objects.requireNonNull(mapper);
         this.criteriaLogManager = Objects.requireNonNull(criteriaLogManager);
         this.enabledStrictAppSiteDoohValidation = enabledStrictAppSiteDoohValidation;
+        this.pipelinedBidderResponses = pipelinedBidderResponses;
     }
 
     public Future<AuctionContext> holdAuction(AuctionContext context) {
@@ -256,40 +261,113 @@ public class ExchangeService {
                                 .map(receivedContext::with))
 
                 .map(context -> updateRequestMetric(context, uidsCookie, aliases, account, requestTypeMetric))
-                .compose(context -> CompositeFuture.join(
-                                context.getAuctionParticipations().stream()
-                                        .map(auctionParticipation -> processAndRequestBids(
-                                                context,
-                                                auctionParticipation.getBidderRequest(),
-                                                timeout,
-                                                aliases)
-                                                .map(auctionParticipation::with))
-                                        .collect(Collectors.toCollection(ArrayList::new)))
-                        // send all the requests to the bidders and gathers results
-                        .map(CompositeFuture::<AuctionParticipation>list)
-                        .map(storedResponseProcessor::updateStoredBidResponse)
-                        .map(auctionParticipations -> storedResponseProcessor.mergeWithBidderResponses(
-                                auctionParticipations,
-                                storedAuctionResponses,
-                                bidRequest.getImp(),
-                                context.getBidRejectionTrackers()))
-                        .map(auctionParticipations -> dropZeroNonDealBids(auctionParticipations, debugWarnings))
-                        .map(auctionParticipations ->
-                                bidsAdjuster.validateAndAdjustBids(auctionParticipations, context, aliases))
-                        .map(auctionParticipations -> updateResponsesMetrics(auctionParticipations, account, aliases))
-                        .map(context::with))
-                // produce response from bidder results
-                .compose(context -> bidResponseCreator.create(context, cacheInfo, bidderToMultiBid)
-                        .map(bidResponse -> criteriaLogManager.traceResponse(
-                                logger,
-                                bidResponse,
-                                context.getBidRequest(),
-                                context.getDebugContext().isDebugEnabled()))
-                        .compose(bidResponse -> bidResponsePostProcessor.postProcess(
-                                context.getHttpRequest(), uidsCookie, bidRequest, bidResponse, account))
+                .compose(context -> pipelinedBidderResponses && storedAuctionResponses.isEmpty()
+                        ? requestBidsAndCreatePipelinedResponse(context, timeout, aliases, cacheInfo, bidderToMultiBid)
+                        : requestBidsAndCreateResponse(
+                                context, timeout, aliases, cacheInfo, bidderToMultiBid, storedAuctionResponses))
+                .compose(context -> bidResponsePostProcessor.postProcess(
+                                context.getHttpRequest(),
+                                uidsCookie,
+                                bidRequest,
+                                criteriaLogManager.traceResponse(
+                                        logger,
+                                        context.getBidResponse(),
+                                        context.getBidRequest(),
+                                        context.getDebugContext().isDebugEnabled()),
+                                account)
                         .map(context::with));
     }
 
+    private Future<AuctionContext> requestBidsAndCreateResponse(AuctionContext context,
+                                                                Timeout timeout,
+                                                                BidderAliases aliases,
+                                                                BidRequestCacheInfo cacheInfo,
+                                                                Map<String, MultiBidConfig> bidderToMultiBid,
+                                                                List<SeatBid> storedAuctionResponses) {
+
+        final List<String> debugWarnings = context.getDebugWarnings();
+
+        return CompositeFuture.join(context.getAuctionParticipations().stream()
+                        .map(auctionParticipation -> processAndRequestBids(
+                                context,
+                                auctionParticipation.getBidderRequest(),
+                                timeout,
+                                aliases)
+                                .map(auctionParticipation::with))
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                // send all the requests to the bidders and gathers results
+                .map(CompositeFuture::<AuctionParticipation>list)
+                .map(storedResponseProcessor::updateStoredBidResponse)
+                .map(auctionParticipations -> storedResponseProcessor.mergeWithBidderResponses(
+                        auctionParticipations,
+                        storedAuctionResponses,
+                        context.getBidRequest().getImp(),
+                        context.getBidRejectionTrackers()))
+                .map(auctionParticipations -> dropZeroNonDealBids(auctionParticipations, debugWarnings))
+                .map(auctionParticipations ->
+                        bidsAdjuster.validateAndAdjustBids(auctionParticipations, context, aliases))
+                .map(auctionParticipations ->
+                        updateResponsesMetrics(auctionParticipations, context.getAccount(), aliases))
+                .map(context::with)
+                // produce response from bidder results
+                .compose(updatedContext -> updatedContext.getTimeline().track(TimelineSpan.response_creation, null,
+                                () -> bidResponseCreator.create(updatedContext, cacheInfo, bidderToMultiBid))
+                        .map(updatedContext::with));
+    }
+
+    /**
+     * Processes bids of each bidder as soon as its response arrives, leaving only the stages
+     * that need all bidder responses (winning bids, targeting, caching) to the moment the last bidder responds.
+     * <p>
+     * Not used with stored auction responses, since they are merged with all bidder responses at once.
+     */
+    private Future<AuctionContext> requestBidsAndCreatePipelinedResponse(AuctionContext context,
+                                                                         Timeout timeout,
+                                                                         BidderAliases aliases,
+                                                                         BidRequestCacheInfo cacheInfo,
+                                                                         Map<String, MultiBidConfig> bidderToMultiBid) {
+
+        final PipelinedResponseContext pipelinedResponseContext =
+                bidResponseCreator.createPipelinedResponseContext(context);
+
+        return CompositeFuture.join(context.getAuctionParticipations().stream()
+                        .map(auctionParticipation -> processAndRequestBids(
+                                context,
+                                auctionParticipation.getBidderRequest(),
+                                timeout,
+                                aliases)
+                                .map(auctionParticipation::with)
+                                .compose(updatedParticipation -> processAuctionParticipation(
+                                        updatedParticipation, context, aliases, pipelinedResponseContext)))
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .map(CompositeFuture::<AuctionParticipation>list)
+                .map(context::with)
+                .compose(updatedContext -> updatedContext.getTimeline().track(TimelineSpan.response_creation, null,
+                                () -> bidResponseCreator.create(
+                                        updatedContext, cacheInfo, bidderToMultiBid, pipelinedResponseContext))
+                        .map(updatedContext::with));
+    }
+
+    private Future<AuctionParticipation> processAuctionParticipation(AuctionParticipation auctionParticipation,
+                                                                     AuctionContext context,
+                                                                     BidderAliases aliases,
+                                                                     PipelinedResponseContext responseContext) {
+
+        final AuctionParticipation storedParticipation =
+                storedResponseProcessor.updateStoredBidderResponse(auctionParticipation);
+        final AuctionParticipation validParticipation =
+                dropZeroNonDealBids(storedParticipation, context.getDebugWarnings());
+        final AuctionParticipation adjustedParticipation =
+                bidsAdjuster.validateAndAdjustBidderResponse(validParticipation, context, aliases);
+        updateResponseMetrics(adjustedParticipation, context.getAccount(), aliases);
+
+        return adjustedParticipation.isRequestBlocked()
+                ? Future.succeededFuture(adjustedParticipation)
+                : bidResponseCreator.processBidderResponse(
+                        adjustedParticipation.getBidderResponse(), context, responseContext)
+                .map(adjustedParticipation::with);
+    }
+
     private BidderAliases aliases(BidRequest bidRequest) {
         final ExtRequestPrebid prebid = PbsUtil.extRequestPrebid(bidRequest);
         final Map<String, String> aliases = prebid != null ? prebid.getAliases() : null;
@@ -1233,14 +1311,17 @@ public class ExchangeService {
                 .map(bidRequest -> ortbVersionConversionManager.convertFromAuctionSupportedVersion(
                         bidRequest, bidderRequest.getOrtbVersion()))
                 .map(bidderRequest::with)
-                .compose(convertedBidderRequest -> httpBidderRequester.requestBids(
-                        bidder,
-                        convertedBidderRequest,
-                        bidRejectionTracker,
-                        adjustTimeout(timeout, auctionStartTime, bidderRequestStartTime),
-                        requestHeaders,
-                        aliases,
-                        debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName)))
+                .compose(convertedBidderRequest -> auctionContext.getTimeline().track(
+                        TimelineSpan.bidder_request,
+                        bidderName,
+                        () -> httpBidderRequester.requestBids(
+                                bidder,
+                                convertedBidderRequest,
+                                bidRejectionTracker,
+                                adjustTimeout(timeout, auctionStartTime, bidderRequestStartTime),
+                                requestHeaders,
+                                aliases,
+                                debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName))))
                 .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(bidderRequestStartTime)));
     }
 
@@ -1313,41 +1394,48 @@ public class ExchangeService {
                                                               Account account,
                                                               BidderAliases aliases) {
 
-        final List<BidderResponse> bidderResponses = auctionParticipations.stream()
-                .filter(auctionParticipation -> !auctionParticipation.isRequestBlocked())
-                .map(AuctionParticipation::getBidderResponse)
-                .toList();
+        for (AuctionParticipation auctionParticipation : auctionParticipations) {
+            updateResponseMetrics(auctionParticipation, account, aliases);
+        }
 
-        for (BidderResponse bidderResponse : bidderResponses) {
-            final String bidder = aliases.resolveBidder(bidderResponse.getBidder());
+        return auctionParticipations;
+    }
 
-            metrics.updateAdapterResponseTime(bidder, account, bidderResponse.getResponseTime());
+    private void updateResponseMetrics(AuctionParticipation auctionParticipation,
+                                       Account account,
+                                       BidderAliases aliases) {
 
-            final List<BidderBid> bidderBids = bidderResponse.getSeatBid().getBids();
-            if (CollectionUtils.isEmpty(bidderBids)) {
-                metrics.updateAdapterRequestNobidMetrics(bidder, account);
-            } else {
-                metrics.updateAdapterRequestGotbidsMetrics(bidder, account);
+        if (auctionParticipation.isRequestBlocked()) {
+            return;
+        }
 
-                for (final BidderBid bidderBid : bidderBids) {
-                    final Bid bid = bidderBid.getBid();
-                    final long cpm = bid.getPrice().multiply(THOUSAND).longValue();
-                    final String bidType = bidderBid.getType().toString();
-                    metrics.updateAdapterBidMetrics(bidder, account, cpm, bid.getAdm() != null, bidType);
-                }
-            }
+        final BidderResponse bidderResponse = auctionParticipation.getBidderResponse();
+        final String bidder = aliases.resolveBidder(bidderResponse.getBidder());
+
+        metrics.updateAdapterResponseTime(bidder, account, bidderResponse.getResponseTime());
 
-            final List<BidderError> errors = bidderResponse.getSeatBid().getErrors();
-            if (CollectionUtils.isNotEmpty(errors)) {
-                errors.stream()
-                        .map(BidderError::getType)
-                        .distinct()
-                        .map(ExchangeService::bidderErrorTypeToMetric)
-                        .forEach(errorMetric -> metrics.updateAdapterRequestErrorMetric(bidder, errorMetric));
+        final List<BidderBid> bidderBids = bidderResponse.getSeatBid().getBids();
+        if (CollectionUtils.isEmpty(bidderBids)) {
+            metrics.updateAdapterRequestNobidMetrics(bidder, account);
+        } else {
+            metrics.updateAdapterRequestGotbidsMetrics(bidder, account);
+
+            for (final BidderBid bidderBid : bidderBids) {
+                final Bid bid = bidderBid.getBid();
+                final long cpm = bid.getPrice().multiply(THOUSAND).longValue();
+                final String bidType = bidderBid.getType().toString();
+                metrics.updateAdapterBidMetrics(bidder, account, cpm, bid.getAdm() != null, bidType);
             }
         }
 
-        return auctionParticipations;
+        final List<BidderError> errors = bidderResponse.getSeatBid().getErrors();
+        if (CollectionUtils.isNotEmpty(errors)) {
+            errors.stream()
+                    .map(BidderError::getType)
+                    .distinct()
+                    .map(ExchangeService::bidderErrorTypeToMetric)
+                    .forEach(errorMetric -> metrics.updateAdapterRequestErrorMetric(bidder, errorMetric));
+        }
     }
 
     private Future<AuctionContext> invokeResponseHooks(AuctionContext auctionContext) {
@@ -1375,6 +1463,9 @@ public class ExchangeService {
         final Account account = context.getAccount();
 
         stageOutcomes.forEach((stage, outcomes) -> updateHooksStageMetrics(account, stage, outcomes));
+        if (!stageOutcomes.isEmpty()) {
+            metrics.updateHooksOverheadMetric(context.getHookExecutionContext().getHooksOverheadTime().get());
+        }
 
         // account might be null if request is rejected by the entrypoint hook
         if (account != null) {
@@ -1384,6 +1475,7 @@ public class ExchangeService {
                     .flatMap(Collection::stream)
                     .map(GroupExecutionOutcome::getHooks)
                     .flatMap(Collection::stream)
+                    .filter(outcome -> outcome.getStatus() != ExecutionStatus.skipped)
                     .collect(Collectors.groupingBy(
                             outcome -> outcome.getHookId().getModuleCode(),
                             Collectors.summingLong(HookExecutionOutcome::getExecutionTime)))
@@ -1404,6 +1496,11 @@ public class ExchangeService {
     private void updateHookInvocationMetrics(Account account, Stage stage, HookExecutionOutcome hookOutcome) {
         final HookId hookId = hookOutcome.getHookId();
         final ExecutionStatus status = hookOutcome.getStatus();
+        // skipped hooks were not invoked and are already reported by the dedicated metric
+        if (status == ExecutionStatus.skipped) {
+            return;
+        }
+
         final ExecutionAction action = hookOutcome.getAction();
         final String moduleCode = hookId.getModuleCode();
 
@@ -304,11 +304,11 @@ public class StoredResponseProcessor {
 
     public List<AuctionParticipation> updateStoredBidResponse(List<AuctionParticipation> auctionParticipations) {
         return auctionParticipations.stream()
-                .map(StoredResponseProcessor::updateStoredBidResponse)
+                .map(this::updateStoredBidderResponse)
                 .collect(Collectors.toList());
     }
 
-    private static AuctionParticipation updateStoredBidResponse(AuctionParticipation auctionParticipation) {
+    public AuctionParticipation updateStoredBidderResponse(AuctionParticipation auctionParticipation) {
         final BidderRequest bidderRequest = auctionParticipation.getBidderRequest();
         final BidRequest bidRequest = bidderRequest.getBidRequest();
 
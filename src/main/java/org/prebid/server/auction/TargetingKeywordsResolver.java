@@ -2,9 +2,11 @@ package org.prebid.server.auction;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.Bid;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.auction.model.ImpIndex;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
@@ -27,6 +29,7 @@ public class TargetingKeywordsResolver {
 
     private final BidRequest bidRequest;
     private final JacksonMapper mapper;
+    private final ImpIndex impIndex;
 
     private final Map<String, String> staticAndRequestKeywords;
     private final List<ExtRequestPrebidAdservertargetingRule> impRequestRules;
@@ -35,6 +38,7 @@ public class TargetingKeywordsResolver {
     private TargetingKeywordsResolver(BidRequest bidRequest, JacksonMapper mapper) {
         this.bidRequest = Objects.requireNonNull(bidRequest);
         this.mapper = Objects.requireNonNull(mapper);
+        this.impIndex = new ImpIndex();
 
         final Map<Source, List<ExtRequestPrebidAdservertargetingRule>> rulesBySource = rulesBySource();
 
@@ -147,11 +151,8 @@ public class TargetingKeywordsResolver {
             return null;
         }
 
-        return bidRequest.getImp().stream()
-                .filter(imp -> Objects.equals(imp.getId(), impid))
-                .findFirst()
-                .<JsonNode>map(imp -> mapper.mapper().valueToTree(imp))
-                .orElse(null);
+        final Imp imp = impIndex.imp(bidRequest.getImp(), impid);
+        return imp != null ? mapper.mapper().valueToTree(imp) : null;
     }
 
     private Map<String, String> resolveResponseKeywords(Bid bid, String bidder) {
@@ -8,9 +8,8 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.Bid;
-import io.vertx.core.CompositeFuture;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
 import lombok.Builder;
 import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
@@ -67,10 +66,23 @@ public class BasicCategoryMappingService implements CategoryMappingService {
     private static final String DFP_AD_SERVER = "dfp";
 
     private final ApplicationSettings applicationSettings;
+    private final CategoryMappingTables categoryMappingTables;
     private final JacksonMapper jacksonMapper;
 
     public BasicCategoryMappingService(ApplicationSettings applicationSettings, JacksonMapper jacksonMapper) {
+        this(applicationSettings, null, jacksonMapper);
+    }
+
+    /**
+     * Creates service which takes category mapping tables from the given {@link CategoryMappingTables} (if present)
+     * instead of fetching them from {@link ApplicationSettings} for each auction.
+     */
+    public BasicCategoryMappingService(ApplicationSettings applicationSettings,
+                                       CategoryMappingTables categoryMappingTables,
+                                       JacksonMapper jacksonMapper) {
+
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
+        this.categoryMappingTables = categoryMappingTables;
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
     }
 
@@ -109,8 +121,20 @@ public class BasicCategoryMappingService implements CategoryMappingService {
 
         final List<RejectedBid> rejectedBids = new ArrayList<>();
 
-        return makeBidderToBidCategory(
-                bidderResponses, withCategory, translateCategories, primaryAdServer, publisher, rejectedBids, timeout)
+        final Future<Map<String, String>> categoriesFuture = withCategory && translateCategories
+                && hasBidsWithCategory(bidderResponses)
+                ? fetchCategories(primaryAdServer, publisher, timeout)
+                : Future.succeededFuture();
+
+        return categoriesFuture
+                .transform(categoriesResult -> Future.succeededFuture(makeCategoryBidContexts(
+                        bidderResponses,
+                        withCategory,
+                        translateCategories,
+                        primaryAdServer,
+                        publisher,
+                        categoriesResult,
+                        rejectedBids)))
                 .map(categoryBidContexts -> resolveBidsCategoriesDurations(
                         bidderResponses, categoryBidContexts, bidRequest, targeting, withCategory, rejectedBids));
     }
@@ -138,82 +162,92 @@ public class BasicCategoryMappingService implements CategoryMappingService {
     }
 
     /**
-     * Returns the list of contexts which represents relation between bid and category information.
+     * Checks if any bid has a single category to translate, otherwise there is no need to fetch categories.
      */
-    private Future<List<CategoryBidContext>> makeBidderToBidCategory(List<BidderResponse> bidderResponses,
-                                                                     boolean withCategory,
-                                                                     boolean translateCategories,
-                                                                     String primaryAdServer,
-                                                                     String publisher,
-                                                                     List<RejectedBid> rejectedBids,
-                                                                     Timeout timeout) {
-
-        final Promise<List<CategoryBidContext>> categoryBidContextsPromise = Promise.promise();
-
-        final CompositeFuture compositeFuture = CompositeFuture.join(bidderResponses.stream()
-                .flatMap(bidderResponse -> makeFetchCategoryFutures(
-                        bidderResponse, primaryAdServer, publisher, timeout, withCategory, translateCategories))
-                .collect(Collectors.toList()));
+    private static boolean hasBidsWithCategory(List<BidderResponse> bidderResponses) {
+        for (BidderResponse bidderResponse : bidderResponses) {
+            for (BidderBid bidderBid : bidderResponse.getSeatBid().getBids()) {
+                final List<String> iabCategories = bidderBid.getBid().getCat();
+                if (CollectionUtils.size(iabCategories) == 1 && StringUtils.isNotBlank(iabCategories.getFirst())) {
+                    return true;
+                }
+            }
+        }
 
-        compositeFuture.onComplete(ignored ->
-                collectCategoryFetchResults(compositeFuture, categoryBidContextsPromise, rejectedBids));
+        return false;
+    }
 
-        return categoryBidContextsPromise.future();
+    /**
+     * Fetches category mapping table once for all bids of the auction.
+     */
+    private Future<Map<String, String>> fetchCategories(String primaryAdServer, String publisher, Timeout timeout) {
+        return categoryMappingTables != null
+                ? categoryMappingTables.get(primaryAdServer, publisher, timeout)
+                : applicationSettings.getCategories(primaryAdServer, publisher, timeout);
     }
 
     /**
-     * Creates stream of futures to query category for each bid in {@link BidderResponse}.
+     * Returns the list of contexts which represents relation between bid and category information.
+     * Drops bids for which category cannot be resolved.
      */
-    private Stream<Future<CategoryBidContext>> makeFetchCategoryFutures(BidderResponse bidderResponse,
-                                                                        String primaryAdServer,
-                                                                        String publisher,
-                                                                        Timeout timeout,
-                                                                        boolean withCategory,
-                                                                        boolean translateCategories) {
-
-        final List<BidderBid> bidderBids = bidderResponse.getSeatBid().getBids();
-        final String bidder = bidderResponse.getBidder();
-        return bidderBids.stream()
-                .map(bidderBid -> resolveCategory(
-                        primaryAdServer, publisher, bidderBid, bidder, timeout, withCategory, translateCategories));
+    private List<CategoryBidContext> makeCategoryBidContexts(List<BidderResponse> bidderResponses,
+                                                             boolean withCategory,
+                                                             boolean translateCategories,
+                                                             String primaryAdServer,
+                                                             String publisher,
+                                                             AsyncResult<Map<String, String>> categoriesResult,
+                                                             List<RejectedBid> rejectedBids) {
+
+        final List<CategoryBidContext> categoryBidContexts = new ArrayList<>();
+        for (BidderResponse bidderResponse : bidderResponses) {
+            final String bidder = bidderResponse.getBidder();
+            for (BidderBid bidderBid : bidderResponse.getSeatBid().getBids()) {
+                try {
+                    categoryBidContexts.add(resolveCategory(primaryAdServer, publisher, bidderBid, bidder,
+                            categoriesResult, withCategory, translateCategories));
+                } catch (RejectedBidException e) {
+                    rejectedBids.add(e.getBid());
+                }
+            }
+        }
+
+        return categoryBidContexts;
     }
 
     /**
-     * Fetches category from external source or from bid.cat.
+     * Resolves category from fetched categories or from bid.cat.
      */
-    private Future<CategoryBidContext> resolveCategory(String primaryAdServer,
-                                                       String publisher,
-                                                       BidderBid bidderBid,
-                                                       String bidder,
-                                                       Timeout timeout,
-                                                       boolean withCategory,
-                                                       boolean translateCategories) {
+    private CategoryBidContext resolveCategory(String primaryAdServer,
+                                               String publisher,
+                                               BidderBid bidderBid,
+                                               String bidder,
+                                               AsyncResult<Map<String, String>> categoriesResult,
+                                               boolean withCategory,
+                                               boolean translateCategories) {
 
         final Bid bid = bidderBid.getBid();
 
         final String videoPrimaryCategory = getVideoBidPrimaryCategory(bidderBid);
         if (StringUtils.isNotBlank(videoPrimaryCategory)) {
-            return Future.succeededFuture(CategoryBidContext.of(bidderBid, bidder, videoPrimaryCategory));
+            return CategoryBidContext.of(bidderBid, bidder, videoPrimaryCategory);
         }
 
         if (!withCategory) {
-            return Future.succeededFuture(CategoryBidContext.of(bidderBid, bidder, null));
+            return CategoryBidContext.of(bidderBid, bidder, null);
         }
 
         final List<String> iabCategories = ListUtils.emptyIfNull(bid.getCat());
         if (iabCategories.size() > 1) {
-            return Future.failedFuture(
-                    new RejectedBidException(bid.getId(), bidder, "Bid has more than one category"));
+            throw new RejectedBidException(bid.getId(), bidder, "Bid has more than one category");
         }
         final String category = CollectionUtils.isNotEmpty(iabCategories) ? iabCategories.getFirst() : null;
         if (StringUtils.isBlank(category)) {
-            return Future.failedFuture(
-                    new RejectedBidException(bid.getId(), bidder, "Bid did not contain a category"));
+            throw new RejectedBidException(bid.getId(), bidder, "Bid did not contain a category");
         }
 
-        return translateCategories
-                ? fetchCategory(bidderBid, bidder, primaryAdServer, publisher, category, timeout)
-                : Future.succeededFuture(CategoryBidContext.of(bidderBid, bidder, category));
+        return CategoryBidContext.of(bidderBid, bidder, translateCategories
+                ? translateCategory(categoriesResult, category, bid.getId(), bidder, primaryAdServer, publisher)
+                : category);
     }
 
     private String getVideoBidPrimaryCategory(BidderBid bidderBid) {
@@ -239,24 +273,20 @@ public class BasicCategoryMappingService implements CategoryMappingService {
     }
 
     /**
-     * Queries external source for bid's category.
+     * Translates bid's category with fetched categories.
      */
-    private Future<CategoryBidContext> fetchCategory(BidderBid bidderBid,
-                                                     String bidder,
-                                                     String primaryAdServer,
-                                                     String publisher,
-                                                     String category,
-                                                     Timeout timeout) {
-
-        final String bidId = bidderBid.getBid().getId();
-
-        return applicationSettings.getCategories(primaryAdServer, publisher, timeout)
-                .map(fetchedCategories -> findAndValidateCategory(
-                        fetchedCategories, category, bidId, bidder, primaryAdServer, publisher))
-
-                .recover(throwable -> wrapWithRejectedBidException(bidId, bidder, throwable))
+    private static String translateCategory(AsyncResult<Map<String, String>> categoriesResult,
+                                            String category,
+                                            String bidId,
+                                            String bidder,
+                                            String primaryAdServer,
+                                            String publisher) {
+
+        if (categoriesResult.failed()) {
+            throw new RejectedBidException(bidId, bidder, categoriesResult.cause().getMessage());
+        }
 
-                .map(fetchedCategory -> CategoryBidContext.of(bidderBid, bidder, fetchedCategory));
+        return findAndValidateCategory(categoriesResult.result(), category, bidId, bidder, primaryAdServer, publisher);
     }
 
     /**
@@ -290,37 +320,6 @@ public class BasicCategoryMappingService implements CategoryMappingService {
         return categoryId;
     }
 
-    /**
-     * Wraps throwable with {@link RejectedBidException} to contain information about bidId and bidder
-     * caused this exception.
-     */
-    private Future<String> wrapWithRejectedBidException(String bidId, String bidder, Throwable throwable) {
-        return Future.failedFuture(new RejectedBidException(bidId, bidder, throwable.getMessage()));
-    }
-
-    /**
-     * Collects categories from all futures working on retrieving category from external sources.
-     * Drops corresponding bid for failed attempt to request category.
-     */
-    private static void collectCategoryFetchResults(CompositeFuture compositeFuture,
-                                                    Promise<List<CategoryBidContext>> resultPromise,
-                                                    List<RejectedBid> rejectedBids) {
-
-        final List<CategoryBidContext> categoryBidContexts = new ArrayList<>();
-
-        for (int i = 0; i < compositeFuture.list().size(); i++) {
-            final Object o = compositeFuture.resultAt(i);
-            if (o != null) {
-                categoryBidContexts.add((CategoryBidContext) o);
-            } else {
-                final RejectedBidException rejectedBidException = (RejectedBidException) compositeFuture.cause(i);
-                rejectedBids.add(rejectedBidException.getBid());
-            }
-        }
-
-        resultPromise.complete(categoryBidContexts);
-    }
-
     /**
      * Creates duration dropping bids with duplicated categories.
      */
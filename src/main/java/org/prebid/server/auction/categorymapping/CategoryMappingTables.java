@@ -0,0 +1,106 @@
+package org.prebid.server.auction.categorymapping;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.vertx.Initializable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps category mapping tables fetched from {@link ApplicationSettings} per primary ad server and publisher
+ * as immutable maps with interned keys and values, so all bids of an auction are translated with plain lookups.
+ * <p>
+ * Known tables are re-fetched in the background, so auctions do not wait for them to be loaded again.
+ * Table is kept as is if its refresh fails.
+ */
+public class CategoryMappingTables implements Initializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CategoryMappingTables.class);
+
+    private final ApplicationSettings applicationSettings;
+    private final Vertx vertx;
+    private final TimeoutFactory timeoutFactory;
+    private final long refreshPeriodMs;
+    private final long refreshTimeoutMs;
+
+    private final Map<TableKey, Map<String, String>> tables;
+
+    public CategoryMappingTables(ApplicationSettings applicationSettings,
+                                 Vertx vertx,
+                                 TimeoutFactory timeoutFactory,
+                                 int maxSize,
+                                 long refreshPeriodMs,
+                                 long refreshTimeoutMs) {
+
+        this.applicationSettings = Objects.requireNonNull(applicationSettings);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
+        this.refreshPeriodMs = refreshPeriodMs;
+        this.refreshTimeoutMs = refreshTimeoutMs;
+
+        tables = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .<TableKey, Map<String, String>>build()
+                .asMap();
+    }
+
+    @Override
+    public void initialize(Promise<Void> initializePromise) {
+        if (refreshPeriodMs > 0) {
+            vertx.setPeriodic(refreshPeriodMs, ignored -> refresh());
+        }
+        initializePromise.tryComplete();
+    }
+
+    /**
+     * Returns category mapping table for the given primary ad server and publisher,
+     * fetching it only if it was not loaded yet.
+     */
+    public Future<Map<String, String>> get(String primaryAdServer, String publisher, Timeout timeout) {
+        final TableKey key = new TableKey(primaryAdServer, publisher);
+        final Map<String, String> table = tables.get(key);
+
+        return table != null ? Future.succeededFuture(table) : load(key, timeout);
+    }
+
+    void refresh() {
+        for (TableKey key : tables.keySet()) {
+            load(key, timeoutFactory.create(refreshTimeoutMs))
+                    .onFailure(error -> logger.warn(
+                            "Failed to refresh categories for primary ad server: '{}', publisher: '{}': {}",
+                            key.primaryAdServer(), key.publisher(), error.getMessage()));
+        }
+    }
+
+    private Future<Map<String, String>> load(TableKey key, Timeout timeout) {
+        return applicationSettings.getCategories(key.primaryAdServer(), key.publisher(), timeout)
+                .map(CategoryMappingTables::intern)
+                .onSuccess(table -> tables.put(key, table));
+    }
+
+    private static Map<String, String> intern(Map<String, String> categories) {
+        if (categories == null) {
+            return Map.of();
+        }
+
+        final Map<String, String> interned = new HashMap<>(categories.size());
+        categories.forEach((category, id) -> {
+            if (category != null && id != null) {
+                interned.put(category.intern(), id.intern());
+            }
+        });
+        return Map.copyOf(interned);
+    }
+
+    private record TableKey(String primaryAdServer, String publisher) {
+    }
+}
@@ -2,12 +2,16 @@ package org.prebid.server.auction.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.BidResponse;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.Value;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
 import org.prebid.server.auction.gpp.model.GppContext;
 import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.auction.timeline.AuctionTimeline;
 import org.prebid.server.cache.model.DebugHttpCall;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.geolocation.model.GeoInfo;
@@ -15,10 +19,12 @@ import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.privacy.model.PrivacyContext;
+import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
 import org.prebid.server.settings.model.Account;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Builder(toBuilder = true)
 @Value
@@ -71,6 +77,30 @@ public class AuctionContext {
 
     CachedDebugLog cachedDebugLog;
 
+    @JsonIgnore
+    @Builder.Default
+    AuctionTimeline timeline = AuctionTimeline.disabled();
+
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Builder.Default
+    ImpIndex impIndex = new ImpIndex();
+
+    /**
+     * Returns imp of the bid request with the given id or null if there is no such imp.
+     */
+    public Imp findImp(String impId) {
+        return impIndex.imp(bidRequest.getImp(), impId);
+    }
+
+    /**
+     * Returns media types of the bid request imp with the given id or empty set if there is no such imp.
+     */
+    public Set<ImpMediaType> findImpMediaTypes(String impId) {
+        return impIndex.mediaTypes(bidRequest.getImp(), impId);
+    }
+
     public AuctionContext with(Account account) {
         return this.toBuilder().account(account).build();
     }
@@ -0,0 +1,93 @@
+package org.prebid.server.auction.model;
+
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Video;
+import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Lazily built index of request imps by id along with media types of each imp,
+ * so bids are matched with their imps by lookup instead of scanning all imps for every bid.
+ * <p>
+ * Index is rebuilt if it is asked for another list of imps, so it stays valid
+ * when the bid request of {@link AuctionContext} is replaced.
+ */
+public class ImpIndex {
+
+    private volatile Entries entries;
+
+    /**
+     * Returns first imp with the given id or null if there is no such imp.
+     */
+    public Imp imp(List<Imp> imps, String impId) {
+        return entries(imps).impIdToImp().get(impId);
+    }
+
+    /**
+     * Returns media types of the first imp with the given id or empty set if there is no such imp.
+     */
+    public Set<ImpMediaType> mediaTypes(List<Imp> imps, String impId) {
+        return entries(imps).impIdToMediaTypes().getOrDefault(impId, Collections.emptySet());
+    }
+
+    private Entries entries(List<Imp> imps) {
+        final Entries current = entries;
+        if (current != null && current.imps() == imps) {
+            return current;
+        }
+
+        final Entries built = Entries.of(imps);
+        entries = built;
+        return built;
+    }
+
+    private record Entries(List<Imp> imps,
+                           Map<String, Imp> impIdToImp,
+                           Map<String, Set<ImpMediaType>> impIdToMediaTypes) {
+
+        static Entries of(List<Imp> imps) {
+            final int size = imps != null ? imps.size() : 0;
+            final Map<String, Imp> impIdToImp = new HashMap<>(size * 2);
+            final Map<String, Set<ImpMediaType>> impIdToMediaTypes = new HashMap<>(size * 2);
+
+            if (imps != null) {
+                for (Imp imp : imps) {
+                    if (imp != null && !impIdToImp.containsKey(imp.getId())) {
+                        impIdToImp.put(imp.getId(), imp);
+                        impIdToMediaTypes.put(imp.getId(), mediaTypes(imp));
+                    }
+                }
+            }
+
+            return new Entries(imps, impIdToImp, impIdToMediaTypes);
+        }
+
+        private static Set<ImpMediaType> mediaTypes(Imp imp) {
+            final Set<ImpMediaType> mediaTypes = EnumSet.noneOf(ImpMediaType.class);
+            if (imp.getBanner() != null) {
+                mediaTypes.add(ImpMediaType.banner);
+            }
+            final Video video = imp.getVideo();
+            if (video != null) {
+                final Integer placement = video.getPlacement();
+                mediaTypes.add(placement == null || Objects.equals(placement, 1)
+                        ? ImpMediaType.video
+                        : ImpMediaType.video_outstream);
+            }
+            if (imp.getXNative() != null) {
+                mediaTypes.add(ImpMediaType.xNative);
+            }
+            if (imp.getAudio() != null) {
+                mediaTypes.add(ImpMediaType.audio);
+            }
+            return Collections.unmodifiableSet(mediaTypes);
+        }
+    }
+}
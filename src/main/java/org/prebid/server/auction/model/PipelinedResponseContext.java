@@ -0,0 +1,18 @@
+package org.prebid.server.auction.model;
+
+import io.vertx.core.Future;
+import lombok.Value;
+import org.prebid.server.events.EventsContext;
+import org.prebid.server.settings.model.VideoStoredDataResult;
+
+/**
+ * Auction-wide data shared by the per-bidder processing of bids in pipelined mode and the final response creation,
+ * so all bidder responses are processed the same way regardless of the moment they arrive.
+ */
+@Value(staticConstructor = "of")
+public class PipelinedResponseContext {
+
+    Future<VideoStoredDataResult> videoStoredDataResult;
+
+    EventsContext eventsContext;
+}
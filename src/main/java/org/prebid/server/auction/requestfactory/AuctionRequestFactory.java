@@ -16,6 +16,8 @@ import org.prebid.server.auction.gpp.AuctionGppService;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.AuctionStoredResult;
 import org.prebid.server.auction.privacy.contextfactory.AuctionPrivacyContextFactory;
+import org.prebid.server.auction.timeline.AuctionTimeline;
+import org.prebid.server.auction.timeline.TimelineSpan;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
 import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.exception.InvalidRequestException;
@@ -97,9 +99,11 @@ public class AuctionRequestFactory {
 
         final AuctionContext initialAuctionContext = ortb2RequestFactory.createAuctionContext(
                 Endpoint.openrtb2_auction, MetricName.openrtb2web);
+        final AuctionTimeline timeline = initialAuctionContext.getTimeline();
 
         return ortb2RequestFactory.executeEntrypointHooks(routingContext, body, initialAuctionContext)
-                .compose(httpRequest -> parseBidRequest(httpRequest, initialAuctionContext.getPrebidErrors())
+                .compose(httpRequest -> timeline.track(TimelineSpan.request_parsing, null,
+                                () -> parseBidRequest(httpRequest, initialAuctionContext.getPrebidErrors()))
                         .map(bidRequest -> ortb2RequestFactory
                                 .enrichAuctionContext(initialAuctionContext, httpRequest, bidRequest, startTime)
                                 .with(requestTypeMetric(bidRequest))))
@@ -118,13 +122,15 @@ public class AuctionRequestFactory {
 
                 .map(auctionContext -> auctionContext.with(debugResolver.debugContextFrom(auctionContext)))
 
-                .compose(auctionContext -> geoLocationServiceWrapper.lookup(auctionContext)
+                .compose(auctionContext -> auctionContext.getTimeline().track(TimelineSpan.geo_lookup, null,
+                                () -> geoLocationServiceWrapper.lookup(auctionContext))
                         .map(auctionContext::with))
 
                 .compose(auctionContext -> ortb2RequestFactory.enrichBidRequestWithGeolocationData(auctionContext)
                         .map(auctionContext::with))
 
-                .compose(auctionContext -> gppService.contextFrom(auctionContext)
+                .compose(auctionContext -> auctionContext.getTimeline().track(TimelineSpan.gpp, null,
+                                () -> gppService.contextFrom(auctionContext))
                         .map(auctionContext::with))
 
                 .compose(auctionContext -> ortb2RequestFactory.activityInfrastructureFrom(auctionContext)
@@ -136,7 +142,8 @@ public class AuctionRequestFactory {
                 .compose(auctionContext -> updateAndValidateBidRequest(auctionContext)
                         .map(auctionContext::with))
 
-                .compose(auctionContext -> auctionPrivacyContextFactory.contextFrom(auctionContext)
+                .compose(auctionContext -> auctionContext.getTimeline().track(TimelineSpan.privacy, null,
+                                () -> auctionPrivacyContextFactory.contextFrom(auctionContext))
                         .map(auctionContext::with))
 
                 .compose(auctionContext -> ortb2RequestFactory.enrichBidRequestWithAccountAndPrivacyData(auctionContext)
@@ -233,7 +240,9 @@ public class AuctionRequestFactory {
         final HttpRequestContext httpRequest = auctionContext.getHttpRequest();
         final List<String> debugWarnings = auctionContext.getDebugWarnings();
 
-        return storedRequestProcessor.processAuctionRequest(account.getId(), auctionContext.getBidRequest())
+        return auctionContext.getTimeline().track(TimelineSpan.stored_request, null,
+                        () -> storedRequestProcessor.processAuctionRequest(
+                                account.getId(), auctionContext.getBidRequest()))
                 .compose(auctionStoredResult -> updateBidRequest(auctionStoredResult, auctionContext))
                 .compose(bidRequest -> ortb2RequestFactory.validateRequest(bidRequest, httpRequest, debugWarnings))
                 .map(interstitialProcessor::process);
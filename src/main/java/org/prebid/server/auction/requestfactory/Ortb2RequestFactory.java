@@ -28,6 +28,8 @@ import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.IpAddress;
 import org.prebid.server.auction.model.TimeoutContext;
 import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.auction.timeline.AuctionTimelineRecorder;
+import org.prebid.server.auction.timeline.TimelineSpan;
 import org.prebid.server.cookie.UidsCookieService;
 import org.prebid.server.exception.BlocklistedAccountException;
 import org.prebid.server.exception.InvalidRequestException;
@@ -40,6 +42,7 @@ import org.prebid.server.geolocation.model.GeoInfo;
 import org.prebid.server.hooks.execution.HookStageExecutor;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
+import org.prebid.server.hooks.execution.model.Stage;
 import org.prebid.server.hooks.v1.auction.AuctionRequestPayload;
 import org.prebid.server.hooks.v1.entrypoint.EntrypointPayload;
 import org.prebid.server.log.ConditionalLogger;
@@ -105,6 +108,7 @@ public class Ortb2RequestFactory {
     private final HookStageExecutor hookStageExecutor;
     private final CountryCodeMapper countryCodeMapper;
     private final Metrics metrics;
+    private final AuctionTimelineRecorder auctionTimelineRecorder;
 
     public Ortb2RequestFactory(int timeoutAdjustmentFactor,
                                double logSamplingRate,
@@ -119,7 +123,8 @@ public class Ortb2RequestFactory {
                                IpAddressHelper ipAddressHelper,
                                HookStageExecutor hookStageExecutor,
                                CountryCodeMapper countryCodeMapper,
-                               Metrics metrics) {
+                               Metrics metrics,
+                               AuctionTimelineRecorder auctionTimelineRecorder) {
 
         if (timeoutAdjustmentFactor < 0 || timeoutAdjustmentFactor > 100) {
             throw new IllegalArgumentException("Expected timeout adjustment factor should be in [0, 100].");
@@ -139,6 +144,7 @@ public class Ortb2RequestFactory {
         this.hookStageExecutor = Objects.requireNonNull(hookStageExecutor);
         this.countryCodeMapper = Objects.requireNonNull(countryCodeMapper);
         this.metrics = Objects.requireNonNull(metrics);
+        this.auctionTimelineRecorder = Objects.requireNonNull(auctionTimelineRecorder);
     }
 
     public AuctionContext createAuctionContext(Endpoint endpoint, MetricName requestTypeMetric) {
@@ -151,6 +157,7 @@ public class Ortb2RequestFactory {
                 .requestRejected(false)
                 .debugHttpCalls(new HashMap<>())
                 .bidRejectionTrackers(new TreeMap<>(String.CASE_INSENSITIVE_ORDER))
+                .timeline(auctionTimelineRecorder.startTimeline())
                 .build();
     }
 
@@ -180,9 +187,10 @@ public class Ortb2RequestFactory {
         final Timeout timeout = auctionContext.getTimeoutContext().getTimeout();
         final HttpRequestContext httpRequest = auctionContext.getHttpRequest();
 
-        return findAccountIdFrom(bidRequest, isLookupStoredRequest)
-                .map(this::validateIfAccountBlocklisted)
-                .compose(accountId -> loadAccount(timeout, httpRequest, accountId));
+        return auctionContext.getTimeline().track(TimelineSpan.account_fetch, null,
+                () -> findAccountIdFrom(bidRequest, isLookupStoredRequest)
+                        .map(this::validateIfAccountBlocklisted)
+                        .compose(accountId -> loadAccount(timeout, httpRequest, accountId)));
     }
 
     public Future<ActivityInfrastructure> activityInfrastructureFrom(AuctionContext auctionContext) {
@@ -348,11 +356,12 @@ public class Ortb2RequestFactory {
                                                              String body,
                                                              AuctionContext auctionContext) {
 
-        return hookStageExecutor.executeEntrypointStage(
-                        toCaseInsensitiveMultiMap(routingContext.queryParams()),
-                        toCaseInsensitiveMultiMap(routingContext.request().headers()),
-                        body,
-                        auctionContext.getHookExecutionContext())
+        return auctionContext.getTimeline().track(TimelineSpan.hooks, Stage.entrypoint.name(),
+                        () -> hookStageExecutor.executeEntrypointStage(
+                                toCaseInsensitiveMultiMap(routingContext.queryParams()),
+                                toCaseInsensitiveMultiMap(routingContext.request().headers()),
+                                body,
+                                auctionContext.getHookExecutionContext()))
                 .map(stageResult -> toHttpRequest(stageResult, routingContext, auctionContext));
     }
 
@@ -0,0 +1,121 @@
+package org.prebid.server.auction.timeline;
+
+import io.vertx.core.Future;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Records spans of a single sampled auction into primitive arrays.
+ * <p>
+ * Auctions which are not sampled share {@link #disabled()} instance, which neither reads the clock nor allocates.
+ */
+public class AuctionTimeline {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private static final AuctionTimeline DISABLED = new AuctionTimeline(null, 0L, 0L);
+
+    private final AuctionTimelineRecorder recorder;
+    private final long timestamp;
+    private final long startNanos;
+
+    private TimelineSpan[] spans;
+    private String[] details;
+    private long[] starts;
+    private long[] durations;
+    private int size;
+
+    AuctionTimeline(AuctionTimelineRecorder recorder, long timestamp, long startNanos) {
+        this.recorder = recorder;
+        this.timestamp = timestamp;
+        this.startNanos = startNanos;
+
+        if (recorder != null) {
+            spans = new TimelineSpan[INITIAL_CAPACITY];
+            details = new String[INITIAL_CAPACITY];
+            starts = new long[INITIAL_CAPACITY];
+            durations = new long[INITIAL_CAPACITY];
+        }
+    }
+
+    public static AuctionTimeline disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return recorder != null;
+    }
+
+    /**
+     * Returns start mark for span to be passed to {@link #record(TimelineSpan, String, long)}.
+     */
+    public long start() {
+        return isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    public void record(TimelineSpan span, String detail, long start) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        final long end = System.nanoTime();
+        synchronized (this) {
+            if (size == spans.length) {
+                grow();
+            }
+
+            spans[size] = span;
+            details[size] = detail;
+            starts[size] = start - startNanos;
+            durations[size] = end - start;
+            size++;
+        }
+    }
+
+    /**
+     * Records span lasting until the future returned by given action completes.
+     */
+    public <T> Future<T> track(TimelineSpan span, String detail, Supplier<Future<T>> action) {
+        if (!isEnabled()) {
+            return action.get();
+        }
+
+        final long start = start();
+        return action.get().onComplete(ignored -> record(span, detail, start));
+    }
+
+    /**
+     * Passes recorded spans to the recorder. Should be called once auction response is written.
+     */
+    public void complete(String account, String endpoint) {
+        if (isEnabled()) {
+            recorder.complete(this, account, endpoint);
+        }
+    }
+
+    synchronized TimelineRecord toRecord(String account, String endpoint) {
+        final List<TimelineRecord.SpanRecord> spanRecords = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            spanRecords.add(TimelineRecord.SpanRecord.of(
+                    spans[i], details[i], toMicros(starts[i]), toMicros(durations[i])));
+        }
+
+        return TimelineRecord.of(timestamp, account, endpoint, toMicros(System.nanoTime() - startNanos), spanRecords);
+    }
+
+    private void grow() {
+        final int capacity = spans.length * 2;
+        spans = Arrays.copyOf(spans, capacity);
+        details = Arrays.copyOf(details, capacity);
+        starts = Arrays.copyOf(starts, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
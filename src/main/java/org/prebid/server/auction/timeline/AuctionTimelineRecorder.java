@@ -0,0 +1,77 @@
+package org.prebid.server.auction.timeline;
+
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Decides which auctions are sampled for {@link AuctionTimeline} recording and collects completed timelines
+ * into a fixed-size ring buffer and per-span histograms.
+ */
+public class AuctionTimelineRecorder {
+
+    private final double samplingRate;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final AtomicReferenceArray<TimelineRecord> records;
+    private final AtomicLong position;
+
+    public AuctionTimelineRecorder(double samplingRate, int bufferSize, Metrics metrics, Clock clock) {
+        if (samplingRate < 0 || samplingRate > 1) {
+            throw new IllegalArgumentException("Sampling rate should be in [0, 1]");
+        }
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size should be positive");
+        }
+
+        this.samplingRate = samplingRate;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+
+        records = new AtomicReferenceArray<>(bufferSize);
+        position = new AtomicLong();
+    }
+
+    public AuctionTimeline startTimeline() {
+        return samplingRate > 0 && ThreadLocalRandom.current().nextDouble() < samplingRate
+                ? new AuctionTimeline(this, clock.millis(), System.nanoTime())
+                : AuctionTimeline.disabled();
+    }
+
+    void complete(AuctionTimeline timeline, String account, String endpoint) {
+        final TimelineRecord record = timeline.toRecord(account, endpoint);
+
+        final long index = position.getAndIncrement();
+        records.set((int) (index % records.length()), record);
+
+        for (TimelineRecord.SpanRecord span : record.getSpans()) {
+            metrics.updateAuctionTimelineSpanMetrics(span.getSpan().name(), span.getDurationMicros());
+        }
+    }
+
+    /**
+     * Returns recently completed timelines, latest first.
+     */
+    public List<TimelineRecord> recent() {
+        final int capacity = records.length();
+        final long end = position.get();
+        final long start = Math.max(0, end - capacity);
+
+        final List<TimelineRecord> result = new ArrayList<>((int) (end - start));
+        for (long index = end - 1; index >= start; index--) {
+            final TimelineRecord record = records.get((int) (index % capacity));
+            if (record != null) {
+                result.add(record);
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,31 @@
+package org.prebid.server.auction.timeline;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value(staticConstructor = "of")
+public class TimelineRecord {
+
+    long timestamp;
+
+    String account;
+
+    String endpoint;
+
+    long durationMicros;
+
+    List<SpanRecord> spans;
+
+    @Value(staticConstructor = "of")
+    public static class SpanRecord {
+
+        TimelineSpan span;
+
+        String detail;
+
+        long startMicros;
+
+        long durationMicros;
+    }
+}
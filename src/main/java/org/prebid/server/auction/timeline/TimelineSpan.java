@@ -0,0 +1,17 @@
+package org.prebid.server.auction.timeline;
+
+public enum TimelineSpan {
+
+    request_parsing,
+    stored_request,
+    account_fetch,
+    geo_lookup,
+    gpp,
+    privacy,
+    hooks,
+    bidder_request,
+    category_mapping,
+    response_creation,
+    cache,
+    response_encoding
+}
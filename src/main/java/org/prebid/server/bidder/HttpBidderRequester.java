@@ -37,6 +37,7 @@ import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -431,9 +432,9 @@ public class HttpBidderRequester {
                     .map(BidderCall::unfinishedHttp)
                     .forEach(httpCalls::add);
 
-            // Capture debugging info from the requests
+            // Capture debugging info from the requests, converted only if it gets into the response
             final List<ExtHttpCall> extHttpCalls = debugEnabled
-                    ? httpCalls.stream().map(this::toExt).toList()
+                    ? new LazyExtHttpCalls<>(httpCalls, this::toExt)
                     : Collections.emptyList();
 
             final List<BidderError> errors = combineErrors(previousErrors, httpCalls, errorsRecorded);
@@ -482,6 +483,38 @@ public class HttpBidderRequester {
         }
     }
 
+    /**
+     * List of {@link ExtHttpCall}s backed by recorded {@link BidderCall}s.
+     * <p>
+     * Calls are converted (with request payload encoding) on first access to the elements only,
+     * so debug info which never gets into the auction response costs just the references to the calls.
+     */
+    private static class LazyExtHttpCalls<T> extends AbstractList<ExtHttpCall> {
+
+        private final List<BidderCall<T>> bidderCalls;
+        private final Function<BidderCall<T>, ExtHttpCall> converter;
+
+        private List<ExtHttpCall> extHttpCalls;
+
+        LazyExtHttpCalls(List<BidderCall<T>> bidderCalls, Function<BidderCall<T>, ExtHttpCall> converter) {
+            this.bidderCalls = bidderCalls;
+            this.converter = converter;
+        }
+
+        @Override
+        public ExtHttpCall get(int index) {
+            if (extHttpCalls == null) {
+                extHttpCalls = bidderCalls.stream().map(converter).toList();
+            }
+            return extHttpCalls.get(index);
+        }
+
+        @Override
+        public int size() {
+            return bidderCalls.size();
+        }
+    }
+
     private static BidderRequestCompletionTrackerFactory completionTrackerFactoryOrFallback(
             BidderRequestCompletionTrackerFactory completionTrackerFactory) {
 
@@ -1,7 +1,7 @@
 package org.prebid.server.cache;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.POJONode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.iab.openrtb.response.Bid;
 import io.vertx.core.Future;
@@ -10,6 +10,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidInfo;
 import org.prebid.server.auction.model.CachedDebugLog;
+import org.prebid.server.cache.batch.CacheRequestBatcher;
+import org.prebid.server.cache.local.LocalCreativeCache;
 import org.prebid.server.cache.model.CacheBid;
 import org.prebid.server.cache.model.CacheContext;
 import org.prebid.server.cache.model.CacheHttpRequest;
@@ -19,6 +21,7 @@ import org.prebid.server.cache.model.CacheServiceResult;
 import org.prebid.server.cache.model.CachedCreative;
 import org.prebid.server.cache.model.DebugHttpCall;
 import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidCacheValue;
 import org.prebid.server.cache.proto.request.bid.BidPutObject;
 import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
 import org.prebid.server.cache.proto.response.bid.CacheObject;
@@ -63,10 +66,10 @@ public class CoreCacheService {
 
     private static final Map<String, List<String>> DEBUG_HEADERS =
             HttpUtil.toDebugHeaders(CacheServiceUtil.CACHE_HEADERS);
-    private static final String BID_WURL_ATTRIBUTE = "wurl";
 
     private final HttpClient httpClient;
     private final URL endpointUrl;
+    private final URL cachedAssetEndpointUrl;
     private final String cachedAssetUrlTemplate;
     private final long expectedCacheTimeMs;
     private final VastModifier vastModifier;
@@ -75,6 +78,8 @@ public class CoreCacheService {
     private final Clock clock;
     private final UUIDIdGenerator idGenerator;
     private final JacksonMapper mapper;
+    private final LocalCreativeCache localCreativeCache;
+    private final CacheRequestBatcher cacheRequestBatcher;
 
     public CoreCacheService(
             HttpClient httpClient,
@@ -88,8 +93,48 @@ public class CoreCacheService {
             UUIDIdGenerator idGenerator,
             JacksonMapper mapper) {
 
+        this(httpClient,
+                endpointUrl,
+                endpointUrl,
+                cachedAssetUrlTemplate,
+                expectedCacheTimeMs,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                mapper,
+                null,
+                null);
+    }
+
+    /**
+     * Creates service which caches auction bids in the given {@link LocalCreativeCache} (if present) instead of
+     * waiting for the external Prebid Cache response, or otherwise sends them in requests shared with other auctions
+     * by the given {@link CacheRequestBatcher} (if present).
+     * <p>
+     * Cached assets are expected to be fetched from {@code cachedAssetEndpointUrl}, which may differ from
+     * {@code endpointUrl} they are written to. Locally cached creatives are written to the external Prebid Cache
+     * only after ids are returned, so they should be fetched from the local cache endpoint.
+     */
+    public CoreCacheService(
+            HttpClient httpClient,
+            URL endpointUrl,
+            URL cachedAssetEndpointUrl,
+            String cachedAssetUrlTemplate,
+            long expectedCacheTimeMs,
+            VastModifier vastModifier,
+            EventsService eventsService,
+            Metrics metrics,
+            Clock clock,
+            UUIDIdGenerator idGenerator,
+            JacksonMapper mapper,
+            LocalCreativeCache localCreativeCache,
+            CacheRequestBatcher cacheRequestBatcher) {
+
         this.httpClient = Objects.requireNonNull(httpClient);
         this.endpointUrl = Objects.requireNonNull(endpointUrl);
+        this.cachedAssetEndpointUrl = Objects.requireNonNull(cachedAssetEndpointUrl);
         this.cachedAssetUrlTemplate = Objects.requireNonNull(cachedAssetUrlTemplate);
         this.expectedCacheTimeMs = expectedCacheTimeMs;
         this.vastModifier = Objects.requireNonNull(vastModifier);
@@ -98,16 +143,18 @@ public class CoreCacheService {
         this.clock = Objects.requireNonNull(clock);
         this.idGenerator = Objects.requireNonNull(idGenerator);
         this.mapper = Objects.requireNonNull(mapper);
+        this.localCreativeCache = localCreativeCache;
+        this.cacheRequestBatcher = cacheRequestBatcher;
     }
 
     public String getEndpointHost() {
-        final String host = endpointUrl.getHost();
-        final int port = endpointUrl.getPort();
+        final String host = cachedAssetEndpointUrl.getHost();
+        final int port = cachedAssetEndpointUrl.getPort();
         return port != -1 ? "%s:%d".formatted(host, port) : host;
     }
 
     public String getEndpointPath() {
-        return endpointUrl.getPath();
+        return cachedAssetEndpointUrl.getPath();
     }
 
     public String getCachedAssetURLTemplate() {
@@ -128,14 +175,14 @@ public class CoreCacheService {
 
     private CachedCreative makeDebugCacheCreative(CachedDebugLog videoCacheDebugLog, String hbCacheId,
                                                   Integer videoCacheTtl) {
-        final JsonNode value = mapper.mapper().valueToTree(videoCacheDebugLog.buildCacheBody());
+        final String cacheBody = videoCacheDebugLog.buildCacheBody();
         videoCacheDebugLog.setCacheKey(hbCacheId);
         return CachedCreative.of(BidPutObject.builder()
                 .type(CachedDebugLog.CACHE_TYPE)
-                .value(new TextNode(videoCacheDebugLog.buildCacheBody()))
+                .value(new TextNode(cacheBody))
                 .expiry(videoCacheTtl != null ? videoCacheTtl : videoCacheDebugLog.getTtl())
                 .key("log_" + hbCacheId)
-                .build(), creativeSizeFromTextNode(value));
+                .build(), lengthOrZero(cacheBody));
     }
 
     private Future<BidCacheResponse> makeRequest(BidCacheRequest bidCacheRequest,
@@ -271,6 +318,10 @@ public class CoreCacheService {
             cachedCreatives.add(makeDebugCacheCreative(cachedDebugLog, hbCacheId, videoCacheTtl));
         }
 
+        if (localCreativeCache != null) {
+            return Future.succeededFuture(cacheLocally(cachedCreatives, bids, videoBids, hbCacheId, accountId));
+        }
+
         final long remainingTimeout = auctionContext.getTimeoutContext().getTimeout().remaining();
         if (remainingTimeout <= 0) {
             return Future.succeededFuture(CacheServiceResult.of(null, new TimeoutException("Timeout has been exceeded"),
@@ -281,6 +332,11 @@ public class CoreCacheService {
 
         updateCreativeMetrics(accountId, cachedCreatives);
 
+        // debug output should contain request of this auction only, so such auctions are not batched
+        if (cacheRequestBatcher != null && !auctionContext.getDebugContext().isDebugEnabled()) {
+            return cacheInBatch(bidCacheRequest, bids, videoBids, hbCacheId, accountId, remainingTimeout);
+        }
+
         final String url = endpointUrl.toString();
         final String body = mapper.encodeToString(bidCacheRequest);
         final CacheHttpRequest httpRequest = CacheHttpRequest.of(url, body);
@@ -298,6 +354,47 @@ public class CoreCacheService {
                 .otherwise(exception -> failResponseOpenrtb(exception, accountId, httpRequest, startTime));
     }
 
+    private CacheServiceResult cacheLocally(List<CachedCreative> cachedCreatives,
+                                            List<CacheBid> bids,
+                                            List<CacheBid> videoBids,
+                                            String hbCacheId,
+                                            String accountId) {
+
+        updateCreativeMetrics(accountId, cachedCreatives);
+
+        final List<String> uuids = new ArrayList<>(cachedCreatives.size());
+        for (CachedCreative cachedCreative : cachedCreatives) {
+            final BidPutObject payload = cachedCreative.getPayload();
+            final String uuid = payload.getKey() != null ? payload.getKey() : idGenerator.generateId();
+
+            localCreativeCache.put(uuid, payload);
+            uuids.add(uuid);
+        }
+
+        return CacheServiceResult.of(null, null, toResultMap(bids, videoBids, uuids, hbCacheId));
+    }
+
+    private Future<CacheServiceResult> cacheInBatch(BidCacheRequest bidCacheRequest,
+                                                    List<CacheBid> bids,
+                                                    List<CacheBid> videoBids,
+                                                    String hbCacheId,
+                                                    String accountId,
+                                                    long remainingTimeout) {
+
+        final long startTime = clock.millis();
+        return cacheRequestBatcher.cache(bidCacheRequest.getPuts(), remainingTimeout)
+                .map(bidCacheResponse -> {
+                    metrics.updateCacheRequestSuccessTime(accountId, clock.millis() - startTime);
+
+                    final List<String> uuids = toResponse(bidCacheResponse, CacheObject::getUuid);
+                    return CacheServiceResult.of(
+                            makeDebugHttpCall(endpointUrl.toString(), null, null, startTime),
+                            null,
+                            toResultMap(bids, videoBids, uuids, hbCacheId));
+                })
+                .otherwise(exception -> failResponseOpenrtb(exception, accountId, null, startTime));
+    }
+
     private CacheServiceResult processResponseOpenrtb(HttpClientResponse response,
                                                       CacheHttpRequest httpRequest,
                                                       int bidCount,
@@ -362,21 +459,17 @@ public class CoreCacheService {
 
         final BidInfo bidInfo = cacheBid.getBidInfo();
         final Bid bid = bidInfo.getBid();
-        final ObjectNode bidObjectNode = mapper.mapper().valueToTree(bid);
 
         final String eventUrl = generateWinUrl(
                 bidInfo.getBidId(),
                 bidInfo.getBidder(),
                 accountId,
                 eventsContext);
-        if (eventUrl != null) {
-            bidObjectNode.put(BID_WURL_ATTRIBUTE, eventUrl);
-        }
 
         final BidPutObject payload = BidPutObject.builder()
                 .aid(eventsContext.getAuctionId())
                 .type("json")
-                .value(bidObjectNode)
+                .value(new POJONode(BidCacheValue.of(bid, eventUrl)))
                 .ttlseconds(cacheBid.getTtl())
                 .build();
 
@@ -0,0 +1,243 @@
+package org.prebid.server.cache.batch;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+import org.prebid.server.cache.proto.response.bid.CacheObject;
+import org.prebid.server.cache.utils.CacheServiceUtil;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.net.URL;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Collects cache puts of auctions completed within a short window on the same Vert.x event loop context
+ * and sends them to the Prebid Cache as a single request, fanning response uuids back out to each auction.
+ * Puts made out of an event loop context are sent at once without batching.
+ * <p>
+ * Batch is sent when the window elapses, when it collects enough puts or when an auction cannot afford
+ * to wait for the window because of its remaining timeout. Each auction is failed on its own deadline
+ * even if the batched request lasts longer.
+ */
+public class CacheRequestBatcher {
+
+    private final URL endpointUrl;
+    private final long windowMs;
+    private final int maxPuts;
+    private final Vertx vertx;
+    private final HttpClient httpClient;
+    private final Metrics metrics;
+    private final Clock clock;
+    private final JacksonMapper mapper;
+
+    private final Map<Context, Batch> batches;
+
+    public CacheRequestBatcher(URL endpointUrl,
+                               long windowMs,
+                               int maxPuts,
+                               Vertx vertx,
+                               HttpClient httpClient,
+                               Metrics metrics,
+                               Clock clock,
+                               JacksonMapper mapper) {
+
+        if (windowMs <= 0) {
+            throw new IllegalArgumentException("Cache batch window should be positive");
+        }
+        if (maxPuts <= 0) {
+            throw new IllegalArgumentException("Cache batch max puts should be positive");
+        }
+
+        this.endpointUrl = Objects.requireNonNull(endpointUrl);
+        this.windowMs = windowMs;
+        this.maxPuts = maxPuts;
+        this.vertx = Objects.requireNonNull(vertx);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+        this.mapper = Objects.requireNonNull(mapper);
+
+        batches = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Adds given puts to the batch of the current context. Returned response contains cache objects
+     * for the given puts only, in the same order.
+     */
+    public Future<BidCacheResponse> cache(List<BidPutObject> putObjects, long remainingTimeout) {
+        final Submission submission = new Submission(putObjects, clock.millis() + remainingTimeout);
+
+        final Context context = vertx.getOrCreateContext();
+        if (!context.isEventLoopContext()) {
+            send(Collections.singletonList(submission));
+            return submission.promise.future();
+        }
+
+        // batch is only touched from the thread of its context, so no further synchronization is needed
+        batches.computeIfAbsent(context, Batch::new).add(submission, remainingTimeout);
+
+        return submission.promise.future();
+    }
+
+    /**
+     * Batch is removed from the map once flushed, so the map holds only contexts with puts waiting for the window.
+     */
+    private class Batch {
+
+        private final Context context;
+
+        private final List<Submission> submissions = new ArrayList<>();
+        private int putsCount;
+        private long timerId = -1;
+
+        Batch(Context context) {
+            this.context = context;
+        }
+
+        void add(Submission submission, long remainingTimeout) {
+            submissions.add(submission);
+            putsCount += submission.putObjects.size();
+
+            if (putsCount >= maxPuts || remainingTimeout <= windowMs) {
+                flush();
+            } else if (timerId == -1) {
+                timerId = vertx.setTimer(windowMs, ignored -> flush());
+            }
+        }
+
+        private void flush() {
+            if (timerId != -1) {
+                vertx.cancelTimer(timerId);
+                timerId = -1;
+            }
+
+            batches.remove(context, this);
+
+            send(submissions);
+        }
+    }
+
+    private void send(List<Submission> submissions) {
+        final long now = clock.millis();
+
+        final List<Submission> alive = new ArrayList<>(submissions.size());
+        final List<BidPutObject> putObjects = new ArrayList<>();
+        long latestDeadline = now;
+        for (Submission submission : submissions) {
+            if (submission.deadline <= now) {
+                submission.promise.tryFail(new TimeoutException("Timeout has been exceeded"));
+                continue;
+            }
+
+            alive.add(submission);
+            putObjects.addAll(submission.putObjects);
+            latestDeadline = Math.max(latestDeadline, submission.deadline);
+        }
+
+        if (alive.isEmpty()) {
+            return;
+        }
+
+        for (Submission submission : alive) {
+            if (submission.deadline < latestDeadline) {
+                submission.timerId = vertx.setTimer(submission.deadline - now, ignored ->
+                        submission.promise.tryFail(new TimeoutException("Timeout has been exceeded")));
+            }
+        }
+
+        metrics.updateCacheBatchMetrics(alive.size(), putObjects.size());
+
+        httpClient.post(
+                        endpointUrl.toString(),
+                        CacheServiceUtil.CACHE_HEADERS,
+                        mapper.encodeToString(BidCacheRequest.of(putObjects)),
+                        latestDeadline - now)
+                .onComplete(result -> handleResponse(result, alive, putObjects.size()));
+    }
+
+    private void handleResponse(AsyncResult<HttpClientResponse> result, List<Submission> submissions, int putsCount) {
+        if (result.failed()) {
+            failAll(submissions, result.cause());
+            return;
+        }
+
+        final List<CacheObject> responses;
+        try {
+            responses = toCacheObjects(result.result(), putsCount);
+        } catch (PreBidException e) {
+            failAll(submissions, e);
+            return;
+        }
+
+        int offset = 0;
+        for (Submission submission : submissions) {
+            final int size = submission.putObjects.size();
+            final BidCacheResponse response = BidCacheResponse.of(responses.subList(offset, offset + size));
+            complete(submission, Future.succeededFuture(response));
+            offset += size;
+        }
+    }
+
+    private void failAll(List<Submission> submissions, Throwable exception) {
+        submissions.forEach(submission -> complete(submission, Future.failedFuture(exception)));
+    }
+
+    private List<CacheObject> toCacheObjects(HttpClientResponse response, int putsCount) {
+        final int statusCode = response.getStatusCode();
+        if (statusCode != 200) {
+            throw new PreBidException("HTTP status code " + statusCode);
+        }
+
+        final BidCacheResponse bidCacheResponse;
+        try {
+            bidCacheResponse = mapper.decodeValue(response.getBody(), BidCacheResponse.class);
+        } catch (DecodeException e) {
+            throw new PreBidException("Cannot parse response: " + response.getBody(), e);
+        }
+
+        final List<CacheObject> responses = bidCacheResponse.getResponses();
+        if (responses == null || responses.size() != putsCount) {
+            throw new PreBidException("The number of response cache objects doesn't match with bids");
+        }
+
+        return responses;
+    }
+
+    private void complete(Submission submission, AsyncResult<BidCacheResponse> result) {
+        if (submission.timerId != -1) {
+            vertx.cancelTimer(submission.timerId);
+        }
+        submission.promise.tryHandle(result);
+    }
+
+    private static class Submission {
+
+        private final List<BidPutObject> putObjects;
+        private final long deadline;
+        private final Promise<BidCacheResponse> promise;
+        private long timerId = -1;
+
+        Submission(List<BidPutObject> putObjects, long deadline) {
+            this.putObjects = putObjects;
+            this.deadline = deadline;
+            this.promise = Promise.promise();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package org.prebid.server.cache.local;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.utils.CacheServiceUtil;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.Initializable;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.net.URL;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes creatives stored in {@link LocalCreativeCache} to the external Prebid Cache in batches,
+ * out of the auction critical path.
+ * <p>
+ * Number of batches being written at once is limited, creatives which do not fit are left in the queue
+ * until the next flush.
+ */
+public class CacheWriteBehind implements Initializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWriteBehind.class);
+
+    private final URL endpointUrl;
+    private final int batchSize;
+    private final int maxInFlightBatches;
+    private final int maxQueueSize;
+    private final long flushPeriodMs;
+    private final long timeoutMs;
+    private final Vertx vertx;
+    private final HttpClient httpClient;
+    private final Metrics metrics;
+    private final Clock clock;
+    private final JacksonMapper mapper;
+
+    private final Queue<PendingPut> queue;
+    private final AtomicInteger queueSize;
+    private final AtomicInteger inFlightBatches;
+
+    public CacheWriteBehind(URL endpointUrl,
+                            int batchSize,
+                            int maxInFlightBatches,
+                            int maxQueueSize,
+                            long flushPeriodMs,
+                            long timeoutMs,
+                            Vertx vertx,
+                            HttpClient httpClient,
+                            Metrics metrics,
+                            Clock clock,
+                            JacksonMapper mapper) {
+
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Write-behind batch size should be positive");
+        }
+        if (maxInFlightBatches <= 0) {
+            throw new IllegalArgumentException("Write-behind max in-flight batches should be positive");
+        }
+
+        this.endpointUrl = Objects.requireNonNull(endpointUrl);
+        this.batchSize = batchSize;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.maxQueueSize = maxQueueSize;
+        this.flushPeriodMs = flushPeriodMs;
+        this.timeoutMs = timeoutMs;
+        this.vertx = Objects.requireNonNull(vertx);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+        this.mapper = Objects.requireNonNull(mapper);
+
+        queue = new ConcurrentLinkedQueue<>();
+        queueSize = new AtomicInteger();
+        inFlightBatches = new AtomicInteger();
+    }
+
+    @Override
+    public void initialize(Promise<Void> initializePromise) {
+        metrics.createLocalCacheWriteBehindQueueGauge(queueSize::get);
+        vertx.setPeriodic(flushPeriodMs, ignored -> flush());
+        initializePromise.tryComplete();
+    }
+
+    public void enqueue(BidPutObject putObject) {
+        if (queueSize.incrementAndGet() > maxQueueSize) {
+            queueSize.decrementAndGet();
+            metrics.updateLocalCacheWriteBehindMetric(MetricName.dropped);
+            return;
+        }
+
+        queue.offer(new PendingPut(putObject, clock.millis()));
+    }
+
+    void flush() {
+        final long now = clock.millis();
+
+        while (inFlightBatches.get() < maxInFlightBatches) {
+            final List<BidPutObject> batch = nextBatch(now);
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            inFlightBatches.incrementAndGet();
+            send(batch);
+        }
+    }
+
+    private List<BidPutObject> nextBatch(long now) {
+        final List<BidPutObject> batch = new ArrayList<>(batchSize);
+
+        PendingPut pendingPut;
+        while (batch.size() < batchSize && (pendingPut = queue.poll()) != null) {
+            queueSize.decrementAndGet();
+            metrics.updateLocalCacheWriteBehindLag(now - pendingPut.enqueuedAt());
+            batch.add(pendingPut.putObject());
+        }
+
+        return batch;
+    }
+
+    private void send(List<BidPutObject> batch) {
+        httpClient.post(
+                        endpointUrl.toString(),
+                        CacheServiceUtil.CACHE_HEADERS,
+                        mapper.encodeToString(BidCacheRequest.of(batch)),
+                        timeoutMs)
+                .onComplete(this::handleResponse);
+    }
+
+    private void handleResponse(AsyncResult<HttpClientResponse> result) {
+        inFlightBatches.decrementAndGet();
+
+        if (result.succeeded() && result.result().getStatusCode() == 200) {
+            metrics.updateLocalCacheWriteBehindMetric(MetricName.ok);
+            return;
+        }
+
+        final String error = result.succeeded()
+                ? "HTTP status code " + result.result().getStatusCode()
+                : result.cause().getMessage();
+
+        metrics.updateLocalCacheWriteBehindMetric(MetricName.err);
+        logger.warn("Error occurred while writing creatives to cache service: {}", error);
+    }
+
+    private record PendingPut(BidPutObject putObject, long enqueuedAt) {
+    }
+}
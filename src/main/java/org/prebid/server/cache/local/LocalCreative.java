@@ -0,0 +1,13 @@
+package org.prebid.server.cache.local;
+
+import lombok.Value;
+
+@Value(staticConstructor = "of")
+public class LocalCreative {
+
+    String type;
+
+    byte[] value;
+
+    int ttlSeconds;
+}
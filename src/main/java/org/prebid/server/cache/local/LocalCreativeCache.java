@@ -0,0 +1,112 @@
+package org.prebid.server.cache.local;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process creative store in front of Prebid Cache.
+ * <p>
+ * Creatives are kept as encoded bytes (not as JSON trees) in a store bounded by total size in bytes, each entry
+ * expires according to its own TTL. Every stored creative is also passed to {@link CacheWriteBehind}, so it becomes
+ * available in the external Prebid Cache under the same key.
+ */
+public class LocalCreativeCache {
+
+    private static final byte[] EMPTY_VALUE = new byte[0];
+
+    private final int defaultTtlSeconds;
+    private final CacheWriteBehind writeBehind;
+    private final Metrics metrics;
+    private final JacksonMapper mapper;
+
+    private final Cache<String, LocalCreative> creatives;
+
+    public LocalCreativeCache(long maxSizeBytes,
+                              int defaultTtlSeconds,
+                              CacheWriteBehind writeBehind,
+                              Metrics metrics,
+                              JacksonMapper mapper) {
+
+        if (maxSizeBytes <= 0) {
+            throw new IllegalArgumentException("Local cache max size should be positive");
+        }
+        if (defaultTtlSeconds <= 0) {
+            throw new IllegalArgumentException("Local cache default TTL should be positive");
+        }
+
+        this.defaultTtlSeconds = defaultTtlSeconds;
+        this.writeBehind = Objects.requireNonNull(writeBehind);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.mapper = Objects.requireNonNull(mapper);
+
+        creatives = Caffeine.newBuilder()
+                .maximumWeight(maxSizeBytes)
+                .weigher((String key, LocalCreative creative) -> key.length() + creative.getValue().length)
+                .expireAfter(new TtlExpiry())
+                .build();
+    }
+
+    /**
+     * Stores given creative under the given key and schedules its write to the external Prebid Cache.
+     */
+    public void put(String key, BidPutObject putObject) {
+        final LocalCreative creative = LocalCreative.of(
+                putObject.getType(),
+                toBytes(putObject.getValue()),
+                resolveTtl(putObject));
+
+        creatives.put(key, creative);
+        writeBehind.enqueue(putObject.toBuilder().key(key).build());
+    }
+
+    public LocalCreative get(String key) {
+        final LocalCreative creative = creatives.getIfPresent(key);
+        metrics.updateLocalCacheLookupMetric(creative != null);
+        return creative;
+    }
+
+    private byte[] toBytes(JsonNode value) {
+        if (value == null || value.isNull()) {
+            return EMPTY_VALUE;
+        }
+
+        return value.isTextual()
+                ? value.textValue().getBytes(StandardCharsets.UTF_8)
+                : mapper.encodeToBytes(value);
+    }
+
+    private int resolveTtl(BidPutObject putObject) {
+        final Integer ttlSeconds = putObject.getTtlseconds() != null
+                ? putObject.getTtlseconds()
+                : putObject.getExpiry();
+
+        return ttlSeconds != null && ttlSeconds > 0 ? ttlSeconds : defaultTtlSeconds;
+    }
+
+    private static class TtlExpiry implements Expiry<String, LocalCreative> {
+
+        @Override
+        public long expireAfterCreate(String key, LocalCreative creative, long currentTime) {
+            return TimeUnit.SECONDS.toNanos(creative.getTtlSeconds());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, LocalCreative creative, long currentTime, long currentDuration) {
+            return TimeUnit.SECONDS.toNanos(creative.getTtlSeconds());
+        }
+
+        @Override
+        public long expireAfterRead(String key, LocalCreative creative, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.prebid.server.cache.proto.request.bid;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import com.iab.openrtb.response.Bid;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * JSON creative value of {@link BidPutObject} written straight from {@link Bid} into the request generator,
+ * without building intermediate JSON tree.
+ * <p>
+ * Output is the same as of the tree previously built by {@code valueToTree(bid)} with win URL appended
+ * (tree normalizes price by stripping trailing zeros, so it is done here as well).
+ */
+public class BidCacheValue implements JsonSerializable {
+
+    private static final String WIN_URL_FIELD = "wurl";
+
+    private final Bid bid;
+    private final String winUrl;
+
+    private BidCacheValue(Bid bid, String winUrl) {
+        this.bid = Objects.requireNonNull(bid);
+        this.winUrl = winUrl;
+    }
+
+    public static BidCacheValue of(Bid bid, String winUrl) {
+        return new BidCacheValue(bid, winUrl);
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject();
+        provider.findValueSerializer(Bid.class)
+                .unwrappingSerializer(NameTransformer.NOP)
+                .serialize(normalizePrice(bid), generator, provider);
+        if (winUrl != null) {
+            generator.writeStringField(WIN_URL_FIELD, winUrl);
+        }
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator,
+                                  SerializerProvider provider,
+                                  TypeSerializer typeSerializer) throws IOException {
+
+        serialize(generator, provider);
+    }
+
+    private static Bid normalizePrice(Bid bid) {
+        final BigDecimal price = bid.getPrice();
+        if (price == null || price.scale() <= 0) {
+            return bid;
+        }
+
+        final BigDecimal normalizedPrice = price.signum() == 0 ? BigDecimal.ZERO : price.stripTrailingZeros();
+        return normalizedPrice.scale() != price.scale() ? bid.toBuilder().price(normalizedPrice).build() : bid;
+    }
+}
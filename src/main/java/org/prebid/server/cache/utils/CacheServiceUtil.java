@@ -41,4 +41,23 @@ public class CacheServiceUtil {
         }
     }
 
+    /**
+     * Returns URL of the endpoint serving creatives from the local cache of the server available at given
+     * external URL.
+     */
+    public static URL getLocalCacheEndpointUrl(String externalUrl, String localCachePath) {
+        try {
+            return new URL(new URL(externalUrl), localCachePath);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Could not get local cache endpoint", e);
+        }
+    }
+
+    public static String getLocalCachedAssetUrlTemplate(String externalUrl, String localCachePath, String cacheQuery) {
+        try {
+            return new URL(new URL(externalUrl), localCachePath + "?" + cacheQuery).toString();
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Could not get cached asset url template for local cache", e);
+        }
+    }
 }
@@ -9,8 +9,6 @@ import java.util.Objects;
 
 public class EventUtil {
 
-    private static final String TEMPLATE_URL = "%s/event?t=%s&b=%s&a=%s";
-
     // Required  query string parameters
 
     private static final String TYPE_PARAMETER = "t";
@@ -144,55 +142,108 @@ public class EventUtil {
     }
 
     static String toUrl(String externalUrl, EventRequest eventRequest) {
-        final String urlWithRequiredParameters = TEMPLATE_URL.formatted(
-                externalUrl,
-                eventRequest.getType(),
-                eventRequest.getBidId(),
-                eventRequest.getAccountId());
-
-        return urlWithRequiredParameters + optionalParameters(eventRequest);
+        return urlTemplate(externalUrl, eventRequest.getType(), eventRequest.getFormat(), eventRequest.getAnalytics())
+                .url(eventRequest.getBidId(),
+                        eventRequest.getAccountId(),
+                        eventRequest.getAuctionId(),
+                        eventRequest.getTimestamp(),
+                        eventRequest.getBidder(),
+                        eventRequest.getIntegration());
     }
 
-    private static String optionalParameters(EventRequest eventRequest) {
-        final StringBuilder result = new StringBuilder();
+    /**
+     * Returns {@link UrlTemplate} with query string parts for the given type, format and analytics built upfront.
+     */
+    static UrlTemplate urlTemplate(String externalUrl,
+                                   EventRequest.Type type,
+                                   EventRequest.Format format,
+                                   EventRequest.Analytics analytics) {
 
-        // auction ID
-        if (StringUtils.isNotEmpty(eventRequest.getAuctionId())) {
-            result.append(nameValueAsQueryString(AUCTION_ID, eventRequest.getAuctionId()));
-        }
+        final String prefix = externalUrl + "/event?" + TYPE_PARAMETER + "=" + type
+                + "&" + BID_ID_PARAMETER + "=";
 
-        // timestamp
-        if (eventRequest.getTimestamp() != null) {
-            result.append(nameValueAsQueryString(TIMESTAMP_PARAMETER, eventRequest.getTimestamp().toString()));
-        }
+        final String formatAndIntegration = formatAsQueryString(format)
+                + nameValueAsQueryString(INTEGRATION_PARAMETER, StringUtils.EMPTY);
 
-        // bidder
-        if (StringUtils.isNotEmpty(eventRequest.getBidder())) {
-            result.append(nameValueAsQueryString(BIDDER_PARAMETER, eventRequest.getBidder()));
-        }
+        return new UrlTemplate(prefix, formatAndIntegration, analyticsAsQueryString(analytics));
+    }
 
-        // format
-        if (eventRequest.getFormat() == EventRequest.Format.blank) {
-            result.append(nameValueAsQueryString(FORMAT_PARAMETER, BLANK_FORMAT));
-        } else if (eventRequest.getFormat() == EventRequest.Format.image) {
-            result.append(nameValueAsQueryString(FORMAT_PARAMETER, IMAGE_FORMAT));
+    private static String formatAsQueryString(EventRequest.Format format) {
+        if (format == EventRequest.Format.blank) {
+            return nameValueAsQueryString(FORMAT_PARAMETER, BLANK_FORMAT);
+        } else if (format == EventRequest.Format.image) {
+            return nameValueAsQueryString(FORMAT_PARAMETER, IMAGE_FORMAT);
         }
+        return StringUtils.EMPTY;
+    }
 
-        // integration
-        result.append(nameValueAsQueryString(
-                INTEGRATION_PARAMETER, StringUtils.stripToEmpty(eventRequest.getIntegration())));
-
-        // analytics
-        if (eventRequest.getAnalytics() == EventRequest.Analytics.enabled) {
-            result.append(nameValueAsQueryString(ANALYTICS_PARAMETER, ENABLED_ANALYTICS));
-        } else if (eventRequest.getAnalytics() == EventRequest.Analytics.disabled) {
-            result.append(nameValueAsQueryString(ANALYTICS_PARAMETER, DISABLED_ANALYTICS));
+    private static String analyticsAsQueryString(EventRequest.Analytics analytics) {
+        if (analytics == EventRequest.Analytics.enabled) {
+            return nameValueAsQueryString(ANALYTICS_PARAMETER, ENABLED_ANALYTICS);
+        } else if (analytics == EventRequest.Analytics.disabled) {
+            return nameValueAsQueryString(ANALYTICS_PARAMETER, DISABLED_ANALYTICS);
         }
-
-        return result.toString();
+        return StringUtils.EMPTY;
     }
 
     private static String nameValueAsQueryString(String name, String value) {
         return "&" + name + "=" + value;
     }
+
+    /**
+     * Event url with static parts prepared upfront, so only values of bid, account and auction
+     * are appended to a single builder for each url.
+     */
+    static final class UrlTemplate {
+
+        private static final String ACCOUNT_ID_PREFIX = "&" + ACCOUNT_ID_PARAMETER + "=";
+        private static final String AUCTION_ID_PREFIX = "&" + AUCTION_ID + "=";
+        private static final String TIMESTAMP_PREFIX = "&" + TIMESTAMP_PARAMETER + "=";
+        private static final String BIDDER_PREFIX = "&" + BIDDER_PARAMETER + "=";
+
+        // enough for the parameter names and timestamp
+        private static final int FIXED_CAPACITY = 64;
+
+        private final String prefix;
+        private final String formatAndIntegration;
+        private final String analytics;
+
+        private UrlTemplate(String prefix, String formatAndIntegration, String analytics) {
+            this.prefix = prefix;
+            this.formatAndIntegration = formatAndIntegration;
+            this.analytics = analytics;
+        }
+
+        String url(String bidId,
+                   String accountId,
+                   String auctionId,
+                   Long timestamp,
+                   String bidder,
+                   String integration) {
+
+            final String integrationValue = StringUtils.stripToEmpty(integration);
+            final StringBuilder url = new StringBuilder(FIXED_CAPACITY
+                    + prefix.length() + formatAndIntegration.length() + analytics.length()
+                    + StringUtils.length(bidId) + StringUtils.length(accountId) + StringUtils.length(auctionId)
+                    + StringUtils.length(bidder) + integrationValue.length());
+
+            url.append(prefix).append(bidId)
+                    .append(ACCOUNT_ID_PREFIX).append(accountId);
+
+            if (StringUtils.isNotEmpty(auctionId)) {
+                url.append(AUCTION_ID_PREFIX).append(auctionId);
+            }
+            if (timestamp != null) {
+                url.append(TIMESTAMP_PREFIX).append(timestamp.longValue());
+            }
+            if (StringUtils.isNotEmpty(bidder)) {
+                url.append(BIDDER_PREFIX).append(bidder);
+            }
+
+            return url.append(formatAndIntegration)
+                    .append(integrationValue)
+                    .append(analytics)
+                    .toString();
+        }
+    }
 }
@@ -7,10 +7,25 @@ import java.util.Objects;
 
 public class EventsService {
 
-    private final String externalUrl;
+    private final EventUtil.UrlTemplate winUrlTemplate;
+    private final EventUtil.UrlTemplate winUrlWithDisabledAnalyticsTemplate;
+    private final EventUtil.UrlTemplate impUrlTemplate;
+    private final EventUtil.UrlTemplate impUrlWithDisabledAnalyticsTemplate;
+    private final EventUtil.UrlTemplate vastUrlTemplate;
 
     public EventsService(String externalUrl) {
-        this.externalUrl = HttpUtil.validateUrl(Objects.requireNonNull(externalUrl));
+        final String validExternalUrl = HttpUtil.validateUrl(Objects.requireNonNull(externalUrl));
+
+        winUrlTemplate = EventUtil.urlTemplate(
+                validExternalUrl, EventRequest.Type.win, EventRequest.Format.image, null);
+        winUrlWithDisabledAnalyticsTemplate = EventUtil.urlTemplate(
+                validExternalUrl, EventRequest.Type.win, EventRequest.Format.image, EventRequest.Analytics.disabled);
+        impUrlTemplate = EventUtil.urlTemplate(
+                validExternalUrl, EventRequest.Type.imp, EventRequest.Format.image, null);
+        impUrlWithDisabledAnalyticsTemplate = EventUtil.urlTemplate(
+                validExternalUrl, EventRequest.Type.imp, EventRequest.Format.image, EventRequest.Analytics.disabled);
+        vastUrlTemplate = EventUtil.urlTemplate(
+                validExternalUrl, EventRequest.Type.imp, EventRequest.Format.blank, null);
     }
 
     /**
@@ -23,21 +38,15 @@ public class EventsService {
                               EventsContext eventsContext) {
 
         return Events.of(
-                eventUrl(
-                        EventRequest.Type.win,
+                eventUrl(analyticsEnabled ? winUrlTemplate : winUrlWithDisabledAnalyticsTemplate,
                         bidId,
                         bidder,
                         accountId,
-                        analytics(analyticsEnabled),
-                        EventRequest.Format.image,
                         eventsContext),
-                eventUrl(
-                        EventRequest.Type.imp,
+                eventUrl(analyticsEnabled ? impUrlTemplate : impUrlWithDisabledAnalyticsTemplate,
                         bidId,
                         bidder,
                         accountId,
-                        analytics(analyticsEnabled),
-                        EventRequest.Format.image,
                         eventsContext));
     }
 
@@ -50,13 +59,10 @@ public class EventsService {
                          boolean analyticsEnabled,
                          EventsContext eventsContext) {
 
-        return eventUrl(
-                EventRequest.Type.win,
+        return eventUrl(analyticsEnabled ? winUrlTemplate : winUrlWithDisabledAnalyticsTemplate,
                 bidId,
                 bidder,
                 accountId,
-                analytics(analyticsEnabled),
-                EventRequest.Format.image,
                 eventsContext);
     }
 
@@ -68,39 +74,21 @@ public class EventsService {
                                   String accountId,
                                   EventsContext eventsContext) {
 
-        return eventUrl(EventRequest.Type.imp,
-                bidId,
-                bidder,
-                accountId,
-                null,
-                EventRequest.Format.blank,
-                eventsContext);
+        return eventUrl(vastUrlTemplate, bidId, bidder, accountId, eventsContext);
     }
 
-    private String eventUrl(EventRequest.Type type,
-                            String bidId,
-                            String bidder,
-                            String accountId,
-                            EventRequest.Analytics analytics,
-                            EventRequest.Format format,
-                            EventsContext eventsContext) {
-
-        final EventRequest eventRequest = EventRequest.builder()
-                .type(type)
-                .bidId(bidId)
-                .auctionId(eventsContext.getAuctionId())
-                .accountId(accountId)
-                .bidder(bidder)
-                .timestamp(eventsContext.getAuctionTimestamp())
-                .format(format)
-                .integration(eventsContext.getIntegration())
-                .analytics(analytics)
-                .build();
+    private static String eventUrl(EventUtil.UrlTemplate urlTemplate,
+                                   String bidId,
+                                   String bidder,
+                                   String accountId,
+                                   EventsContext eventsContext) {
 
-        return EventUtil.toUrl(externalUrl, eventRequest);
-    }
-
-    private static EventRequest.Analytics analytics(boolean analyticsEnabled) {
-        return analyticsEnabled ? null : EventRequest.Analytics.disabled;
+        return urlTemplate.url(
+                bidId,
+                accountId,
+                eventsContext.getAuctionId(),
+                eventsContext.getAuctionTimestamp(),
+                bidder,
+                eventsContext.getIntegration());
     }
 }
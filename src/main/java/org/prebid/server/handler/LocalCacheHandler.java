@@ -0,0 +1,103 @@
+package org.prebid.server.handler;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.cache.local.LocalCreative;
+import org.prebid.server.cache.local.LocalCreativeCache;
+import org.prebid.server.cache.utils.CacheServiceUtil;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+import org.prebid.server.vertx.verticles.server.HttpEndpoint;
+import org.prebid.server.vertx.verticles.server.application.ApplicationResource;
+
+import java.net.URL;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Serves Prebid Cache GET lookups from {@link LocalCreativeCache} of this node. Creatives missing locally
+ * are fetched from the external Prebid Cache.
+ */
+public class LocalCacheHandler implements ApplicationResource {
+
+    private static final String UUID_PARAM = "uuid";
+    private static final String XML_CONTENT_TYPE = "application/xml";
+
+    private final String path;
+    private final LocalCreativeCache localCreativeCache;
+    private final URL endpointUrl;
+    private final long timeoutMs;
+    private final HttpClient httpClient;
+
+    public LocalCacheHandler(String path,
+                             LocalCreativeCache localCreativeCache,
+                             URL endpointUrl,
+                             long timeoutMs,
+                             HttpClient httpClient) {
+
+        this.path = Objects.requireNonNull(path);
+        this.localCreativeCache = Objects.requireNonNull(localCreativeCache);
+        this.endpointUrl = Objects.requireNonNull(endpointUrl);
+        this.timeoutMs = timeoutMs;
+        this.httpClient = Objects.requireNonNull(httpClient);
+    }
+
+    @Override
+    public List<HttpEndpoint> endpoints() {
+        return Collections.singletonList(HttpEndpoint.of(HttpMethod.GET, path));
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final String uuid = routingContext.request().getParam(UUID_PARAM);
+        if (StringUtils.isBlank(uuid)) {
+            respondWith(routingContext, HttpResponseStatus.BAD_REQUEST.code(), null, "Missing required parameter uuid");
+            return;
+        }
+
+        final LocalCreative creative = localCreativeCache.get(uuid);
+        if (creative != null) {
+            final String contentType = Objects.equals(creative.getType(), CacheServiceUtil.XML_CREATIVE_TYPE)
+                    ? XML_CONTENT_TYPE
+                    : HttpUtil.APPLICATION_JSON_CONTENT_TYPE;
+            HttpUtil.executeSafely(routingContext, path,
+                    response -> response
+                            .putHeader(HttpUtil.CONTENT_TYPE_HEADER, contentType)
+                            .end(Buffer.buffer(creative.getValue())));
+            return;
+        }
+
+        httpClient.get(endpointUrl + "?" + UUID_PARAM + "=" + HttpUtil.encodeUrl(uuid), timeoutMs)
+                .onComplete(result -> handleExternalResponse(routingContext, result));
+    }
+
+    private void handleExternalResponse(RoutingContext routingContext, AsyncResult<HttpClientResponse> result) {
+        if (result.failed()) {
+            respondWith(routingContext, HttpResponseStatus.SERVICE_UNAVAILABLE.code(), null,
+                    "Cache service is unavailable: " + result.cause().getMessage());
+            return;
+        }
+
+        final HttpClientResponse response = result.result();
+        respondWith(routingContext,
+                response.getStatusCode(),
+                response.getHeaders().get(HttpUtil.CONTENT_TYPE_HEADER),
+                response.getBody());
+    }
+
+    private void respondWith(RoutingContext routingContext, int status, String contentType, String body) {
+        HttpUtil.executeSafely(routingContext, path,
+                response -> {
+                    if (contentType != null) {
+                        response.putHeader(HttpUtil.CONTENT_TYPE_HEADER, contentType);
+                    }
+                    response.setStatusCode(status).end(StringUtils.defaultString(body));
+                });
+    }
+}
@@ -0,0 +1,35 @@
+package org.prebid.server.handler.admin;
+
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import org.prebid.server.auction.timeline.AuctionTimelineRecorder;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.Objects;
+
+public class AuctionTimelineHandler implements Handler<RoutingContext> {
+
+    private final AuctionTimelineRecorder auctionTimelineRecorder;
+    private final JacksonMapper mapper;
+    private final String endpoint;
+
+    public AuctionTimelineHandler(AuctionTimelineRecorder auctionTimelineRecorder,
+                                  JacksonMapper mapper,
+                                  String endpoint) {
+
+        this.auctionTimelineRecorder = Objects.requireNonNull(auctionTimelineRecorder);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.endpoint = Objects.requireNonNull(endpoint);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final String responseString = mapper.encodeToString(auctionTimelineRecorder.recent());
+
+        HttpUtil.executeSafely(routingContext, endpoint,
+                response -> response
+                        .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_JSON_CONTENT_TYPE)
+                        .end(responseString));
+    }
+}
@@ -7,6 +7,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -16,6 +17,8 @@ import org.prebid.server.auction.ExchangeService;
 import org.prebid.server.auction.SkippedAuctionService;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.requestfactory.AuctionRequestFactory;
+import org.prebid.server.auction.timeline.AuctionTimeline;
+import org.prebid.server.auction.timeline.TimelineSpan;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.exception.BlocklistedAccountException;
 import org.prebid.server.exception.BlocklistedAppException;
@@ -33,6 +36,7 @@ import org.prebid.server.model.Endpoint;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
 import org.prebid.server.privacy.model.PrivacyContext;
+import org.prebid.server.settings.model.Account;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.version.PrebidVersionProvider;
 import org.prebid.server.vertx.verticles.server.HttpEndpoint;
@@ -158,7 +162,7 @@ public class AuctionHandler implements ApplicationResource {
         final MetricName metricRequestStatus;
         final List<String> errorMessages;
         final HttpResponseStatus status;
-        final String body;
+        final Buffer body;
 
         final HttpServerResponse response = routingContext.response();
         enrichResponseWithCommonHeaders(routingContext);
@@ -169,7 +173,7 @@ public class AuctionHandler implements ApplicationResource {
 
             status = HttpResponseStatus.OK;
             enrichWithSuccessfulHeaders(response);
-            body = mapper.encodeToString(responseResult.result().getBidResponse());
+            body = encodeResponse(auctionContext);
         } else {
             final Throwable exception = responseResult.cause();
             if (exception instanceof InvalidRequestException invalidRequestException) {
@@ -183,7 +187,7 @@ public class AuctionHandler implements ApplicationResource {
                 conditionalLogger.info("%s, Referer: %s".formatted(message, referer), logSamplingRate);
 
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof UnauthorizedAccountException) {
                 metricRequestStatus = MetricName.badinput;
                 final String message = exception.getMessage();
@@ -192,7 +196,7 @@ public class AuctionHandler implements ApplicationResource {
 
                 status = HttpResponseStatus.UNAUTHORIZED;
 
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof BlocklistedAppException
                     || exception instanceof BlocklistedAccountException) {
                 metricRequestStatus = exception instanceof BlocklistedAccountException
@@ -203,7 +207,7 @@ public class AuctionHandler implements ApplicationResource {
 
                 errorMessages = Collections.singletonList(message);
                 status = HttpResponseStatus.FORBIDDEN;
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof InvalidAccountConfigException) {
                 metricRequestStatus = MetricName.bad_requests;
                 final String message = exception.getMessage();
@@ -211,7 +215,7 @@ public class AuctionHandler implements ApplicationResource {
 
                 errorMessages = Collections.singletonList(message);
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = message;
+                body = Buffer.buffer(message);
             } else {
                 metricRequestStatus = MetricName.err;
                 logger.error("Critical error while running the auction", exception);
@@ -220,7 +224,7 @@ public class AuctionHandler implements ApplicationResource {
                 errorMessages = Collections.singletonList(message);
 
                 status = HttpResponseStatus.INTERNAL_SERVER_ERROR;
-                body = "Critical error while running the auction: " + message;
+                body = Buffer.buffer("Critical error while running the auction: " + message);
             }
         }
 
@@ -241,11 +245,26 @@ public class AuctionHandler implements ApplicationResource {
         }
 
         httpInteractionLogger.maybeLogOpenrtb2Auction(auctionContext, routingContext, status.code(), body);
+
+        if (auctionContext != null) {
+            final Account account = auctionContext.getAccount();
+            auctionContext.getTimeline().complete(
+                    account != null ? account.getId() : null, Endpoint.openrtb2_auction.value());
+        }
+    }
+
+    private Buffer encodeResponse(AuctionContext auctionContext) {
+        final AuctionTimeline timeline = auctionContext.getTimeline();
+        final long start = timeline.start();
+        final Buffer body = mapper.encodeToBuffer(auctionContext.getBidResponse());
+        timeline.record(TimelineSpan.response_encoding, null, start);
+
+        return body;
     }
 
     private boolean respondWith(RoutingContext routingContext,
                                 HttpResponseStatus status,
-                                String body,
+                                Buffer body,
                                 MetricName requestType) {
 
         return HttpUtil.executeSafely(
@@ -0,0 +1,151 @@
+package org.prebid.server.hooks.execution;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import jdk.jfr.consumer.RecordingStream;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs hooks declared as blocking out of the event loop, either on virtual threads or on a bounded pool
+ * of platform threads.
+ * <p>
+ * Results are delivered back to the Vert.x context the hook was invoked from, so the rest of the stage
+ * is executed on the same thread as for non-blocking hooks.
+ * <p>
+ * Executor and pinning tracking are closed together with the application context.
+ */
+public class BlockingHookExecutor implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlockingHookExecutor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final ExecutorService executor;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private RecordingStream pinningRecordingStream;
+
+    public BlockingHookExecutor(ExecutorService executor, Metrics metrics, Clock clock) {
+        this.executor = Objects.requireNonNull(executor);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Creates executor running every blocking hook on its own virtual thread. If pinning tracking is enabled,
+     * carrier thread pinning longer than the given threshold is reported to metrics, which requires
+     * a JFR recording stream running for the lifetime of the executor.
+     */
+    public static BlockingHookExecutor virtualThreads(boolean pinningTrackingEnabled,
+                                                      long pinningThresholdMs,
+                                                      Metrics metrics,
+                                                      Clock clock) {
+
+        final BlockingHookExecutor blockingHookExecutor = new BlockingHookExecutor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("blocking-hook-", 0).factory()),
+                metrics,
+                clock);
+
+        if (pinningTrackingEnabled) {
+            blockingHookExecutor.trackPinning(Duration.ofMillis(pinningThresholdMs));
+        }
+        return blockingHookExecutor;
+    }
+
+    /**
+     * Creates executor running blocking hooks on a fixed pool of platform threads, hooks which do not fit
+     * into the queue of the pool are failed.
+     */
+    public static BlockingHookExecutor workerPool(int poolSize, int queueSize, Metrics metrics, Clock clock) {
+        final AtomicInteger threadCounter = new AtomicInteger();
+        final ExecutorService executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "blocking-hook-" + threadCounter.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        return new BlockingHookExecutor(executor, metrics, clock);
+    }
+
+    public <T> Future<T> execute(Supplier<Future<T>> action) {
+        final Context context = Vertx.currentContext();
+        final Promise<T> promise = Promise.promise();
+        final long submitTime = clock.millis();
+
+        try {
+            executor.execute(() -> {
+                metrics.updateHooksBlockingQueueTimeMetric(clock.millis() - submitTime);
+                executeSafely(action).onComplete(result -> completeOnContext(context, promise, result));
+            });
+        } catch (RejectedExecutionException e) {
+            metrics.updateHooksBlockingRejectedMetric();
+            return Future.failedFuture(new FailedException("Blocking hook execution rejected: queue is full"));
+        }
+
+        return promise.future();
+    }
+
+    private static <T> Future<T> executeSafely(Supplier<Future<T>> action) {
+        try {
+            final Future<T> result = action.get();
+            return result != null ? result : Future.failedFuture(new FailedException("Action returned null"));
+        } catch (Throwable e) {
+            return Future.failedFuture(new FailedException(e));
+        }
+    }
+
+    private static <T> void completeOnContext(Context context, Promise<T> promise, AsyncResult<T> result) {
+        if (context != null) {
+            context.runOnContext(ignored -> promise.handle(result));
+        } else {
+            promise.handle(result);
+        }
+    }
+
+    private void trackPinning(Duration threshold) {
+        try {
+            final RecordingStream recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT).withThreshold(threshold);
+            recordingStream.onEvent(PINNED_EVENT, event ->
+                    metrics.updateHooksBlockingPinnedMetric(event.getDuration().toMillis()));
+            recordingStream.setReuse(true);
+            recordingStream.startAsync();
+            pinningRecordingStream = recordingStream;
+        } catch (Exception | NoClassDefFoundError e) {
+            logger.warn("Pinning of virtual threads running blocking hooks could not be tracked: "
+                    + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (pinningRecordingStream != null) {
+            pinningRecordingStream.close();
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,16 @@
+package org.prebid.server.hooks.execution;
+
+import org.prebid.server.hooks.execution.model.HookId;
+import org.prebid.server.hooks.v1.Hook;
+
+/**
+ * Execution group with its hooks resolved from the {@link HookCatalog} upfront.
+ * <p>
+ * Hook at each position is the implementation of the hook id at the same position,
+ * or null if such hook is unknown or disabled.
+ * <p>
+ * Groups of account execution plans are optional and may be skipped once hooks execution budget
+ * of the account is used up.
+ */
+record CompiledExecutionGroup(Long timeout, HookId[] hookIds, Hook<?, ?>[] hooks, boolean optional) {
+}
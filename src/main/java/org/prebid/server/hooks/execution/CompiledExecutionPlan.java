@@ -0,0 +1,58 @@
+package org.prebid.server.hooks.execution;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.hooks.execution.model.Stage;
+import org.prebid.server.model.Endpoint;
+
+import java.util.Map;
+
+/**
+ * Effective host and account execution plan of an account flattened into stage plans with resolved hooks,
+ * together with account configurations of modules and hooks execution budget of the account.
+ * <p>
+ * Plan is resolved once per auction and kept in {@link HookExecutionContext}, its content is only available
+ * to hooks execution.
+ */
+public final class CompiledExecutionPlan {
+
+    private final Map<Endpoint, Map<Stage, CompiledStagePlan>> stagePlans;
+    private final Map<String, ModuleAccountConfig> moduleConfigs;
+    private final long executionBudget;
+
+    CompiledExecutionPlan(Map<Endpoint, Map<Stage, CompiledStagePlan>> stagePlans,
+                          Map<String, ModuleAccountConfig> moduleConfigs,
+                          long executionBudget) {
+
+        this.stagePlans = stagePlans;
+        this.moduleConfigs = moduleConfigs;
+        this.executionBudget = executionBudget;
+    }
+
+    CompiledStagePlan stagePlan(Endpoint endpoint, Stage stage) {
+        final Map<Stage, CompiledStagePlan> endpointStagePlans = stagePlans.get(endpoint);
+        final CompiledStagePlan stagePlan = endpointStagePlans != null ? endpointStagePlans.get(stage) : null;
+
+        return stagePlan != null ? stagePlan : CompiledStagePlan.EMPTY;
+    }
+
+    ObjectNode accountConfig(String moduleCode) {
+        final ModuleAccountConfig moduleConfig = moduleConfigs.get(moduleCode);
+        return moduleConfig != null ? moduleConfig.config() : null;
+    }
+
+    Object compiledAccountConfig(String moduleCode) {
+        final ModuleAccountConfig moduleConfig = moduleConfigs.get(moduleCode);
+        return moduleConfig != null ? moduleConfig.compiledConfig() : null;
+    }
+
+    /**
+     * Returns total execution time of hooks (in milliseconds) allowed per auction, 0 means unlimited.
+     */
+    long executionBudget() {
+        return executionBudget;
+    }
+
+    record ModuleAccountConfig(ObjectNode config, Object compiledConfig) {
+    }
+}
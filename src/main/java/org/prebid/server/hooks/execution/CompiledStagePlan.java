@@ -0,0 +1,9 @@
+package org.prebid.server.hooks.execution;
+
+import java.util.Collections;
+import java.util.List;
+
+record CompiledStagePlan(List<CompiledExecutionGroup> groups) {
+
+    static final CompiledStagePlan EMPTY = new CompiledStagePlan(Collections.emptyList());
+}
@@ -0,0 +1,259 @@
+package org.prebid.server.hooks.execution;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.prebid.server.hooks.execution.model.EndpointExecutionPlan;
+import org.prebid.server.hooks.execution.model.ExecutionGroup;
+import org.prebid.server.hooks.execution.model.ExecutionPlan;
+import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.hooks.execution.model.HookId;
+import org.prebid.server.hooks.execution.model.Stage;
+import org.prebid.server.hooks.execution.model.StageExecutionPlan;
+import org.prebid.server.hooks.execution.model.StageWithHookType;
+import org.prebid.server.hooks.v1.Hook;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.AccountHooksConfiguration;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Compiles effective execution plans of accounts once per account hooks configuration.
+ * <p>
+ * Host plan is compiled on creation, plans of accounts are compiled on first use and kept in a bounded cache
+ * keyed by the content of account hooks configuration, so every version of account configuration is compiled
+ * once even if account is fetched (or merged with default account) as a new object on each request, and stages
+ * are dispatched without merging plans and looking up hooks in the catalog.
+ * <p>
+ * Looking up the cache compares account hooks configurations by content, which is proportional to the size of
+ * the configuration, so plan is looked up once per auction and then kept in {@link HookExecutionContext}.
+ */
+class ExecutionPlanCache {
+
+    private final ExecutionPlan defaultAccountExecutionPlan;
+    private final HookCatalog hookCatalog;
+    private final ModuleConfigCache moduleConfigCache;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final Map<Endpoint, Map<Stage, CompiledStagePlan>> hostStagePlans;
+    private final Map<AccountHooksConfiguration, CompiledExecutionPlan> accountPlans;
+
+    private volatile Map<Endpoint, Map<Stage, CompiledStagePlan>> defaultAccountStagePlans;
+    private volatile CompiledExecutionPlan defaultPlan;
+
+    ExecutionPlanCache(ExecutionPlan hostExecutionPlan,
+                       ExecutionPlan defaultAccountExecutionPlan,
+                       HookCatalog hookCatalog,
+                       ModuleConfigCache moduleConfigCache,
+                       int cacheSize,
+                       Metrics metrics,
+                       Clock clock) {
+
+        this.defaultAccountExecutionPlan = Objects.requireNonNull(defaultAccountExecutionPlan);
+        this.hookCatalog = Objects.requireNonNull(hookCatalog);
+        this.moduleConfigCache = Objects.requireNonNull(moduleConfigCache);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+
+        hostStagePlans = compileStagePlans(Objects.requireNonNull(hostExecutionPlan), false);
+        accountPlans = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .<AccountHooksConfiguration, CompiledExecutionPlan>build()
+                .asMap();
+    }
+
+    CompiledStagePlan hostStagePlan(Endpoint endpoint, Stage stage) {
+        final Map<Stage, CompiledStagePlan> endpointStagePlans = hostStagePlans.get(endpoint);
+        final CompiledStagePlan stagePlan = endpointStagePlans != null ? endpointStagePlans.get(stage) : null;
+
+        return stagePlan != null ? stagePlan : CompiledStagePlan.EMPTY;
+    }
+
+    /**
+     * Returns compiled effective plan of the auction account, resolving it on first call within the auction.
+     */
+    CompiledExecutionPlan planFor(HookExecutionContext context, Account account) {
+        final AtomicReference<CompiledExecutionPlan> auctionPlan = context.getExecutionPlan();
+        final CompiledExecutionPlan resolvedPlan = auctionPlan.get();
+        if (resolvedPlan != null) {
+            return resolvedPlan;
+        }
+
+        final CompiledExecutionPlan plan = planFor(account);
+        auctionPlan.compareAndSet(null, plan);
+        return plan;
+    }
+
+    /**
+     * Returns compiled effective plan of the given account, account without hooks configuration
+     * gets host plan merged with default account plan.
+     */
+    CompiledExecutionPlan planFor(Account account) {
+        final AccountHooksConfiguration hooksConfiguration = account != null ? account.getHooks() : null;
+        if (hooksConfiguration == null) {
+            return defaultPlan();
+        }
+
+        final CompiledExecutionPlan cachedPlan = accountPlans.get(hooksConfiguration);
+        metrics.updateHooksExecutionPlanCacheMetric(cachedPlan != null);
+
+        return cachedPlan != null
+                ? cachedPlan
+                : accountPlans.computeIfAbsent(hooksConfiguration, this::compile);
+    }
+
+    private CompiledExecutionPlan defaultPlan() {
+        final CompiledExecutionPlan cachedPlan = defaultPlan;
+        metrics.updateHooksExecutionPlanCacheMetric(cachedPlan != null);
+        if (cachedPlan != null) {
+            return cachedPlan;
+        }
+
+        final CompiledExecutionPlan compiledPlan = compile(null);
+        defaultPlan = compiledPlan;
+        return compiledPlan;
+    }
+
+    private CompiledExecutionPlan compile(AccountHooksConfiguration hooksConfiguration) {
+        final long startTime = clock.millis();
+
+        final ExecutionPlan accountExecutionPlan =
+                hooksConfiguration != null ? hooksConfiguration.getExecutionPlan() : null;
+        final Map<Endpoint, Map<Stage, CompiledStagePlan>> accountStagePlans = accountExecutionPlan != null
+                ? compileStagePlans(accountExecutionPlan, true)
+                : defaultAccountStagePlans();
+
+        final CompiledExecutionPlan compiledPlan = new CompiledExecutionPlan(
+                mergeStagePlans(hostStagePlans, accountStagePlans),
+                compileModuleConfigs(hooksConfiguration),
+                executionBudget(hooksConfiguration));
+
+        metrics.updateHooksExecutionPlanCompileTimeMetric(clock.millis() - startTime);
+        return compiledPlan;
+    }
+
+    private Map<Endpoint, Map<Stage, CompiledStagePlan>> defaultAccountStagePlans() {
+        final Map<Endpoint, Map<Stage, CompiledStagePlan>> cachedStagePlans = defaultAccountStagePlans;
+        if (cachedStagePlans != null) {
+            return cachedStagePlans;
+        }
+
+        final Map<Endpoint, Map<Stage, CompiledStagePlan>> compiledStagePlans =
+                compileStagePlans(defaultAccountExecutionPlan, true);
+        defaultAccountStagePlans = compiledStagePlans;
+        return compiledStagePlans;
+    }
+
+    private Map<Endpoint, Map<Stage, CompiledStagePlan>> compileStagePlans(ExecutionPlan executionPlan,
+                                                                           boolean optional) {
+        final Map<Endpoint, Map<Stage, CompiledStagePlan>> stagePlans = new EnumMap<>(Endpoint.class);
+
+        for (Map.Entry<Endpoint, EndpointExecutionPlan> endpointPlan : executionPlan.getEndpoints().entrySet()) {
+            final Map<Stage, CompiledStagePlan> endpointStagePlans = new EnumMap<>(Stage.class);
+            for (Map.Entry<Stage, StageExecutionPlan> stagePlan : endpointPlan.getValue().getStages().entrySet()) {
+                endpointStagePlans.put(
+                        stagePlan.getKey(),
+                        compileStagePlan(stagePlan.getKey(), stagePlan.getValue(), optional));
+            }
+            stagePlans.put(endpointPlan.getKey(), endpointStagePlans);
+        }
+
+        return stagePlans;
+    }
+
+    private CompiledStagePlan compileStagePlan(Stage stage, StageExecutionPlan stagePlan, boolean optional) {
+        final List<CompiledExecutionGroup> groups = new ArrayList<>();
+        for (ExecutionGroup group : stagePlan.getGroups()) {
+            final HookId[] hookIds = group.getHookSequence().toArray(HookId[]::new);
+            final Hook<?, ?>[] hooks = new Hook<?, ?>[hookIds.length];
+            for (int i = 0; i < hookIds.length; i++) {
+                hooks[i] = hookCatalog.hookById(
+                        hookIds[i].getModuleCode(),
+                        hookIds[i].getHookImplCode(),
+                        StageWithHookType.forStage(stage));
+            }
+            groups.add(new CompiledExecutionGroup(group.getTimeout(), hookIds, hooks, optional));
+        }
+
+        return new CompiledStagePlan(Collections.unmodifiableList(groups));
+    }
+
+    /**
+     * Host groups of each stage go first, followed by account groups of the same stage.
+     */
+    private static Map<Endpoint, Map<Stage, CompiledStagePlan>> mergeStagePlans(
+            Map<Endpoint, Map<Stage, CompiledStagePlan>> hostStagePlans,
+            Map<Endpoint, Map<Stage, CompiledStagePlan>> accountStagePlans) {
+
+        final Map<Endpoint, Map<Stage, CompiledStagePlan>> mergedStagePlans = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            final Map<Stage, CompiledStagePlan> hostEndpointPlans = hostStagePlans.get(endpoint);
+            final Map<Stage, CompiledStagePlan> accountEndpointPlans = accountStagePlans.get(endpoint);
+            if (hostEndpointPlans == null || accountEndpointPlans == null) {
+                final Map<Stage, CompiledStagePlan> endpointPlans = hostEndpointPlans != null
+                        ? hostEndpointPlans
+                        : accountEndpointPlans;
+                if (endpointPlans != null) {
+                    mergedStagePlans.put(endpoint, endpointPlans);
+                }
+                continue;
+            }
+
+            final Map<Stage, CompiledStagePlan> mergedEndpointPlans = new EnumMap<>(Stage.class);
+            for (Stage stage : Stage.values()) {
+                final CompiledStagePlan mergedStagePlan =
+                        mergeStagePlan(hostEndpointPlans.get(stage), accountEndpointPlans.get(stage));
+                if (mergedStagePlan != null) {
+                    mergedEndpointPlans.put(stage, mergedStagePlan);
+                }
+            }
+            mergedStagePlans.put(endpoint, mergedEndpointPlans);
+        }
+
+        return mergedStagePlans;
+    }
+
+    private static CompiledStagePlan mergeStagePlan(CompiledStagePlan hostStagePlan,
+                                                    CompiledStagePlan accountStagePlan) {
+
+        if (hostStagePlan == null || accountStagePlan == null) {
+            return hostStagePlan != null ? hostStagePlan : accountStagePlan;
+        }
+
+        final List<CompiledExecutionGroup> groups = new ArrayList<>(hostStagePlan.groups());
+        groups.addAll(accountStagePlan.groups());
+        return new CompiledStagePlan(Collections.unmodifiableList(groups));
+    }
+
+    private static long executionBudget(AccountHooksConfiguration hooksConfiguration) {
+        final Long executionBudget = hooksConfiguration != null ? hooksConfiguration.getExecutionBudgetMs() : null;
+        return executionBudget != null && executionBudget > 0 ? executionBudget : 0L;
+    }
+
+    private Map<String, CompiledExecutionPlan.ModuleAccountConfig> compileModuleConfigs(
+            AccountHooksConfiguration hooksConfiguration) {
+
+        final Map<String, ObjectNode> modulesConfiguration =
+                hooksConfiguration != null ? hooksConfiguration.getModules() : null;
+        if (modulesConfiguration == null || modulesConfiguration.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, CompiledExecutionPlan.ModuleAccountConfig> moduleConfigs = new HashMap<>();
+        modulesConfiguration.forEach((moduleCode, config) -> moduleConfigs.put(
+                moduleCode,
+                new CompiledExecutionPlan.ModuleAccountConfig(config, moduleConfigCache.get(moduleCode, config))));
+
+        return moduleConfigs;
+    }
+}
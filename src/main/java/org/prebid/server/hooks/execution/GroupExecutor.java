@@ -4,18 +4,18 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import org.prebid.server.hooks.execution.model.ExecutionGroup;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookId;
+import org.prebid.server.hooks.execution.model.Stage;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
 import org.prebid.server.hooks.v1.InvocationResult;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 
 import java.time.Clock;
 import java.util.concurrent.TimeoutException;
-import java.util.function.Function;
 import java.util.function.Supplier;
 
 class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
@@ -25,38 +25,45 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
     private final Vertx vertx;
     private final Clock clock;
+    private final Metrics metrics;
+    private final BlockingHookExecutor blockingHookExecutor;
 
-    private ExecutionGroup group;
+    private Stage stage;
+    private CompiledExecutionGroup group;
     private PAYLOAD initialPayload;
-    private Function<HookId, Hook<PAYLOAD, CONTEXT>> hookProvider;
     private InvocationContextProvider<CONTEXT> invocationContextProvider;
     private HookExecutionContext hookExecutionContext;
     private boolean rejectAllowed;
+    private long executionBudget;
 
-    private GroupExecutor(Vertx vertx, Clock clock) {
+    private GroupExecutor(Vertx vertx, Clock clock, Metrics metrics, BlockingHookExecutor blockingHookExecutor) {
         this.vertx = vertx;
         this.clock = clock;
+        this.metrics = metrics;
+        this.blockingHookExecutor = blockingHookExecutor;
     }
 
     public static <PAYLOAD, CONTEXT extends InvocationContext> GroupExecutor<PAYLOAD, CONTEXT> create(
             Vertx vertx,
-            Clock clock) {
+            Clock clock,
+            Metrics metrics,
+            BlockingHookExecutor blockingHookExecutor) {
 
-        return new GroupExecutor<>(vertx, clock);
+        return new GroupExecutor<>(vertx, clock, metrics, blockingHookExecutor);
     }
 
-    public GroupExecutor<PAYLOAD, CONTEXT> withGroup(ExecutionGroup group) {
-        this.group = group;
+    public GroupExecutor<PAYLOAD, CONTEXT> withStage(Stage stage) {
+        this.stage = stage;
         return this;
     }
 
-    public GroupExecutor<PAYLOAD, CONTEXT> withInitialPayload(PAYLOAD initialPayload) {
-        this.initialPayload = initialPayload;
+    public GroupExecutor<PAYLOAD, CONTEXT> withGroup(CompiledExecutionGroup group) {
+        this.group = group;
         return this;
     }
 
-    public GroupExecutor<PAYLOAD, CONTEXT> withHookProvider(Function<HookId, Hook<PAYLOAD, CONTEXT>> hookProvider) {
-        this.hookProvider = hookProvider;
+    public GroupExecutor<PAYLOAD, CONTEXT> withInitialPayload(PAYLOAD initialPayload) {
+        this.initialPayload = initialPayload;
         return this;
     }
 
@@ -77,16 +84,31 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         return this;
     }
 
+    public GroupExecutor<PAYLOAD, CONTEXT> withExecutionBudget(long executionBudget) {
+        this.executionBudget = executionBudget;
+        return this;
+    }
+
     public Future<GroupResult<PAYLOAD>> execute() {
         final GroupResult<PAYLOAD> initialGroupResult = GroupResult.of(initialPayload, rejectAllowed);
         Future<GroupResult<PAYLOAD>> groupFuture = Future.succeededFuture(initialGroupResult);
 
-        for (final HookId hookId : group.getHookSequence()) {
-            final Hook<PAYLOAD, CONTEXT> hook = hookProvider.apply(hookId);
+        final boolean skipGroup = group.optional() && isExecutionBudgetExhausted();
+
+        final HookId[] hookIds = group.hookIds();
+        for (int i = 0; i < hookIds.length; i++) {
+            final HookId hookId = hookIds[i];
+            if (skipGroup) {
+                initialGroupResult.applySkip(hookId, "Hooks execution budget of the account is used up");
+                metrics.updateHookSkippedMetric(hookId.getModuleCode(), stage, hookId.getHookImplCode());
+                continue;
+            }
+
+            final Hook<PAYLOAD, CONTEXT> hook = hookAt(i);
 
             final long startTime = clock.millis();
             final Future<InvocationResult<PAYLOAD>> invocationResult =
-                    executeHook(hook, group.getTimeout(), initialGroupResult, hookId);
+                    executeHook(hook, group.timeout(), initialGroupResult, hookId);
 
             groupFuture = groupFuture.compose(groupResult ->
                     applyInvocationResult(invocationResult, hookId, startTime, groupResult));
@@ -95,6 +117,25 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         return groupFuture.recover(GroupExecutor::restoreResultFromRejection);
     }
 
+    /**
+     * Budget is a total execution time of hooks per auction, once it is used up optional groups are skipped
+     * and their hooks are reported in the execution trace with skipped status.
+     * <p>
+     * Execution time of every hook is added up, including hooks of the same group running in parallel,
+     * so the budget is used up faster than the wall-clock time spent in hooks.
+     */
+    private boolean isExecutionBudgetExhausted() {
+        return executionBudget > 0 && hookExecutionContext.getHooksExecutionTime().get() >= executionBudget;
+    }
+
+    /**
+     * Hooks of the group are resolved for the stage being executed, so the cast is safe.
+     */
+    @SuppressWarnings("unchecked")
+    private Hook<PAYLOAD, CONTEXT> hookAt(int index) {
+        return (Hook<PAYLOAD, CONTEXT>) group.hooks()[index];
+    }
+
     private Future<InvocationResult<PAYLOAD>> executeHook(
             Hook<PAYLOAD, CONTEXT> hook,
             Long timeout,
@@ -107,6 +148,15 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
             return Future.failedFuture(new FailedException("Hook implementation does not exist or disabled"));
         }
 
+        if (hook.blocking()) {
+            return executeWithTimeout(
+                    () -> executeBlocking(
+                            hook,
+                            groupResult.payload(),
+                            invocationContextProvider.apply(timeout, hookId, moduleContextFor(hookId))),
+                    timeout);
+        }
+
         return executeWithTimeout(
                 () -> hook.call(
                         groupResult.payload(),
@@ -114,17 +164,42 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
                 timeout);
     }
 
+    /**
+     * Invocation context is created on the calling thread, only the hook itself is moved out of the event loop.
+     */
+    private Future<InvocationResult<PAYLOAD>> executeBlocking(Hook<PAYLOAD, CONTEXT> hook,
+                                                             PAYLOAD payload,
+                                                             CONTEXT invocationContext) {
+
+        return blockingHookExecutor.execute(() -> hook.call(payload, invocationContext));
+    }
+
     private <T> Future<T> executeWithTimeout(Supplier<Future<T>> action, Long timeout) {
+        final Future<T> actionResult = executeSafely(action);
+        // hooks completed synchronously cannot time out, so there is no need to watch them
+        if (actionResult.isComplete()) {
+            return actionResult;
+        }
+
         final Promise<T> promise = Promise.promise();
 
-        final long timeoutTimerId = vertx.setTimer(timeout, id -> failWithTimeout(promise));
+        final Runnable timeoutCanceller = scheduleTimeout(timeout, () -> failWithTimeout(promise));
 
-        executeSafely(action)
-                .onComplete(result -> completeWithActionResult(promise, timeoutTimerId, result));
+        actionResult.onComplete(result -> completeWithActionResult(promise, timeoutCanceller, result));
 
         return promise.future();
     }
 
+    private Runnable scheduleTimeout(long timeout, Runnable action) {
+        final TimeoutWheel timeoutWheel = TimeoutWheel.forCurrentContext(vertx, clock);
+        if (timeoutWheel != null) {
+            return timeoutWheel.schedule(timeout, action)::cancel;
+        }
+
+        final long timeoutTimerId = vertx.setTimer(timeout, id -> action.run());
+        return () -> vertx.cancelTimer(timeoutTimerId);
+    }
+
     private static <T> void failWithTimeout(Promise<T> promise) {
         // no need for synchronization since timer is fired on the same event loop thread
         if (!promise.future().isComplete()) {
@@ -141,8 +216,8 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         }
     }
 
-    private <T> void completeWithActionResult(Promise<T> promise, long timeoutTimerId, AsyncResult<T> result) {
-        vertx.cancelTimer(timeoutTimerId);
+    private <T> void completeWithActionResult(Promise<T> promise, Runnable timeoutCanceller, AsyncResult<T> result) {
+        timeoutCanceller.run();
 
         // check is to avoid harmless exception if timeout exceeds before successful result becomes ready
         if (!promise.future().isComplete()) {
@@ -150,8 +225,10 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         }
     }
 
-    private long executionTime(long startTime) {
-        return clock.millis() - startTime;
+    private long recordExecutionTime(long startTime) {
+        final long executionTime = clock.millis() - startTime;
+        hookExecutionContext.getHooksExecutionTime().addAndGet(executionTime);
+        return executionTime;
     }
 
     private Future<GroupResult<PAYLOAD>> applyInvocationResult(
@@ -163,9 +240,9 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         return invocationResult
                 .map(result -> {
                     saveModuleContext(hookId, result);
-                    return groupResult.applyInvocationResult(result, hookId, executionTime(startTime));
+                    return groupResult.applyInvocationResult(result, hookId, recordExecutionTime(startTime));
                 })
-                .otherwise(throwable -> groupResult.applyFailure(throwable, hookId, executionTime(startTime)))
+                .otherwise(throwable -> groupResult.applyFailure(throwable, hookId, recordExecutionTime(startTime)))
                 .compose(this::propagateRejection);
     }
 
@@ -70,6 +70,21 @@ class GroupResult<T> {
         return this;
     }
 
+    public GroupResult<T> applySkip(HookId hookId, String reason) {
+        hookExecutionOutcomes.add(HookExecutionOutcome.builder()
+                .hookId(hookId)
+                .executionTime(0L)
+                .status(ExecutionStatus.skipped)
+                .message(reason)
+                .build());
+
+        return this;
+    }
+
+    public long longestExecutionTime() {
+        return hookExecutionOutcomes.stream().mapToLong(HookExecutionOutcome::getExecutionTime).max().orElse(0L);
+    }
+
     public GroupExecutionOutcome toGroupExecutionOutcome() {
         return GroupExecutionOutcome.of(this.hookExecutionOutcomes());
     }
@@ -1,6 +1,5 @@
 package org.prebid.server.hooks.execution;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.response.BidResponse;
 import io.vertx.core.Future;
@@ -20,7 +19,6 @@ import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookId;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
 import org.prebid.server.hooks.execution.model.Stage;
-import org.prebid.server.hooks.execution.model.StageExecutionPlan;
 import org.prebid.server.hooks.execution.model.StageWithHookType;
 import org.prebid.server.hooks.execution.v1.InvocationContextImpl;
 import org.prebid.server.hooks.execution.v1.auction.AuctionInvocationContextImpl;
@@ -43,18 +41,16 @@ import org.prebid.server.hooks.v1.bidder.BidderResponsePayload;
 import org.prebid.server.hooks.v1.entrypoint.EntrypointPayload;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.settings.model.Account;
-import org.prebid.server.settings.model.AccountHooksConfiguration;
 
 import java.time.Clock;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Stream;
 
 public class HookStageExecutor {
 
@@ -64,46 +60,57 @@ public class HookStageExecutor {
     private static final String ENTITY_ALL_PROCESSED_BID_RESPONSES = "all-processed-bid-responses";
     private static final Account EMPTY_ACCOUNT = Account.empty(StringUtils.EMPTY);
 
-    private final ExecutionPlan hostExecutionPlan;
-    private final ExecutionPlan defaultAccountExecutionPlan;
-    private final HookCatalog hookCatalog;
+    private final ExecutionPlanCache executionPlanCache;
     private final TimeoutFactory timeoutFactory;
     private final Vertx vertx;
     private final Clock clock;
+    private final Metrics metrics;
+    private final BlockingHookExecutor blockingHookExecutor;
 
-    private HookStageExecutor(ExecutionPlan hostExecutionPlan,
-                              ExecutionPlan defaultAccountExecutionPlan,
-                              HookCatalog hookCatalog,
+    private HookStageExecutor(ExecutionPlanCache executionPlanCache,
                               TimeoutFactory timeoutFactory,
                               Vertx vertx,
-                              Clock clock) {
+                              Clock clock,
+                              Metrics metrics,
+                              BlockingHookExecutor blockingHookExecutor) {
 
-        this.hostExecutionPlan = hostExecutionPlan;
-        this.defaultAccountExecutionPlan = defaultAccountExecutionPlan;
-        this.hookCatalog = hookCatalog;
+        this.executionPlanCache = executionPlanCache;
         this.timeoutFactory = timeoutFactory;
         this.vertx = vertx;
         this.clock = clock;
+        this.metrics = metrics;
+        this.blockingHookExecutor = blockingHookExecutor;
     }
 
     public static HookStageExecutor create(String hostExecutionPlan,
                                            String defaultAccountExecutionPlan,
                                            HookCatalog hookCatalog,
+                                           ModuleConfigCache moduleConfigCache,
+                                           int executionPlanCacheSize,
                                            TimeoutFactory timeoutFactory,
                                            Vertx vertx,
                                            Clock clock,
-                                           JacksonMapper mapper) {
+                                           JacksonMapper mapper,
+                                           Metrics metrics,
+                                           BlockingHookExecutor blockingHookExecutor) {
 
         return new HookStageExecutor(
-                parseAndValidateExecutionPlan(
-                        hostExecutionPlan,
-                        Objects.requireNonNull(mapper),
-                        Objects.requireNonNull(hookCatalog)),
-                parseAndValidateExecutionPlan(defaultAccountExecutionPlan, mapper, hookCatalog),
-                hookCatalog,
+                new ExecutionPlanCache(
+                        parseAndValidateExecutionPlan(
+                                hostExecutionPlan,
+                                Objects.requireNonNull(mapper),
+                                Objects.requireNonNull(hookCatalog)),
+                        parseAndValidateExecutionPlan(defaultAccountExecutionPlan, mapper, hookCatalog),
+                        hookCatalog,
+                        moduleConfigCache,
+                        executionPlanCacheSize,
+                        Objects.requireNonNull(metrics),
+                        Objects.requireNonNull(clock)),
                 Objects.requireNonNull(timeoutFactory),
                 Objects.requireNonNull(vertx),
-                Objects.requireNonNull(clock));
+                clock,
+                metrics,
+                Objects.requireNonNull(blockingHookExecutor));
     }
 
     public Future<HookStageExecutionResult<EntrypointPayload>> executeEntrypointStage(
@@ -115,7 +122,7 @@ public class HookStageExecutor {
         final Endpoint endpoint = context.getEndpoint();
 
         return stageExecutor(StageWithHookType.ENTRYPOINT, ENTITY_HTTP_REQUEST, context)
-                .withExecutionPlan(planForEntrypointStage(endpoint))
+                .withExecutionPlan(executionPlanCache.hostStagePlan(endpoint, Stage.entrypoint))
                 .withInitialPayload(EntrypointPayloadImpl.of(queryParams, headers, body))
                 .withInvocationContextProvider(invocationContextProvider(endpoint))
                 .withRejectAllowed(true)
@@ -137,6 +144,7 @@ public class HookStageExecutor {
                 .withInitialPayload(AuctionRequestPayloadImpl.of(bidRequest))
                 .withInvocationContextProvider(auctionInvocationContextProvider(endpoint, auctionContext))
                 .withRejectAllowed(true)
+                .withTimeline(auctionContext.getTimeline())
                 .execute();
     }
 
@@ -155,6 +163,7 @@ public class HookStageExecutor {
                 .withInitialPayload(AuctionRequestPayloadImpl.of(bidRequest))
                 .withInvocationContextProvider(auctionInvocationContextProvider(endpoint, auctionContext))
                 .withRejectAllowed(true)
+                .withTimeline(auctionContext.getTimeline())
                 .execute();
     }
 
@@ -173,6 +182,7 @@ public class HookStageExecutor {
                 .withInitialPayload(BidderRequestPayloadImpl.of(bidderRequest.getBidRequest()))
                 .withInvocationContextProvider(bidderInvocationContextProvider(endpoint, auctionContext, bidder))
                 .withRejectAllowed(true)
+                .withTimeline(auctionContext.getTimeline())
                 .execute();
     }
 
@@ -193,6 +203,7 @@ public class HookStageExecutor {
                 .withInitialPayload(BidderResponsePayloadImpl.of(bids))
                 .withInvocationContextProvider(bidderInvocationContextProvider(endpoint, auctionContext, bidder))
                 .withRejectAllowed(true)
+                .withTimeline(auctionContext.getTimeline())
                 .execute();
     }
 
@@ -212,6 +223,7 @@ public class HookStageExecutor {
                 .withInitialPayload(BidderResponsePayloadImpl.of(bids))
                 .withInvocationContextProvider(bidderInvocationContextProvider(endpoint, auctionContext, bidder))
                 .withRejectAllowed(true)
+                .withTimeline(auctionContext.getTimeline())
                 .execute();
     }
 
@@ -230,6 +242,7 @@ public class HookStageExecutor {
                 .withInitialPayload(AllProcessedBidResponsesPayloadImpl.of(bidderResponses))
                 .withInvocationContextProvider(auctionInvocationContextProvider(endpoint, auctionContext))
                 .withRejectAllowed(false)
+                .withTimeline(auctionContext.getTimeline())
                 .execute();
     }
 
@@ -246,6 +259,7 @@ public class HookStageExecutor {
                 .withInitialPayload(AuctionResponsePayloadImpl.of(bidResponse))
                 .withInvocationContextProvider(auctionInvocationContextProvider(endpoint, auctionContext))
                 .withRejectAllowed(false)
+                .withTimeline(auctionContext.getTimeline())
                 .execute();
     }
 
@@ -254,7 +268,7 @@ public class HookStageExecutor {
             String entity,
             HookExecutionContext context) {
 
-        return StageExecutor.<PAYLOAD, CONTEXT>create(hookCatalog, vertx, clock)
+        return StageExecutor.<PAYLOAD, CONTEXT>create(vertx, clock, metrics, blockingHookExecutor)
                 .withStage(stage)
                 .withEntity(entity)
                 .withHookExecutionContext(context);
@@ -267,8 +281,11 @@ public class HookStageExecutor {
             Account account,
             Endpoint endpoint) {
 
+        final CompiledExecutionPlan executionPlan = executionPlanCache.planFor(context, account);
+
         return stageExecutor(stage, entity, context)
-                .withExecutionPlan(planForStage(account, endpoint, stage.stage()));
+                .withExecutionPlan(executionPlan.stagePlan(endpoint, stage.stage()))
+                .withExecutionBudget(executionPlan.executionBudget());
     }
 
     private static ExecutionPlan parseAndValidateExecutionPlan(
@@ -317,50 +334,6 @@ public class HookStageExecutor {
         }
     }
 
-    private StageExecutionPlan planForEntrypointStage(Endpoint endpoint) {
-        return effectiveStagePlanFrom(ExecutionPlan.empty(), endpoint, Stage.entrypoint);
-    }
-
-    private StageExecutionPlan planForStage(Account account, Endpoint endpoint, Stage stage) {
-        return effectiveStagePlanFrom(effectiveExecutionPlanFor(account), endpoint, stage);
-    }
-
-    private StageExecutionPlan effectiveStagePlanFrom(
-            ExecutionPlan accountExecutionPlan, Endpoint endpoint, Stage stage) {
-
-        final StageExecutionPlan hostStageExecutionPlan = stagePlanFrom(hostExecutionPlan, endpoint, stage);
-        final StageExecutionPlan accountStageExecutionPlan = stagePlanFrom(accountExecutionPlan, endpoint, stage);
-
-        if (hostStageExecutionPlan.isEmpty()) {
-            return accountStageExecutionPlan;
-        } else if (accountStageExecutionPlan.isEmpty()) {
-            return hostStageExecutionPlan;
-        }
-
-        final List<ExecutionGroup> combinedGroups = Stream.of(hostStageExecutionPlan, accountStageExecutionPlan)
-                .map(StageExecutionPlan::getGroups)
-                .flatMap(Collection::stream)
-                .toList();
-
-        return StageExecutionPlan.of(combinedGroups);
-    }
-
-    private static StageExecutionPlan stagePlanFrom(ExecutionPlan executionPlan, Endpoint endpoint, Stage stage) {
-        return executionPlan
-                .getEndpoints()
-                .getOrDefault(endpoint, EndpointExecutionPlan.empty())
-                .getStages()
-                .getOrDefault(stage, StageExecutionPlan.empty());
-    }
-
-    private ExecutionPlan effectiveExecutionPlanFor(Account account) {
-        final AccountHooksConfiguration hooksAccountConfig = account.getHooks();
-        final ExecutionPlan accountExecutionPlan =
-                hooksAccountConfig != null ? hooksAccountConfig.getExecutionPlan() : null;
-
-        return accountExecutionPlan != null ? accountExecutionPlan : defaultAccountExecutionPlan;
-    }
-
     private InvocationContextProvider<InvocationContext> invocationContextProvider(Endpoint endpoint) {
         return (timeout, hookId, moduleContext) -> invocationContext(endpoint, timeout);
     }
@@ -373,21 +346,28 @@ public class HookStageExecutor {
             Endpoint endpoint,
             AuctionContext auctionContext) {
 
+        final CompiledExecutionPlan executionPlan = executionPlanCache.planFor(
+                auctionContext.getHookExecutionContext(), auctionContext.getAccount());
+
         return (timeout, hookId, moduleContext) -> auctionInvocationContext(
-                endpoint, timeout, auctionContext, hookId, moduleContext);
+                endpoint, timeout, auctionContext, executionPlan, hookId, moduleContext);
     }
 
     private AuctionInvocationContextImpl auctionInvocationContext(Endpoint endpoint,
                                                                   Long timeout,
                                                                   AuctionContext auctionContext,
+                                                                  CompiledExecutionPlan executionPlan,
                                                                   HookId hookId,
                                                                   Object moduleContext) {
 
+        final String moduleCode = hookId.getModuleCode();
+
         return AuctionInvocationContextImpl.of(
                 invocationContext(endpoint, timeout),
                 auctionContext,
                 auctionContext.getDebugContext().isDebugEnabled(),
-                accountConfigFor(auctionContext.getAccount(), hookId),
+                executionPlan.accountConfig(moduleCode),
+                executionPlan.compiledAccountConfig(moduleCode),
                 moduleContext);
     }
 
@@ -396,20 +376,15 @@ public class HookStageExecutor {
             AuctionContext auctionContext,
             String bidder) {
 
+        final CompiledExecutionPlan executionPlan = executionPlanCache.planFor(
+                auctionContext.getHookExecutionContext(), auctionContext.getAccount());
+
         return (timeout, hookId, moduleContext) -> BidderInvocationContextImpl.of(
-                auctionInvocationContext(endpoint, timeout, auctionContext, hookId, moduleContext),
+                auctionInvocationContext(endpoint, timeout, auctionContext, executionPlan, hookId, moduleContext),
                 bidder);
     }
 
     private Timeout createTimeout(Long timeout) {
         return timeoutFactory.create(timeout);
     }
-
-    private static ObjectNode accountConfigFor(Account account, HookId hookId) {
-        final AccountHooksConfiguration accountHooksConfiguration = account.getHooks();
-        final Map<String, ObjectNode> modulesConfiguration =
-                accountHooksConfiguration != null ? accountHooksConfiguration.getModules() : Collections.emptyMap();
-
-        return modulesConfiguration != null ? modulesConfiguration.get(hookId.getModuleCode()) : null;
-    }
 }
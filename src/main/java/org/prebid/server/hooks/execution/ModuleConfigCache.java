@@ -0,0 +1,88 @@
+package org.prebid.server.hooks.execution;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.prebid.server.hooks.v1.Module;
+import org.prebid.server.hooks.v1.ModuleConfigCompiler;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.ConditionalLogger;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps account configurations of modules compiled by their {@link ModuleConfigCompiler}s.
+ * <p>
+ * Compiled configuration is cached per module and account configuration content, so it is compiled again
+ * only when account configuration changes.
+ */
+public class ModuleConfigCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ModuleConfigCache.class);
+    private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
+
+    private static final double LOG_SAMPLING_RATE = 0.01;
+    private static final Object NOT_COMPILED = new Object();
+
+    private final Map<String, ModuleConfigCompiler<?, ?>> moduleCodeToCompiler;
+    private final JacksonMapper mapper;
+
+    private final Map<CacheKey, Object> compiledConfigs;
+
+    public ModuleConfigCache(Collection<Module> modules, int cacheSize, JacksonMapper mapper) {
+        this.mapper = Objects.requireNonNull(mapper);
+
+        moduleCodeToCompiler = new HashMap<>();
+        for (Module module : Objects.requireNonNull(modules)) {
+            final ModuleConfigCompiler<?, ?> compiler = module.accountConfigCompiler();
+            if (compiler != null) {
+                moduleCodeToCompiler.put(module.code(), compiler);
+            }
+        }
+
+        compiledConfigs = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .<CacheKey, Object>build()
+                .asMap();
+    }
+
+    /**
+     * Returns account configuration of the module compiled by its {@link ModuleConfigCompiler}
+     * or null if the module has no compiler, account configuration is empty or could not be compiled.
+     */
+    public Object get(String moduleCode, ObjectNode accountConfig) {
+        final ModuleConfigCompiler<?, ?> compiler = moduleCodeToCompiler.get(moduleCode);
+        if (compiler == null || accountConfig == null || accountConfig.isEmpty()) {
+            return null;
+        }
+
+        final Object compiledConfig = compiledConfigs.computeIfAbsent(
+                new CacheKey(moduleCode, accountConfig),
+                key -> compile(compiler, key));
+
+        return compiledConfig != NOT_COMPILED ? compiledConfig : null;
+    }
+
+    private <CONFIG> Object compile(ModuleConfigCompiler<CONFIG, ?> compiler, CacheKey key) {
+        try {
+            final Object compiledConfig = compiler.compile(
+                    mapper.mapper().convertValue(key.accountConfig(), compiler.configClass()));
+            return compiledConfig != null ? compiledConfig : NOT_COMPILED;
+        } catch (RuntimeException e) {
+            conditionalLogger.warn(
+                    "Failed to compile account config of module %s: %s".formatted(key.moduleCode(), e.getMessage()),
+                    LOG_SAMPLING_RATE);
+            return NOT_COMPILED;
+        }
+    }
+
+    /**
+     * Account configuration is a part of the key as is, it is not modified after account is loaded.
+     */
+    private record CacheKey(String moduleCode, ObjectNode accountConfig) {
+    }
+}
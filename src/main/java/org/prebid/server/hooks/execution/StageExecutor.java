@@ -2,43 +2,50 @@ package org.prebid.server.hooks.execution;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
-import org.prebid.server.hooks.execution.model.ExecutionGroup;
+import org.prebid.server.auction.timeline.AuctionTimeline;
+import org.prebid.server.auction.timeline.TimelineSpan;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
-import org.prebid.server.hooks.execution.model.StageExecutionPlan;
 import org.prebid.server.hooks.execution.model.StageWithHookType;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
+import org.prebid.server.metric.Metrics;
 
 import java.time.Clock;
 import java.util.ArrayList;
 
 class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
-    private final HookCatalog hookCatalog;
     private final Vertx vertx;
     private final Clock clock;
+    private final Metrics metrics;
+    private final BlockingHookExecutor blockingHookExecutor;
 
     private StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage;
     private String entity;
-    private StageExecutionPlan executionPlan;
+    private CompiledStagePlan executionPlan;
     private PAYLOAD initialPayload;
     private InvocationContextProvider<CONTEXT> invocationContextProvider;
     private HookExecutionContext hookExecutionContext;
     private boolean rejectAllowed;
+    private long executionBudget;
+    private AuctionTimeline timeline;
 
-    private StageExecutor(HookCatalog hookCatalog, Vertx vertx, Clock clock) {
-        this.hookCatalog = hookCatalog;
+    private StageExecutor(Vertx vertx, Clock clock, Metrics metrics, BlockingHookExecutor blockingHookExecutor) {
         this.vertx = vertx;
         this.clock = clock;
+        this.metrics = metrics;
+        this.blockingHookExecutor = blockingHookExecutor;
+        this.timeline = AuctionTimeline.disabled();
     }
 
     public static <PAYLOAD, CONTEXT extends InvocationContext> StageExecutor<PAYLOAD, CONTEXT> create(
-            HookCatalog hookCatalog,
             Vertx vertx,
-            Clock clock) {
+            Clock clock,
+            Metrics metrics,
+            BlockingHookExecutor blockingHookExecutor) {
 
-        return new StageExecutor<>(hookCatalog, vertx, clock);
+        return new StageExecutor<>(vertx, clock, metrics, blockingHookExecutor);
     }
 
     public StageExecutor<PAYLOAD, CONTEXT> withStage(StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage) {
@@ -51,7 +58,7 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         return this;
     }
 
-    public StageExecutor<PAYLOAD, CONTEXT> withExecutionPlan(StageExecutionPlan executionPlan) {
+    public StageExecutor<PAYLOAD, CONTEXT> withExecutionPlan(CompiledStagePlan executionPlan) {
         this.executionPlan = executionPlan;
         return this;
     }
@@ -78,10 +85,26 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         return this;
     }
 
+    public StageExecutor<PAYLOAD, CONTEXT> withExecutionBudget(long executionBudget) {
+        this.executionBudget = executionBudget;
+        return this;
+    }
+
+    public StageExecutor<PAYLOAD, CONTEXT> withTimeline(AuctionTimeline timeline) {
+        this.timeline = timeline;
+        return this;
+    }
+
     public Future<HookStageExecutionResult<PAYLOAD>> execute() {
+        return timeline.track(TimelineSpan.hooks, stage.stage().name(), this::executeGroups);
+    }
+
+    private Future<HookStageExecutionResult<PAYLOAD>> executeGroups() {
+        final long startTime = clock.millis();
+
         Future<StageResult<PAYLOAD>> stageFuture = Future.succeededFuture(StageResult.of(initialPayload, entity));
 
-        for (final ExecutionGroup group : executionPlan.getGroups()) {
+        for (final CompiledExecutionGroup group : executionPlan.groups()) {
             stageFuture = stageFuture.compose(stageResult ->
                     executeGroup(group, stageResult.payload())
                             .map(stageResult::applyGroupResult)
@@ -90,18 +113,18 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
         return stageFuture
                 .recover(StageExecutor::restoreResultFromRejection)
-                .map(this::toHookStageExecutionResult);
+                .map(stageResult -> toHookStageExecutionResult(stageResult, startTime));
     }
 
-    private Future<GroupResult<PAYLOAD>> executeGroup(ExecutionGroup group, PAYLOAD initialPayload) {
-        return GroupExecutor.<PAYLOAD, CONTEXT>create(vertx, clock)
+    private Future<GroupResult<PAYLOAD>> executeGroup(CompiledExecutionGroup group, PAYLOAD initialPayload) {
+        return GroupExecutor.<PAYLOAD, CONTEXT>create(vertx, clock, metrics, blockingHookExecutor)
+                .withStage(stage.stage())
                 .withGroup(group)
                 .withInitialPayload(initialPayload)
-                .withHookProvider(
-                        hookId -> hookCatalog.hookById(hookId.getModuleCode(), hookId.getHookImplCode(), stage))
                 .withInvocationContextProvider(invocationContextProvider)
                 .withHookExecutionContext(hookExecutionContext)
                 .withRejectAllowed(rejectAllowed)
+                .withExecutionBudget(executionBudget)
                 .execute();
     }
 
@@ -120,7 +143,12 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         return Future.failedFuture(throwable);
     }
 
-    private HookStageExecutionResult<PAYLOAD> toHookStageExecutionResult(StageResult<PAYLOAD> stageResult) {
+    private HookStageExecutionResult<PAYLOAD> toHookStageExecutionResult(StageResult<PAYLOAD> stageResult,
+                                                                         long startTime) {
+
+        final long overheadTime = clock.millis() - startTime - stageResult.hooksExecutionTime();
+        hookExecutionContext.getHooksOverheadTime().addAndGet(Math.max(overheadTime, 0L));
+
         hookExecutionContext.getStageOutcomes().computeIfAbsent(stage.stage(), key -> new ArrayList<>())
                 .add(stageResult.toStageExecutionOutcome());
 
@@ -38,6 +38,14 @@ class StageResult<T> {
         return this;
     }
 
+    /**
+     * Groups are executed one after another and hooks of a group in parallel, so the longest hook of each group
+     * is considered to take the time of the stage.
+     */
+    public long hooksExecutionTime() {
+        return groupResults.stream().mapToLong(GroupResult::longestExecutionTime).sum();
+    }
+
     public StageExecutionOutcome toStageExecutionOutcome() {
         return StageExecutionOutcome.of(entity, groupExecutionOutcomes());
     }
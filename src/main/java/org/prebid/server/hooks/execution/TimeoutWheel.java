@@ -0,0 +1,150 @@
+package org.prebid.server.hooks.execution;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Hashed timing wheel shared by hook invocations running on the same Vert.x context.
+ * <p>
+ * Instead of setting and cancelling Vert.x timer for every hook invocation, timeouts are put to the wheel
+ * and a single periodic timer advances it while there are pending timeouts. Timeouts fire on the thread
+ * of the context with up to one tick delay.
+ * <p>
+ * Instances are not thread-safe and must be used on the thread of their context only,
+ * except for cancelling scheduled timeouts.
+ */
+class TimeoutWheel {
+
+    private static final String CONTEXT_KEY = TimeoutWheel.class.getName();
+    private static final long TICK_MILLIS = 10L;
+    private static final int WHEEL_SIZE = 512;
+
+    private final Vertx vertx;
+    private final Clock clock;
+
+    private final List<ArrayDeque<Timeout>> buckets;
+    private long lastTick;
+    private int pending;
+    private long timerId = -1L;
+
+    TimeoutWheel(Vertx vertx, Clock clock) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.clock = Objects.requireNonNull(clock);
+
+        buckets = new ArrayList<>(WHEEL_SIZE);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Returns wheel of the current Vert.x context or null if called outside of context.
+     */
+    static TimeoutWheel forCurrentContext(Vertx vertx, Clock clock) {
+        final Context context = Vertx.currentContext();
+        if (context == null) {
+            return null;
+        }
+
+        final TimeoutWheel existingWheel = context.get(CONTEXT_KEY);
+        if (existingWheel != null) {
+            return existingWheel;
+        }
+
+        final TimeoutWheel wheel = new TimeoutWheel(vertx, clock);
+        context.put(CONTEXT_KEY, wheel);
+        return wheel;
+    }
+
+    /**
+     * Schedules action to be run after the given delay unless returned timeout is cancelled before.
+     */
+    Timeout schedule(long delayMillis, Runnable action) {
+        final long now = clock.millis();
+        if (timerId == -1L) {
+            lastTick = now / TICK_MILLIS;
+            timerId = vertx.setPeriodic(TICK_MILLIS, ignored -> advance());
+        }
+
+        final long deadline = now + delayMillis;
+        final long tick = Math.max((deadline + TICK_MILLIS - 1) / TICK_MILLIS, lastTick + 1);
+        final Timeout timeout = new Timeout(deadline, action);
+        buckets.get((int) (tick % WHEEL_SIZE)).add(timeout);
+        pending++;
+
+        return timeout;
+    }
+
+    private void advance() {
+        final long now = clock.millis();
+        final long currentTick = now / TICK_MILLIS;
+        while (lastTick < currentTick) {
+            lastTick++;
+            expire(buckets.get((int) (lastTick % WHEEL_SIZE)), now);
+        }
+
+        if (pending == 0) {
+            vertx.cancelTimer(timerId);
+            timerId = -1L;
+            buckets.forEach(ArrayDeque::clear);
+        }
+    }
+
+    /**
+     * Expired timeouts are fired after the bucket is traversed, since actions may schedule new timeouts.
+     */
+    private void expire(ArrayDeque<Timeout> bucket, long now) {
+        List<Timeout> expired = null;
+
+        final Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            final Timeout timeout = iterator.next();
+            if (timeout.done) {
+                iterator.remove();
+                pending--;
+            } else if (timeout.deadline <= now) {
+                iterator.remove();
+                pending--;
+                expired = expired != null ? expired : new ArrayList<>();
+                expired.add(timeout);
+            }
+        }
+
+        if (expired != null) {
+            expired.forEach(Timeout::fire);
+        }
+    }
+
+    static class Timeout {
+
+        private final long deadline;
+        private final Runnable action;
+        private volatile boolean done;
+
+        private Timeout(long deadline, Runnable action) {
+            this.deadline = deadline;
+            this.action = action;
+        }
+
+        /**
+         * Can be called from any thread, cancelled timeout is removed from the wheel when its bucket is reached.
+         */
+        void cancel() {
+            done = true;
+        }
+
+        private void fire() {
+            if (!done) {
+                done = true;
+                action.run();
+            }
+        }
+    }
+}
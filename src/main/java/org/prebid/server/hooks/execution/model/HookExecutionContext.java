@@ -1,12 +1,17 @@
 package org.prebid.server.hooks.execution.model;
 
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.Value;
+import org.prebid.server.hooks.execution.CompiledExecutionPlan;
 import org.prebid.server.model.Endpoint;
 
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Value(staticConstructor = "of")
 public class HookExecutionContext {
@@ -17,6 +22,25 @@ public class HookExecutionContext {
 
     Map<String, Object> moduleContexts = new HashMap<>();
 
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    AtomicLong hooksExecutionTime = new AtomicLong();
+
+    /**
+     * Time spent by stages beyond execution of hooks: dispatching hooks and applying their results.
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    AtomicLong hooksOverheadTime = new AtomicLong();
+
+    /**
+     * Execution plan of the auction account, resolved once the account is known and reused by all the stages
+     * (and bidders) of the auction.
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    AtomicReference<CompiledExecutionPlan> executionPlan = new AtomicReference<>();
+
     public static HookExecutionContext of(Endpoint endpoint) {
         return of(endpoint, new EnumMap<>(Stage.class));
     }
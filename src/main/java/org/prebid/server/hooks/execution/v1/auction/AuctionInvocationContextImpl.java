@@ -21,5 +21,7 @@ public class AuctionInvocationContextImpl implements AuctionInvocationContext {
 
     ObjectNode accountConfig;
 
+    Object compiledAccountConfig;
+
     Object moduleContext;
 }
@@ -7,4 +7,14 @@ public interface Hook<PAYLOAD, CONTEXT extends InvocationContext> {
     Future<InvocationResult<PAYLOAD>> call(PAYLOAD payload, CONTEXT invocationContext);
 
     String code();
+
+    /**
+     * Returns true if the hook calls blocking code (e.g. JDBC, device detection or scoring libraries).
+     * <p>
+     * Blocking hooks are invoked out of the event loop and are allowed to block until their result is ready,
+     * timeout and rejection rules are the same as for other hooks.
+     */
+    default boolean blocking() {
+        return false;
+    }
 }
@@ -19,4 +19,11 @@ public interface Module {
      * Collection of hooks available through the module.
      */
     Collection<? extends Hook<?, ? extends InvocationContext>> hooks();
+
+    /**
+     * Compiler of the module account configuration or null if hooks work with raw account configuration only.
+     */
+    default ModuleConfigCompiler<?, ?> accountConfigCompiler() {
+        return null;
+    }
 }
@@ -0,0 +1,22 @@
+package org.prebid.server.hooks.v1;
+
+/**
+ * Turns account configuration of the {@link Module} into the form its hooks work with.
+ * <p>
+ * Account configuration is parsed into {@link #configClass()} and passed to {@link #compile(Object)} by the host
+ * once per distinct account configuration. The result is cached and supplied to hooks through
+ * {@link org.prebid.server.hooks.v1.auction.AuctionInvocationContext#compiledAccountConfig()},
+ * so hooks do not parse account configuration on every invocation.
+ */
+public interface ModuleConfigCompiler<CONFIG, COMPILED> {
+
+    /**
+     * Class account configuration of the module is parsed into.
+     */
+    Class<CONFIG> configClass();
+
+    /**
+     * Compiles parsed account configuration, should not return null.
+     */
+    COMPILED compile(CONFIG config);
+}
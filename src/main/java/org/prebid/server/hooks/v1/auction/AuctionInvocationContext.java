@@ -13,4 +13,12 @@ public interface AuctionInvocationContext extends InvocationContext {
     boolean debugEnabled();
 
     ObjectNode accountConfig();
+
+    /**
+     * Account configuration compiled by {@link org.prebid.server.hooks.v1.ModuleConfigCompiler} of the module
+     * or null if the module has no compiler, account configuration is absent or could not be compiled.
+     */
+    default Object compiledAccountConfig() {
+        return null;
+    }
 }
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.RoutingContext;
 import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
@@ -13,25 +14,39 @@ import org.prebid.server.auction.model.BidderRequest;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.model.HttpLogSpec;
 import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.util.ObjectUtil;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Logs HTTP interactions matching {@link HttpLogSpec} set via admin endpoint.
+ * <p>
+ * While no spec is set, each call costs a single volatile read. Matched interactions are captured on the calling
+ * thread as references only, serialized and written by the given (bounded) executor. Interactions rejected by
+ * the executor are dropped and counted in metrics.
+ */
 public class HttpInteractionLogger {
 
     private static final String HTTP_INTERACTION_LOGGER_NAME = "http-interaction";
     private final Logger logger = LoggerFactory.getLogger(HTTP_INTERACTION_LOGGER_NAME);
 
     private final JacksonMapper mapper;
+    private final Metrics metrics;
+    private final Executor executor;
 
     private final AtomicReference<SpecWithCounter> specWithCounter = new AtomicReference<>();
 
-    public HttpInteractionLogger(JacksonMapper mapper) {
+    public HttpInteractionLogger(JacksonMapper mapper, Metrics metrics, Executor executor) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.executor = Objects.requireNonNull(executor);
     }
 
     public void setSpec(HttpLogSpec spec) {
@@ -41,18 +56,27 @@ public class HttpInteractionLogger {
     public void maybeLogOpenrtb2Auction(AuctionContext auctionContext,
                                         RoutingContext routingContext,
                                         int statusCode,
-                                        String responseBody) {
+                                        Buffer responseBody) {
 
-        if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.auction, statusCode, auctionContext)) {
-            logger.info(
-                    "Requested URL: \"{}\", request body: \"{}\", response status: \"{}\", response body: \"{}\"",
-                    routingContext.request().uri(),
-                    toOneLineString(routingContext.getBodyAsString()),
-                    statusCode,
-                    responseBody);
-
-            incLoggedInteractions();
+        final SpecWithCounter specWithCounter = this.specWithCounter.get();
+        if (specWithCounter == null
+                || !interactionSatisfiesSpec(specWithCounter, HttpLogSpec.Endpoint.auction, statusCode, auctionContext)
+                || !acquireLoggedInteraction(specWithCounter)) {
+            return;
         }
+
+        final String uri = routingContext.request().uri();
+        final String requestBody = routingContext.getBodyAsString();
+        submit(() -> logger.info(
+                "Requested URL: \"{}\", request body: \"{}\", response status: \"{}\", response body: \"{}\"",
+                uri,
+                toOneLineString(requestBody),
+                statusCode,
+                toString(responseBody)));
+    }
+
+    private static String toString(Buffer buffer) {
+        return buffer != null ? buffer.toString() : null;
     }
 
     private String toOneLineString(String value) {
@@ -66,39 +90,64 @@ public class HttpInteractionLogger {
     public void maybeLogOpenrtb2Amp(AuctionContext auctionContext,
                                     RoutingContext routingContext,
                                     int statusCode,
-                                    String responseBody) {
-
-        if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.amp, statusCode, auctionContext)) {
-            logger.info(
-                    "Requested URL: \"{}\", response status: \"{}\", response body: \"{}\"",
-                    routingContext.request().uri(),
-                    statusCode,
-                    responseBody);
+                                    Buffer responseBody) {
 
-            incLoggedInteractions();
+        final SpecWithCounter specWithCounter = this.specWithCounter.get();
+        if (specWithCounter == null
+                || !interactionSatisfiesSpec(specWithCounter, HttpLogSpec.Endpoint.amp, statusCode, auctionContext)
+                || !acquireLoggedInteraction(specWithCounter)) {
+            return;
         }
+
+        final String uri = routingContext.request().uri();
+        submit(() -> logger.info(
+                "Requested URL: \"{}\", response status: \"{}\", response body: \"{}\"",
+                uri,
+                statusCode,
+                toString(responseBody)));
     }
 
     public void maybeLogBidderRequest(AuctionContext context, BidderRequest bidderRequest) {
-        final String bidder = bidderRequest.getBidder();
-        if (interactionSatisfiesSpec(context, bidder)) {
-            final BidRequest bidRequest = bidderRequest.getBidRequest();
-            final BidRequest updatedBidRequest = bidRequestWithBidderName(bidder, bidRequest);
-            final String jsonBidRequest = mapper.encodeToString(updatedBidRequest);
-            logger.info("Request body to {}: \"{}\"", bidder, jsonBidRequest);
+        final SpecWithCounter specWithCounter = this.specWithCounter.get();
+        if (specWithCounter == null) {
+            return;
+        }
 
-            incLoggedInteractions();
+        final String bidder = bidderRequest.getBidder();
+        if (!interactionSatisfiesSpec(specWithCounter, context, bidder)
+                || !acquireLoggedInteraction(specWithCounter)) {
+            return;
         }
+
+        final BidRequest bidRequest = bidderRequest.getBidRequest();
+        submit(() -> logger.info(
+                "Request body to {}: \"{}\"",
+                bidder,
+                mapper.encodeToString(bidRequestWithBidderName(bidder, bidRequest))));
     }
 
-    private boolean interactionSatisfiesSpec(HttpLogSpec.Endpoint requestEndpoint,
-                                             int requestStatusCode,
-                                             AuctionContext auctionContext) {
+    private void submit(Runnable logAction) {
+        try {
+            executor.execute(() -> log(logAction));
+        } catch (RejectedExecutionException e) {
+            metrics.updateHttpInteractionLogMetric(MetricName.dropped);
+        }
+    }
 
-        final SpecWithCounter specWithCounter = this.specWithCounter.get();
-        if (specWithCounter == null) {
-            return false;
+    private void log(Runnable logAction) {
+        try {
+            logAction.run();
+            metrics.updateHttpInteractionLogMetric(MetricName.logged);
+        } catch (Exception e) {
+            logger.warn("Failed to log http interaction", e);
+            metrics.updateHttpInteractionLogMetric(MetricName.err);
         }
+    }
+
+    private static boolean interactionSatisfiesSpec(SpecWithCounter specWithCounter,
+                                                    HttpLogSpec.Endpoint requestEndpoint,
+                                                    int requestStatusCode,
+                                                    AuctionContext auctionContext) {
 
         final Account requestAccount = ObjectUtil.getIfNotNull(auctionContext, AuctionContext::getAccount);
         final String requestAccountId = ObjectUtil.getIfNotNull(requestAccount, Account::getId);
@@ -113,12 +162,9 @@ public class HttpInteractionLogger {
                 && (account == null || account.equals(requestAccountId));
     }
 
-    private boolean interactionSatisfiesSpec(AuctionContext auctionContext,
-                                             String requestBidder) {
-        final SpecWithCounter specWithCounter = this.specWithCounter.get();
-        if (specWithCounter == null) {
-            return false;
-        }
+    private static boolean interactionSatisfiesSpec(SpecWithCounter specWithCounter,
+                                                    AuctionContext auctionContext,
+                                                    String requestBidder) {
 
         final HttpLogSpec.Endpoint requestEndpoint =
                 parseHttpLogEndpoint(ObjectUtil.getIfNotNull(auctionContext, AuctionContext::getRequestTypeMetric));
@@ -135,7 +181,7 @@ public class HttpInteractionLogger {
                 && bidder != null && bidder.equals(requestBidder);
     }
 
-    private HttpLogSpec.Endpoint parseHttpLogEndpoint(MetricName requestTypeMetric) {
+    private static HttpLogSpec.Endpoint parseHttpLogEndpoint(MetricName requestTypeMetric) {
         if (requestTypeMetric != null) {
             if (requestTypeMetric == MetricName.amp) {
                 return HttpLogSpec.Endpoint.amp;
@@ -149,12 +195,17 @@ public class HttpInteractionLogger {
         return null;
     }
 
-    private void incLoggedInteractions() {
-        final SpecWithCounter specWithCounter = this.specWithCounter.get();
-        if (specWithCounter != null
-                && specWithCounter.getLoggedInteractions().incrementAndGet() >= specWithCounter.getSpec().getLimit()) {
-            this.specWithCounter.set(null);
+    /**
+     * Reserves one of the interactions allowed by spec limit, so concurrent calls never log more than the limit.
+     */
+    private boolean acquireLoggedInteraction(SpecWithCounter specWithCounter) {
+        final long loggedInteractions = specWithCounter.getLoggedInteractions().incrementAndGet();
+        final int limit = specWithCounter.getSpec().getLimit();
+        if (loggedInteractions >= limit) {
+            this.specWithCounter.compareAndSet(specWithCounter, null);
         }
+
+        return loggedInteractions <= limit;
     }
 
     private BidRequest bidRequestWithBidderName(String bidder, BidRequest bidRequest) {
@@ -12,6 +12,8 @@ import java.util.function.Function;
  */
 class AccountMetrics extends UpdatableMetrics {
 
+    static final String OTHER_ACCOUNTS_PREFIX = "other-accounts";
+
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
     // thread-safe
@@ -24,21 +26,32 @@ class AccountMetrics extends UpdatableMetrics {
     private final HooksMetrics hooksMetrics;
     private final ActivitiesMetrics activitiesMetrics;
 
-    AccountMetrics(MetricRegistry metricRegistry, CounterType counterType, String account) {
-        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
-                nameCreator(createPrefix(Objects.requireNonNull(account))));
+    private AccountMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType), nameCreator(prefix));
         requestTypeMetricsCreator = requestType ->
-                new RequestTypeMetrics(metricRegistry, counterType, createPrefix(account), requestType);
-        adapterMetrics = new AdapterMetrics(metricRegistry, counterType, createPrefix(account));
+                new RequestTypeMetrics(metricRegistry, counterType, prefix, requestType);
+        adapterMetrics = new AdapterMetrics(metricRegistry, counterType, prefix);
         requestTypeMetrics = new HashMap<>();
-        requestsMetrics = new RequestMetrics(metricRegistry, counterType, createPrefix(account));
-        cacheMetrics = new CacheMetrics(metricRegistry, counterType, createPrefix(account));
-        responseMetrics = new ResponseMetrics(metricRegistry, counterType, createPrefix(account));
-        hooksMetrics = new HooksMetrics(metricRegistry, counterType, createPrefix(account));
-        activitiesMetrics = new ActivitiesMetrics(metricRegistry, counterType, createPrefix(account));
+        requestsMetrics = new RequestMetrics(metricRegistry, counterType, prefix);
+        cacheMetrics = new CacheMetrics(metricRegistry, counterType, prefix);
+        responseMetrics = new ResponseMetrics(metricRegistry, counterType, prefix);
+        hooksMetrics = new HooksMetrics(metricRegistry, counterType, prefix);
+        activitiesMetrics = new ActivitiesMetrics(metricRegistry, counterType, prefix);
+    }
+
+    static AccountMetrics forAccount(MetricRegistry metricRegistry, CounterType counterType, String account) {
+        return new AccountMetrics(metricRegistry, counterType, createPrefix(Objects.requireNonNull(account)));
+    }
+
+    /**
+     * Creates metrics of accounts which are not tracked as top ones. They are submitted out of {@code account.}
+     * namespace, so they can never be confused with metrics of an account with any id.
+     */
+    static AccountMetrics otherAccounts(MetricRegistry metricRegistry, CounterType counterType) {
+        return new AccountMetrics(metricRegistry, counterType, OTHER_ACCOUNTS_PREFIX);
     }
 
-    private static String createPrefix(String account) {
+    static String createPrefix(String account) {
         return "account." + account;
     }
 
@@ -0,0 +1,16 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+
+/**
+ * Batched cache requests metrics support.
+ */
+class CacheBatchMetrics extends UpdatableMetrics {
+
+    CacheBatchMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                metricName -> "prebid_cache.batch." + metricName);
+    }
+}
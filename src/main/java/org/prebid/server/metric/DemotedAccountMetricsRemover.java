@@ -0,0 +1,30 @@
+package org.prebid.server.metric;
+
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.vertx.Initializable;
+
+import java.util.Objects;
+
+/**
+ * Periodically removes metrics of accounts demoted from top accounts, so that scanning of metric registry
+ * is not performed on the request path.
+ */
+public class DemotedAccountMetricsRemover implements Initializable {
+
+    private final Vertx vertx;
+    private final Metrics metrics;
+    private final long removalPeriodMs;
+
+    public DemotedAccountMetricsRemover(Vertx vertx, Metrics metrics, long removalPeriodMs) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.removalPeriodMs = removalPeriodMs;
+    }
+
+    @Override
+    public void initialize(Promise<Void> initializePromise) {
+        vertx.setPeriodic(removalPeriodMs, ignored -> metrics.removeDemotedAccountMetrics());
+        initializePromise.tryComplete();
+    }
+}
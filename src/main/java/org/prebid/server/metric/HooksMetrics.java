@@ -14,6 +14,8 @@ class HooksMetrics extends UpdatableMetrics {
     // thread-safe
     private final Function<String, ModuleMetrics> moduleMetricsCreator;
     private final Map<String, ModuleMetrics> moduleMetrics;
+    private final HooksExecutionPlanMetrics executionPlanMetrics;
+    private final HooksBlockingMetrics blockingMetrics;
 
     HooksMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
         super(
@@ -24,6 +26,8 @@ class HooksMetrics extends UpdatableMetrics {
         moduleMetricsCreator = moduleCode ->
                 new ModuleMetrics(metricRegistry, counterType, createPrefix(prefix), moduleCode);
         moduleMetrics = new HashMap<>();
+        executionPlanMetrics = new HooksExecutionPlanMetrics(metricRegistry, counterType, createPrefix(prefix));
+        blockingMetrics = new HooksBlockingMetrics(metricRegistry, counterType, createPrefix(prefix));
     }
 
     HooksMetrics(MetricRegistry metricRegistry, CounterType counterType) {
@@ -35,6 +39,8 @@ class HooksMetrics extends UpdatableMetrics {
         moduleMetricsCreator = moduleCode ->
                 new ModuleMetrics(metricRegistry, counterType, createPrefix(), moduleCode);
         moduleMetrics = new HashMap<>();
+        executionPlanMetrics = new HooksExecutionPlanMetrics(metricRegistry, counterType, createPrefix());
+        blockingMetrics = new HooksBlockingMetrics(metricRegistry, counterType, createPrefix());
     }
 
     private static Function<MetricName, String> nameCreator(String prefix) {
@@ -52,4 +58,12 @@ class HooksMetrics extends UpdatableMetrics {
     ModuleMetrics module(String moduleCode) {
         return moduleMetrics.computeIfAbsent(moduleCode, moduleMetricsCreator);
     }
+
+    HooksExecutionPlanMetrics executionPlan() {
+        return executionPlanMetrics;
+    }
+
+    HooksBlockingMetrics blocking() {
+        return blockingMetrics;
+    }
 }
@@ -0,0 +1,16 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+
+/**
+ * Contains http interaction logging metrics support.
+ */
+class HttpInteractionLogMetrics extends UpdatableMetrics {
+
+    HttpInteractionLogMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                metricName -> "http_interaction_log." + metricName);
+    }
+}
@@ -0,0 +1,16 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+
+/**
+ * Local creative cache metrics support.
+ */
+class LocalCacheMetrics extends UpdatableMetrics {
+
+    LocalCacheMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                metricName -> "prebid_cache.local." + metricName);
+    }
+}
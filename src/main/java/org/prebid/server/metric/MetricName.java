@@ -143,10 +143,30 @@ public enum MetricName {
     failure,
     execution_error("execution-error"),
     duration,
+    time_saved("time-saved"),
+    skipped,
+    queue_time("queue-time"),
+    rejected,
+    pinned,
+    compile_time("compile-time"),
+    overhead,
+    bidder_calls_avoided("bidder-calls-avoided"),
 
     // price-floors
     price_floors("price-floors"),
 
+    // http interaction log
+    logged,
+    dropped,
+
+    // local creative cache
+    write_behind_lag,
+    write_behind_queue,
+
+    // cache request batching
+    auctions,
+    puts,
+
     // activity
     disallowed_count("disallowed.count"),
     processed_rules_count("processedrules.count");
@@ -2,6 +2,7 @@ package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
 import com.iab.openrtb.request.Imp;
+import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.ComponentType;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
@@ -15,9 +16,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -30,7 +35,9 @@ public class Metrics extends UpdatableMetrics {
 
     private static final String ALL_REQUEST_BIDDERS = "all";
 
+    private final MetricRegistry metricRegistry;
     private final AccountMetricsVerbosityResolver accountMetricsVerbosityResolver;
+    private final TopAccountsTracker topAccountsTracker;
     private final Function<MetricName, RequestStatusMetrics> requestMetricsCreator;
     private final Function<String, AccountMetrics> accountMetricsCreator;
     private final Function<String, AdapterTypeMetrics> adapterMetricsCreator;
@@ -39,12 +46,17 @@ public class Metrics extends UpdatableMetrics {
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
+    private final Function<String, TimelineSpanMetrics> timelineSpanMetricsCreator;
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
     // thread-safe
     private final RequestsMetrics requestsMetrics;
     private final Map<MetricName, RequestStatusMetrics> requestMetrics;
     private final Map<String, AccountMetrics> accountMetrics;
+    private final AccountMetrics otherAccountsMetrics;
+    private final Set<String> demotedAccounts;
+    // only accessed by the thread removing metrics of demoted accounts
+    private Set<String> accountsDemotedBeforeLastRemoval;
     private final Map<String, AdapterTypeMetrics> adapterMetrics;
     private final Map<String, AnalyticsReporterMetrics> analyticMetrics;
     private final Map<String, PriceFloorMetrics> priceFloorsMetrics;
@@ -56,20 +68,39 @@ public class Metrics extends UpdatableMetrics {
     private final Map<MetricName, CircuitBreakerMetrics> circuitBreakerMetrics;
     private final CacheMetrics cacheMetrics;
     private final TimeoutNotificationMetrics timeoutNotificationMetrics;
+    private final HttpInteractionLogMetrics httpInteractionLogMetrics;
+    private final LocalCacheMetrics localCacheMetrics;
+    private final CacheBatchMetrics cacheBatchMetrics;
     private final CurrencyRatesMetrics currencyRatesMetrics;
     private final Map<MetricName, SettingsCacheMetrics> settingsCacheMetrics;
     private final HooksMetrics hooksMetrics;
+    private final Map<String, TimelineSpanMetrics> timelineSpanMetrics;
 
     public Metrics(MetricRegistry metricRegistry,
                    CounterType counterType,
                    AccountMetricsVerbosityResolver accountMetricsVerbosityResolver) {
 
+        this(metricRegistry, counterType, accountMetricsVerbosityResolver, null);
+    }
+
+    /**
+     * Creates metrics which submit per-account metrics only for accounts tracked as top ones by the given
+     * {@link TopAccountsTracker}, if present. Metrics of all the other accounts are submitted together with
+     * {@code other-accounts} prefix.
+     */
+    public Metrics(MetricRegistry metricRegistry,
+                   CounterType counterType,
+                   AccountMetricsVerbosityResolver accountMetricsVerbosityResolver,
+                   TopAccountsTracker topAccountsTracker) {
+
         super(metricRegistry, counterType, MetricName::toString);
 
+        this.metricRegistry = metricRegistry;
         this.accountMetricsVerbosityResolver = Objects.requireNonNull(accountMetricsVerbosityResolver);
+        this.topAccountsTracker = topAccountsTracker;
 
         requestMetricsCreator = requestType -> new RequestStatusMetrics(metricRegistry, counterType, requestType);
-        accountMetricsCreator = account -> new AccountMetrics(metricRegistry, counterType, account);
+        accountMetricsCreator = account -> AccountMetrics.forAccount(metricRegistry, counterType, account);
         adapterMetricsCreator = adapterType -> new AdapterTypeMetrics(metricRegistry, counterType, adapterType);
         bidderCardinalityMetricsCreator = cardinality -> new BidderCardinalityMetrics(
                 metricRegistry, counterType, cardinality);
@@ -79,10 +110,15 @@ public class Metrics extends UpdatableMetrics {
                 metricRegistry, counterType, moduleType);
         circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(metricRegistry, counterType, type);
         settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
+        timelineSpanMetricsCreator = span -> new TimelineSpanMetrics(metricRegistry, counterType, span);
 
         requestsMetrics = new RequestsMetrics(metricRegistry, counterType);
         requestMetrics = new EnumMap<>(MetricName.class);
-        accountMetrics = new HashMap<>();
+        // accounts can be removed when top accounts tracking is enabled, so concurrent map is required
+        accountMetrics = new ConcurrentHashMap<>();
+        otherAccountsMetrics = AccountMetrics.otherAccounts(metricRegistry, counterType);
+        demotedAccounts = ConcurrentHashMap.newKeySet();
+        accountsDemotedBeforeLastRemoval = new HashSet<>();
         adapterMetrics = new HashMap<>();
         analyticMetrics = new HashMap<>();
         priceFloorsMetrics = new HashMap<>();
@@ -94,9 +130,13 @@ public class Metrics extends UpdatableMetrics {
         circuitBreakerMetrics = new HashMap<>();
         cacheMetrics = new CacheMetrics(metricRegistry, counterType);
         timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType);
+        httpInteractionLogMetrics = new HttpInteractionLogMetrics(metricRegistry, counterType);
+        localCacheMetrics = new LocalCacheMetrics(metricRegistry, counterType);
+        cacheBatchMetrics = new CacheBatchMetrics(metricRegistry, counterType);
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
         settingsCacheMetrics = new HashMap<>();
         hooksMetrics = new HooksMetrics(metricRegistry, counterType);
+        timelineSpanMetrics = new HashMap<>();
     }
 
     RequestsMetrics requests() {
@@ -112,7 +152,9 @@ public class Metrics extends UpdatableMetrics {
     }
 
     AccountMetrics forAccount(String accountId) {
-        return accountMetrics.computeIfAbsent(accountId, accountMetricsCreator);
+        return topAccountsTracker == null || topAccountsTracker.isTop(accountId)
+                ? accountMetrics.computeIfAbsent(accountId, accountMetricsCreator)
+                : otherAccountsMetrics;
     }
 
     AdapterTypeMetrics forAdapter(String adapterType) {
@@ -123,6 +165,10 @@ public class Metrics extends UpdatableMetrics {
         return analyticMetrics.computeIfAbsent(analyticCode, analyticMetricsCreator);
     }
 
+    TimelineSpanMetrics forTimelineSpan(String span) {
+        return timelineSpanMetrics.computeIfAbsent(span, timelineSpanMetricsCreator);
+    }
+
     PriceFloorMetrics forPriceFloorFetch() {
         return priceFloorsMetrics.computeIfAbsent("fetch", priceFloorsMetricsCreator);
     }
@@ -232,6 +278,10 @@ public class Metrics extends UpdatableMetrics {
     public void updateAccountRequestMetrics(Account account, MetricName requestType) {
         final AccountMetricsVerbosityLevel verbosityLevel = accountMetricsVerbosityResolver.forAccount(account);
         if (verbosityLevel.isAtLeast(AccountMetricsVerbosityLevel.basic)) {
+            if (topAccountsTracker != null && topAccountsTracker.record(account.getId())) {
+                demoteAccounts();
+            }
+
             final AccountMetrics accountMetrics = forAccount(account.getId());
 
             accountMetrics.incCounter(MetricName.requests);
@@ -241,6 +291,79 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    /**
+     * Requests of demoted accounts are submitted to {@code other-accounts} right away, while their own metrics are
+     * left in the registry until {@link #removeDemotedAccountMetrics()}.
+     */
+    private void demoteAccounts() {
+        accountMetrics.keySet().removeIf(accountId -> {
+            if (topAccountsTracker.isTop(accountId)) {
+                return false;
+            }
+
+            demotedAccounts.add(accountId);
+            return true;
+        });
+    }
+
+    /**
+     * Removes metrics of accounts demoted before the previous call in a single pass over the registry, so that
+     * requests of these accounts which were in flight on demotion do not re-create removed metrics.
+     * <p>
+     * Scanning the registry is proportional to its size, so this is expected to be called periodically out of
+     * the request path.
+     */
+    public void removeDemotedAccountMetrics() {
+        if (topAccountsTracker == null) {
+            return;
+        }
+
+        final Set<String> removableAccounts = new HashSet<>();
+        for (String accountId : accountsDemotedBeforeLastRemoval) {
+            if (!topAccountsTracker.isTop(accountId)) {
+                removableAccounts.add(accountId);
+            }
+        }
+        if (!removableAccounts.isEmpty()) {
+            metricRegistry.removeMatching((name, metric) -> isMetricOfAnyAccount(name, removableAccounts));
+        }
+
+        // metrics of demoted account might have been re-created by request in flight on demotion
+        demoteAccounts();
+
+        accountsDemotedBeforeLastRemoval = new HashSet<>();
+        for (Iterator<String> iterator = demotedAccounts.iterator(); iterator.hasNext(); ) {
+            accountsDemotedBeforeLastRemoval.add(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Account id may contain dots, so metric name is attributed to the longest account id it starts with, either
+     * of the given accounts or of accounts metrics are still submitted for.
+     */
+    private boolean isMetricOfAnyAccount(String metricName, Set<String> accountIds) {
+        final String accountsPrefix = AccountMetrics.createPrefix(StringUtils.EMPTY);
+        if (!metricName.startsWith(accountsPrefix)) {
+            return false;
+        }
+
+        final int idStart = accountsPrefix.length();
+        int idEnd = metricName.lastIndexOf('.');
+        while (idEnd > idStart) {
+            final String accountId = metricName.substring(idStart, idEnd);
+            if (accountIds.contains(accountId)) {
+                return true;
+            }
+            if (accountMetrics.containsKey(accountId)) {
+                return false;
+            }
+            idEnd = metricName.lastIndexOf('.', idEnd - 1);
+        }
+
+        return false;
+    }
+
     public void updateAccountRequestRejectedByInvalidAccountMetrics(String accountId) {
         updateAccountRequestsMetrics(accountId, MetricName.rejected_by_invalid_account);
     }
@@ -319,6 +442,10 @@ public class Metrics extends UpdatableMetrics {
         forAnalyticReporter(analyticCode).forEventType(eventType).incCounter(result);
     }
 
+    public void updateAuctionTimelineSpanMetrics(String span, long durationMicros) {
+        forTimelineSpan(span).updateHistogram(MetricName.duration, durationMicros);
+    }
+
     public void updatePriceFloorFetchMetric(MetricName result) {
         forPriceFloorFetch().incCounter(result);
     }
@@ -580,6 +707,27 @@ public class Metrics extends UpdatableMetrics {
         forAccount(accountId).cache().creativeSize().updateHistogram(creativeType, creativeSize);
     }
 
+    public void updateLocalCacheLookupMetric(boolean hit) {
+        localCacheMetrics.incCounter(hit ? MetricName.hit : MetricName.miss);
+    }
+
+    public void updateLocalCacheWriteBehindMetric(MetricName result) {
+        localCacheMetrics.incCounter(result);
+    }
+
+    public void updateLocalCacheWriteBehindLag(long lagMillis) {
+        localCacheMetrics.updateHistogram(MetricName.write_behind_lag, lagMillis);
+    }
+
+    public void createLocalCacheWriteBehindQueueGauge(LongSupplier queueSizeSupplier) {
+        localCacheMetrics.createGauge(MetricName.write_behind_queue, queueSizeSupplier);
+    }
+
+    public void updateCacheBatchMetrics(int auctionsCount, int putsCount) {
+        cacheBatchMetrics.updateHistogram(MetricName.auctions, auctionsCount);
+        cacheBatchMetrics.updateHistogram(MetricName.puts, putsCount);
+    }
+
     public void updateTimeoutNotificationMetric(boolean success) {
         if (success) {
             timeoutNotificationMetrics.incCounter(MetricName.ok);
@@ -588,6 +736,10 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateHttpInteractionLogMetric(MetricName result) {
+        httpInteractionLogMetrics.incCounter(result);
+    }
+
     public void createCurrencyRatesGauge(BooleanSupplier stateSupplier) {
         currencyRates().createGauge(MetricName.stale, () -> stateSupplier.getAsBoolean() ? 1 : 0);
     }
@@ -623,6 +775,22 @@ public class Metrics extends UpdatableMetrics {
         hookImplMetrics.updateTimer(MetricName.duration, executionTime);
     }
 
+    public void updateHooksBlockingQueueTimeMetric(long queueTime) {
+        hooks().blocking().updateTimer(MetricName.queue_time, queueTime);
+    }
+
+    public void updateHooksBlockingRejectedMetric() {
+        hooks().blocking().incCounter(MetricName.rejected);
+    }
+
+    public void updateHooksBlockingPinnedMetric(long pinnedTime) {
+        hooks().blocking().updateTimer(MetricName.pinned, pinnedTime);
+    }
+
+    public void updateHookSkippedMetric(String moduleCode, Stage stage, String hookImplCode) {
+        hooks().module(moduleCode).stage(stage).hookImpl(hookImplCode).incCounter(MetricName.skipped);
+    }
+
     public void updateAccountHooksMetrics(
             Account account,
             String moduleCode,
@@ -647,6 +815,30 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateModuleLocalCacheLookupMetric(String moduleCode, boolean hit) {
+        hooks().module(moduleCode).localCache().incCounter(hit ? MetricName.hit : MetricName.miss);
+    }
+
+    public void updateModuleLocalCacheTimeSavedMetric(String moduleCode, long timeSaved) {
+        hooks().module(moduleCode).localCache().updateTimer(MetricName.time_saved, timeSaved);
+    }
+
+    public void updateModuleBidderCallsAvoidedMetric(String moduleCode, int count) {
+        hooks().module(moduleCode).incCounter(MetricName.bidder_calls_avoided, count);
+    }
+
+    public void updateHooksExecutionPlanCacheMetric(boolean hit) {
+        hooks().executionPlan().incCounter(hit ? MetricName.hit : MetricName.miss);
+    }
+
+    public void updateHooksExecutionPlanCompileTimeMetric(long compileTime) {
+        hooks().executionPlan().updateTimer(MetricName.compile_time, compileTime);
+    }
+
+    public void updateHooksOverheadMetric(long overheadTime) {
+        hooks().updateTimer(MetricName.overhead, overheadTime);
+    }
+
     private static class HookMetricMapper {
 
         private static final EnumMap<ExecutionStatus, MetricName> STATUS_TO_METRIC =
@@ -17,6 +17,7 @@ class ModuleMetrics extends UpdatableMetrics {
     private final Map<Stage, StageMetrics> stageMetrics;
 
     private final HookSuccessMetrics successMetrics;
+    private final ModuleLocalCacheMetrics localCacheMetrics;
 
     ModuleMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix, String moduleCode) {
         super(
@@ -29,6 +30,7 @@ class ModuleMetrics extends UpdatableMetrics {
         stageMetrics = new HashMap<>();
 
         successMetrics = new HookSuccessMetrics(metricRegistry, counterType, createPrefix(prefix, moduleCode));
+        localCacheMetrics = new ModuleLocalCacheMetrics(metricRegistry, counterType, createPrefix(prefix, moduleCode));
     }
 
     private static Function<MetricName, String> nameCreator(String prefix) {
@@ -46,4 +48,8 @@ class ModuleMetrics extends UpdatableMetrics {
     HookSuccessMetrics success() {
         return successMetrics;
     }
+
+    ModuleLocalCacheMetrics localCache() {
+        return localCacheMetrics;
+    }
 }
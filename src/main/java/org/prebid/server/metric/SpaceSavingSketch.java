@@ -0,0 +1,168 @@
+package org.prebid.server.metric;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Space-saving heavy hitters sketch: keeps at most {@code capacity} monitored keys, replacing the least frequent
+ * one when unknown key arrives. Any key with frequency above {@code total / capacity} is guaranteed to be monitored.
+ * <p>
+ * Monitored keys are kept in a binary min-heap by count, so both counting and replacement take
+ * {@code O(log capacity)}.
+ * <p>
+ * Not thread-safe.
+ */
+class SpaceSavingSketch {
+
+    private final int capacity;
+    private final Map<String, Entry> entries;
+    private final Entry[] heap;
+    private int size;
+
+    SpaceSavingSketch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Sketch capacity should be positive");
+        }
+
+        this.capacity = capacity;
+        entries = new HashMap<>(capacity * 2);
+        heap = new Entry[capacity];
+    }
+
+    void offer(String key) {
+        offer(key, 1L);
+    }
+
+    /**
+     * Counts {@code weight} occurrences of the given key at once.
+     */
+    void offer(String key, long weight) {
+        if (weight < 1) {
+            return;
+        }
+
+        final Entry existing = entries.get(key);
+        if (existing != null) {
+            existing.count += weight;
+            siftDown(existing.index);
+            return;
+        }
+
+        if (size < capacity) {
+            final Entry entry = new Entry(key, weight, size);
+            heap[size++] = entry;
+            entries.put(key, entry);
+            siftUp(entry.index);
+            return;
+        }
+
+        // new key replaces the least frequent one and inherits its count, which is an upper bound
+        // of the real frequency of the new key
+        final Entry min = heap[0];
+        entries.remove(min.key);
+        min.key = key;
+        min.count += weight;
+        entries.put(key, min);
+        siftDown(0);
+    }
+
+    /**
+     * Returns up to {@code k} keys with the highest estimated frequency.
+     */
+    Set<String> top(int k) {
+        return entries.values().stream()
+                .sorted(Comparator.comparingLong((Entry entry) -> entry.count).reversed())
+                .limit(k)
+                .map(entry -> entry.key)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Halves all counters so that keys which stopped sending traffic eventually give way to new heavy hitters.
+     * Halving keeps the order of counters, so the heap is only rebuilt if some keys are dropped.
+     */
+    void decay() {
+        int retained = 0;
+        for (int i = 0; i < size; i++) {
+            final Entry entry = heap[i];
+            entry.count >>= 1;
+            if (entry.count == 0) {
+                entries.remove(entry.key);
+            } else {
+                entry.index = retained;
+                heap[retained++] = entry;
+            }
+        }
+
+        if (retained == size) {
+            return;
+        }
+
+        Arrays.fill(heap, retained, size, null);
+        size = retained;
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    long estimate(String key) {
+        final Entry entry = entries.get(key);
+        return entry != null ? entry.count : 0L;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            final int parent = (index - 1) / 2;
+            if (heap[parent].count <= heap[index].count) {
+                return;
+            }
+
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            final int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+
+            final int right = left + 1;
+            final int smallest = right < size && heap[right].count < heap[left].count ? right : left;
+            if (heap[index].count <= heap[smallest].count) {
+                return;
+            }
+
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int first, int second) {
+        final Entry entry = heap[first];
+        heap[first] = heap[second];
+        heap[second] = entry;
+
+        heap[first].index = first;
+        heap[second].index = second;
+    }
+
+    private static class Entry {
+
+        private String key;
+        private long count;
+        private int index;
+
+        Entry(String key, long count, int index) {
+            this.key = key;
+            this.count = count;
+            this.index = index;
+        }
+    }
+}
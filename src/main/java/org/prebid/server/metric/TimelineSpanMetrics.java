@@ -0,0 +1,21 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Auction timeline span metrics support.
+ */
+class TimelineSpanMetrics extends UpdatableMetrics {
+
+    TimelineSpanMetrics(MetricRegistry metricRegistry, CounterType counterType, String span) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                nameCreator(Objects.requireNonNull(span)));
+    }
+
+    private static Function<MetricName, String> nameCreator(String span) {
+        return metricName -> "timeline.%s.%s".formatted(span, metricName);
+    }
+}
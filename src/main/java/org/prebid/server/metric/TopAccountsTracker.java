@@ -0,0 +1,111 @@
+package org.prebid.server.metric;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks accounts with the highest traffic using {@link SpaceSavingSketch}, so that full per-account metrics are
+ * submitted only for top accounts, while all the others are folded into a single bucket.
+ * <p>
+ * Requests are counted without locking into per-account adders of the current refresh period. Every
+ * {@code refreshPeriod} recorded requests the counts of the period are merged into the sketch by a single thread
+ * and top accounts are re-evaluated, which allows accounts to be promoted and demoted dynamically. Until top
+ * accounts are re-evaluated for the first time, and whenever there are fewer than {@code topSize} of them,
+ * accounts are promoted as soon as they are recorded.
+ * <p>
+ * Memory used by tracker is bounded by sketch capacity and number of distinct accounts within a refresh period.
+ */
+public class TopAccountsTracker {
+
+    private final int topSize;
+    private final long refreshPeriod;
+    private final SpaceSavingSketch sketch;
+
+    private final AtomicLong recorded;
+    private final AtomicBoolean refreshing;
+    private final AtomicReference<Set<String>> topAccounts;
+    private volatile ConcurrentHashMap<String, LongAdder> periodCounts;
+
+    public TopAccountsTracker(int topSize, int sketchCapacity, long refreshPeriod) {
+        if (topSize < 1 || sketchCapacity < topSize) {
+            throw new IllegalArgumentException("Top size should be positive and not exceed sketch capacity");
+        }
+        if (refreshPeriod < 1) {
+            throw new IllegalArgumentException("Refresh period should be positive");
+        }
+
+        this.topSize = topSize;
+        this.refreshPeriod = refreshPeriod;
+
+        sketch = new SpaceSavingSketch(sketchCapacity);
+        recorded = new AtomicLong();
+        refreshing = new AtomicBoolean();
+        topAccounts = new AtomicReference<>(Collections.emptySet());
+        periodCounts = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Records request for the given account.
+     *
+     * @return true if top accounts were re-evaluated as a result of this call, so some accounts may be demoted.
+     */
+    public boolean record(String accountId) {
+        final ConcurrentHashMap<String, LongAdder> counts = periodCounts;
+        final LongAdder counter = counts.get(accountId);
+        if (counter != null) {
+            counter.increment();
+        } else {
+            counts.computeIfAbsent(accountId, ignored -> new LongAdder()).increment();
+        }
+
+        promoteWhileTopIsNotFull(accountId);
+
+        return recorded.incrementAndGet() % refreshPeriod == 0 && refresh();
+    }
+
+    public boolean isTop(String accountId) {
+        return topAccounts.get().contains(accountId);
+    }
+
+    private void promoteWhileTopIsNotFull(String accountId) {
+        Set<String> current = topAccounts.get();
+        while (current.size() < topSize && !current.contains(accountId)) {
+            final Set<String> updated = new HashSet<>(current);
+            updated.add(accountId);
+            if (topAccounts.compareAndSet(current, Collections.unmodifiableSet(updated))) {
+                return;
+            }
+
+            current = topAccounts.get();
+        }
+    }
+
+    /**
+     * Sketch is only touched by the thread which has started the refresh, refresh requested while the previous one
+     * is still running is skipped, its counts are merged by the next one.
+     */
+    private boolean refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return false;
+        }
+
+        try {
+            final ConcurrentHashMap<String, LongAdder> counts = periodCounts;
+            periodCounts = new ConcurrentHashMap<>();
+
+            counts.forEach((accountId, counter) -> sketch.offer(accountId, counter.sum()));
+            topAccounts.set(sketch.top(topSize));
+            sketch.decay();
+
+            return true;
+        } finally {
+            refreshing.set(false);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package org.prebid.server.metric.prometheus;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.MetricRegistryListener;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import io.prometheus.client.Collector;
+import io.prometheus.client.dropwizard.samplebuilder.SampleBuilder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Writes metrics from {@link MetricRegistry} in Prometheus text (0.0.4) or OpenMetrics format
+ * without converting whole registry to {@link Collector.MetricFamilySamples} on every scrape.
+ * <p>
+ * Names and labels of each series are resolved by {@link SampleBuilder} only once, when metric is registered,
+ * and kept as ready-to-write line prefixes grouped by metric family. Scrape reads primitive values and appends
+ * them to the output, which is flushed in chunks of bounded size.
+ * <p>
+ * Output is compatible with {@link io.prometheus.client.dropwizard.DropwizardExports}.
+ */
+public class PrometheusExposition {
+
+    private static final String QUANTILE_LABEL = "quantile";
+    private static final List<String> QUANTILES = List.of("0.5", "0.75", "0.95", "0.98", "0.99", "0.999");
+    private static final double NANOS_TO_SECONDS = 1.0D / TimeUnit.SECONDS.toNanos(1L);
+    private static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private final SampleBuilder sampleBuilder;
+    private final int chunkSize;
+
+    private final Map<String, Family> families;
+    private final Map<String, String> metricToFamily;
+
+    public PrometheusExposition(MetricRegistry metricRegistry, SampleBuilder sampleBuilder) {
+        this(metricRegistry, sampleBuilder, DEFAULT_CHUNK_SIZE);
+    }
+
+    PrometheusExposition(MetricRegistry metricRegistry, SampleBuilder sampleBuilder, int chunkSize) {
+        this.sampleBuilder = Objects.requireNonNull(sampleBuilder);
+        this.chunkSize = chunkSize;
+
+        families = new ConcurrentHashMap<>();
+        metricToFamily = new ConcurrentHashMap<>();
+
+        metricRegistry.addListener(new RegistryListener());
+    }
+
+    /**
+     * Writes all metrics passing output to the given consumer in chunks.
+     */
+    public void write(boolean openMetrics, Consumer<String> chunkConsumer) {
+        final StringBuilder output = new StringBuilder(chunkSize + 1024);
+
+        for (Family family : families.values()) {
+            family.write(output, openMetrics);
+
+            if (output.length() >= chunkSize) {
+                chunkConsumer.accept(output.toString());
+                output.setLength(0);
+            }
+        }
+
+        if (openMetrics) {
+            output.append("# EOF\n");
+        }
+        if (!output.isEmpty()) {
+            chunkConsumer.accept(output.toString());
+        }
+    }
+
+    private synchronized void add(String dropwizardName, Metric metric, SeriesType type) {
+        final String[] linePrefixes = type.isSummary()
+                ? summaryLinePrefixes(dropwizardName)
+                : new String[]{linePrefix(dropwizardName, type.suffix)};
+
+        final String sampleName = sample(dropwizardName, type.suffix, Collections.emptyList(), Collections.emptyList())
+                .name;
+        final String familyName = sampleName.substring(0, sampleName.length() - type.suffix.length());
+
+        families.computeIfAbsent(familyName, name -> new Family(name, type, help(dropwizardName, metric)))
+                .series.put(dropwizardName, new Series(metric, type, linePrefixes));
+        metricToFamily.put(dropwizardName, familyName);
+    }
+
+    private synchronized void remove(String dropwizardName) {
+        final String familyName = metricToFamily.remove(dropwizardName);
+        final Family family = familyName != null ? families.get(familyName) : null;
+        if (family == null) {
+            return;
+        }
+
+        family.series.remove(dropwizardName);
+        if (family.series.isEmpty()) {
+            families.remove(familyName);
+        }
+    }
+
+    private String[] summaryLinePrefixes(String dropwizardName) {
+        final String[] linePrefixes = new String[QUANTILES.size() + 1];
+        for (int i = 0; i < QUANTILES.size(); i++) {
+            linePrefixes[i] = linePrefix(dropwizardName, "", List.of(QUANTILE_LABEL), List.of(QUANTILES.get(i)));
+        }
+        linePrefixes[QUANTILES.size()] = linePrefix(dropwizardName, "_count");
+
+        return linePrefixes;
+    }
+
+    private String linePrefix(String dropwizardName, String suffix) {
+        return linePrefix(dropwizardName, suffix, Collections.emptyList(), Collections.emptyList());
+    }
+
+    private String linePrefix(String dropwizardName,
+                              String suffix,
+                              List<String> labelNames,
+                              List<String> labelValues) {
+
+        final Collector.MetricFamilySamples.Sample sample = sample(dropwizardName, suffix, labelNames, labelValues);
+
+        final StringBuilder linePrefix = new StringBuilder(sample.name);
+        if (!sample.labelNames.isEmpty()) {
+            linePrefix.append('{');
+            for (int i = 0; i < sample.labelNames.size(); i++) {
+                if (i > 0) {
+                    linePrefix.append(',');
+                }
+                linePrefix.append(sample.labelNames.get(i)).append("=\"");
+                appendEscaped(linePrefix, sample.labelValues.get(i), true);
+                linePrefix.append('"');
+            }
+            linePrefix.append('}');
+        }
+
+        return linePrefix.append(' ').toString();
+    }
+
+    private Collector.MetricFamilySamples.Sample sample(String dropwizardName,
+                                                        String suffix,
+                                                        List<String> labelNames,
+                                                        List<String> labelValues) {
+
+        return sampleBuilder.createSample(dropwizardName, suffix, labelNames, labelValues, 0.0D);
+    }
+
+    private static String help(String dropwizardName, Metric metric) {
+        return "Generated from Dropwizard metric import (metric=%s, type=%s)"
+                .formatted(dropwizardName, metric.getClass().getName());
+    }
+
+    private static void appendEscaped(StringBuilder output, String value, boolean escapeQuotes) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> output.append("\\\\");
+                case '\n' -> output.append("\\n");
+                case '"' -> output.append(escapeQuotes ? "\\\"" : "\"");
+                default -> output.append(c);
+            }
+        }
+    }
+
+    private static void appendValue(StringBuilder output, double value) {
+        if (value == Double.POSITIVE_INFINITY) {
+            output.append("+Inf");
+        } else if (value == Double.NEGATIVE_INFINITY) {
+            output.append("-Inf");
+        } else {
+            output.append(value);
+        }
+    }
+
+    private enum SeriesType {
+
+        COUNTER("gauge", ""),
+        GAUGE("gauge", ""),
+        METER("counter", "_total"),
+        TIMER("summary", ""),
+        HISTOGRAM("summary", "");
+
+        private final String prometheusType;
+        private final String suffix;
+
+        SeriesType(String prometheusType, String suffix) {
+            this.prometheusType = prometheusType;
+            this.suffix = suffix;
+        }
+
+        boolean isSummary() {
+            return this == TIMER || this == HISTOGRAM;
+        }
+    }
+
+    private record Family(String name, SeriesType type, String help, Map<String, Series> series) {
+
+        Family(String name, SeriesType type, String help) {
+            this(name, type, help, new ConcurrentHashMap<>());
+        }
+
+        void write(StringBuilder output, boolean openMetrics) {
+            // text format 0.0.4 expects counter family name to contain suffix, while OpenMetrics - doesn't
+            final String familyName = openMetrics ? name : name + type.suffix;
+
+            output.append("# HELP ").append(familyName).append(' ');
+            appendEscaped(output, help, false);
+            output.append('\n');
+            output.append("# TYPE ").append(familyName).append(' ').append(type.prometheusType).append('\n');
+
+            for (Series value : series.values()) {
+                value.write(output);
+            }
+        }
+    }
+
+    private record Series(Metric metric, SeriesType type, String[] linePrefixes) {
+
+        void write(StringBuilder output) {
+            switch (type) {
+                case COUNTER -> writeLine(output, 0, ((Counter) metric).getCount());
+                case METER -> writeLine(output, 0, ((Meter) metric).getCount());
+                case GAUGE -> writeGauge(output, ((Gauge<?>) metric).getValue());
+                case TIMER -> {
+                    final Timer timer = (Timer) metric;
+                    writeSummary(output, timer.getSnapshot(), timer.getCount(), NANOS_TO_SECONDS);
+                }
+                case HISTOGRAM -> {
+                    final Histogram histogram = (Histogram) metric;
+                    writeSummary(output, histogram.getSnapshot(), histogram.getCount(), 1.0D);
+                }
+            }
+        }
+
+        private void writeGauge(StringBuilder output, Object value) {
+            if (value instanceof Number number) {
+                writeLine(output, 0, number.doubleValue());
+            } else if (value instanceof Boolean bool) {
+                writeLine(output, 0, bool ? 1 : 0);
+            }
+        }
+
+        private void writeSummary(StringBuilder output, Snapshot snapshot, long count, double factor) {
+            writeLine(output, 0, snapshot.getMedian() * factor);
+            writeLine(output, 1, snapshot.get75thPercentile() * factor);
+            writeLine(output, 2, snapshot.get95thPercentile() * factor);
+            writeLine(output, 3, snapshot.get98thPercentile() * factor);
+            writeLine(output, 4, snapshot.get99thPercentile() * factor);
+            writeLine(output, 5, snapshot.get999thPercentile() * factor);
+            writeLine(output, 6, count);
+        }
+
+        private void writeLine(StringBuilder output, int index, double value) {
+            output.append(linePrefixes[index]);
+            appendValue(output, value);
+            output.append('\n');
+        }
+    }
+
+    private class RegistryListener extends MetricRegistryListener.Base {
+
+        @Override
+        public void onGaugeAdded(String name, Gauge<?> gauge) {
+            add(name, gauge, SeriesType.GAUGE);
+        }
+
+        @Override
+        public void onGaugeRemoved(String name) {
+            remove(name);
+        }
+
+        @Override
+        public void onCounterAdded(String name, Counter counter) {
+            add(name, counter, SeriesType.COUNTER);
+        }
+
+        @Override
+        public void onCounterRemoved(String name) {
+            remove(name);
+        }
+
+        @Override
+        public void onHistogramAdded(String name, Histogram histogram) {
+            add(name, histogram, SeriesType.HISTOGRAM);
+        }
+
+        @Override
+        public void onHistogramRemoved(String name) {
+            remove(name);
+        }
+
+        @Override
+        public void onMeterAdded(String name, Meter meter) {
+            add(name, meter, SeriesType.METER);
+        }
+
+        @Override
+        public void onMeterRemoved(String name) {
+            remove(name);
+        }
+
+        @Override
+        public void onTimerAdded(String name, Timer timer) {
+            add(name, timer, SeriesType.TIMER);
+        }
+
+        @Override
+        public void onTimerRemoved(String name) {
+            remove(name);
+        }
+    }
+}
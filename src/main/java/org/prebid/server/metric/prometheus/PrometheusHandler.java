@@ -0,0 +1,40 @@
+package org.prebid.server.metric.prometheus;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.Objects;
+
+/**
+ * Serves metrics written by {@link PrometheusExposition},
+ * choosing OpenMetrics format when client accepts it.
+ */
+public class PrometheusHandler implements Handler<RoutingContext> {
+
+    private static final String TEXT_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String OPEN_METRICS_MEDIA_TYPE = "application/openmetrics-text";
+    private static final String OPEN_METRICS_CONTENT_TYPE =
+            OPEN_METRICS_MEDIA_TYPE + "; version=1.0.0; charset=utf-8";
+
+    private final PrometheusExposition prometheusExposition;
+
+    public PrometheusHandler(PrometheusExposition prometheusExposition) {
+        this.prometheusExposition = Objects.requireNonNull(prometheusExposition);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final boolean openMetrics = StringUtils.contains(
+                routingContext.request().getHeader(HttpUtil.ACCEPT_HEADER), OPEN_METRICS_MEDIA_TYPE);
+
+        final HttpServerResponse response = routingContext.response()
+                .setChunked(true)
+                .putHeader(HttpUtil.CONTENT_TYPE_HEADER, openMetrics ? OPEN_METRICS_CONTENT_TYPE : TEXT_CONTENT_TYPE);
+
+        prometheusExposition.write(openMetrics, response::write);
+        response.end();
+    }
+}
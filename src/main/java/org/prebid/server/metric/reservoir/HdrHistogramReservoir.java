@@ -0,0 +1,79 @@
+package org.prebid.server.metric.reservoir;
+
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.SingleWriterRecorder;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link Reservoir} backed by HdrHistogram.
+ * <p>
+ * Every thread (in practice - every event loop or worker) records into its own {@link SingleWriterRecorder},
+ * so updates are wait-free and never contend with each other. Recorders are merged into a single histogram
+ * only when a reporter asks for a {@link Snapshot}.
+ * <p>
+ * Merged values are kept for {@code windowMillis} and then dropped, so snapshot reflects recent behaviour
+ * while still being shareable between several reporters scraping at different intervals.
+ */
+public class HdrHistogramReservoir implements Reservoir {
+
+    private final int significantDigits;
+    private final boolean packed;
+    private final long windowMillis;
+    private final Clock clock;
+
+    private final List<SingleWriterRecorder> recorders;
+    private final ThreadLocal<SingleWriterRecorder> threadRecorder;
+
+    private final Histogram accumulated;
+    private long windowStart;
+
+    public HdrHistogramReservoir(int significantDigits, boolean packed, long windowMillis, Clock clock) {
+        this.significantDigits = significantDigits;
+        this.packed = packed;
+        this.windowMillis = windowMillis;
+        this.clock = Objects.requireNonNull(clock);
+
+        recorders = new CopyOnWriteArrayList<>();
+        threadRecorder = ThreadLocal.withInitial(this::createRecorder);
+
+        accumulated = new Histogram(significantDigits);
+        windowStart = clock.millis();
+    }
+
+    @Override
+    public int size() {
+        return getSnapshot().size();
+    }
+
+    @Override
+    public void update(long value) {
+        threadRecorder.get().recordValue(Math.max(value, 0L));
+    }
+
+    @Override
+    public synchronized Snapshot getSnapshot() {
+        final long now = clock.millis();
+        if (now - windowStart >= windowMillis) {
+            accumulated.reset();
+            windowStart = now;
+        }
+
+        for (SingleWriterRecorder recorder : recorders) {
+            accumulated.add(recorder.getIntervalHistogram());
+        }
+
+        return new HdrHistogramSnapshot(accumulated.copy());
+    }
+
+    private SingleWriterRecorder createRecorder() {
+        final SingleWriterRecorder recorder = new SingleWriterRecorder(significantDigits, packed);
+        recorders.add(recorder);
+        return recorder;
+    }
+}
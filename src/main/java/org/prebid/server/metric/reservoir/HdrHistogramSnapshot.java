@@ -0,0 +1,82 @@
+package org.prebid.server.metric.reservoir;
+
+import com.codahale.metrics.Snapshot;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * {@link Snapshot} view over merged HdrHistogram.
+ * <p>
+ * Note: {@link #getValues()} returns one (highest equivalent) value per non-empty bucket instead of every
+ * recorded value, since HdrHistogram keeps counts only.
+ */
+class HdrHistogramSnapshot extends Snapshot {
+
+    private final Histogram histogram;
+
+    HdrHistogramSnapshot(Histogram histogram) {
+        this.histogram = histogram;
+    }
+
+    @Override
+    public double getValue(double quantile) {
+        if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
+            throw new IllegalArgumentException(quantile + " is not in [0..1]");
+        }
+
+        return histogram.getValueAtPercentile(quantile * 100.0);
+    }
+
+    @Override
+    public long[] getValues() {
+        long[] values = new long[16];
+        int size = 0;
+        for (HistogramIterationValue value : histogram.recordedValues()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value.getValueIteratedTo();
+        }
+
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(histogram.getTotalCount(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public long getMax() {
+        return histogram.getTotalCount() > 0 ? histogram.getMaxValue() : 0L;
+    }
+
+    @Override
+    public double getMean() {
+        return histogram.getTotalCount() > 0 ? histogram.getMean() : 0.0;
+    }
+
+    @Override
+    public long getMin() {
+        return histogram.getTotalCount() > 0 ? histogram.getMinValue() : 0L;
+    }
+
+    @Override
+    public double getStdDev() {
+        return histogram.getTotalCount() > 0 ? histogram.getStdDeviation() : 0.0;
+    }
+
+    @Override
+    public void dump(OutputStream output) {
+        try (PrintWriter writer = new PrintWriter(output, false, StandardCharsets.UTF_8)) {
+            for (long value : getValues()) {
+                writer.printf("%d%n", value);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.prebid.server.metric.reservoir;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Timer;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * {@link MetricRegistry} which creates timers and histograms backed by the given {@link Reservoir} factory
+ * instead of default exponentially decaying one.
+ */
+public class ReservoirMetricRegistry extends MetricRegistry {
+
+    private final Supplier<Reservoir> reservoirFactory;
+
+    public ReservoirMetricRegistry(Supplier<Reservoir> reservoirFactory) {
+        this.reservoirFactory = Objects.requireNonNull(reservoirFactory);
+    }
+
+    @Override
+    public Timer timer(String name) {
+        return timer(name, () -> new Timer(reservoirFactory.get()));
+    }
+
+    @Override
+    public Histogram histogram(String name) {
+        return histogram(name, () -> new Histogram(reservoirFactory.get()));
+    }
+}
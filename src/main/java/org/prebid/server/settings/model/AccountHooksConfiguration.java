@@ -14,4 +14,11 @@ public class AccountHooksConfiguration {
     ExecutionPlan executionPlan;
 
     Map<String, ObjectNode> modules;
+
+    @JsonAlias("execution-budget-ms")
+    Long executionBudgetMs;
+
+    public static AccountHooksConfiguration of(ExecutionPlan executionPlan, Map<String, ObjectNode> modules) {
+        return of(executionPlan, modules, null);
+    }
 }
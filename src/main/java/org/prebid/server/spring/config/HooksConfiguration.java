@@ -4,10 +4,14 @@ import io.vertx.core.Vertx;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.hooks.execution.BlockingHookExecutor;
 import org.prebid.server.hooks.execution.HookCatalog;
 import org.prebid.server.hooks.execution.HookStageExecutor;
+import org.prebid.server.hooks.execution.ModuleConfigCache;
 import org.prebid.server.hooks.v1.Module;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,22 +28,53 @@ public class HooksConfiguration {
         return new HookCatalog(modules);
     }
 
+    @Bean
+    ModuleConfigCache moduleConfigCache(Collection<Module> modules,
+                                        @Value("${hooks.module-config-cache-size:10000}") int cacheSize,
+                                        JacksonMapper mapper) {
+
+        return new ModuleConfigCache(modules, cacheSize, mapper);
+    }
+
+    @Bean
+    BlockingHookExecutor blockingHookExecutor(
+            @Value("${hooks.blocking.virtual-threads:true}") boolean virtualThreads,
+            @Value("${hooks.blocking.pool-size:32}") int poolSize,
+            @Value("${hooks.blocking.queue-size:1000}") int queueSize,
+            @Value("${hooks.blocking.pinning-tracking-enabled:false}") boolean pinningTrackingEnabled,
+            @Value("${hooks.blocking.pinning-threshold-ms:20}") long pinningThresholdMs,
+            Metrics metrics,
+            Clock clock) {
+
+        return virtualThreads
+                ? BlockingHookExecutor.virtualThreads(pinningTrackingEnabled, pinningThresholdMs, metrics, clock)
+                : BlockingHookExecutor.workerPool(poolSize, queueSize, metrics, clock);
+    }
+
     @Bean
     HookStageExecutor hookStageExecutor(HooksConfigurationProperties hooksConfiguration,
                                         HookCatalog hookCatalog,
+                                        ModuleConfigCache moduleConfigCache,
+                                        @Value("${hooks.execution-plan-cache-size:10000}") int executionPlanCacheSize,
                                         TimeoutFactory timeoutFactory,
                                         Vertx vertx,
                                         Clock clock,
-                                        JacksonMapper mapper) {
+                                        JacksonMapper mapper,
+                                        Metrics metrics,
+                                        BlockingHookExecutor blockingHookExecutor) {
 
         return HookStageExecutor.create(
                 hooksConfiguration.getHostExecutionPlan(),
                 hooksConfiguration.getDefaultAccountExecutionPlan(),
                 hookCatalog,
+                moduleConfigCache,
+                executionPlanCacheSize,
                 timeoutFactory,
                 vertx,
                 clock,
-                mapper);
+                mapper,
+                metrics,
+                blockingHookExecutor);
     }
 
     @Bean
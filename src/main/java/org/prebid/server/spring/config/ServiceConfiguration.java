@@ -36,6 +36,7 @@ import org.prebid.server.auction.VideoStoredRequestProcessor;
 import org.prebid.server.auction.WinningBidComparatorFactory;
 import org.prebid.server.auction.adjustment.BidAdjustmentFactorResolver;
 import org.prebid.server.auction.categorymapping.BasicCategoryMappingService;
+import org.prebid.server.auction.categorymapping.CategoryMappingTables;
 import org.prebid.server.auction.categorymapping.CategoryMappingService;
 import org.prebid.server.auction.categorymapping.NoOpCategoryMappingService;
 import org.prebid.server.auction.gpp.AmpGppService;
@@ -64,6 +65,7 @@ import org.prebid.server.auction.requestfactory.AuctionRequestFactory;
 import org.prebid.server.auction.requestfactory.Ortb2ImplicitParametersResolver;
 import org.prebid.server.auction.requestfactory.Ortb2RequestFactory;
 import org.prebid.server.auction.requestfactory.VideoRequestFactory;
+import org.prebid.server.auction.timeline.AuctionTimelineRecorder;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConverterFactory;
 import org.prebid.server.bidder.BidderCatalog;
@@ -75,6 +77,9 @@ import org.prebid.server.bidder.HttpBidderRequester;
 import org.prebid.server.cache.BasicPbcStorageService;
 import org.prebid.server.cache.CoreCacheService;
 import org.prebid.server.cache.PbcStorageService;
+import org.prebid.server.cache.batch.CacheRequestBatcher;
+import org.prebid.server.cache.local.CacheWriteBehind;
+import org.prebid.server.cache.local.LocalCreativeCache;
 import org.prebid.server.cache.model.CacheTtl;
 import org.prebid.server.cache.utils.CacheServiceUtil;
 import org.prebid.server.cookie.CookieDeprecationService;
@@ -142,6 +147,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -159,27 +167,108 @@ public class ServiceConfiguration {
             @Value("${cache.host}") String host,
             @Value("${cache.path}") String path,
             @Value("${cache.query}") String query,
+            @Value("${cache.local.path}") String localCachePath,
+            @Value("${external-url}") String externalUrl,
             @Value("${auction.cache.expected-request-time-ms}") long expectedCacheTimeMs,
             VastModifier vastModifier,
             EventsService eventsService,
             HttpClient httpClient,
             Metrics metrics,
             Clock clock,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            @Autowired(required = false) LocalCreativeCache localCreativeCache,
+            @Autowired(required = false) CacheRequestBatcher cacheRequestBatcher) {
 
+        // locally cached creatives reach the external cache only after ids are returned,
+        // so they are fetched from the local cache endpoint of this server
         return new CoreCacheService(
                 httpClient,
                 CacheServiceUtil.getCacheEndpointUrl(scheme, host, path),
-                CacheServiceUtil.getCachedAssetUrlTemplate(scheme, host, path, query),
+                localCreativeCache != null
+                        ? CacheServiceUtil.getLocalCacheEndpointUrl(externalUrl, localCachePath)
+                        : CacheServiceUtil.getCacheEndpointUrl(scheme, host, path),
+                localCreativeCache != null
+                        ? CacheServiceUtil.getLocalCachedAssetUrlTemplate(externalUrl, localCachePath, query)
+                        : CacheServiceUtil.getCachedAssetUrlTemplate(scheme, host, path, query),
                 expectedCacheTimeMs,
                 vastModifier,
                 eventsService,
                 metrics,
                 clock,
                 new UUIDIdGenerator(),
+                mapper,
+                localCreativeCache,
+                cacheRequestBatcher);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.batch", name = "enabled", havingValue = "true")
+    CacheRequestBatcher cacheRequestBatcher(
+            @Value("${cache.scheme}") String scheme,
+            @Value("${cache.host}") String host,
+            @Value("${cache.path}") String path,
+            @Value("${cache.batch.window-ms}") long windowMs,
+            @Value("${cache.batch.max-puts}") int maxPuts,
+            Vertx vertx,
+            HttpClient httpClient,
+            Metrics metrics,
+            Clock clock,
+            JacksonMapper mapper) {
+
+        return new CacheRequestBatcher(
+                CacheServiceUtil.getCacheEndpointUrl(scheme, host, path),
+                windowMs,
+                maxPuts,
+                vertx,
+                httpClient,
+                metrics,
+                clock,
+                mapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.local", name = "enabled", havingValue = "true")
+    CacheWriteBehind cacheWriteBehind(
+            @Value("${cache.scheme}") String scheme,
+            @Value("${cache.host}") String host,
+            @Value("${cache.path}") String path,
+            @Value("${cache.local.write-behind.batch-size}") int batchSize,
+            @Value("${cache.local.write-behind.max-in-flight-batches}") int maxInFlightBatches,
+            @Value("${cache.local.write-behind.max-queue-size}") int maxQueueSize,
+            @Value("${cache.local.write-behind.flush-period-ms}") long flushPeriodMs,
+            @Value("${cache.local.write-behind.timeout-ms}") long timeoutMs,
+            Vertx vertx,
+            HttpClient httpClient,
+            Metrics metrics,
+            Clock clock,
+            JacksonMapper mapper) {
+
+        return new CacheWriteBehind(
+                CacheServiceUtil.getCacheEndpointUrl(scheme, host, path),
+                batchSize,
+                maxInFlightBatches,
+                maxQueueSize,
+                flushPeriodMs,
+                timeoutMs,
+                vertx,
+                httpClient,
+                metrics,
+                clock,
                 mapper);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.local", name = "enabled", havingValue = "true")
+    LocalCreativeCache localCreativeCache(
+            @Value("${cache.local.max-size-bytes}") long maxSizeBytes,
+            @Value("${cache.local.default-ttl-seconds}") int defaultTtlSeconds,
+            CacheWriteBehind cacheWriteBehind,
+            Metrics metrics,
+            JacksonMapper mapper) {
+
+        return new LocalCreativeCache(maxSizeBytes, defaultTtlSeconds, cacheWriteBehind, metrics, mapper);
+    }
+
     @Bean
     @ConditionalOnProperty(prefix = "cache.module", name = "enabled", havingValue = "false", matchIfMissing = true)
     PbcStorageService noOpModuleCacheService() {
@@ -212,10 +301,26 @@ public class ServiceConfiguration {
 
     @Bean
     @ConditionalOnProperty(prefix = "auction", name = "category-mapping-enabled", havingValue = "true")
-    CategoryMappingService basicCategoryMappingService(ApplicationSettings applicationSettings,
-                                                       JacksonMapper jacksonMapper) {
+    CategoryMappingService basicCategoryMappingService(
+            ApplicationSettings applicationSettings,
+            @Autowired(required = false) CategoryMappingTables categoryMappingTables,
+            JacksonMapper jacksonMapper) {
+
+        return new BasicCategoryMappingService(applicationSettings, categoryMappingTables, jacksonMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.category-mapping-tables", name = "enabled", havingValue = "true")
+    CategoryMappingTables categoryMappingTables(
+            ApplicationSettings applicationSettings,
+            Vertx vertx,
+            TimeoutFactory timeoutFactory,
+            @Value("${auction.category-mapping-tables.max-size}") int maxSize,
+            @Value("${auction.category-mapping-tables.refresh-period-ms}") long refreshPeriodMs,
+            @Value("${auction.category-mapping-tables.refresh-timeout-ms}") long refreshTimeoutMs) {
 
-        return new BasicCategoryMappingService(applicationSettings, jacksonMapper);
+        return new CategoryMappingTables(
+                applicationSettings, vertx, timeoutFactory, maxSize, refreshPeriodMs, refreshTimeoutMs);
     }
 
     @Bean
@@ -385,7 +490,8 @@ public class ServiceConfiguration {
             IpAddressHelper ipAddressHelper,
             HookStageExecutor hookStageExecutor,
             CountryCodeMapper countryCodeMapper,
-            Metrics metrics) {
+            Metrics metrics,
+            AuctionTimelineRecorder auctionTimelineRecorder) {
 
         final List<String> blocklistedAccounts = splitToList(blocklistedAccountsString);
 
@@ -403,7 +509,18 @@ public class ServiceConfiguration {
                 ipAddressHelper,
                 hookStageExecutor,
                 countryCodeMapper,
-                metrics);
+                metrics,
+                auctionTimelineRecorder);
+    }
+
+    @Bean
+    AuctionTimelineRecorder auctionTimelineRecorder(
+            @Value("${auction.timeline.sampling-rate:0.0}") double samplingRate,
+            @Value("${auction.timeline.buffer-size:100}") int bufferSize,
+            Metrics metrics,
+            Clock clock) {
+
+        return new AuctionTimelineRecorder(samplingRate, bufferSize, metrics, clock);
     }
 
     @Bean
@@ -845,7 +962,8 @@ public class ServiceConfiguration {
             Clock clock,
             JacksonMapper mapper,
             CriteriaLogManager criteriaLogManager,
-            @Value("${auction.strict-app-site-dooh:false}") boolean enabledStrictAppSiteDoohValidation) {
+            @Value("${auction.strict-app-site-dooh:false}") boolean enabledStrictAppSiteDoohValidation,
+            @Value("${auction.pipelined-bidder-responses:false}") boolean pipelinedBidderResponses) {
 
         return new ExchangeService(
                 logSamplingRate,
@@ -872,7 +990,9 @@ public class ServiceConfiguration {
                 metrics,
                 clock,
                 mapper,
-                criteriaLogManager, enabledStrictAppSiteDoohValidation);
+                criteriaLogManager,
+                enabledStrictAppSiteDoohValidation,
+                pipelinedBidderResponses);
     }
 
     @Bean
@@ -1147,8 +1267,21 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    HttpInteractionLogger httpInteractionLogger(JacksonMapper mapper) {
-        return new HttpInteractionLogger(mapper);
+    HttpInteractionLogger httpInteractionLogger(
+            @Value("${logging.http-interaction.queue-capacity:1000}") int queueCapacity,
+            JacksonMapper mapper,
+            Metrics metrics) {
+
+        final ExecutorService executor = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("http-interaction-logger").daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        return new HttpInteractionLogger(mapper, metrics, executor);
     }
 
     @Bean
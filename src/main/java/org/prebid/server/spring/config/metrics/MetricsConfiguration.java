@@ -13,13 +13,19 @@ import com.codahale.metrics.jvm.MemoryUsageGaugeSet;
 import com.izettle.metrics.influxdb.InfluxDbHttpSender;
 import com.izettle.metrics.influxdb.InfluxDbReporter;
 import com.izettle.metrics.influxdb.InfluxDbSender;
+import io.vertx.core.Vertx;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.metric.AccountMetricsVerbosityResolver;
 import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.DemotedAccountMetricsRemover;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.ReservoirType;
+import org.prebid.server.metric.TopAccountsTracker;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.metric.reservoir.HdrHistogramReservoir;
+import org.prebid.server.metric.reservoir.ReservoirMetricRegistry;
 import org.prebid.server.spring.env.YamlPropertySourceFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -30,9 +36,12 @@ import org.springframework.context.annotation.PropertySource;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -108,14 +117,45 @@ public class MetricsConfiguration {
     @Bean
     Metrics metrics(@Value("${metrics.metricType}") CounterType counterType,
                     MetricRegistry metricRegistry,
-                    AccountMetricsVerbosityResolver accountMetricsVerbosityResolver) {
+                    AccountMetricsVerbosityResolver accountMetricsVerbosityResolver,
+                    AccountsProperties accountsProperties) {
 
-        return new Metrics(metricRegistry, counterType, accountMetricsVerbosityResolver);
+        final TopAccountsProperties topAccountsProperties = accountsProperties.getTopAccounts();
+        final TopAccountsTracker topAccountsTracker = topAccountsProperties.isEnabled()
+                ? new TopAccountsTracker(
+                        topAccountsProperties.getSize(),
+                        topAccountsProperties.getSketchCapacity(),
+                        topAccountsProperties.getRefreshPeriod())
+                : null;
+
+        return new Metrics(metricRegistry, counterType, accountMetricsVerbosityResolver, topAccountsTracker);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "metrics.accounts.top-accounts", name = "enabled", havingValue = "true")
+    DemotedAccountMetricsRemover demotedAccountMetricsRemover(Vertx vertx,
+                                                              Metrics metrics,
+                                                              AccountsProperties accountsProperties) {
+
+        return new DemotedAccountMetricsRemover(
+                vertx, metrics, accountsProperties.getTopAccounts().getRemovalPeriodMs());
     }
 
     @Bean
-    MetricRegistry metricRegistry(@Value("${metrics.jmx.enabled}") boolean jmxEnabled) {
+    MetricRegistry metricRegistry(@Value("${metrics.jmx.enabled}") boolean jmxEnabled,
+                                  ReservoirProperties reservoirProperties,
+                                  Clock clock) {
+
         final boolean alreadyExists = SharedMetricRegistries.names().contains(METRIC_REGISTRY_NAME);
+        if (!alreadyExists && reservoirProperties.getType() == ReservoirType.hdrHistogram) {
+            final long windowMillis = TimeUnit.SECONDS.toMillis(reservoirProperties.getWindowSec());
+            SharedMetricRegistries.add(METRIC_REGISTRY_NAME, new ReservoirMetricRegistry(
+                    () -> new HdrHistogramReservoir(
+                            reservoirProperties.getSignificantDigits(),
+                            reservoirProperties.isPacked(),
+                            windowMillis,
+                            clock)));
+        }
         final MetricRegistry metricRegistry = SharedMetricRegistries.getOrCreate(METRIC_REGISTRY_NAME);
 
         if (!alreadyExists && jmxEnabled) {
@@ -224,5 +264,47 @@ public class MetricsConfiguration {
         private AccountMetricsVerbosityLevel defaultVerbosity;
         private List<String> basicVerbosity = new ArrayList<>();
         private List<String> detailedVerbosity = new ArrayList<>();
+        @NotNull
+        @Valid
+        private TopAccountsProperties topAccounts = new TopAccountsProperties();
+    }
+
+    @Validated
+    @Data
+    @NoArgsConstructor
+    private static class TopAccountsProperties {
+
+        private boolean enabled;
+        @NotNull
+        @Min(1)
+        private Integer size = 100;
+        @NotNull
+        @Min(1)
+        private Integer sketchCapacity = 1000;
+        @NotNull
+        @Min(1)
+        private Long refreshPeriod = 10000L;
+        @NotNull
+        @Min(1)
+        private Long removalPeriodMs = 60000L;
+    }
+
+    @Component
+    @ConfigurationProperties(prefix = "metrics.reservoir")
+    @Validated
+    @Data
+    @NoArgsConstructor
+    private static class ReservoirProperties {
+
+        @NotNull
+        private ReservoirType type;
+        @NotNull
+        @Min(0)
+        @Max(5)
+        private Integer significantDigits;
+        private boolean packed;
+        @NotNull
+        @Min(1)
+        private Integer windowSec;
     }
 }
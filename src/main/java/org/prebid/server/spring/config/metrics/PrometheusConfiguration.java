@@ -16,6 +16,8 @@ import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.CounterType;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.metric.prometheus.NamespaceSubsystemSampleBuilder;
+import org.prebid.server.metric.prometheus.PrometheusExposition;
+import org.prebid.server.metric.prometheus.PrometheusHandler;
 import org.prebid.server.vertx.verticles.VerticleDefinition;
 import org.prebid.server.vertx.verticles.server.ServerVerticle;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -41,7 +43,9 @@ public class PrometheusConfiguration {
             Router prometheusRouter,
             DropwizardExports dropwizardExports) {
 
-        CollectorRegistry.defaultRegistry.register(dropwizardExports);
+        if (!prometheusConfigurationProperties.isNativeExpositionEnabled()) {
+            CollectorRegistry.defaultRegistry.register(dropwizardExports);
+        }
 
         return VerticleDefinition.ofSingleInstance(
                 () -> new ServerVerticle(
@@ -70,9 +74,15 @@ public class PrometheusConfiguration {
     }
 
     @Bean
-    Router prometheusRouter(Vertx vertx) {
+    Router prometheusRouter(Vertx vertx,
+                            PrometheusConfigurationProperties prometheusConfigurationProperties,
+                            MetricRegistry metricRegistry,
+                            SampleBuilder sampleBuilder) {
+
         final Router router = Router.router(vertx);
-        router.route("/metrics").handler(new MetricsHandler());
+        router.route("/metrics").handler(prometheusConfigurationProperties.isNativeExpositionEnabled()
+                ? new PrometheusHandler(new PrometheusExposition(metricRegistry, sampleBuilder))
+                : new MetricsHandler());
         return router;
     }
 
@@ -90,5 +100,7 @@ public class PrometheusConfiguration {
         String namespace;
 
         String subsystem;
+
+        boolean nativeExpositionEnabled;
     }
 }
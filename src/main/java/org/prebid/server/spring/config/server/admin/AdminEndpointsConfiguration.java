@@ -4,9 +4,11 @@ import com.codahale.metrics.MetricRegistry;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
+import org.prebid.server.auction.timeline.AuctionTimelineRecorder;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.handler.admin.AccountCacheInvalidationHandler;
 import org.prebid.server.handler.admin.AdminResourceWrapper;
+import org.prebid.server.handler.admin.AuctionTimelineHandler;
 import org.prebid.server.handler.admin.CollectedMetricsHandler;
 import org.prebid.server.handler.admin.CurrencyRatesHandler;
 import org.prebid.server.handler.admin.HttpInteractionLogHandler;
@@ -181,6 +183,22 @@ public class AdminEndpointsConfiguration {
                 new CollectedMetricsHandler(metricRegistry, mapper, path));
     }
 
+    @Bean
+    @ConditionalOnExpression("${admin-endpoints.auction-timeline.enabled} == true")
+    AdminResource auctionTimelineAdminEndpoint(
+            AuctionTimelineRecorder auctionTimelineRecorder,
+            JacksonMapper mapper,
+            @Value("${admin-endpoints.auction-timeline.path}") String path,
+            @Value("${admin-endpoints.auction-timeline.on-application-port}") boolean isOnApplicationPort,
+            @Value("${admin-endpoints.auction-timeline.protected}") boolean isProtected) {
+
+        return new AdminResourceWrapper(
+                path,
+                isOnApplicationPort,
+                isProtected,
+                new AuctionTimelineHandler(auctionTimelineRecorder, mapper, path));
+    }
+
     @Bean
     AdminResourcesBinder applicationPortAdminResourcesBinder(Map<String, String> adminEndpointCredentials,
                                                              List<AdminResource> resources) {
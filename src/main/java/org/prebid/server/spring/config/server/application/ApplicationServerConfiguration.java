@@ -26,6 +26,8 @@ import org.prebid.server.auction.requestfactory.AuctionRequestFactory;
 import org.prebid.server.auction.requestfactory.VideoRequestFactory;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.cache.CoreCacheService;
+import org.prebid.server.cache.local.LocalCreativeCache;
+import org.prebid.server.cache.utils.CacheServiceUtil;
 import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.cookie.CookieSyncService;
 import org.prebid.server.cookie.UidsCookieService;
@@ -34,6 +36,7 @@ import org.prebid.server.handler.BidderParamHandler;
 import org.prebid.server.handler.CookieSyncHandler;
 import org.prebid.server.handler.ExceptionHandler;
 import org.prebid.server.handler.GetuidsHandler;
+import org.prebid.server.handler.LocalCacheHandler;
 import org.prebid.server.handler.NoCacheHandler;
 import org.prebid.server.handler.NotificationEventHandler;
 import org.prebid.server.handler.OptoutHandler;
@@ -59,6 +62,7 @@ import org.prebid.server.spring.config.server.admin.AdminResourcesBinder;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.validation.BidderParamValidator;
 import org.prebid.server.version.PrebidVersionProvider;
+import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.verticles.VerticleDefinition;
 import org.prebid.server.vertx.verticles.server.ServerVerticle;
 import org.prebid.server.vertx.verticles.server.application.ApplicationResource;
@@ -280,6 +284,25 @@ public class ApplicationServerConfiguration {
                 mapper);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.local", name = "enabled", havingValue = "true")
+    LocalCacheHandler localCacheHandler(
+            @Value("${cache.local.path}") String localCachePath,
+            @Value("${cache.scheme}") String scheme,
+            @Value("${cache.host}") String host,
+            @Value("${cache.path}") String path,
+            @Value("${cache.local.external-lookup-timeout-ms}") long timeoutMs,
+            LocalCreativeCache localCreativeCache,
+            HttpClient httpClient) {
+
+        return new LocalCacheHandler(
+                localCachePath,
+                localCreativeCache,
+                CacheServiceUtil.getCacheEndpointUrl(scheme, host, path),
+                timeoutMs,
+                httpClient);
+    }
+
     @Bean
     StatusHandler statusHandler(List<HealthChecker> healthCheckers, JacksonMapper mapper) {
         healthCheckers.stream()
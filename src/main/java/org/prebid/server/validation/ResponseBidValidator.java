@@ -82,7 +82,7 @@ public class ResponseBidValidator {
             validateTypeSpecific(bidderBid, bidder);
             validateCurrency(bidderBid.getBidCurrency());
 
-            final Imp correspondingImp = findCorrespondingImp(bid, bidRequest);
+            final Imp correspondingImp = findCorrespondingImp(bid, auctionContext);
             if (bidderBid.getType() == BidType.banner) {
                 warnings.addAll(validateBannerFields(
                         bid,
@@ -148,12 +148,12 @@ public class ResponseBidValidator {
         }
     }
 
-    private Imp findCorrespondingImp(Bid bid, BidRequest bidRequest) throws ValidationException {
-        return bidRequest.getImp().stream()
-                .filter(imp -> Objects.equals(imp.getId(), bid.getImpid()))
-                .findFirst()
-                .orElseThrow(() -> exceptionAndLogOnePercent(
-                        "Bid \"%s\" has no corresponding imp in request".formatted(bid.getId())));
+    private Imp findCorrespondingImp(Bid bid, AuctionContext auctionContext) throws ValidationException {
+        final Imp imp = auctionContext.findImp(bid.getImpid());
+        if (imp == null) {
+            throw exceptionAndLogOnePercent("Bid \"%s\" has no corresponding imp in request".formatted(bid.getId()));
+        }
+        return imp;
     }
 
     private ValidationException exceptionAndLogOnePercent(String message) {
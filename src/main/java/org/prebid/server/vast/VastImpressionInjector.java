@@ -0,0 +1,148 @@
+package org.prebid.server.vast;
+
+/**
+ * Inserts impression tracking tag into VAST XML in a single scan over the document.
+ * <p>
+ * Tracking tag is inserted after the last {@code </Impression>} following the first {@code <InLine>}
+ * (or before {@code </InLine>} if there are no impressions). Falls back to {@code <Wrapper>} the same way
+ * if there is no {@code <InLine>}. Tags are recognized the same way as by patterns
+ * {@code <\s*name(?:>|\s.*?>)} and {@code <\s*\/\s*name(?:>|\s.*?>)} matched case-insensitively.
+ */
+final class VastImpressionInjector {
+
+    private static final String INLINE = "inline";
+    private static final String WRAPPER = "wrapper";
+    private static final String IMPRESSION = "impression";
+
+    private static final String IMPRESSION_PREFIX = "<Impression><![CDATA[";
+    private static final String IMPRESSION_SUFFIX = "]]></Impression>";
+
+    private VastImpressionInjector() {
+    }
+
+    /**
+     * Returns VAST XML with impression tracking tag inserted, the same VAST XML if there is no place to insert it
+     * or null if VAST XML contains neither InLine nor Wrapper.
+     */
+    static String inject(String vastXml, String trackingUrl) {
+        final int length = vastXml.length();
+
+        int inlineOpenEnd = -1;
+        int inlineCloseStart = -1;
+        int wrapperOpenEnd = -1;
+        int wrapperCloseStart = -1;
+        int lastImpressionCloseStart = -1;
+        int lastImpressionCloseEnd = -1;
+
+        for (int start = vastXml.indexOf('<'); start != -1; start = vastXml.indexOf('<', start + 1)) {
+            int position = skipWhitespaces(vastXml, start + 1);
+            final boolean closing = position < length && vastXml.charAt(position) == '/';
+            if (closing) {
+                position = skipWhitespaces(vastXml, position + 1);
+            }
+
+            if (!closing) {
+                if (inlineOpenEnd == -1) {
+                    inlineOpenEnd = tagEnd(vastXml, position, INLINE);
+                }
+                if (inlineOpenEnd == -1 && wrapperOpenEnd == -1) {
+                    wrapperOpenEnd = tagEnd(vastXml, position, WRAPPER);
+                }
+                continue;
+            }
+
+            final int impressionCloseEnd = tagEnd(vastXml, position, IMPRESSION);
+            if (impressionCloseEnd != -1) {
+                lastImpressionCloseStart = start;
+                lastImpressionCloseEnd = impressionCloseEnd;
+            } else if (inlineOpenEnd != -1) {
+                if (inlineCloseStart == -1 && start >= inlineOpenEnd && tagEnd(vastXml, position, INLINE) != -1) {
+                    inlineCloseStart = start;
+                }
+            } else if (wrapperOpenEnd != -1) {
+                if (wrapperCloseStart == -1 && start >= wrapperOpenEnd && tagEnd(vastXml, position, WRAPPER) != -1) {
+                    wrapperCloseStart = start;
+                }
+            }
+        }
+
+        final int openEnd = inlineOpenEnd != -1 ? inlineOpenEnd : wrapperOpenEnd;
+        if (openEnd == -1) {
+            return null;
+        }
+
+        if (lastImpressionCloseStart >= openEnd) {
+            return insert(vastXml, lastImpressionCloseEnd, trackingUrl);
+        }
+
+        final int closeStart = inlineOpenEnd != -1 ? inlineCloseStart : wrapperCloseStart;
+        return closeStart != -1 ? insert(vastXml, closeStart, trackingUrl) : vastXml;
+    }
+
+    private static String insert(String vastXml, int index, String trackingUrl) {
+        return new StringBuilder(
+                vastXml.length() + IMPRESSION_PREFIX.length() + trackingUrl.length() + IMPRESSION_SUFFIX.length())
+                .append(vastXml, 0, index)
+                .append(IMPRESSION_PREFIX)
+                .append(trackingUrl)
+                .append(IMPRESSION_SUFFIX)
+                .append(vastXml, index, vastXml.length())
+                .toString();
+    }
+
+    /**
+     * Returns end index of the tag with the given lower case name starting at the given position
+     * or -1 if there is no such tag.
+     */
+    private static int tagEnd(String vastXml, int position, String name) {
+        final int length = vastXml.length();
+        final int nameEnd = position + name.length();
+        if (nameEnd >= length) {
+            return -1;
+        }
+
+        for (int i = 0; i < name.length(); i++) {
+            // only ASCII letters are compared ignoring case, as regular expressions do by default
+            if ((vastXml.charAt(position + i) | 0x20) != name.charAt(i)) {
+                return -1;
+            }
+        }
+
+        final char afterName = vastXml.charAt(nameEnd);
+        if (afterName == '>') {
+            return nameEnd + 1;
+        }
+        if (!isWhitespace(afterName)) {
+            return -1;
+        }
+
+        for (int i = nameEnd + 1; i < length; i++) {
+            final char current = vastXml.charAt(i);
+            if (current == '>') {
+                return i + 1;
+            }
+            if (isLineTerminator(current)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespaces(String vastXml, int position) {
+        int current = position;
+        while (current < vastXml.length() && isWhitespace(vastXml.charAt(current))) {
+            current++;
+        }
+        return current;
+    }
+
+    private static boolean isWhitespace(char character) {
+        return character == ' ' || character == '\t' || character == '\n'
+                || character == '\u000B' || character == '\f' || character == '\r';
+    }
+
+    private static boolean isLineTerminator(char character) {
+        return character == '\n' || character == '\r'
+                || character == '\u0085' || character == '\u2028' || character == '\u2029';
+    }
+}
@@ -13,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.auction.categorymapping.BasicCategoryMappingService;
+import org.prebid.server.auction.categorymapping.CategoryMappingTables;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.CategoryMappingResult;
 import org.prebid.server.bidder.model.BidderBid;
@@ -48,11 +49,13 @@ import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -91,13 +94,13 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
 
         final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
                 asList(10, 15, 5), true, true);
-        // first and third fetch will have conflict, so one bid should be filtered in result
+        // id for cat 3 is the same as for cat1, so one bid should be filtered in result
         given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
-                Future.succeededFuture(singletonMap("cat1", "fetchedCatDup")),
-                Future.succeededFuture(singletonMap("cat2", "fetchedCat2")),
-                // id for cat 3 is the same as for cat1, that will cause duplication
-                Future.succeededFuture(singletonMap("cat3", "fetchedCatDup")),
-                Future.succeededFuture(singletonMap("cat4", "fetchedCat4")));
+                Future.succeededFuture(Map.of(
+                        "cat1", "fetchedCatDup",
+                        "cat2", "fetchedCat2",
+                        "cat3", "fetchedCatDup",
+                        "cat4", "fetchedCat4")));
 
         // when
         final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
@@ -136,8 +139,7 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
                 asList(10, 15, 5), true, true);
         given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
-                Future.succeededFuture(singletonMap("cat1", "fetchedCat1")),
-                Future.succeededFuture(singletonMap("cat2", "fetchedCat2")));
+                Future.succeededFuture(Map.of("cat1", "fetchedCat1", "cat2", "fetchedCat2")));
 
         // when
         final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
@@ -180,6 +182,49 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         assertThat(resultFuture.result().getBiddersToBidsCategories()).isEqualTo(expectedBidCategory);
     }
 
+    @Test
+    public void applyCategoryMappingShouldNotCallFetchCategoryWhenNoBids() {
+        // given
+        final List<BidderResponse> bidderResponses = singletonList(givenBidderResponse("rubicon"));
+
+        final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
+                asList(10, 15, 5), true, true);
+
+        // when
+        final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
+                givenBidRequestWithTargeting(extRequestTargeting), timeout);
+
+        // then
+        verifyNoInteractions(applicationSettings);
+        assertThat(resultFuture.succeeded()).isTrue();
+        assertThat(resultFuture.result().getBiddersToBidsCategories()).isEmpty();
+    }
+
+    @Test
+    public void applyCategoryMappingShouldNotCallFetchCategoryWhenNoBidsWithCategory() {
+        // given
+        final CategoryMappingTables categoryMappingTables = mock(CategoryMappingTables.class);
+        categoryMappingService = new BasicCategoryMappingService(
+                applicationSettings, categoryMappingTables, jacksonMapper);
+
+        final List<BidderResponse> bidderResponses = singletonList(
+                givenBidderResponse("rubicon", givenBidderBid(givenBid("1", null, "10", null), BidType.video, 10)));
+
+        final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
+                asList(10, 15, 5), true, true);
+
+        // when
+        final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
+                givenBidRequestWithTargeting(extRequestTargeting), timeout);
+
+        // then
+        verifyNoInteractions(applicationSettings, categoryMappingTables);
+        assertThat(resultFuture.succeeded()).isTrue();
+        assertThat(resultFuture.result().getErrors())
+                .containsOnly("Bid rejected [bidder: rubicon, bid ID: 1] with a reason: Bid did not contain a"
+                        + " category");
+    }
+
     @Test
     public void applyCategoryMappingShouldReturnFailedFutureWhenTranslateTrueAndAdServerNull() {
         // given
@@ -233,6 +278,37 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         verify(applicationSettings).getCategories(eq("freewheel"), anyString(), any());
     }
 
+    @Test
+    public void applyCategoryMappingShouldTakeCategoriesFromTablesWhenPresent() {
+        // given
+        final CategoryMappingTables categoryMappingTables = mock(CategoryMappingTables.class);
+        categoryMappingService = new BasicCategoryMappingService(
+                applicationSettings, categoryMappingTables, jacksonMapper);
+
+        final List<BidderResponse> bidderResponses = asList(
+                givenBidderResponse("rubicon", givenBidderBid(givenBid("1", null, "10", singletonList("cat1")),
+                        BidType.video, 10)),
+                givenBidderResponse("otherBid", givenBidderBid(givenBid("2", null, "5", singletonList("cat2")),
+                        BidType.video, 3)));
+
+        final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
+                asList(10, 15, 5), true, true);
+
+        given(categoryMappingTables.get(anyString(), anyString(), any())).willReturn(
+                Future.succeededFuture(Map.of("cat1", "fetchedCat1", "cat2", "fetchedCat2")));
+
+        // when
+        final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
+                givenBidRequestWithTargeting(extRequestTargeting), timeout);
+
+        // then
+        assertThat(resultFuture.result().getBiddersToBidsCategories()).containsOnly(
+                entry(givenBid("1", null, "10", singletonList("cat1")), "10.00_fetchedCat1_10s"),
+                entry(givenBid("2", null, "5", singletonList("cat2")), "5.00_fetchedCat2_5s"));
+        verify(categoryMappingTables).get(eq("freewheel"), eq("publisher"), any());
+        verifyNoInteractions(applicationSettings);
+    }
+
     @Test
     public void applyCategoryMappingShouldReturnUseDpfAdServerWhenAdServerIs2() {
         // given
@@ -259,14 +335,13 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         // given
         final List<BidderResponse> bidderResponses = asList(
                 givenBidderResponse("rubicon", givenBidderBid(givenBid("1", null, "10", singletonList("cat1")),
-                        BidType.video, 10)),
+                        BidType.video, 10, "fetchedCat1")),
                 givenBidderResponse("otherBid", givenBidderBid(givenBid("2", null, "5", singletonList("cat2")),
                         BidType.video, 3)));
 
         final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
                 asList(10, 15, 5), true, true);
         given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
-                Future.succeededFuture(singletonMap("cat1", "fetchedCat1")),
                 Future.failedFuture(new TimeoutException("Timeout")));
 
         // when
@@ -294,8 +369,7 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
                 asList(10, 15, 5), true, true);
         given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
-                Future.succeededFuture(singletonMap("cat1", "fetchedCat1")),
-                Future.succeededFuture(singletonMap("cat2", "fetchedCat2")));
+                Future.succeededFuture(Map.of("cat1", "fetchedCat1", "cat2", "fetchedCat2")));
         // when
         final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
                 givenBidRequestWithTargeting(extRequestTargeting), timeout);
@@ -322,8 +396,7 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
                 asList(10, 15, 5), true, true);
         given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
-                Future.succeededFuture(singletonMap("cat1", "fetchedCat1")),
-                Future.succeededFuture(singletonMap("cat2", "fetchedCat2")));
+                Future.succeededFuture(Map.of("cat1", "fetchedCat1", "cat2", "fetchedCat2")));
         // when
         final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
                 givenBidRequestWithTargeting(extRequestTargeting), timeout);
@@ -343,14 +416,13 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         // given
         final List<BidderResponse> bidderResponses = asList(
                 givenBidderResponse("rubicon", givenBidderBid(givenBid("1", null, "10", singletonList("cat1")),
-                        BidType.video, 10)),
+                        BidType.video, 10, "fetchedCat1")),
                 givenBidderResponse("otherBid", givenBidderBid(givenBid("2", null, "5", singletonList("cat2")),
                         BidType.video, 3)));
 
         final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
                 asList(10, 15, 5), true, true);
         given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
-                Future.succeededFuture(singletonMap("cat1", "fetchedCat1")),
                 Future.succeededFuture(null));
         // when
         final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
@@ -406,8 +478,7 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
                 asList(10, 15, 5), true, true);
         given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
-                Future.succeededFuture(singletonMap("cat1", "fetchedCat1")),
-                Future.succeededFuture(singletonMap("cat2", "fetchedCat2")));
+                Future.succeededFuture(Map.of("cat1", "fetchedCat1", "cat2", "fetchedCat2")));
         // when
         final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
                 givenBidRequestWithTargeting(extRequestTargeting), timeout);
@@ -583,8 +654,7 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
                 asList(10, 15, 5), true, true);
         given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
-                Future.succeededFuture(singletonMap("cat1", "fetchedCat1")),
-                Future.succeededFuture(singletonMap("cat2", "fetchedCat1")));
+                Future.succeededFuture(Map.of("cat1", "fetchedCat1", "cat2", "fetchedCat1")));
 
         // when
         final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
@@ -638,8 +708,7 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
                 asList(10, 15, 5), false, true);
         given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
-                Future.succeededFuture(singletonMap("cat1", "fetchedCat1")),
-                Future.succeededFuture(singletonMap("cat2", "fetchedCat2")));
+                Future.succeededFuture(Map.of("cat1", "fetchedCat1", "cat2", "fetchedCat2")));
 
         // when
         final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
@@ -46,6 +46,7 @@ import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.CachedDebugLog;
 import org.prebid.server.auction.model.CategoryMappingResult;
 import org.prebid.server.auction.model.MultiBidConfig;
+import org.prebid.server.auction.model.PipelinedResponseContext;
 import org.prebid.server.auction.model.TargetingInfo;
 import org.prebid.server.auction.model.TimeoutContext;
 import org.prebid.server.auction.model.debug.DebugContext;
@@ -351,6 +352,35 @@ public class BidResponseCreatorTest extends VertxTest {
                 .containsOnly(tuple("bidIdModifiedByHook", IMP_ID, BigDecimal.valueOf(1.23)));
     }
 
+    @Test
+    public void createShouldNotInvokeProcessedBidderResponseHooksAgainForProcessedBidderResponses() {
+        // given
+        final Bid bid = Bid.builder()
+                .id("bidId1")
+                .impid(IMP_ID)
+                .price(BigDecimal.valueOf(5.67))
+                .build();
+        final BidderResponse bidderResponse =
+                BidderResponse.of("bidder1", givenSeatBid(BidderBid.of(bid, banner, "USD")), 100);
+
+        final AuctionContext givenContext = givenAuctionContext(givenBidRequest(givenImp()));
+        final PipelinedResponseContext pipelinedResponseContext = target.createPipelinedResponseContext(givenContext);
+        final BidderResponse processedResponse =
+                target.processBidderResponse(bidderResponse, givenContext, pipelinedResponseContext).result();
+        final AuctionContext auctionContext = givenContext.with(toAuctionParticipant(singletonList(processedResponse)));
+
+        // when
+        final BidResponse bidResponse =
+                target.create(auctionContext, CACHE_INFO, MULTI_BIDS, pipelinedResponseContext).result();
+
+        // then
+        assertThat(bidResponse.getSeatbid())
+                .flatExtracting(SeatBid::getBid)
+                .extracting(Bid::getId)
+                .containsOnly("bidId1");
+        verify(hookStageExecutor).executeProcessedBidderResponseStage(any(), any());
+    }
+
     @Test
     public void shouldPassOriginalTimeoutToCacheServiceIfCachingIsRequested() {
         // given
@@ -53,6 +53,7 @@ import org.prebid.server.auction.model.BidderPrivacyResult;
 import org.prebid.server.auction.model.BidderRequest;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.MultiBidConfig;
+import org.prebid.server.auction.model.PipelinedResponseContext;
 import org.prebid.server.auction.model.StoredResponseResult;
 import org.prebid.server.auction.model.TimeoutContext;
 import org.prebid.server.auction.model.debug.DebugContext;
@@ -3627,6 +3628,56 @@ public class ExchangeServiceTest extends VertxTest {
         verify(metrics, never()).updateAccountModuleDurationMetric(any(), any(), any());
     }
 
+    @Test
+    public void shouldNotIncrementHooksInvocationMetricsForSkippedHooks() {
+        // given
+        final EnumMap<Stage, List<StageExecutionOutcome>> stageOutcomes = new EnumMap<>(Stage.class);
+        stageOutcomes.put(Stage.raw_auction_request, singletonList(StageExecutionOutcome.of(
+                "auction-request",
+                singletonList(GroupExecutionOutcome.of(singletonList(HookExecutionOutcome.builder()
+                        .hookId(HookId.of("module1", "hook1"))
+                        .executionTime(0L)
+                        .status(ExecutionStatus.skipped)
+                        .build()))))));
+
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction, stageOutcomes))
+                .debugContext(DebugContext.empty())
+                .requestRejected(true)
+                .build();
+
+        // when
+        target.holdAuction(auctionContext);
+
+        // then
+        verify(metrics, never()).updateHooksMetrics(anyString(), any(), any(), any(), any(), any());
+        verify(metrics, never()).updateAccountHooksMetrics(any(), any(), any(), any());
+    }
+
+    @Test
+    public void shouldUpdateHooksOverheadMetricOncePerAuction() {
+        // given
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
+
+        final HookExecutionContext hookExecutionContext = HookExecutionContext.of(
+                Endpoint.openrtb2_auction,
+                stageOutcomes(givenAppliedToImpl(identity())));
+        hookExecutionContext.getHooksOverheadTime().set(5L);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest).toBuilder()
+                .hookExecutionContext(hookExecutionContext)
+                .debugContext(DebugContext.empty())
+                .build();
+
+        // when
+        target.holdAuction(auctionContext);
+
+        // then
+        verify(metrics).updateHooksOverheadMetric(5L);
+    }
+
     @Test
     public void shouldIncrementHooksGlobalAndAccountMetrics() {
         // given
@@ -4015,7 +4066,43 @@ public class ExchangeServiceTest extends VertxTest {
         verify(metrics, times(3)).updateAdapterRequestErrorMetric("bidder", MetricName.unknown_error);
     }
 
+    @Test
+    public void shouldProcessEachBidderResponseOnArrivalWhenPipelinedBidderResponsesEnabled() {
+        // given
+        givenTarget(false, true);
+        givenBidder("bidder1", mock(Bidder.class), givenEmptySeatBid());
+        givenBidder("bidder2", mock(Bidder.class), givenEmptySeatBid());
+
+        final PipelinedResponseContext pipelinedResponseContext =
+                PipelinedResponseContext.of(Future.succeededFuture(), null);
+        given(bidResponseCreator.createPipelinedResponseContext(any())).willReturn(pipelinedResponseContext);
+        given(bidResponseCreator.processBidderResponse(any(), any(), any()))
+                .willAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+        given(bidResponseCreator.create(any(), any(), any(), any()))
+                .willReturn(Future.succeededFuture(givenBidResponseWithBids(singletonList(givenBid(identity())))));
+        given(storedResponseProcessor.updateStoredBidderResponse(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        given(bidsAdjuster.validateAndAdjustBidderResponse(any(), any(), any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(doubleMap("bidder1", 1, "bidder2", 2)));
+
+        // when
+        final Future<AuctionContext> result = target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verify(bidResponseCreator, times(2)).processBidderResponse(any(), any(), same(pipelinedResponseContext));
+        verify(bidResponseCreator).create(any(), any(), any(), same(pipelinedResponseContext));
+        verify(bidResponseCreator, never()).create(any(), any(), any());
+        verify(bidsAdjuster, never()).validateAndAdjustBids(any(), any(), any());
+    }
+
     private void givenTarget(boolean enabledStrictAppSiteDoohValidation) {
+        givenTarget(enabledStrictAppSiteDoohValidation, false);
+    }
+
+    private void givenTarget(boolean enabledStrictAppSiteDoohValidation, boolean pipelinedBidderResponses) {
         target = new ExchangeService(
                 0,
                 bidderCatalog,
@@ -4041,7 +4128,8 @@ public class ExchangeServiceTest extends VertxTest {
                 clock,
                 jacksonMapper,
                 criteriaLogManager,
-                enabledStrictAppSiteDoohValidation);
+                enabledStrictAppSiteDoohValidation,
+                pipelinedBidderResponses);
     }
 
     private AuctionContext givenRequestContext(BidRequest bidRequest) {
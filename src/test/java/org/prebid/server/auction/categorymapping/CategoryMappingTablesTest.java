@@ -0,0 +1,132 @@
+package org.prebid.server.auction.categorymapping;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.settings.ApplicationSettings;
+
+import java.time.Clock;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryMappingTablesTest {
+
+    @Mock
+    private ApplicationSettings applicationSettings;
+    @Mock
+    private Vertx vertx;
+
+    private Timeout timeout;
+
+    private CategoryMappingTables target;
+
+    @BeforeEach
+    public void setUp() {
+        final TimeoutFactory timeoutFactory = new TimeoutFactory(Clock.systemUTC());
+        timeout = timeoutFactory.create(500L);
+
+        target = new CategoryMappingTables(applicationSettings, vertx, timeoutFactory, 10, 1000L, 100L);
+    }
+
+    @Test
+    public void initializeShouldScheduleRefresh() {
+        // when
+        target.initialize(Promise.promise());
+
+        // then
+        verify(vertx).setPeriodic(eq(1000L), any());
+    }
+
+    @Test
+    public void initializeShouldNotScheduleRefreshWhenPeriodIsNotPositive() {
+        // given
+        target = new CategoryMappingTables(
+                applicationSettings, vertx, new TimeoutFactory(Clock.systemUTC()), 10, 0L, 100L);
+
+        // when
+        target.initialize(Promise.promise());
+
+        // then
+        verifyNoInteractions(vertx);
+    }
+
+    @Test
+    public void getShouldFetchTableOnlyOnce() {
+        // given
+        given(applicationSettings.getCategories("freewheel", "publisher", timeout))
+                .willReturn(Future.succeededFuture(Map.of("iab1", "cat1")));
+
+        // when
+        target.get("freewheel", "publisher", timeout);
+        final Future<Map<String, String>> result = target.get("freewheel", "publisher", timeout);
+
+        // then
+        assertThat(result.result()).containsExactly(Map.entry("iab1", "cat1"));
+        verify(applicationSettings).getCategories(any(), any(), any());
+    }
+
+    @Test
+    public void getShouldNotKeepFailedTable() {
+        // given
+        given(applicationSettings.getCategories("freewheel", "publisher", timeout))
+                .willReturn(Future.failedFuture("Not found"), Future.succeededFuture(Map.of("iab1", "cat1")));
+
+        // when
+        final Future<Map<String, String>> failed = target.get("freewheel", "publisher", timeout);
+        final Future<Map<String, String>> result = target.get("freewheel", "publisher", timeout);
+
+        // then
+        assertThat(failed.failed()).isTrue();
+        assertThat(result.result()).containsExactly(Map.entry("iab1", "cat1"));
+    }
+
+    @Test
+    public void getShouldReturnEmptyTableWhenSettingsReturnNull() {
+        // given
+        given(applicationSettings.getCategories("freewheel", null, timeout))
+                .willReturn(Future.succeededFuture(null));
+
+        // when
+        final Future<Map<String, String>> result = target.get("freewheel", null, timeout);
+
+        // then
+        assertThat(result.result()).isEmpty();
+    }
+
+    @Test
+    public void refreshShouldReplaceLoadedTablesAndKeepThemOnFailure() {
+        // given
+        given(applicationSettings.getCategories(eq("freewheel"), eq("publisher"), any()))
+                .willReturn(
+                        Future.succeededFuture(Map.of("iab1", "cat1")),
+                        Future.succeededFuture(Map.of("iab1", "cat2")),
+                        Future.failedFuture("Timeout"));
+        target.get("freewheel", "publisher", timeout);
+
+        // when
+        target.refresh();
+        final Map<String, String> refreshed = target.get("freewheel", "publisher", timeout).result();
+        target.refresh();
+
+        // then
+        assertThat(refreshed).containsExactly(Map.entry("iab1", "cat2"));
+        assertThat(target.get("freewheel", "publisher", timeout).result())
+                .containsExactly(Map.entry("iab1", "cat2"));
+        verify(applicationSettings, times(3)).getCategories(any(), any(), any());
+    }
+}
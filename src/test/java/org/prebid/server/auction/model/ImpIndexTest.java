@@ -0,0 +1,60 @@
+package org.prebid.server.auction.model;
+
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Video;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImpIndexTest {
+
+    private final ImpIndex target = new ImpIndex();
+
+    @Test
+    public void impShouldReturnFirstImpWithGivenId() {
+        // given
+        final Imp first = Imp.builder().id("impId").banner(Banner.builder().build()).build();
+        final Imp second = Imp.builder().id("impId").build();
+        final List<Imp> imps = List.of(Imp.builder().id("otherId").build(), first, second);
+
+        // when and then
+        assertThat(target.imp(imps, "impId")).isSameAs(first);
+        assertThat(target.imp(imps, "unknownId")).isNull();
+    }
+
+    @Test
+    public void impShouldRebuildIndexForAnotherListOfImps() {
+        // given
+        final Imp imp = Imp.builder().id("impId").build();
+        final Imp updatedImp = Imp.builder().id("impId").secure(1).build();
+        target.imp(List.of(imp), "impId");
+
+        // when
+        final Imp result = target.imp(List.of(updatedImp), "impId");
+
+        // then
+        assertThat(result).isSameAs(updatedImp);
+    }
+
+    @Test
+    public void mediaTypesShouldResolveVideoPlacement() {
+        // given
+        final List<Imp> imps = List.of(
+                Imp.builder()
+                        .id("instream")
+                        .banner(Banner.builder().build())
+                        .video(Video.builder().placement(1).build())
+                        .build(),
+                Imp.builder().id("outstream").video(Video.builder().placement(3).build()).build());
+
+        // when and then
+        assertThat(target.mediaTypes(imps, "instream"))
+                .containsExactlyInAnyOrder(ImpMediaType.banner, ImpMediaType.video);
+        assertThat(target.mediaTypes(imps, "outstream")).containsExactly(ImpMediaType.video_outstream);
+        assertThat(target.mediaTypes(imps, "unknownId")).isEmpty();
+    }
+}
@@ -32,6 +32,7 @@ import org.prebid.server.auction.model.AuctionStoredResult;
 import org.prebid.server.auction.model.IpAddress;
 import org.prebid.server.auction.model.TimeoutContext;
 import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.auction.timeline.AuctionTimelineRecorder;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.cookie.UidsCookieService;
 import org.prebid.server.cookie.proto.Uids;
@@ -77,6 +78,7 @@ import org.prebid.server.settings.model.DsaTransparency;
 import org.prebid.server.validation.RequestValidator;
 import org.prebid.server.validation.model.ValidationResult;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -1715,7 +1717,8 @@ public class Ortb2RequestFactoryTest extends VertxTest {
                 ipAddressHelper,
                 hookStageExecutor,
                 countryCodeMapper,
-                metrics);
+                metrics,
+                new AuctionTimelineRecorder(0.0, 1, metrics, Clock.systemUTC()));
     }
 
     private static String bidRequestToString(BidRequest bidRequest) {
@@ -0,0 +1,99 @@
+package org.prebid.server.auction.timeline;
+
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class AuctionTimelineRecorderTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.ofEpochMilli(1000L), ZoneId.systemDefault());
+
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void creationShouldFailOnInvalidSamplingRate() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AuctionTimelineRecorder(1.5, 10, metrics, CLOCK));
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveBufferSize() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AuctionTimelineRecorder(1.0, 0, metrics, CLOCK));
+    }
+
+    @Test
+    public void startTimelineShouldReturnDisabledTimelineIfSamplingRateIsZero() {
+        // given
+        final AuctionTimelineRecorder target = new AuctionTimelineRecorder(0.0, 10, metrics, CLOCK);
+
+        // when
+        final AuctionTimeline result = target.startTimeline();
+
+        // then
+        assertThat(result).isSameAs(AuctionTimeline.disabled());
+        assertThat(result.isEnabled()).isFalse();
+    }
+
+    @Test
+    public void startTimelineShouldReturnEnabledTimelineIfSamplingRateIsOne() {
+        // given
+        final AuctionTimelineRecorder target = new AuctionTimelineRecorder(1.0, 10, metrics, CLOCK);
+
+        // when and then
+        assertThat(target.startTimeline().isEnabled()).isTrue();
+    }
+
+    @Test
+    public void completeShouldStoreRecordAndUpdateSpanMetrics() {
+        // given
+        final AuctionTimelineRecorder target = new AuctionTimelineRecorder(1.0, 10, metrics, CLOCK);
+        final AuctionTimeline timeline = target.startTimeline();
+        timeline.track(TimelineSpan.bidder_request, "bidder", () -> Future.succeededFuture("result"));
+
+        // when
+        timeline.complete("accountId", "/openrtb2/auction");
+
+        // then
+        assertThat(target.recent())
+                .extracting(TimelineRecord::getTimestamp, TimelineRecord::getAccount, TimelineRecord::getEndpoint)
+                .containsExactly(tuple(1000L, "accountId", "/openrtb2/auction"));
+        assertThat(target.recent().getFirst().getSpans())
+                .extracting(TimelineRecord.SpanRecord::getSpan, TimelineRecord.SpanRecord::getDetail)
+                .containsExactly(tuple(TimelineSpan.bidder_request, "bidder"));
+
+        verify(metrics).updateAuctionTimelineSpanMetrics(eq("bidder_request"), anyLong());
+    }
+
+    @Test
+    public void recentShouldReturnOnlyLatestRecordsLimitedByBufferSize() {
+        // given
+        final AuctionTimelineRecorder target = new AuctionTimelineRecorder(1.0, 2, metrics, CLOCK);
+
+        // when
+        target.startTimeline().complete("1", "endpoint");
+        target.startTimeline().complete("2", "endpoint");
+        target.startTimeline().complete("3", "endpoint");
+
+        // then
+        assertThat(target.recent()).extracting(TimelineRecord::getAccount).containsExactly("3", "2");
+        verifyNoInteractions(metrics);
+    }
+}
@@ -0,0 +1,62 @@
+package org.prebid.server.auction.timeline;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class AuctionTimelineTest {
+
+    @Test
+    public void trackShouldOnlyCallActionIfTimelineIsDisabled() {
+        // given
+        final AuctionTimeline target = AuctionTimeline.disabled();
+
+        // when
+        final Future<String> result = target.track(TimelineSpan.cache, null, () -> Future.succeededFuture("value"));
+
+        // then
+        assertThat(result.result()).isEqualTo("value");
+        assertThat(target.start()).isZero();
+    }
+
+    @Test
+    public void trackShouldRecordSpanOnlyWhenFutureIsCompleted() {
+        // given
+        final AuctionTimeline target = new AuctionTimeline(mock(AuctionTimelineRecorder.class), 0L, System.nanoTime());
+        final Promise<String> promise = Promise.promise();
+
+        // when
+        target.track(TimelineSpan.gpp, null, promise::future);
+
+        // then
+        assertThat(target.toRecord("accountId", "endpoint").getSpans()).isEmpty();
+
+        // when
+        promise.complete("value");
+
+        // then
+        assertThat(target.toRecord("accountId", "endpoint").getSpans())
+                .extracting(TimelineRecord.SpanRecord::getSpan)
+                .containsExactly(TimelineSpan.gpp);
+    }
+
+    @Test
+    public void recordShouldKeepAllSpansBeyondInitialCapacity() {
+        // given
+        final AuctionTimeline target = new AuctionTimeline(mock(AuctionTimelineRecorder.class), 0L, System.nanoTime());
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            target.record(TimelineSpan.bidder_request, "bidder" + i, target.start());
+        }
+
+        // then
+        final TimelineRecord record = target.toRecord("accountId", "endpoint");
+        assertThat(record.getSpans()).hasSize(100);
+        assertThat(record.getSpans().get(99).getDetail()).isEqualTo("bidder99");
+        assertThat(record.getSpans()).allSatisfy(span -> assertThat(span.getStartMicros()).isNotNegative());
+    }
+}
@@ -35,6 +35,7 @@ import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
@@ -71,6 +72,7 @@ import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.isNull;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -805,6 +807,47 @@ public class HttpBidderRequesterTest extends VertxTest {
         verify(bidRejectionTracker, never()).reject(anyList(), any());
     }
 
+    @Test
+    public void shouldEncodeDebugRequestBodyOnlyWhenHttpCallsAreAccessed() {
+        // given
+        final JacksonMapper mapperSpy = spy(jacksonMapper);
+        target = new HttpBidderRequester(httpClient, null, bidderErrorNotifier, requestEnricher, mapperSpy);
+
+        final BidRequest givenBidRequest = givenBidRequest(identity());
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                        givenSimpleHttpRequest(httpRequestBuilder -> httpRequestBuilder
+                                .uri("uri1")
+                                .payload(givenBidRequest)
+                                .impIds(singleton("impId")))),
+                emptyList()));
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                target.requestBids(
+                                bidder,
+                                bidderRequest,
+                                bidRejectionTracker,
+                                expiredTimeout,
+                                CaseInsensitiveMultiMap.empty(),
+                                bidderAliases,
+                                true)
+                        .result();
+
+        // then
+        assertThat(bidderSeatBid.getHttpCalls()).hasSize(1);
+        verify(mapperSpy, never()).encodeToString(any());
+
+        assertThat(bidderSeatBid.getHttpCalls())
+                .extracting(ExtHttpCall::getUri)
+                .containsExactly("uri1");
+        verify(mapperSpy).encodeToString(givenBidRequest);
+    }
+
     @Test
     public void shouldReturnPartialDebugInfoIfDebugEnabledAndGlobalTimeoutAlreadyExpired()
             throws JsonProcessingException {
@@ -19,6 +19,9 @@ import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidInfo;
 import org.prebid.server.auction.model.CachedDebugLog;
 import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.cache.batch.CacheRequestBatcher;
+import org.prebid.server.cache.local.LocalCreativeCache;
 import org.prebid.server.cache.model.CacheContext;
 import org.prebid.server.cache.model.CacheHttpRequest;
 import org.prebid.server.cache.model.CacheInfo;
@@ -68,9 +71,11 @@ import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -391,6 +396,113 @@ public class CoreCacheServiceTest extends VertxTest {
                 .containsEntry(bidinfo.getBid(), CacheInfo.of("uuid1", null, null, null));
     }
 
+    @Test
+    public void cacheBidsOpenrtbShouldStoreBidsInLocalCacheWithoutCallingCacheService()
+            throws MalformedURLException {
+
+        // given
+        final LocalCreativeCache localCreativeCache = mock(LocalCreativeCache.class);
+        target = new CoreCacheService(
+                httpClient,
+                new URL("http://cache-service/cache"),
+                new URL("http://prebid-server/local-cache"),
+                "http://prebid-server/local-cache?uuid=",
+                100L,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper,
+                localCreativeCache,
+                null);
+
+        given(idGenerator.generateId()).willReturn("localUuid");
+        final BidInfo bidInfo = givenBidInfo(identity());
+
+        // when
+        final Future<CacheServiceResult> future = target.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.result().getCacheBids())
+                .containsOnly(entry(bidInfo.getBid(), CacheInfo.of("localUuid", null, null, null)));
+        verify(localCreativeCache).put(eq("localUuid"), any());
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    public void cacheServiceShouldPointCachedAssetsToLocalCacheEndpointWhenLocalCacheIsUsed()
+            throws MalformedURLException {
+
+        // given
+        target = new CoreCacheService(
+                httpClient,
+                new URL("http://cache-service/cache"),
+                new URL("http://prebid-server:8080/local-cache"),
+                "http://prebid-server:8080/local-cache?uuid=",
+                100L,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper,
+                mock(LocalCreativeCache.class),
+                null);
+
+        // when and then
+        assertThat(target.getEndpointHost()).isEqualTo("prebid-server:8080");
+        assertThat(target.getEndpointPath()).isEqualTo("/local-cache");
+        assertThat(target.getCachedAssetURLTemplate()).isEqualTo("http://prebid-server:8080/local-cache?uuid=");
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldSendBidsThroughBatcherWhenDebugIsDisabled() throws MalformedURLException {
+        // given
+        final CacheRequestBatcher cacheRequestBatcher = mock(CacheRequestBatcher.class);
+        target = new CoreCacheService(
+                httpClient,
+                new URL("http://cache-service/cache"),
+                new URL("http://cache-service/cache"),
+                "http://cache-service-host/cache?uuid=",
+                100L,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper,
+                null,
+                cacheRequestBatcher);
+
+        given(cacheRequestBatcher.cache(any(), anyLong()))
+                .willReturn(Future.succeededFuture(BidCacheResponse.of(singletonList(CacheObject.of("batchUuid")))));
+        final BidInfo bidInfo = givenBidInfo(identity());
+
+        // when
+        final Future<CacheServiceResult> future = target.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext().with(DebugContext.empty()),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.result().getCacheBids())
+                .containsOnly(entry(bidInfo.getBid(), CacheInfo.of("batchUuid", null, null, null)));
+        assertThat(future.result().getHttpCall().getRequestBody()).isNull();
+        verify(cacheRequestBatcher).cache(argThat(puts -> puts.size() == 1), eq(500L));
+        verify(metrics).updateCacheRequestSuccessTime(eq("accountId"), anyLong());
+        verifyNoInteractions(httpClient);
+    }
+
     @Test
     public void cacheBidsOpenrtbShouldPerformHttpRequestWithExpectedBody() throws IOException {
         // given
@@ -0,0 +1,245 @@
+package org.prebid.server.cache.batch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+import org.prebid.server.cache.proto.response.bid.CacheObject;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class CacheRequestBatcherTest extends VertxTest {
+
+    @Mock
+    private Vertx vertx;
+    @Mock(strictness = LENIENT)
+    private Context context;
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private Metrics metrics;
+
+    private final List<Handler<Long>> timerHandlers = new ArrayList<>();
+
+    private CacheRequestBatcher target;
+
+    @BeforeEach
+    public void setUp() throws MalformedURLException {
+        given(vertx.getOrCreateContext()).willReturn(context);
+        given(context.isEventLoopContext()).willReturn(true);
+
+        target = new CacheRequestBatcher(
+                new URL("http://cache-service/cache"),
+                2L,
+                3,
+                vertx,
+                httpClient,
+                metrics,
+                Clock.fixed(Instant.ofEpochMilli(1000L), ZoneId.systemDefault()),
+                jacksonMapper);
+    }
+
+    @Test
+    public void cacheShouldSendPutsOfSeveralAuctionsInOneRequestWhenWindowElapses() throws JsonProcessingException {
+        // given
+        givenTimers();
+        given(httpClient.post(eq("http://cache-service/cache"), any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenResponse("uuid1", "uuid2")));
+
+        final Future<BidCacheResponse> first = target.cache(singletonList(givenPutObject("1")), 100L);
+        final Future<BidCacheResponse> second = target.cache(singletonList(givenPutObject("2")), 100L);
+
+        // when
+        timerHandlers.getFirst().handle(1L);
+
+        // then
+        assertThat(timerHandlers).hasSize(1);
+
+        final ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(httpClient).post(any(), any(), bodyCaptor.capture(), eq(100L));
+        assertThat(mapper.readValue(bodyCaptor.getValue(), BidCacheRequest.class))
+                .isEqualTo(BidCacheRequest.of(List.of(givenPutObject("1"), givenPutObject("2"))));
+
+        assertThat(first.result()).isEqualTo(BidCacheResponse.of(singletonList(CacheObject.of("uuid1"))));
+        assertThat(second.result()).isEqualTo(BidCacheResponse.of(singletonList(CacheObject.of("uuid2"))));
+        verify(metrics).updateCacheBatchMetrics(2, 2);
+    }
+
+    @Test
+    public void cacheShouldSendBatchWhenMaxPutsReached() {
+        // given
+        givenTimers();
+        given(httpClient.post(any(), any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenResponse("uuid1", "uuid2", "uuid3")));
+
+        final Future<BidCacheResponse> first = target.cache(singletonList(givenPutObject("1")), 100L);
+
+        // when
+        final Future<BidCacheResponse> second = target.cache(
+                List.of(givenPutObject("2"), givenPutObject("3")), 100L);
+
+        // then
+        verify(vertx).cancelTimer(1L);
+        assertThat(first.result().getResponses()).extracting(CacheObject::getUuid).containsExactly("uuid1");
+        assertThat(second.result().getResponses()).extracting(CacheObject::getUuid).containsExactly("uuid2", "uuid3");
+    }
+
+    @Test
+    public void cacheShouldSendAtOnceWhenRemainingTimeoutDoesNotAllowToWaitForWindow() {
+        // given
+        given(httpClient.post(any(), any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenResponse("uuid1")));
+
+        // when
+        final Future<BidCacheResponse> result = target.cache(singletonList(givenPutObject("1")), 2L);
+
+        // then
+        verify(vertx, never()).setTimer(anyLong(), any());
+        verify(httpClient).post(any(), any(), any(), eq(2L));
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @Test
+    public void cacheShouldFailAuctionOnItsOwnDeadlineWhenBatchedRequestLastsLonger() {
+        // given
+        givenTimers();
+        given(httpClient.post(any(), any(), any(), anyLong()))
+                .willReturn(Promise.<HttpClientResponse>promise().future());
+
+        final Future<BidCacheResponse> shorter = target.cache(singletonList(givenPutObject("1")), 50L);
+        final Future<BidCacheResponse> longer = target.cache(singletonList(givenPutObject("2")), 100L);
+        timerHandlers.getFirst().handle(1L);
+
+        // when
+        timerHandlers.get(1).handle(2L);
+
+        // then
+        verify(vertx).setTimer(eq(50L), any());
+        verify(httpClient).post(any(), any(), any(), eq(100L));
+        assertThat(shorter.cause()).isInstanceOf(TimeoutException.class);
+        assertThat(longer.isComplete()).isFalse();
+    }
+
+    @Test
+    public void cacheShouldFailAllAuctionsWhenResponseDoesNotMatchPuts() {
+        // given
+        givenTimers();
+        given(httpClient.post(any(), any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenResponse("uuid1")));
+
+        final Future<BidCacheResponse> first = target.cache(singletonList(givenPutObject("1")), 100L);
+        final Future<BidCacheResponse> second = target.cache(singletonList(givenPutObject("2")), 100L);
+
+        // when
+        timerHandlers.getFirst().handle(1L);
+
+        // then
+        assertThat(first.cause()).isInstanceOf(PreBidException.class)
+                .hasMessage("The number of response cache objects doesn't match with bids");
+        assertThat(second.cause()).isSameAs(first.cause());
+    }
+
+    @Test
+    public void cacheShouldFailAllAuctionsWhenCacheServiceRespondsWithError() {
+        // given
+        given(httpClient.post(any(), any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(503, null, null)));
+
+        // when
+        final Future<BidCacheResponse> result = target.cache(singletonList(givenPutObject("1")), 1L);
+
+        // then
+        assertThat(result.cause()).isInstanceOf(PreBidException.class).hasMessage("HTTP status code 503");
+    }
+
+    @Test
+    public void cacheShouldStartNewBatchAfterPreviousOneIsFlushed() {
+        // given
+        givenTimers();
+        given(httpClient.post(any(), any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenResponse("uuid1")));
+
+        target.cache(singletonList(givenPutObject("1")), 100L);
+        timerHandlers.getFirst().handle(1L);
+
+        // when
+        final Future<BidCacheResponse> result = target.cache(singletonList(givenPutObject("2")), 100L);
+        timerHandlers.get(1).handle(2L);
+
+        // then
+        assertThat(timerHandlers).hasSize(2);
+        verify(httpClient, times(2)).post(any(), any(), any(), anyLong());
+        assertThat(result.result().getResponses()).extracting(CacheObject::getUuid).containsExactly("uuid1");
+    }
+
+    @Test
+    public void cacheShouldSendAtOnceWhenCalledOutOfEventLoopContext() {
+        // given
+        given(context.isEventLoopContext()).willReturn(false);
+        given(httpClient.post(any(), any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenResponse("uuid1")));
+
+        // when
+        final Future<BidCacheResponse> result = target.cache(singletonList(givenPutObject("1")), 100L);
+
+        // then
+        verify(vertx, never()).setTimer(anyLong(), any());
+        verify(httpClient).post(any(), any(), any(), eq(100L));
+        assertThat(result.result().getResponses()).extracting(CacheObject::getUuid).containsExactly("uuid1");
+    }
+
+    private void givenTimers() {
+        given(vertx.setTimer(anyLong(), any())).willAnswer(invocation -> {
+            timerHandlers.add(invocation.getArgument(1));
+            return (long) timerHandlers.size();
+        });
+    }
+
+    private static HttpClientResponse givenResponse(String... uuids) {
+        final List<CacheObject> cacheObjects = new ArrayList<>();
+        for (String uuid : uuids) {
+            cacheObjects.add(CacheObject.of(uuid));
+        }
+        return HttpClientResponse.of(200, null, jacksonMapper.encodeToString(BidCacheResponse.of(cacheObjects)));
+    }
+
+    private static BidPutObject givenPutObject(String value) {
+        return BidPutObject.builder().type("xml").value(TextNode.valueOf(value)).build();
+    }
+}
@@ -0,0 +1,167 @@
+package org.prebid.server.cache.local;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class CacheWriteBehindTest extends VertxTest {
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private Metrics metrics;
+
+    private CacheWriteBehind target;
+
+    @BeforeEach
+    public void setUp() throws MalformedURLException {
+        target = new CacheWriteBehind(
+                new URL("http://cache-service/cache"),
+                2,
+                2,
+                3,
+                100L,
+                1000L,
+                vertx,
+                httpClient,
+                metrics,
+                Clock.fixed(Instant.ofEpochMilli(1000L), ZoneId.systemDefault()),
+                jacksonMapper);
+    }
+
+    @Test
+    public void flushShouldSendPendingPutObjectsInBatches() throws JsonProcessingException {
+        // given
+        given(httpClient.post(eq("http://cache-service/cache"), any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, "{}")));
+
+        target.enqueue(givenPutObject("1"));
+        target.enqueue(givenPutObject("2"));
+        target.enqueue(givenPutObject("3"));
+
+        // when
+        target.flush();
+
+        // then
+        final ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(httpClient, times(2)).post(any(), any(), bodyCaptor.capture(), eq(1000L));
+        assertThat(bodyCaptor.getAllValues()).containsExactly(
+                mapper.writeValueAsString(BidCacheRequest.of(
+                        List.of(givenPutObject("1"), givenPutObject("2")))),
+                mapper.writeValueAsString(BidCacheRequest.of(List.of(givenPutObject("3")))));
+
+        verify(metrics, times(3)).updateLocalCacheWriteBehindLag(0L);
+        verify(metrics, times(2)).updateLocalCacheWriteBehindMetric(MetricName.ok);
+    }
+
+    @Test
+    public void flushShouldLeavePendingPutObjectsInQueueWhenMaxInFlightBatchesReached() throws MalformedURLException {
+        // given
+        target = new CacheWriteBehind(
+                new URL("http://cache-service/cache"),
+                2,
+                1,
+                3,
+                100L,
+                1000L,
+                vertx,
+                httpClient,
+                metrics,
+                Clock.fixed(Instant.ofEpochMilli(1000L), ZoneId.systemDefault()),
+                jacksonMapper);
+
+        final Promise<HttpClientResponse> responsePromise = Promise.promise();
+        given(httpClient.post(any(), any(), any(), anyLong())).willReturn(responsePromise.future());
+
+        target.enqueue(givenPutObject("1"));
+        target.enqueue(givenPutObject("2"));
+        target.enqueue(givenPutObject("3"));
+
+        // when
+        target.flush();
+        target.flush();
+
+        // then
+        verify(httpClient).post(any(), any(), any(), anyLong());
+
+        // when
+        responsePromise.complete(HttpClientResponse.of(200, null, "{}"));
+        target.flush();
+
+        // then
+        verify(httpClient, times(2)).post(any(), any(), any(), anyLong());
+        verify(metrics, times(3)).updateLocalCacheWriteBehindLag(0L);
+    }
+
+    @Test
+    public void enqueueShouldDropPutObjectIfQueueIsFull() {
+        // when
+        for (int i = 0; i < 4; i++) {
+            target.enqueue(givenPutObject(String.valueOf(i)));
+        }
+
+        // then
+        verify(metrics).updateLocalCacheWriteBehindMetric(MetricName.dropped);
+    }
+
+    @Test
+    public void flushShouldUpdateErrorMetricIfCacheServiceRespondsWithError() {
+        // given
+        given(httpClient.post(any(), any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(500, null, null)));
+        target.enqueue(givenPutObject("1"));
+
+        // when
+        target.flush();
+
+        // then
+        verify(metrics).updateLocalCacheWriteBehindMetric(MetricName.err);
+    }
+
+    @Test
+    public void flushShouldNotCallCacheServiceIfQueueIsEmpty() {
+        // when
+        target.flush();
+
+        // then
+        verifyNoInteractions(httpClient);
+    }
+
+    private static BidPutObject givenPutObject(String key) {
+        return BidPutObject.builder().type("xml").value(new TextNode("<VAST/>")).key(key).build();
+    }
+}
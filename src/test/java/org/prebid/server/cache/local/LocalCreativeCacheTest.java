@@ -0,0 +1,88 @@
+package org.prebid.server.cache.local;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.metric.Metrics;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class LocalCreativeCacheTest extends VertxTest {
+
+    @Mock
+    private CacheWriteBehind writeBehind;
+    @Mock
+    private Metrics metrics;
+
+    private LocalCreativeCache target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new LocalCreativeCache(1024L, 300, writeBehind, metrics, jacksonMapper);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveMaxSize() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new LocalCreativeCache(0L, 300, writeBehind, metrics, jacksonMapper));
+    }
+
+    @Test
+    public void putShouldStoreTextCreativeAndEnqueueItWithKey() {
+        // given
+        final BidPutObject putObject = BidPutObject.builder()
+                .type("xml")
+                .value(new TextNode("<VAST/>"))
+                .ttlseconds(60)
+                .build();
+
+        // when
+        target.put("uuid", putObject);
+
+        // then
+        final LocalCreative creative = target.get("uuid");
+        assertThat(creative.getType()).isEqualTo("xml");
+        assertThat(new String(creative.getValue(), StandardCharsets.UTF_8)).isEqualTo("<VAST/>");
+        assertThat(creative.getTtlSeconds()).isEqualTo(60);
+
+        verify(writeBehind).enqueue(putObject.toBuilder().key("uuid").build());
+        verify(metrics).updateLocalCacheLookupMetric(true);
+    }
+
+    @Test
+    public void putShouldStoreJsonCreativeEncodedAndUseDefaultTtl() {
+        // given
+        final BidPutObject putObject = BidPutObject.builder()
+                .type("json")
+                .value(mapper.createObjectNode().put("adm", "value"))
+                .build();
+
+        // when
+        target.put("uuid", putObject);
+
+        // then
+        final LocalCreative creative = target.get("uuid");
+        assertThat(new String(creative.getValue(), StandardCharsets.UTF_8)).isEqualTo("{\"adm\":\"value\"}");
+        assertThat(creative.getTtlSeconds()).isEqualTo(300);
+    }
+
+    @Test
+    public void getShouldReturnNullAndUpdateMissMetricIfCreativeIsAbsent() {
+        // when
+        final LocalCreative creative = target.get("uuid");
+
+        // then
+        assertThat(creative).isNull();
+        verify(metrics).updateLocalCacheLookupMetric(false);
+    }
+}
@@ -0,0 +1,100 @@
+package org.prebid.server.cache.proto.request.bid;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.POJONode;
+import com.iab.openrtb.response.Bid;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BidCacheValueTest extends VertxTest {
+
+    @Test
+    public void serializeShouldProduceSameOutputAsBidTreeWithWinUrl() throws JsonProcessingException {
+        // given
+        final List<BidPutObject> streamed = new ArrayList<>();
+        final List<BidPutObject> legacy = new ArrayList<>();
+        IntStream.range(0, 50).forEach(i -> {
+            final Bid bid = givenVideoBid(i);
+            final String winUrl = i % 2 == 0 ? "https://events.com/event?t=win&b=bid" + i : null;
+
+            streamed.add(givenPutObject(new POJONode(BidCacheValue.of(bid, winUrl))));
+            legacy.add(givenPutObject(legacyValue(bid, winUrl)));
+        });
+
+        // when
+        final String result = mapper.writeValueAsString(BidCacheRequest.of(streamed));
+
+        // then
+        assertThat(result).isEqualTo(mapper.writeValueAsString(BidCacheRequest.of(legacy)));
+    }
+
+    @Test
+    public void serializeShouldStripTrailingZerosFromPrice() throws JsonProcessingException {
+        // given
+        final Bid bid = Bid.builder().id("bidId").price(new BigDecimal("1.500")).build();
+
+        // when
+        final String result = mapper.writeValueAsString(new POJONode(BidCacheValue.of(bid, "url")));
+
+        // then
+        assertThat(result).isEqualTo("{\"id\":\"bidId\",\"price\":1.5,\"wurl\":\"url\"}");
+    }
+
+    @Test
+    public void serializeShouldWriteZeroPriceAsTreeDoes() throws JsonProcessingException {
+        // given
+        final Bid bid = Bid.builder().price(new BigDecimal("0.000")).build();
+
+        // when
+        final String result = mapper.writeValueAsString(new POJONode(BidCacheValue.of(bid, null)));
+
+        // then
+        assertThat(result).isEqualTo(mapper.writeValueAsString(mapper.valueToTree(bid)));
+    }
+
+    private static Bid givenVideoBid(int index) {
+        final ObjectNode ext = mapper.createObjectNode();
+        ext.putObject("prebid").put("type", "video").putObject("targeting").put("hb_pb", "1.50");
+
+        return Bid.builder()
+                .id("bid" + index)
+                .impid("imp" + index)
+                .price(new BigDecimal("1.50").add(BigDecimal.valueOf(index, 2)))
+                .adm("<VAST version=\"3.0\"><Ad id=\"" + index + "\"><Wrapper><VASTAdTagURI>"
+                        + "<![CDATA[https://adserver.com/vast?id=" + index + "&q=é\"]]>"
+                        + "</VASTAdTagURI></Wrapper></Ad></VAST>")
+                .adomain(List.of("advertiser.com"))
+                .crid("creative" + index)
+                .w(640)
+                .h(480)
+                .dur(30)
+                .ext(ext)
+                .build();
+    }
+
+    private static BidPutObject givenPutObject(JsonNode value) {
+        return BidPutObject.builder()
+                .aid("auctionId")
+                .type("json")
+                .value(value)
+                .ttlseconds(300)
+                .build();
+    }
+
+    private static ObjectNode legacyValue(Bid bid, String winUrl) {
+        final ObjectNode node = mapper.valueToTree(bid);
+        if (winUrl != null) {
+            node.put("wurl", winUrl);
+        }
+        return node;
+    }
+}
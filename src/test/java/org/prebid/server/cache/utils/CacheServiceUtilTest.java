@@ -42,4 +42,29 @@ public class CacheServiceUtilTest extends VertxTest {
         // then
         assertThat(result).isEqualTo("http://example.com/cache?qs");
     }
+
+    @Test
+    public void getLocalCacheEndpointUrlShouldFailOnInvalidExternalUrl() {
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                CacheServiceUtil.getLocalCacheEndpointUrl("invalid-url", "/cache"));
+    }
+
+    @Test
+    public void getLocalCacheEndpointUrlShouldReturnUrlOfLocalCacheEndpoint() {
+        // when
+        final String result = CacheServiceUtil.getLocalCacheEndpointUrl("http://example.com:8080", "/cache")
+                .toString();
+
+        // then
+        assertThat(result).isEqualTo("http://example.com:8080/cache");
+    }
+
+    @Test
+    public void getLocalCachedAssetUrlTemplateShouldReturnUrlOfLocalCacheEndpoint() {
+        // when
+        final String result = CacheServiceUtil.getLocalCachedAssetUrlTemplate("http://example.com", "/cache", "qs");
+
+        // then
+        assertThat(result).isEqualTo("http://example.com/cache?qs");
+    }
 }
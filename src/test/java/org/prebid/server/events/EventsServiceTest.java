@@ -90,4 +90,16 @@ public class EventsServiceTest {
         assertThat(vastUrl).isEqualTo(
                 "http://external-url/event?t=imp&b=bidId&a=accountId&aid=auctionId&ts=1000&bidder=bidder&f=b&int=pbjs");
     }
+
+    @Test
+    public void vastUrlShouldOmitEmptyOptionalParameters() {
+        // given
+        final EventsContext eventsContext = EventsContext.builder().auctionId("").integration(" ").build();
+
+        // when
+        final String vastUrl = eventsService.vastUrlTracking("bidId", null, "accountId", eventsContext);
+
+        // then
+        assertThat(vastUrl).isEqualTo("http://external-url/event?t=imp&b=bidId&a=accountId&f=b&int=");
+    }
 }
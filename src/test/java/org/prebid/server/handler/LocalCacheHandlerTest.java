@@ -0,0 +1,112 @@
+package org.prebid.server.handler;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.local.CacheWriteBehind;
+import org.prebid.server.cache.local.LocalCreativeCache;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class LocalCacheHandlerTest extends VertxTest {
+
+    @Mock
+    private CacheWriteBehind writeBehind;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private RoutingContext routingContext;
+    @Mock
+    private HttpServerRequest httpRequest;
+    @Mock
+    private HttpServerResponse httpResponse;
+
+    private LocalCreativeCache localCreativeCache;
+
+    private LocalCacheHandler target;
+
+    @BeforeEach
+    public void setUp() throws MalformedURLException {
+        given(routingContext.request()).willReturn(httpRequest);
+        given(routingContext.response()).willReturn(httpResponse);
+
+        localCreativeCache = new LocalCreativeCache(1024L, 300, writeBehind, metrics, jacksonMapper);
+
+        target = new LocalCacheHandler(
+                "/cache",
+                localCreativeCache,
+                new URL("http://cache-service/cache"),
+                1000L,
+                httpClient);
+    }
+
+    @Test
+    public void handleShouldServeCreativeWhichIsNotYetWrittenToCacheService() {
+        // given
+        localCreativeCache.put("uuid", BidPutObject.builder()
+                .type("xml")
+                .value(new TextNode("<VAST/>"))
+                .build());
+
+        given(httpRequest.getParam("uuid")).willReturn("uuid");
+        given(httpResponse.putHeader(any(CharSequence.class), any(CharSequence.class))).willReturn(httpResponse);
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(writeBehind).enqueue(any());
+        verifyNoInteractions(httpClient);
+
+        final ArgumentCaptor<Buffer> bodyCaptor = ArgumentCaptor.forClass(Buffer.class);
+        verify(httpResponse).putHeader(HttpUtil.CONTENT_TYPE_HEADER, "application/xml");
+        verify(httpResponse).end(bodyCaptor.capture());
+        assertThat(bodyCaptor.getValue().toString()).isEqualTo("<VAST/>");
+    }
+
+    @Test
+    public void handleShouldFetchCreativeMissingLocallyFromCacheService() {
+        // given
+        given(httpRequest.getParam("uuid")).willReturn("uuid");
+        given(httpResponse.setStatusCode(anyInt())).willReturn(httpResponse);
+        given(httpClient.get(anyString(), anyLong())).willReturn(Future.succeededFuture(
+                HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap(), "<VAST/>")));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpClient).get("http://cache-service/cache?uuid=uuid", 1000L);
+        verify(httpResponse).setStatusCode(200);
+        verify(httpResponse).end("<VAST/>");
+    }
+}
@@ -5,6 +5,7 @@ import com.iab.openrtb.request.video.PodError;
 import com.iab.openrtb.response.BidResponse;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -25,6 +26,8 @@ import org.prebid.server.auction.model.CachedDebugLog;
 import org.prebid.server.auction.model.TimeoutContext;
 import org.prebid.server.auction.model.WithPodErrors;
 import org.prebid.server.auction.requestfactory.VideoRequestFactory;
+import org.prebid.server.auction.timeline.AuctionTimelineRecorder;
+import org.prebid.server.auction.timeline.TimelineRecord;
 import org.prebid.server.cache.CoreCacheService;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.exception.InvalidRequestException;
@@ -51,7 +54,6 @@ import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
@@ -218,7 +220,7 @@ public class VideoHandlerTest extends VertxTest {
 
         // then
         verify(httpResponse).setStatusCode(eq(400));
-        verify(httpResponse).end(eq("Invalid request format: Request is invalid"));
+        verify(httpResponse).end(eq(Buffer.buffer("Invalid request format: Request is invalid")));
     }
 
     @Test
@@ -233,7 +235,7 @@ public class VideoHandlerTest extends VertxTest {
         // then
         verifyNoInteractions(exchangeService);
         verify(httpResponse).setStatusCode(eq(401));
-        verify(httpResponse).end(eq("Unauthorised: Account id is not provided"));
+        verify(httpResponse).end(eq(Buffer.buffer("Unauthorised: Account id is not provided")));
     }
 
     @Test
@@ -250,7 +252,7 @@ public class VideoHandlerTest extends VertxTest {
 
         // then
         verify(httpResponse).setStatusCode(eq(500));
-        verify(httpResponse).end(eq("Critical error while running the auction: Unexpected exception"));
+        verify(httpResponse).end(eq(Buffer.buffer("Critical error while running the auction: Unexpected exception")));
     }
 
     @Test
@@ -265,7 +267,7 @@ public class VideoHandlerTest extends VertxTest {
         videoHandler.handle(routingContext);
 
         // then
-        verify(httpResponse, never()).end(anyString());
+        verify(httpResponse, never()).end(any(Buffer.class));
     }
 
     @Test
@@ -290,7 +292,32 @@ public class VideoHandlerTest extends VertxTest {
                 .containsExactlyInAnyOrder(
                         tuple("Content-Type", "application/json"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("{\"adPods\":[]}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{\"adPods\":[]}")));
+    }
+
+    @Test
+    public void shouldCompleteAuctionTimeline() {
+        // given
+        final AuctionTimelineRecorder timelineRecorder = new AuctionTimelineRecorder(1.0, 10, metrics, clock);
+        final AuctionContext auctionContext = givenAuctionContext(identity(), emptyList()).getData().toBuilder()
+                .account(Account.builder().id("accountId").build())
+                .timeline(timelineRecorder.startTimeline())
+                .build();
+        given(videoRequestFactory.fromRequest(any(), anyLong()))
+                .willReturn(Future.succeededFuture(WithPodErrors.of(auctionContext, emptyList())));
+
+        givenHoldAuction(BidResponse.builder().build());
+
+        given(videoResponseFactory.toVideoResponse(any(), any(), any()))
+                .willReturn(VideoResponse.of(emptyList(), null));
+
+        // when
+        videoHandler.handle(routingContext);
+
+        // then
+        assertThat(timelineRecorder.recent())
+                .extracting(TimelineRecord::getAccount, TimelineRecord::getEndpoint)
+                .containsExactly(tuple("accountId", "/openrtb2/video"));
     }
 
     @Test
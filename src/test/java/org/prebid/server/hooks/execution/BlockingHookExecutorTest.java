@@ -0,0 +1,118 @@
+package org.prebid.server.hooks.execution;
+
+import io.vertx.core.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class BlockingHookExecutorTest {
+
+    @Mock
+    private Metrics metrics;
+
+    private final Clock clock = Clock.systemUTC();
+
+    private ExecutorService executor;
+
+    @AfterEach
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void executeShouldRunActionOutOfCallingThreadAndReturnItsResult() throws Exception {
+        // given
+        executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "blocking-hook-test"));
+        final BlockingHookExecutor target = new BlockingHookExecutor(executor, metrics, clock);
+
+        // when
+        final Future<String> result = target.execute(() -> Future.succeededFuture(Thread.currentThread().getName()));
+
+        // then
+        assertThat(result.toCompletionStage().toCompletableFuture().get(1, TimeUnit.SECONDS))
+                .isEqualTo("blocking-hook-test");
+        verify(metrics).updateHooksBlockingQueueTimeMetric(anyLong());
+    }
+
+    @Test
+    public void executeShouldFailWhenActionThrowsException() throws Exception {
+        // given
+        executor = Executors.newSingleThreadExecutor();
+        final BlockingHookExecutor target = new BlockingHookExecutor(executor, metrics, clock);
+
+        // when
+        final Future<String> result = target.execute(() -> {
+            throw new IllegalStateException("failed");
+        });
+
+        // then
+        final CountDownLatch completed = new CountDownLatch(1);
+        result.onComplete(ignored -> completed.countDown());
+        assertThat(completed.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(result.cause()).isInstanceOf(FailedException.class).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void executeShouldFailAndUpdateMetricWhenExecutorRejectsAction() {
+        // given
+        final ExecutorService rejectingExecutor = mock(ExecutorService.class);
+        willThrow(new RejectedExecutionException()).given(rejectingExecutor).execute(any());
+        final BlockingHookExecutor target = new BlockingHookExecutor(rejectingExecutor, metrics, clock);
+
+        // when
+        final Future<String> result = target.execute(() -> Future.succeededFuture("result"));
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).isInstanceOf(FailedException.class);
+        verify(metrics).updateHooksBlockingRejectedMetric();
+    }
+
+    @Test
+    public void closeShouldShutDownExecutor() {
+        // given
+        executor = Executors.newSingleThreadExecutor();
+        final BlockingHookExecutor target = new BlockingHookExecutor(executor, metrics, clock);
+
+        // when
+        target.close();
+
+        // then
+        assertThat(executor.isShutdown()).isTrue();
+    }
+
+    @Test
+    public void closeShouldShutDownVirtualThreadsExecutorWithoutPinningTracking() {
+        // given
+        final BlockingHookExecutor target = BlockingHookExecutor.virtualThreads(false, 20L, metrics, clock);
+
+        // when
+        final Future<String> result = target.execute(() -> Future.succeededFuture("result"));
+        target.close();
+
+        // then
+        assertThat(result.toCompletionStage().toCompletableFuture().join()).isEqualTo("result");
+        assertThat(target.execute(() -> Future.succeededFuture("result")).failed()).isTrue();
+        verify(metrics).updateHooksBlockingRejectedMetric();
+    }
+}
@@ -0,0 +1,148 @@
+package org.prebid.server.hooks.execution;
+
+import io.vertx.core.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.activity.ActivitiesConfigResolver;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.floors.PriceFloorsConfigResolver;
+import org.prebid.server.hooks.execution.model.EndpointExecutionPlan;
+import org.prebid.server.hooks.execution.model.ExecutionGroup;
+import org.prebid.server.hooks.execution.model.ExecutionPlan;
+import org.prebid.server.hooks.execution.model.HookId;
+import org.prebid.server.hooks.execution.model.Stage;
+import org.prebid.server.hooks.execution.model.StageExecutionPlan;
+import org.prebid.server.hooks.execution.model.StageWithHookType;
+import org.prebid.server.hooks.v1.auction.ProcessedAuctionRequestHook;
+import org.prebid.server.json.JsonMerger;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.EnrichingApplicationSettings;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.AccountHooksConfiguration;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ExecutionPlanCacheTest extends VertxTest {
+
+    @Mock
+    private HookCatalog hookCatalog;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private ApplicationSettings delegate;
+    @Mock
+    private PriceFloorsConfigResolver priceFloorsConfigResolver;
+    @Mock
+    private ActivitiesConfigResolver activitiesConfigResolver;
+    @Mock
+    private Timeout timeout;
+
+    private ExecutionPlanCache target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new ExecutionPlanCache(
+                ExecutionPlan.empty(),
+                ExecutionPlan.empty(),
+                hookCatalog,
+                new ModuleConfigCache(emptyList(), 10, jacksonMapper),
+                10,
+                metrics,
+                Clock.systemUTC());
+    }
+
+    @Test
+    public void planForShouldReuseCompiledPlanOfAccountMergedWithDefaultAccountOnEachFetch() {
+        // given
+        final ApplicationSettings applicationSettings = new EnrichingApplicationSettings(
+                true,
+                "{\"auction\": {\"banner-cache-ttl\": 100}}",
+                delegate,
+                priceFloorsConfigResolver,
+                activitiesConfigResolver,
+                new JsonMerger(jacksonMapper),
+                jacksonMapper);
+
+        given(delegate.getAccountById(anyString(), any()))
+                .willAnswer(invocation -> Future.succeededFuture(givenAccount()));
+        given(priceFloorsConfigResolver.resolve(any(), any())).willAnswer(invocation -> invocation.getArgument(0));
+        given(activitiesConfigResolver.resolve(any())).willAnswer(invocation -> invocation.getArgument(0));
+        given(hookCatalog.hookById("module", "hook", StageWithHookType.PROCESSED_AUCTION_REQUEST))
+                .willReturn(mock(ProcessedAuctionRequestHook.class));
+
+        final Account firstAccount = applicationSettings.getAccountById("accountId", timeout).result();
+        final Account secondAccount = applicationSettings.getAccountById("accountId", timeout).result();
+
+        // when
+        final CompiledExecutionPlan firstPlan = target.planFor(firstAccount);
+        final CompiledExecutionPlan secondPlan = target.planFor(secondAccount);
+
+        // then
+        assertThat(firstAccount).isNotSameAs(secondAccount);
+        assertThat(firstAccount.getHooks()).isNotSameAs(secondAccount.getHooks());
+        assertThat(secondPlan).isSameAs(firstPlan);
+
+        verify(metrics).updateHooksExecutionPlanCacheMetric(false);
+        verify(metrics).updateHooksExecutionPlanCacheMetric(true);
+        verify(metrics).updateHooksExecutionPlanCompileTimeMetric(anyLong());
+    }
+
+    @Test
+    public void planForShouldCompileAgainWhenAccountHooksConfigurationChanges() {
+        // given
+        given(hookCatalog.hookById("module", "hook", StageWithHookType.PROCESSED_AUCTION_REQUEST))
+                .willReturn(mock(ProcessedAuctionRequestHook.class));
+
+        final Account account = givenAccount();
+        final Account changedAccount = account.toBuilder()
+                .hooks(AccountHooksConfiguration.of(
+                        account.getHooks().getExecutionPlan(),
+                        Map.of("module", mapper.createObjectNode().put("enabled", false))))
+                .build();
+
+        // when
+        final CompiledExecutionPlan plan = target.planFor(account);
+        final CompiledExecutionPlan changedPlan = target.planFor(changedAccount);
+
+        // then
+        assertThat(changedPlan).isNotSameAs(plan);
+
+        verify(metrics, times(2)).updateHooksExecutionPlanCacheMetric(false);
+    }
+
+    private Account givenAccount() {
+        final ExecutionPlan executionPlan = ExecutionPlan.of(Map.of(
+                Endpoint.openrtb2_auction,
+                EndpointExecutionPlan.of(Map.of(
+                        Stage.processed_auction_request,
+                        StageExecutionPlan.of(singletonList(
+                                ExecutionGroup.of(100L, List.of(HookId.of("module", "hook")))))))));
+
+        return Account.builder()
+                .id("accountId")
+                .hooks(AccountHooksConfiguration.of(
+                        executionPlan,
+                        Map.of("module", mapper.createObjectNode().put("enabled", true))))
+                .build();
+    }
+}
@@ -74,6 +74,7 @@ import org.prebid.server.hooks.v1.bidder.ProcessedBidderResponseHook;
 import org.prebid.server.hooks.v1.bidder.RawBidderResponseHook;
 import org.prebid.server.hooks.v1.entrypoint.EntrypointHook;
 import org.prebid.server.hooks.v1.entrypoint.EntrypointPayload;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
@@ -85,6 +86,7 @@ import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -97,11 +99,14 @@ import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -114,6 +119,10 @@ public class HookStageExecutorTest extends VertxTest {
 
     @Mock(strictness = LENIENT)
     private HookCatalog hookCatalog;
+    @Mock(strictness = LENIENT)
+    private ModuleConfigCache moduleConfigCache;
+    @Mock
+    private Metrics metrics;
     private TimeoutFactory timeoutFactory;
     private Vertx vertx;
     private Clock clock;
@@ -1206,6 +1215,197 @@ public class HookStageExecutorTest extends VertxTest {
         }));
     }
 
+    @Test
+    public void shouldResolveAccountExecutionPlanOncePerAuction(VertxTestContext context) {
+        // given
+        final RawAuctionRequestHookImpl hookImpl = spy(
+                RawAuctionRequestHookImpl.of(immediateHook(InvocationResultImpl.noAction())));
+        given(hookCatalog.hookById(anyString(), anyString(), eq(StageWithHookType.RAW_AUCTION_REQUEST)))
+                .willReturn(hookImpl);
+
+        final HookStageExecutor executor = createExecutor(null);
+
+        final ExecutionPlan accountPlan = ExecutionPlan.of(singletonMap(
+                Endpoint.openrtb2_auction,
+                EndpointExecutionPlan.of(singletonMap(
+                        Stage.raw_auction_request,
+                        execPlanOneGroupOneHook("module-beta", "hook-b")))));
+        final Account account = Account.builder()
+                .id("accountId")
+                .hooks(AccountHooksConfiguration.of(accountPlan, null))
+                .build();
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .bidRequest(BidRequest.builder().build())
+                .account(account)
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .debugContext(DebugContext.empty())
+                .build();
+
+        // when
+        final Future<HookStageExecutionResult<AuctionRequestPayload>> future = executor
+                .executeRawAuctionRequestStage(auctionContext)
+                .compose(result -> executor.executeRawAuctionRequestStage(auctionContext));
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            verify(hookImpl, times(2)).call(any(), any());
+            verify(hookCatalog)
+                    .hookById(eq("module-beta"), eq("hook-b"), eq(StageWithHookType.RAW_AUCTION_REQUEST));
+            verify(metrics).updateHooksExecutionPlanCompileTimeMetric(anyLong());
+            verify(metrics).updateHooksExecutionPlanCacheMetric(false);
+            verify(metrics, never()).updateHooksExecutionPlanCacheMetric(true);
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void shouldCompileAccountExecutionPlanOnceForSameAccountHooksConfiguration(VertxTestContext context) {
+        // given
+        final RawAuctionRequestHookImpl hookImpl = spy(
+                RawAuctionRequestHookImpl.of(immediateHook(InvocationResultImpl.noAction())));
+        given(hookCatalog.hookById(anyString(), anyString(), eq(StageWithHookType.RAW_AUCTION_REQUEST)))
+                .willReturn(hookImpl);
+
+        final HookStageExecutor executor = createExecutor(null);
+
+        final ExecutionPlan accountPlan = ExecutionPlan.of(singletonMap(
+                Endpoint.openrtb2_auction,
+                EndpointExecutionPlan.of(singletonMap(
+                        Stage.raw_auction_request,
+                        execPlanOneGroupOneHook("module-beta", "hook-b")))));
+        final Account account = Account.builder()
+                .id("accountId")
+                .hooks(AccountHooksConfiguration.of(accountPlan, null))
+                .build();
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .bidRequest(BidRequest.builder().build())
+                .account(account)
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .debugContext(DebugContext.empty())
+                .build();
+        final AuctionContext anotherAuctionContext = auctionContext.toBuilder()
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .build();
+
+        // when
+        final Future<HookStageExecutionResult<AuctionRequestPayload>> future = executor
+                .executeRawAuctionRequestStage(auctionContext)
+                .compose(result -> executor.executeRawAuctionRequestStage(anotherAuctionContext));
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            verify(hookImpl, times(2)).call(any(), any());
+            verify(hookCatalog)
+                    .hookById(eq("module-beta"), eq("hook-b"), eq(StageWithHookType.RAW_AUCTION_REQUEST));
+            verify(metrics).updateHooksExecutionPlanCompileTimeMetric(anyLong());
+            verify(metrics).updateHooksExecutionPlanCacheMetric(true);
+            verify(metrics).updateHooksExecutionPlanCacheMetric(false);
+            assertThat(anotherAuctionContext.getHookExecutionContext().getExecutionPlan().get())
+                    .isSameAs(auctionContext.getHookExecutionContext().getExecutionPlan().get());
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void shouldSkipAccountHooksWhenExecutionBudgetIsUsedUp(VertxTestContext context) {
+        // given
+        given(hookCatalog.hookById(eq("module-alpha"), eq("hook-a"), eq(StageWithHookType.RAW_AUCTION_REQUEST)))
+                .willReturn(RawAuctionRequestHookImpl.of(delayedHook(InvocationResultImpl.noAction(), 40)));
+        final RawAuctionRequestHookImpl accountHookImpl = spy(
+                RawAuctionRequestHookImpl.of(immediateHook(InvocationResultImpl.noAction())));
+        given(hookCatalog.hookById(eq("module-beta"), eq("hook-b"), eq(StageWithHookType.RAW_AUCTION_REQUEST)))
+                .willReturn(accountHookImpl);
+
+        final String hostPlan = executionPlan(singletonMap(
+                Endpoint.openrtb2_auction,
+                EndpointExecutionPlan.of(singletonMap(
+                        Stage.raw_auction_request, execPlanOneGroupOneHook("module-alpha", "hook-a")))));
+        final HookStageExecutor executor = createExecutor(hostPlan);
+
+        final ExecutionPlan accountPlan = ExecutionPlan.of(singletonMap(
+                Endpoint.openrtb2_auction,
+                EndpointExecutionPlan.of(singletonMap(
+                        Stage.raw_auction_request,
+                        execPlanOneGroupOneHook("module-beta", "hook-b")))));
+        final Account account = Account.builder()
+                .id("accountId")
+                .hooks(AccountHooksConfiguration.of(accountPlan, null, 10L))
+                .build();
+        final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
+
+        // when
+        final Future<HookStageExecutionResult<AuctionRequestPayload>> future = executor.executeRawAuctionRequestStage(
+                AuctionContext.builder()
+                        .bidRequest(BidRequest.builder().build())
+                        .account(account)
+                        .hookExecutionContext(hookExecutionContext)
+                        .debugContext(DebugContext.empty())
+                        .build());
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            assertThat(hookExecutionContext.getHooksExecutionTime().get()).isGreaterThanOrEqualTo(10L);
+
+            verify(accountHookImpl, never()).call(any(), any());
+            verify(metrics).updateHookSkippedMetric("module-beta", Stage.raw_auction_request, "hook-b");
+
+            assertThat(hookExecutionContext.getStageOutcomes().get(Stage.raw_auction_request))
+                    .flatExtracting(StageExecutionOutcome::getGroups)
+                    .flatExtracting(GroupExecutionOutcome::getHooks)
+                    .extracting(HookExecutionOutcome::getHookId, HookExecutionOutcome::getStatus)
+                    .containsExactly(
+                            tuple(HookId.of("module-alpha", "hook-a"), ExecutionStatus.success),
+                            tuple(HookId.of("module-beta", "hook-b"), ExecutionStatus.skipped));
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void shouldExecuteBlockingHooksOutOfCallingThread(VertxTestContext context) {
+        // given
+        final List<String> invocationThreads = new CopyOnWriteArrayList<>();
+        final RawAuctionRequestHookImpl hookImpl = spy(RawAuctionRequestHookImpl.of((payload, invocationContext) -> {
+            invocationThreads.add(Thread.currentThread().getName());
+            return Future.succeededFuture(InvocationResultImpl.noAction());
+        }));
+        given(hookImpl.blocking()).willReturn(true);
+        given(hookCatalog.hookById(anyString(), anyString(), eq(StageWithHookType.RAW_AUCTION_REQUEST)))
+                .willReturn(hookImpl);
+
+        final String hostPlan = executionPlan(singletonMap(
+                Endpoint.openrtb2_auction,
+                EndpointExecutionPlan.of(singletonMap(
+                        Stage.raw_auction_request, execPlanOneGroupOneHook("module-alpha", "hook-a")))));
+        final HookStageExecutor executor = createExecutor(hostPlan);
+
+        final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
+
+        // when
+        final Future<HookStageExecutionResult<AuctionRequestPayload>> future = executor.executeRawAuctionRequestStage(
+                AuctionContext.builder()
+                        .bidRequest(BidRequest.builder().build())
+                        .account(Account.empty("accountId"))
+                        .hookExecutionContext(hookExecutionContext)
+                        .debugContext(DebugContext.empty())
+                        .build());
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            assertThat(invocationThreads).singleElement().satisfies(threadName ->
+                    assertThat(threadName).startsWith("blocking-hook-"));
+            assertThat(hookExecutionContext.getStageOutcomes().get(Stage.raw_auction_request))
+                    .flatExtracting(StageExecutionOutcome::getGroups)
+                    .flatExtracting(GroupExecutionOutcome::getHooks)
+                    .extracting(HookExecutionOutcome::getStatus)
+                    .containsOnly(ExecutionStatus.success);
+
+            context.completeNow();
+        }));
+    }
+
     @Test
     public void shouldExecuteRawAuctionRequestHooksToleratingUnknownHookInAccountPlan(VertxTestContext context) {
         // given
@@ -2795,10 +2995,14 @@ public class HookStageExecutorTest extends VertxTest {
                 hostExecutionPlan,
                 defaultAccountExecutionPlan,
                 hookCatalog,
+                moduleConfigCache,
+                100,
                 timeoutFactory,
                 vertx,
                 clock,
-                jacksonMapper);
+                jacksonMapper,
+                metrics,
+                BlockingHookExecutor.workerPool(1, 10, metrics, clock));
     }
 
     @Value(staticConstructor = "of")
@@ -0,0 +1,104 @@
+package org.prebid.server.hooks.execution;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.hooks.v1.Hook;
+import org.prebid.server.hooks.v1.InvocationContext;
+import org.prebid.server.hooks.v1.Module;
+import org.prebid.server.hooks.v1.ModuleConfigCompiler;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModuleConfigCacheTest extends VertxTest {
+
+    private final AtomicInteger compilations = new AtomicInteger();
+
+    private ModuleConfigCache target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new ModuleConfigCache(
+                List.of(new SampleModule("compiled", new SampleCompiler()), new SampleModule("raw", null)),
+                10,
+                jacksonMapper);
+    }
+
+    @Test
+    public void getShouldCompileAccountConfigOnlyOnceForTheSameContent() {
+        // when
+        final Object first = target.get("compiled", mapper.createObjectNode().put("value", "a"));
+        final Object second = target.get("compiled", mapper.createObjectNode().put("value", "a"));
+
+        // then
+        assertThat(first).isEqualTo("A").isSameAs(second);
+        assertThat(compilations).hasValue(1);
+    }
+
+    @Test
+    public void getShouldCompileAccountConfigAgainWhenItChanges() {
+        // given
+        target.get("compiled", mapper.createObjectNode().put("value", "a"));
+
+        // when
+        final Object result = target.get("compiled", mapper.createObjectNode().put("value", "b"));
+
+        // then
+        assertThat(result).isEqualTo("B");
+        assertThat(compilations).hasValue(2);
+    }
+
+    @Test
+    public void getShouldReturnNullWhenModuleHasNoCompilerOrAccountConfigIsEmpty() {
+        // when and then
+        assertThat(target.get("raw", mapper.createObjectNode().put("value", "a"))).isNull();
+        assertThat(target.get("compiled", mapper.createObjectNode())).isNull();
+        assertThat(target.get("compiled", null)).isNull();
+        assertThat(compilations).hasValue(0);
+    }
+
+    @Test
+    public void getShouldReturnNullAndNotRetryWhenAccountConfigCanNotBeCompiled() {
+        // given
+        final ObjectNode accountConfig = mapper.createObjectNode();
+        accountConfig.putArray("value");
+
+        // when
+        final Object first = target.get("compiled", accountConfig);
+        final Object second = target.get("compiled", accountConfig);
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+    }
+
+    private record SampleConfig(String value) {
+    }
+
+    private class SampleCompiler implements ModuleConfigCompiler<SampleConfig, String> {
+
+        @Override
+        public Class<SampleConfig> configClass() {
+            return SampleConfig.class;
+        }
+
+        @Override
+        public String compile(SampleConfig config) {
+            compilations.incrementAndGet();
+            return config.value().toUpperCase();
+        }
+    }
+
+    private record SampleModule(String code, ModuleConfigCompiler<?, ?> accountConfigCompiler) implements Module {
+
+        @Override
+        public Collection<? extends Hook<?, ? extends InvocationContext>> hooks() {
+            return List.of();
+        }
+    }
+}
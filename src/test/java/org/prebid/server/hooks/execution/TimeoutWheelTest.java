@@ -0,0 +1,101 @@
+package org.prebid.server.hooks.execution;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class TimeoutWheelTest {
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Clock clock;
+
+    private TimeoutWheel target;
+
+    @BeforeEach
+    public void setUp() {
+        given(vertx.setPeriodic(anyLong(), any())).willReturn(1L);
+
+        target = new TimeoutWheel(vertx, clock);
+    }
+
+    @Test
+    public void scheduleShouldFireActionOnceDeadlineIsPassed() {
+        // given
+        final List<String> fired = new ArrayList<>();
+        given(clock.millis()).willReturn(1000L, 1040L, 1050L);
+
+        target.schedule(50L, () -> fired.add("timeout"));
+        final Handler<Long> tickHandler = captureTickHandler();
+
+        // when
+        tickHandler.handle(1L);
+        final List<String> firedBeforeDeadline = new ArrayList<>(fired);
+        tickHandler.handle(1L);
+
+        // then
+        assertThat(firedBeforeDeadline).isEmpty();
+        assertThat(fired).containsExactly("timeout");
+        verify(vertx).cancelTimer(1L);
+    }
+
+    @Test
+    public void scheduleShouldNotFireCancelledTimeout() {
+        // given
+        final List<String> fired = new ArrayList<>();
+        given(clock.millis()).willReturn(1000L, 1000L, 1100L);
+
+        final TimeoutWheel.Timeout cancelled = target.schedule(20L, () -> fired.add("cancelled"));
+        target.schedule(30L, () -> fired.add("timeout"));
+        cancelled.cancel();
+
+        // when
+        captureTickHandler().handle(1L);
+
+        // then
+        assertThat(fired).containsExactly("timeout");
+        verify(vertx).cancelTimer(1L);
+    }
+
+    @Test
+    public void scheduleShouldReuseTimerWhileTimeoutsArePending() {
+        // given
+        given(clock.millis()).willReturn(1000L, 1005L, 1010L, 1020L);
+
+        target.schedule(100L, () -> { });
+        target.schedule(5L, () -> { });
+
+        // when
+        captureTickHandler().handle(1L);
+        target.schedule(100L, () -> { });
+
+        // then
+        verify(vertx).setPeriodic(anyLong(), any());
+        verify(vertx, never()).cancelTimer(anyLong());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Handler<Long> captureTickHandler() {
+        final ArgumentCaptor<Handler<Long>> captor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setPeriodic(anyLong(), captor.capture());
+        return captor.getValue();
+    }
+}
@@ -3,6 +3,7 @@ package org.prebid.server.log;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RoutingContext;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,13 +16,18 @@ import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderRequest;
 import org.prebid.server.log.model.HttpLogSpec;
 import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.model.Account;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.UnaryOperator;
 
 import static java.util.Collections.singletonList;
 import static java.util.function.UnaryOperator.identity;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -40,18 +46,72 @@ public class HttpInteractionLoggerTest extends VertxTest {
     private RoutingContext routingContext;
     @Mock(strictness = LENIENT)
     private HttpServerRequest serverRequest;
+    @Mock
+    private Metrics metrics;
 
     private HttpInteractionLogger target;
 
     @BeforeEach
     public void setUp() {
-        target = new HttpInteractionLogger(jacksonMapper);
+        target = new HttpInteractionLogger(jacksonMapper, metrics, Runnable::run);
         given(routingContext.getBodyAsString()).willReturn("{}");
         given(routingContext.request()).willReturn(serverRequest);
         given(serverRequest.uri()).willReturn("example.com");
         ReflectionTestUtils.setField(target, "logger", logger);
     }
 
+    @Test
+    public void maybeLogOpenrtb2AuctionShouldNotTouchInteractionIfSpecIsNotSet() {
+        // when
+        target.maybeLogOpenrtb2Auction(
+                givenAuctionContext(identity()), routingContext, 200, Buffer.buffer("responseBody"));
+
+        // then
+        verifyNoInteractions(routingContext, logger, metrics);
+    }
+
+    @Test
+    public void maybeLogOpenrtb2AuctionShouldLogOnExecutorAndIncrementLoggedMetric() {
+        // given
+        final List<Runnable> tasks = new ArrayList<>();
+        target = new HttpInteractionLogger(jacksonMapper, metrics, tasks::add);
+        ReflectionTestUtils.setField(target, "logger", logger);
+        target.setSpec(HttpLogSpec.of(null, null, null, null, 1));
+
+        // when
+        target.maybeLogOpenrtb2Auction(
+                givenAuctionContext(identity()), routingContext, 200, Buffer.buffer("responseBody"));
+
+        // then
+        verifyNoInteractions(logger);
+        assertThat(tasks).hasSize(1);
+
+        // when
+        tasks.getFirst().run();
+
+        // then
+        verify(logger).info(anyString(), anyString(), anyString(), any(), any());
+        verify(metrics).updateHttpInteractionLogMetric(MetricName.logged);
+    }
+
+    @Test
+    public void maybeLogOpenrtb2AuctionShouldDropInteractionIfExecutorRejectsIt() {
+        // given
+        target = new HttpInteractionLogger(jacksonMapper, metrics, task -> {
+            throw new RejectedExecutionException();
+        });
+        ReflectionTestUtils.setField(target, "logger", logger);
+        target.setSpec(HttpLogSpec.of(null, null, null, null, 1));
+
+        // when
+        target.maybeLogOpenrtb2Auction(
+                givenAuctionContext(identity()), routingContext, 200, Buffer.buffer("responseBody"));
+
+        // then
+        verifyNoInteractions(logger);
+        verify(metrics).updateHttpInteractionLogMetric(MetricName.dropped);
+    }
+
     @Test
     public void maybeLogOpenrtb2AuctionShouldLogWithExpectedParams() {
         // given
@@ -61,7 +121,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, "responseBody");
+        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, Buffer.buffer("responseBody"));
 
         // then
         verify(logger)
@@ -191,7 +251,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, "responseBody");
+        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, Buffer.buffer("responseBody"));
 
         // then
         verify(logger)
@@ -427,6 +427,90 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("account.accountId.requests.type.openrtb2-web").getCount()).isOne();
     }
 
+    @Test
+    public void updateAccountRequestMetricsShouldFoldAccountsOutsideOfTopIntoOtherAccounts() {
+        // given
+        metrics = new Metrics(metricRegistry, CounterType.counter, accountMetricsVerbosityResolver,
+                new TopAccountsTracker(1, 2, 10));
+
+        // when
+        metrics.updateAccountRequestMetrics(Account.empty(ACCOUNT_ID), MetricName.openrtb2web);
+        metrics.updateAccountRequestMetrics(Account.empty("other"), MetricName.openrtb2web);
+
+        // then
+        assertThat(metricRegistry.getCounters())
+                .doesNotContainKey("account.other.requests")
+                .containsKey("other-accounts.requests");
+        assertThat(metricRegistry.counter("account.accountId.requests").getCount()).isOne();
+        assertThat(metricRegistry.counter("other-accounts.requests").getCount()).isOne();
+    }
+
+    @Test
+    public void updateAccountRequestMetricsShouldSubmitRequestsOfDemotedAccountsToOtherAccounts() {
+        // given
+        metrics = new Metrics(metricRegistry, CounterType.counter, accountMetricsVerbosityResolver,
+                new TopAccountsTracker(1, 2, 2));
+
+        // when
+        metrics.updateAccountRequestMetrics(Account.empty(ACCOUNT_ID), MetricName.openrtb2web);
+        metrics.updateAccountRequestMetrics(Account.empty(ACCOUNT_ID), MetricName.openrtb2web);
+        metrics.updateAccountRequestMetrics(Account.empty("anotherAccountId"), MetricName.openrtb2web);
+        metrics.updateAccountRequestMetrics(Account.empty("anotherAccountId"), MetricName.openrtb2web);
+        metrics.updateAccountRequestMetrics(Account.empty(ACCOUNT_ID), MetricName.openrtb2web);
+
+        // then
+        assertThat(metricRegistry.counter("account.accountId.requests").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("account.anotherAccountId.requests").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("other-accounts.requests").getCount()).isOne();
+    }
+
+    @Test
+    public void removeDemotedAccountMetricsShouldRemoveMetricsOfAccountsDemotedBeforePreviousRemoval() {
+        // given
+        metrics = new Metrics(metricRegistry, CounterType.counter, accountMetricsVerbosityResolver,
+                new TopAccountsTracker(1, 2, 2));
+
+        metrics.updateAccountRequestMetrics(Account.empty(ACCOUNT_ID), MetricName.openrtb2web);
+        metrics.updateAccountRequestMetrics(Account.empty(ACCOUNT_ID), MetricName.openrtb2web);
+        metrics.updateAccountRequestMetrics(Account.empty("anotherAccountId"), MetricName.openrtb2web);
+        metrics.updateAccountRequestMetrics(Account.empty("anotherAccountId"), MetricName.openrtb2web);
+
+        // when
+        metrics.removeDemotedAccountMetrics();
+
+        // then
+        assertThat(metricRegistry.getCounters()).containsKey("account.accountId.requests");
+
+        // when
+        metrics.removeDemotedAccountMetrics();
+
+        // then
+        assertThat(metricRegistry.getCounters())
+                .doesNotContainKey("account.accountId.requests")
+                .containsKey("account.anotherAccountId.requests");
+    }
+
+    @Test
+    public void removeDemotedAccountMetricsShouldNotRemoveMetricsOfAccountWithDemotedAccountIdAsPrefix() {
+        // given
+        metrics = new Metrics(metricRegistry, CounterType.counter, accountMetricsVerbosityResolver,
+                new TopAccountsTracker(1, 2, 2));
+
+        metrics.updateAccountRequestMetrics(Account.empty("account"), MetricName.openrtb2web);
+        metrics.updateAccountRequestMetrics(Account.empty("account"), MetricName.openrtb2web);
+        metrics.updateAccountRequestMetrics(Account.empty("account.id"), MetricName.openrtb2web);
+        metrics.updateAccountRequestMetrics(Account.empty("account.id"), MetricName.openrtb2web);
+
+        // when
+        metrics.removeDemotedAccountMetrics();
+        metrics.removeDemotedAccountMetrics();
+
+        // then
+        assertThat(metricRegistry.getCounters())
+                .doesNotContainKey("account.account.requests")
+                .containsKey("account.account.id.requests");
+    }
+
     @Test
     public void updateAdapterRequestTypeAndNoCookieMetricsShouldUpdateMetricsAsExpected() {
 
@@ -1314,6 +1398,97 @@ public class MetricsTest {
                 .isZero();
     }
 
+    @Test
+    public void updateHooksBlockingMetricsShouldUpdateMetrics() {
+        // when
+        metrics.updateHooksBlockingQueueTimeMetric(3L);
+        metrics.updateHooksBlockingRejectedMetric();
+        metrics.updateHooksBlockingPinnedMetric(25L);
+
+        // then
+        assertThat(metricRegistry.timer("modules.blocking.queue-time").getCount()).isOne();
+        assertThat(metricRegistry.counter("modules.blocking.rejected").getCount()).isOne();
+        assertThat(metricRegistry.timer("modules.blocking.pinned").getCount()).isOne();
+    }
+
+    @Test
+    public void updateHookSkippedMetricShouldIncrementMetric() {
+        // when
+        metrics.updateHookSkippedMetric("module1", Stage.bidder_request, "hook1");
+
+        // then
+        assertThat(metricRegistry.counter("modules.module.module1.stage.bidrequest.hook.hook1.skipped").getCount())
+                .isOne();
+    }
+
+    @Test
+    public void updateModuleLocalCacheMetricsShouldIncrementMetrics() {
+        // when
+        metrics.updateModuleLocalCacheLookupMetric("module1", true);
+        metrics.updateModuleLocalCacheLookupMetric("module1", true);
+        metrics.updateModuleLocalCacheLookupMetric("module1", false);
+        metrics.updateModuleLocalCacheTimeSavedMetric("module1", 15L);
+
+        // then
+        assertThat(metricRegistry.counter("modules.module.module1.local-cache.hit").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("modules.module.module1.local-cache.miss").getCount()).isOne();
+        assertThat(metricRegistry.timer("modules.module.module1.local-cache.time-saved").getCount()).isOne();
+    }
+
+    @Test
+    public void updateModuleBidderCallsAvoidedMetricShouldIncrementMetricByCount() {
+        // when
+        metrics.updateModuleBidderCallsAvoidedMetric("module1", 3);
+        metrics.updateModuleBidderCallsAvoidedMetric("module1", 2);
+
+        // then
+        assertThat(metricRegistry.counter("modules.module.module1.bidder-calls-avoided").getCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void updateHooksExecutionPlanMetricsShouldIncrementMetrics() {
+        // when
+        metrics.updateHooksExecutionPlanCacheMetric(true);
+        metrics.updateHooksExecutionPlanCacheMetric(false);
+        metrics.updateHooksExecutionPlanCacheMetric(false);
+        metrics.updateHooksExecutionPlanCompileTimeMetric(3L);
+
+        // then
+        assertThat(metricRegistry.counter("modules.execution-plan.hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("modules.execution-plan.miss").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.timer("modules.execution-plan.compile-time").getCount()).isOne();
+    }
+
+    @Test
+    public void updateHooksOverheadMetricShouldUpdateTimer() {
+        // when
+        metrics.updateHooksOverheadMetric(2L);
+
+        // then
+        assertThat(metricRegistry.timer("modules.overhead").getCount()).isOne();
+    }
+
+    @Test
+    public void updateHttpInteractionLogMetricShouldIncrementMetric() {
+        // when
+        metrics.updateHttpInteractionLogMetric(MetricName.dropped);
+
+        // then
+        assertThat(metricRegistry.counter("http_interaction_log.dropped").getCount()).isOne();
+    }
+
+    @Test
+    public void updateCacheBatchMetricsShouldUpdateHistograms() {
+        // when
+        metrics.updateCacheBatchMetrics(3, 10);
+
+        // then
+        assertThat(metricRegistry.histogram("prebid_cache.batch.auctions").getSnapshot().getValues())
+                .containsExactly(3L);
+        assertThat(metricRegistry.histogram("prebid_cache.batch.puts").getSnapshot().getValues())
+                .containsExactly(10L);
+    }
+
     @Test
     public void shouldIncrementRequestsActivityDisallowedCount() {
         // when
@@ -0,0 +1,76 @@
+package org.prebid.server.metric;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpaceSavingSketchTest {
+
+    @Test
+    public void offerShouldReplaceLeastFrequentKeyWhenCapacityReached() {
+        // given
+        final SpaceSavingSketch target = new SpaceSavingSketch(2);
+        target.offer("a");
+        target.offer("a");
+        target.offer("b");
+
+        // when
+        target.offer("c");
+
+        // then
+        assertThat(target.estimate("a")).isEqualTo(2);
+        assertThat(target.estimate("b")).isZero();
+        assertThat(target.estimate("c")).isEqualTo(2);
+    }
+
+    @Test
+    public void offerShouldReplaceKeyWithLowestCountAfterCountsChanged() {
+        // given
+        final SpaceSavingSketch target = new SpaceSavingSketch(3);
+        target.offer("a", 1);
+        target.offer("b", 2);
+        target.offer("c", 3);
+        target.offer("a", 5);
+
+        // when
+        target.offer("d", 4);
+
+        // then
+        assertThat(target.estimate("a")).isEqualTo(6);
+        assertThat(target.estimate("b")).isZero();
+        assertThat(target.estimate("c")).isEqualTo(3);
+        assertThat(target.estimate("d")).isEqualTo(6);
+    }
+
+    @Test
+    public void topShouldReturnKeysWithHighestCounts() {
+        // given
+        final SpaceSavingSketch target = new SpaceSavingSketch(3);
+        target.offer("a");
+        target.offer("b");
+        target.offer("b");
+        target.offer("c");
+        target.offer("c");
+        target.offer("c");
+
+        // when and then
+        assertThat(target.top(2)).containsExactlyInAnyOrder("b", "c");
+    }
+
+    @Test
+    public void decayShouldHalveCountsAndDropEmptyKeys() {
+        // given
+        final SpaceSavingSketch target = new SpaceSavingSketch(2);
+        target.offer("a");
+        target.offer("b");
+        target.offer("b");
+
+        // when
+        target.decay();
+
+        // then
+        assertThat(target.estimate("a")).isZero();
+        assertThat(target.estimate("b")).isEqualTo(1);
+        assertThat(target.top(2)).containsExactly("b");
+    }
+}
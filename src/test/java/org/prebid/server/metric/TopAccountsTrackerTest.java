@@ -0,0 +1,97 @@
+package org.prebid.server.metric;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class TopAccountsTrackerTest {
+
+    @Test
+    public void creationShouldFailWhenTopSizeExceedsSketchCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TopAccountsTracker(2, 1, 1));
+    }
+
+    @Test
+    public void recordShouldPromoteAccountsRightAwayWhileTopIsNotFull() {
+        // given
+        final TopAccountsTracker target = new TopAccountsTracker(2, 3, 10);
+
+        // when
+        target.record("first");
+        target.record("second");
+        final boolean refreshed = target.record("third");
+
+        // then
+        assertThat(refreshed).isFalse();
+        assertThat(target.isTop("first")).isTrue();
+        assertThat(target.isTop("second")).isTrue();
+        assertThat(target.isTop("third")).isFalse();
+    }
+
+    @Test
+    public void recordShouldPromoteAccountsWithHighestTraffic() {
+        // given
+        final TopAccountsTracker target = new TopAccountsTracker(2, 3, 6);
+
+        // when
+        target.record("small");
+        target.record("big");
+        target.record("big");
+        target.record("medium");
+        target.record("big");
+        final boolean refreshed = target.record("medium");
+
+        // then
+        assertThat(refreshed).isTrue();
+        assertThat(target.isTop("big")).isTrue();
+        assertThat(target.isTop("medium")).isTrue();
+        assertThat(target.isTop("small")).isFalse();
+    }
+
+    @Test
+    public void recordShouldCountRequestsRecordedConcurrently() throws InterruptedException {
+        // given
+        final TopAccountsTracker target = new TopAccountsTracker(1, 2, 1000);
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 250; j++) {
+                    target.record("minor");
+                    target.record("major");
+                    target.record("major");
+                }
+            });
+        }
+
+        // when
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertThat(target.isTop("major")).isTrue();
+        assertThat(target.isTop("minor")).isFalse();
+    }
+
+    @Test
+    public void recordShouldDemoteAccountsWhichStoppedSendingTraffic() {
+        // given
+        final TopAccountsTracker target = new TopAccountsTracker(1, 2, 4);
+        for (int i = 0; i < 4; i++) {
+            target.record("old");
+        }
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            target.record("new");
+        }
+
+        // then
+        assertThat(target.isTop("new")).isTrue();
+        assertThat(target.isTop("old")).isFalse();
+    }
+}
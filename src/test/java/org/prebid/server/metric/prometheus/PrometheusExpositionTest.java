@@ -0,0 +1,115 @@
+package org.prebid.server.metric.prometheus;
+
+import com.codahale.metrics.MetricRegistry;
+import io.prometheus.client.dropwizard.DropwizardExports;
+import io.prometheus.client.dropwizard.samplebuilder.DefaultSampleBuilder;
+import io.prometheus.client.exporter.common.TextFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrometheusExpositionTest {
+
+    private MetricRegistry metricRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        metricRegistry = new MetricRegistry();
+    }
+
+    @Test
+    public void writeShouldProduceSameOutputAsDropwizardExports() throws IOException {
+        // given
+        metricRegistry.counter("adapter.rubicon.requests").inc(5);
+        metricRegistry.meter("requests.ok").mark(3);
+        metricRegistry.timer("request_time").update(2, TimeUnit.SECONDS);
+        metricRegistry.histogram("prices").update(10);
+        metricRegistry.gauge("connections", () -> () -> 7);
+
+        final PrometheusExposition target = new PrometheusExposition(metricRegistry, new DefaultSampleBuilder());
+
+        // when
+        final String result = write(target, false);
+
+        // then
+        final StringWriter expected = new StringWriter();
+        TextFormat.write004(expected, Collections.enumeration(
+                new DropwizardExports(metricRegistry, new DefaultSampleBuilder()).collect()));
+
+        assertThat(result.split("\n")).containsExactlyInAnyOrder(expected.toString().split("\n"));
+    }
+
+    @Test
+    public void writeShouldTerminateOpenMetricsOutputAndOmitCounterSuffixFromFamilyName() {
+        // given
+        metricRegistry.meter("requests").mark();
+
+        final PrometheusExposition target = new PrometheusExposition(metricRegistry, new DefaultSampleBuilder());
+
+        // when
+        final String result = write(target, true);
+
+        // then
+        assertThat(result)
+                .contains("# TYPE requests counter\n")
+                .contains("requests_total 1.0\n")
+                .endsWith("# EOF\n");
+    }
+
+    @Test
+    public void writeShouldIncludeMetricsRegisteredAfterCreation() {
+        // given
+        final PrometheusExposition target = new PrometheusExposition(metricRegistry, new DefaultSampleBuilder());
+        metricRegistry.counter("requests").inc(2);
+
+        // when
+        final String result = write(target, false);
+
+        // then
+        assertThat(result).contains("requests 2.0\n");
+    }
+
+    @Test
+    public void writeShouldNotIncludeRemovedMetrics() {
+        // given
+        final PrometheusExposition target = new PrometheusExposition(metricRegistry, new DefaultSampleBuilder());
+        metricRegistry.counter("requests").inc(2);
+        metricRegistry.remove("requests");
+
+        // when
+        final String result = write(target, false);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void writeShouldPassOutputInChunks() {
+        // given
+        metricRegistry.counter("first").inc();
+        metricRegistry.counter("second").inc();
+
+        final PrometheusExposition target = new PrometheusExposition(metricRegistry, new DefaultSampleBuilder(), 1);
+
+        // when
+        final List<String> chunks = new ArrayList<>();
+        target.write(false, chunks::add);
+
+        // then
+        assertThat(chunks).hasSize(2);
+    }
+
+    private static String write(PrometheusExposition target, boolean openMetrics) {
+        final StringBuilder result = new StringBuilder();
+        target.write(openMetrics, result::append);
+        return result.toString();
+    }
+}
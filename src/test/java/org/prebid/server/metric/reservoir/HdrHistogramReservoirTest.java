@@ -0,0 +1,116 @@
+package org.prebid.server.metric.reservoir;
+
+import com.codahale.metrics.Snapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class HdrHistogramReservoirTest {
+
+    @Mock
+    private Clock clock;
+
+    private HdrHistogramReservoir target;
+
+    @BeforeEach
+    public void setUp() {
+        given(clock.millis()).willReturn(0L);
+
+        target = new HdrHistogramReservoir(3, true, 1000L, clock);
+    }
+
+    @Test
+    public void getSnapshotShouldReturnEmptySnapshotWhenNothingRecorded() {
+        // when
+        final Snapshot snapshot = target.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isZero();
+        assertThat(snapshot.getMax()).isZero();
+        assertThat(snapshot.getMin()).isZero();
+        assertThat(snapshot.getMean()).isZero();
+        assertThat(snapshot.getValues()).isEmpty();
+    }
+
+    @Test
+    public void getSnapshotShouldReturnPercentilesOfRecordedValues() {
+        // given
+        for (long value = 1; value <= 1000; value++) {
+            target.update(value);
+        }
+
+        // when
+        final Snapshot snapshot = target.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(1000);
+        assertThat(snapshot.getMin()).isEqualTo(1);
+        assertThat(snapshot.getMax()).isEqualTo(1000);
+        assertThat(snapshot.getMedian()).isCloseTo(500.0, within(1.0));
+        assertThat(snapshot.get999thPercentile()).isCloseTo(999.0, within(1.0));
+    }
+
+    @Test
+    public void getSnapshotShouldMergeValuesRecordedByDifferentThreads() {
+        // given
+        target.update(10L);
+        CompletableFuture.runAsync(() -> target.update(20L)).join();
+
+        // when
+        final Snapshot snapshot = target.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(2);
+        assertThat(snapshot.getValues()).containsExactly(10L, 20L);
+    }
+
+    @Test
+    public void getSnapshotShouldKeepValuesBetweenSnapshotsWithinWindow() {
+        // given
+        target.update(10L);
+        target.getSnapshot();
+        target.update(20L);
+
+        // when
+        final Snapshot snapshot = target.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void getSnapshotShouldDropValuesWhenWindowExpired() {
+        // given
+        target.update(10L);
+        target.getSnapshot();
+        target.update(20L);
+
+        given(clock.millis()).willReturn(1000L);
+
+        // when
+        final Snapshot snapshot = target.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(1);
+        assertThat(snapshot.getMax()).isEqualTo(20L);
+    }
+
+    @Test
+    public void updateShouldTreatNegativeValuesAsZero() {
+        // when
+        target.update(-5L);
+
+        // then
+        assertThat(target.getSnapshot().getMin()).isZero();
+    }
+}
@@ -0,0 +1,159 @@
+package org.prebid.server.vast;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VastImpressionInjectorTest {
+
+    private static final String URL = "http://external-url/event";
+    private static final String IMPRESSION = "<Impression><![CDATA[" + URL + "]]></Impression>";
+
+    private static final List<String> FRAGMENTS = List.of(
+            "<InLine>", "<inline>", "< INLINE attr=\"1\">", "<InLine\n>", "<inline\nattr>", "<InLineX>",
+            "</InLine>", "< / inline >", "</INLINE\r>", "</inline attr\n>",
+            "<Wrapper>", "<wrapper a='b'>", "<\twrapper>", "<WrapperX>",
+            "</Wrapper>", "</ wrapper>", "</wrapper >", "</wrapper\u2028>", "</wrapper \u2029>",
+            "<Impression>", "</Impression>", "</impression >", "< / IMPRESSION\t\t>", "</Impression\n>",
+            "</impression x </impression>", "</Impressions>",
+            "<VAST version=\"3.0\">", "</VAST>", "<Ad>", "</Ad>", "<![CDATA[http://url?a=1&b=2]]>",
+            "<", ">", "/", " ", "\n", "\r", "\t", "\u000B", "\u0085", "\u2028", "\u2029", "\u0131", "\u212A",
+            "text", "inline", "impression", "wrapper");
+
+    @Test
+    public void injectShouldInsertAfterLastImpressionOfInLine() {
+        // given
+        final String vastXml = "<VAST><Ad><InLine><Impression>a</Impression><Impression>b</Impression>"
+                + "<Creatives/></InLine></Ad></VAST>";
+
+        // when
+        final String result = VastImpressionInjector.inject(vastXml, URL);
+
+        // then
+        assertThat(result).isEqualTo("<VAST><Ad><InLine><Impression>a</Impression><Impression>b</Impression>"
+                + IMPRESSION + "<Creatives/></InLine></Ad></VAST>");
+    }
+
+    @Test
+    public void injectShouldInsertBeforeWrapperCloseTagWhenThereAreNoImpressions() {
+        // given
+        final String vastXml = "<VAST><Ad><Wrapper><VASTAdTagURI/></Wrapper></Ad></VAST>";
+
+        // when
+        final String result = VastImpressionInjector.inject(vastXml, URL);
+
+        // then
+        assertThat(result).isEqualTo("<VAST><Ad><Wrapper><VASTAdTagURI/>" + IMPRESSION + "</Wrapper></Ad></VAST>");
+    }
+
+    @Test
+    public void injectShouldReturnSameXmlWhenInLineIsNotClosed() {
+        // given
+        final String vastXml = "<VAST><Ad><InLine></Wrapper>";
+
+        // when
+        final String result = VastImpressionInjector.inject(vastXml, URL);
+
+        // then
+        assertThat(result).isSameAs(vastXml);
+    }
+
+    @Test
+    public void injectShouldReturnNullWhenThereIsNeitherInLineNorWrapper() {
+        // when
+        final String result = VastImpressionInjector.inject("<VAST><Ad></Ad></VAST>", URL);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void injectShouldProduceSameResultAsRegularExpressionsForRandomDocuments() {
+        // given
+        final Random random = new Random(42L);
+
+        for (int i = 0; i < 20000; i++) {
+            final String vastXml = randomDocument(random);
+
+            // when
+            final String result = VastImpressionInjector.inject(vastXml, URL);
+
+            // then
+            assertThat(result).as("VAST XML: %s", vastXml).isEqualTo(RegexImpressionInjector.inject(vastXml, URL));
+        }
+    }
+
+    private static String randomDocument(Random random) {
+        final StringBuilder document = new StringBuilder();
+        final int fragmentsCount = random.nextInt(30);
+        for (int i = 0; i < fragmentsCount; i++) {
+            if (random.nextInt(10) == 0) {
+                document.append((char) random.nextInt(128));
+            } else {
+                document.append(FRAGMENTS.get(random.nextInt(FRAGMENTS.size())));
+            }
+        }
+        return document.toString();
+    }
+
+    /**
+     * Previous implementation based on regular expressions, used as a reference.
+     */
+    private static final class RegexImpressionInjector {
+
+        private static final Pattern WRAPPER_OPEN_TAG_PATTERN =
+                Pattern.compile("<\\s*wrapper(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+        private static final Pattern WRAPPER_CLOSE_TAG_PATTERN =
+                Pattern.compile("<\\s*/\\s*wrapper(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+        private static final Pattern INLINE_OPEN_TAG_PATTERN =
+                Pattern.compile("<\\s*inline(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+        private static final Pattern INLINE_CLOSE_TAG_PATTERN =
+                Pattern.compile("<\\s*/\\s*inline(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+        private static final Pattern IMPRESSION_CLOSE_TAG_PATTERN =
+                Pattern.compile("<\\s*/\\s*impression(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+
+        static String inject(String xml, String urlTracking) {
+            return appendTrackingUrl(xml, urlTracking, INLINE_OPEN_TAG_PATTERN, INLINE_CLOSE_TAG_PATTERN)
+                    .or(() -> appendTrackingUrl(xml, urlTracking, WRAPPER_OPEN_TAG_PATTERN, WRAPPER_CLOSE_TAG_PATTERN))
+                    .orElse(null);
+        }
+
+        private static Optional<String> appendTrackingUrl(String vastXml,
+                                                          String vastUrlTracking,
+                                                          Pattern openTagPattern,
+                                                          Pattern closeTagPattern) {
+
+            final Matcher openTagMatcher = openTagPattern.matcher(vastXml);
+            if (!openTagMatcher.find()) {
+                return Optional.empty();
+            }
+
+            final Matcher impressionCloseTagMatcher = IMPRESSION_CLOSE_TAG_PATTERN.matcher(vastXml);
+            if (impressionCloseTagMatcher.find(openTagMatcher.end())) {
+                int replacementEnd = impressionCloseTagMatcher.end();
+                while (impressionCloseTagMatcher.find(replacementEnd)) {
+                    replacementEnd = impressionCloseTagMatcher.end();
+                }
+                return Optional.of(insertUrlTracking(vastXml, replacementEnd, vastUrlTracking));
+            }
+
+            final Matcher closeTagMatcher = closeTagPattern.matcher(vastXml);
+            if (!closeTagMatcher.find(openTagMatcher.end())) {
+                return Optional.of(vastXml);
+            }
+
+            return Optional.of(insertUrlTracking(vastXml, closeTagMatcher.start(), vastUrlTracking));
+        }
+
+        private static String insertUrlTracking(String vastXml, int index, String vastUrlTracking) {
+            final String impressionTag = "<Impression><![CDATA[" + vastUrlTracking + "]]></Impression>";
+            return vastXml.substring(0, index) + impressionTag + vastXml.substring(index);
+        }
+    }
+}